@@ -19,7 +19,10 @@
 package org.jaudiotagger.audio;
 
 import org.jaudiotagger.audio.exceptions.*;
+import org.jaudiotagger.audio.generic.AudioDataDigester;
+import org.jaudiotagger.audio.generic.GenericAudioHeader;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.tag.ModificationTrackingTag;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
@@ -30,7 +33,12 @@ import org.jaudiotagger.tag.reference.ID3V2Version;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -69,6 +77,11 @@ public class AudioFile {
      */
     protected String extension;
 
+    /**
+     * The channel holding the file if it was read from a channel rather than a file
+     */
+    protected FileChannel channel;
+
     public AudioFile() {
 
     }
@@ -141,6 +154,24 @@ public class AudioFile {
         return file;
     }
 
+    /**
+     * Set the channel the file was read from, the tag is then written to the channel rather than the file
+     *
+     * @param channel
+     */
+    public void setChannel(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * The channel holding the file, when read with {@link AudioFileIO#read(FileChannel, String)}
+     *
+     * @return the channel, or null if the file was read from disk
+     */
+    public FileChannel getChannel() {
+        return channel;
+    }
+
     /**
      * Set the file extension
      *
@@ -165,18 +196,107 @@ public class AudioFile {
      * @param tag Tag to be assigned
      */
     public void setTag(Tag tag) {
+        if (tag instanceof ModificationTrackingTag && tag != this.tag) {
+            ((ModificationTrackingTag) tag).setModified(true);
+        }
         this.tag = tag;
     }
 
+    /**
+     * Has the tag changed since the file was read or written, if not committing the file does not write anything
+     *
+     * @return true if the tag needs writing, always true if there is no tag or the tag does not implement
+     * {@link ModificationTrackingTag}
+     */
+    public boolean isTagModified() {
+        return !(tag instanceof ModificationTrackingTag) || ((ModificationTrackingTag) tag).isModified();
+    }
+
+    /**
+     * Set whether the tag needs writing, cleared once the tag has been read from or written to the file
+     *
+     * @param modified
+     */
+    public void setTagModified(boolean modified) {
+        if (tag instanceof ModificationTrackingTag) {
+            ((ModificationTrackingTag) tag).setModified(modified);
+        }
+    }
+
     /**
      * Return audio header information
      *
-     * @return
+     * @return the audio header, or null if the file was read with {@link AudioFileIO#readTagOnly(File)}
      */
     public AudioHeader getAudioHeader() {
         return audioHeader;
     }
 
+    /**
+     * Update the digests with the audio data only, so the result does not change when the tags are changed.
+     * All the digests are updated in a single pass through the file.
+     *
+     * <p>The position of the audio data comes from the audio header, it is known for Mp3, Flac, Wav, Aiff, Dsf and
+     * Mp4 files. Writing or deleting the tag clears it, as the audio data may have moved, so it is found again here.
+     *
+     * @param digests digests to update
+     * @throws CannotReadException if the position of the audio data is not known, e.g. the file was read without
+     *                             its audio header or the format does not record it
+     * @throws IOException         on any I/O error
+     */
+    public void digestAudioData(MessageDigest... digests) throws CannotReadException, IOException {
+        if (audioHeader != null && (audioHeader.getAudioDataStartPosition() == null || audioHeader.getAudioDataEndPosition() == null)) {
+            findAudioDataPosition();
+        }
+        if (audioHeader == null || audioHeader.getAudioDataStartPosition() == null || audioHeader.getAudioDataEndPosition() == null) {
+            throw new CannotReadException(ErrorMessage.AUDIO_DATA_POSITION_NOT_KNOWN.getMsg(file));
+        }
+        if (channel != null) {
+            AudioDataDigester.digest(channel, audioHeader.getAudioDataStartPosition(), audioHeader.getAudioDataEndPosition(), AudioDataDigester.DEFAULT_BUFFER_SIZE, digests);
+        } else {
+            AudioDataDigester.digest(file, audioHeader.getAudioDataStartPosition(), audioHeader.getAudioDataEndPosition(), AudioDataDigester.DEFAULT_BUFFER_SIZE, digests);
+        }
+    }
+
+    /**
+     * The tag has been written or deleted so the audio data may have moved within the file, its position is cleared
+     * rather than read again as it is only needed if the audio data is hashed
+     */
+    protected void clearAudioDataPosition() {
+        if (audioHeader instanceof GenericAudioHeader) {
+            ((GenericAudioHeader) audioHeader).setAudioDataStartPosition(null);
+            ((GenericAudioHeader) audioHeader).setAudioDataEndPosition(null);
+        }
+    }
+
+    /**
+     * Find where the audio data is when its position is not known, such as after the tag has been written
+     *
+     * @throws CannotReadException if the file can no longer be read
+     * @throws IOException         on any I/O error
+     */
+    protected void findAudioDataPosition() throws CannotReadException, IOException {
+        if (audioHeader instanceof GenericAudioHeader) {
+            AudioFileIO.getDefaultAudioFileIO().readAudioDataPosition(this);
+        }
+    }
+
+    /**
+     * Calculate a hash of the audio data only, so it does not change when the tags are changed
+     *
+     * @param algorithm such as "MD5", "SHA-1" or "SHA-256"
+     * @return hash value
+     * @throws CannotReadException      if the position of the audio data is not known
+     * @throws IOException              on any I/O error
+     * @throws NoSuchAlgorithmException if the algorithm is not available
+     * @see #digestAudioData(MessageDigest...)
+     */
+    public byte[] getAudioDataHash(String algorithm) throws CannotReadException, IOException, NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance(algorithm);
+        digestAudioData(digest);
+        return digest.digest();
+    }
+
     /**
      * <p>Returns the tag contained in this AudioFile, the <code>Tag</code> contains any useful meta-data, like
      * artist, album, title, etc. If the file does not contain any tag the null is returned. Some audio formats do
@@ -197,7 +317,7 @@ public class AudioFile {
      */
     public String toString() {
         return "AudioFile " + getFile().getAbsolutePath()
-                + "  --------\n" + audioHeader.toString() + "\n" + ((tag == null) ? "" : tag.toString()) + "\n-------------------";
+                + "  --------\n" + ((audioHeader == null) ? "" : audioHeader.toString()) + "\n" + ((tag == null) ? "" : tag.toString()) + "\n-------------------";
     }
 
     /**
@@ -207,7 +327,9 @@ public class AudioFile {
      * @throws FileNotFoundException if file not found
      */
     public void checkFileExists(File file) throws FileNotFoundException {
-        logger.config("Reading file:" + "path" + file.getPath() + ":abs:" + file.getAbsolutePath());
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Reading file:" + "path" + file.getPath() + ":abs:" + file.getAbsolutePath());
+        }
         if (!file.exists()) {
             logger.severe("Unable to find:" + file.getPath());
             throw new FileNotFoundException(ErrorMessage.UNABLE_TO_FIND_FILE.getMsg(file.getPath()));
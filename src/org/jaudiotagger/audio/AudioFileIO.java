@@ -40,14 +40,19 @@ import org.jaudiotagger.audio.real.RealFileReader;
 import org.jaudiotagger.audio.wav.WavFileReader;
 import org.jaudiotagger.audio.wav.WavFileWriter;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.TagException;
 
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -177,6 +182,59 @@ public class AudioFileIO {
         return getDefaultAudioFileIO().readFile(f);
     }
 
+    /**
+     * Read the tag contained in the given file without reading the audio header, so that for example an mp3 is
+     * not searched for its first audio frame and an ogg is not scanned for its last page.
+     *
+     * @param f The file to read.
+     * @return The AudioFile with the file tag, its audio header is null.
+     * @throws org.jaudiotagger.audio.exceptions.CannotReadException        If the file could not be read, the extension wasn't
+     *                                                                      recognized, or an IO error occurred during the read.
+     * @throws org.jaudiotagger.tag.TagException
+     * @throws org.jaudiotagger.audio.exceptions.ReadOnlyFileException
+     * @throws java.io.IOException
+     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
+     */
+    public static AudioFile readTagOnly(File f)
+            throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException {
+        return getDefaultAudioFileIO().readFileTagOnly(f);
+    }
+
+    /**
+     * Read the file held by the channel, so files that are not on local disk (e.g. held in memory with a
+     * {@link ByteArrayFileChannel}) can be read and tagged without first copying them to a file. Committing the
+     * returned AudioFile writes the tag back to the channel, which is never closed by this library.
+     *
+     * <p>Only formats whose readers and writers work on channels can be read this way, these are Flac, Wav, Aiff and Dsf.
+     *
+     * @param channel  channel holding the file, read from the start
+     * @param fileName name of the file, its extension is the format of the file
+     * @return The AudioFile with the file tag and the file encoding info.
+     * @throws org.jaudiotagger.audio.exceptions.CannotReadException If the file could not be read, the extension wasn't
+     *                                                               recognized or cannot be read from a channel, or an IO
+     *                                                               error occurred during the read.
+     * @throws java.io.IOException
+     */
+    public static AudioFile read(FileChannel channel, String fileName) throws CannotReadException, IOException {
+        return getDefaultAudioFileIO().readChannel(channel, fileName, false);
+    }
+
+    /**
+     * Read the tag of the file held by the channel without reading the audio header
+     *
+     * @param channel  channel holding the file, read from the start
+     * @param fileName name of the file, its extension is the format of the file
+     * @return The AudioFile with the file tag, its audio header is null.
+     * @throws org.jaudiotagger.audio.exceptions.CannotReadException If the file could not be read, the extension wasn't
+     *                                                               recognized or cannot be read from a channel, or an IO
+     *                                                               error occurred during the read.
+     * @throws java.io.IOException
+     * @see #read(FileChannel, String)
+     */
+    public static AudioFile readTagOnly(FileChannel channel, String fileName) throws CannotReadException, IOException {
+        return getDefaultAudioFileIO().readChannel(channel, fileName, true);
+    }
+
     /**
      * Write the tag contained in the audioFile in the actual file on the disk.
      *
@@ -210,6 +268,11 @@ public class AudioFileIO {
      */
     private final ModificationHandler modificationHandler;
 
+    /**
+     * Listeners given the metrics of each operation
+     */
+    private final List<AudioFileMetricsListener> metricsListeners = new CopyOnWriteArrayList<AudioFileMetricsListener>();
+
     // These tables contains all the readers/writers associated with extension
     // as a key
     private Map<String, AudioFileReader> readers = new HashMap<String, AudioFileReader>();
@@ -234,6 +297,27 @@ public class AudioFileIO {
         this.modificationHandler.addAudioFileModificationListener(listener);
     }
 
+    /**
+     * Adds a listener to be given the I/O and timing metrics of every read, write and delete made through this instance,
+     * metrics are only collected whilst at least one listener is registered.
+     *
+     * @param listener listener
+     */
+    public void addAudioFileMetricsListener(AudioFileMetricsListener listener) {
+        if (!this.metricsListeners.contains(listener)) {
+            this.metricsListeners.add(listener);
+        }
+    }
+
+    /**
+     * Removes a metrics listener.
+     *
+     * @param listener listener
+     */
+    public void removeAudioFileMetricsListener(AudioFileMetricsListener listener) {
+        this.metricsListeners.remove(listener);
+    }
+
     /**
      * Delete the tag, if any, contained in the given file.
      *
@@ -249,8 +333,30 @@ public class AudioFileIO {
         if (afw == null) {
             throw new CannotWriteException(ErrorMessage.NO_DELETER_FOR_THIS_FORMAT.getMsg(ext));
         }
+        if (f.getChannel() != null && !(afw instanceof AudioFileWriter2)) {
+            throw new CannotWriteException(ErrorMessage.NO_CHANNEL_WRITER_FOR_THIS_FORMAT.getMsg(ext));
+        }
 
-        ((AudioFileWriter) afw).delete(f);
+        //The tag is no longer in the file so it needs writing if committed again
+        if (metricsListeners.isEmpty()) {
+            ((AudioFileWriter) afw).delete(f);
+            f.setTagModified(true);
+            f.clearAudioDataPosition();
+            return;
+        }
+
+        AudioFileMetrics metrics = new AudioFileMetrics(AudioFileMetrics.Operation.DELETE, f.getFile(), ext);
+        boolean failed = true;
+        metrics.begin();
+        try {
+            ((AudioFileWriter) afw).delete(f);
+            f.setTagModified(true);
+            f.clearAudioDataPosition();
+            failed = false;
+        } finally {
+            metrics.end(failed);
+            fireMetrics(metrics);
+        }
     }
 
     /**
@@ -319,7 +425,7 @@ public class AudioFileIO {
         if (afr == null) {
             throw new CannotReadException(ErrorMessage.NO_READER_FOR_THIS_FORMAT.getMsg(ext));
         }
-        AudioFile tempFile = afr.read(f);
+        AudioFile tempFile = read(afr, f, ext, false);
         tempFile.setExt(ext);
         return tempFile;
     }
@@ -346,7 +452,7 @@ public class AudioFileIO {
             throw new CannotReadException(ErrorMessage.NO_READER_FOR_THIS_FORMAT.getMsg(ext));
         }
 
-        AudioFile tempFile = afr.read(f);
+        AudioFile tempFile = read(afr, f, ext, false);
         tempFile.setExt(ext);
         return tempFile;
 
@@ -375,10 +481,111 @@ public class AudioFileIO {
             throw new CannotReadException(ErrorMessage.NO_READER_FOR_THIS_FORMAT.getMsg(ext));
         }
 
-        AudioFile tempFile = afr.read(f);
+        AudioFile tempFile = read(afr, f, ext, false);
+        tempFile.setExt(ext);
+        return tempFile;
+
+    }
+
+    /**
+     * Read the tag contained in the given file without reading the audio header.
+     *
+     * @param f The file to read.
+     * @return The AudioFile with the file tag, its audio header is null.
+     * @throws org.jaudiotagger.audio.exceptions.CannotReadException        If the file could not be read, the extension wasn't
+     *                                                                      recognized, or an IO error occurred during the read.
+     * @throws org.jaudiotagger.tag.TagException
+     * @throws org.jaudiotagger.audio.exceptions.ReadOnlyFileException
+     * @throws java.io.IOException
+     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
+     */
+    public AudioFile readFileTagOnly(File f)
+            throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException {
+        checkFileExists(f);
+        String ext = Utils.getExtension(f);
+
+        AudioFileReader afr = readers.get(ext);
+        if (afr == null) {
+            throw new CannotReadException(ErrorMessage.NO_READER_FOR_THIS_FORMAT.getMsg(ext));
+        }
+        AudioFile tempFile = read(afr, f, ext, true);
         tempFile.setExt(ext);
         return tempFile;
+    }
+
+    /**
+     * Read the file held by the channel.
+     *
+     * @param channel  channel holding the file
+     * @param fileName name of the file, its extension is the format of the file
+     * @param tagOnly  if true the audio header is not read
+     * @return The AudioFile with the file tag and, unless tagOnly, the file encoding info.
+     * @throws org.jaudiotagger.audio.exceptions.CannotReadException If the file could not be read, the extension wasn't
+     *                                                               recognized or cannot be read from a channel, or an IO
+     *                                                               error occurred during the read.
+     * @throws java.io.IOException
+     */
+    public AudioFile readChannel(FileChannel channel, String fileName, boolean tagOnly) throws CannotReadException, IOException {
+        String ext = Utils.getExtension(new File(fileName));
+
+        AudioFileReader afr = readers.get(ext);
+        if (afr == null) {
+            throw new CannotReadException(ErrorMessage.NO_READER_FOR_THIS_FORMAT.getMsg(ext));
+        }
+        if (!(afr instanceof AudioFileReader2)) {
+            throw new CannotReadException(ErrorMessage.NO_CHANNEL_READER_FOR_THIS_FORMAT.getMsg(ext));
+        }
+
+        AudioFileReader2 reader = (AudioFileReader2) afr;
+        AudioFileMetrics metrics = null;
+        if (!metricsListeners.isEmpty()) {
+            metrics = new AudioFileMetrics(AudioFileMetrics.Operation.READ, new File(fileName), ext);
+            metrics.begin();
+        }
+        boolean failed = true;
+        try {
+            AudioFile audioFile = tagOnly ? reader.readTagOnly(channel, fileName) : reader.read(channel, fileName);
+            audioFile.setExt(ext);
+            audioFile.setTagModified(false);
+            failed = false;
+            return audioFile;
+        } finally {
+            if (metrics != null) {
+                metrics.end(failed);
+                fireMetrics(metrics);
+            }
+        }
+    }
 
+    /**
+     * Read using the reader, collecting metrics if any metrics listeners are registered
+     */
+    private AudioFile read(AudioFileReader afr, File f, String ext, boolean tagOnly)
+            throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException {
+        if (metricsListeners.isEmpty()) {
+            AudioFile audioFile = tagOnly ? afr.readTagOnly(f) : afr.read(f);
+            audioFile.setTagModified(false);
+            return audioFile;
+        }
+
+        AudioFileMetrics metrics = new AudioFileMetrics(AudioFileMetrics.Operation.READ, f, ext);
+        boolean failed = true;
+        metrics.begin();
+        try {
+            AudioFile audioFile = tagOnly ? afr.readTagOnly(f) : afr.read(f);
+            audioFile.setTagModified(false);
+            failed = false;
+            return audioFile;
+        } finally {
+            metrics.end(failed);
+            fireMetrics(metrics);
+        }
+    }
+
+    private void fireMetrics(AudioFileMetrics metrics) {
+        for (AudioFileMetricsListener listener : metricsListeners) {
+            listener.operationFinished(metrics);
+        }
     }
 
     /**
@@ -388,7 +595,9 @@ public class AudioFileIO {
      * @throws java.io.FileNotFoundException
      */
     public void checkFileExists(File file) throws FileNotFoundException {
-        logger.config("Reading file:" + "path" + file.getPath() + ":abs:" + file.getAbsolutePath());
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Reading file:" + "path" + file.getPath() + ":abs:" + file.getAbsolutePath());
+        }
         if (!file.exists()) {
             logger.severe("Unable to find:" + file.getPath());
             throw new FileNotFoundException(ErrorMessage.UNABLE_TO_FIND_FILE.getMsg(file.getPath()));
@@ -406,7 +615,8 @@ public class AudioFileIO {
     }
 
     /**
-     * Write the tag contained in the audioFile in the actual file on the disk.
+     * Write the tag contained in the audioFile in the actual file on the disk, nothing is written if the tag has not
+     * been modified since it was read.
      *
      * @param f          The AudioFile to be written
      * @param targetPath a file path, without an extension, which provides a "save as". If null, then normal "save" function
@@ -417,7 +627,14 @@ public class AudioFileIO {
     public void writeFile(AudioFile f, String targetPath) throws CannotWriteException {
         String ext = f.getExt();
 
+        if (f.getChannel() != null && !(writers.get(ext) instanceof AudioFileWriter2)) {
+            throw new CannotWriteException(ErrorMessage.NO_CHANNEL_WRITER_FOR_THIS_FORMAT.getMsg(ext));
+        }
+
         if (targetPath != null && !targetPath.isEmpty()) {
+            if (f.getChannel() != null) {
+                throw new CannotWriteException(ErrorMessage.CHANNEL_FILE_CANNOT_BE_SAVED_TO_ANOTHER_PATH.getMsg(targetPath));
+            }
             final File destination = new File(targetPath + "." + ext);
             try {
                 Utils.copyThrowsOnException(f.getFile(), destination);
@@ -432,7 +649,47 @@ public class AudioFileIO {
             throw new CannotWriteException(ErrorMessage.NO_WRITER_FOR_THIS_FORMAT.getMsg(ext));
         }
 
-        afw.write(f);
+        //The file (or the copy just made of it) already holds the tag
+        if (!f.isTagModified()) {
+            LogHelper.config(logger, "Tag not modified, nothing to write:{0}", f.getFile().getName());
+            return;
+        }
+
+        if (metricsListeners.isEmpty()) {
+            afw.write(f);
+            f.setTagModified(false);
+            f.clearAudioDataPosition();
+            return;
+        }
+
+        AudioFileMetrics metrics = new AudioFileMetrics(AudioFileMetrics.Operation.WRITE, f.getFile(), ext);
+        boolean failed = true;
+        metrics.begin();
+        try {
+            afw.write(f);
+            f.setTagModified(false);
+            f.clearAudioDataPosition();
+            failed = false;
+        } finally {
+            metrics.end(failed);
+            fireMetrics(metrics);
+        }
+    }
+
+    /**
+     * Read where the audio data is, used when the position was cleared because the tag was written or deleted
+     *
+     * @param f the file
+     * @throws CannotReadException if there is no reader for the file or it can no longer be read
+     * @throws IOException         on any I/O error
+     */
+    void readAudioDataPosition(AudioFile f) throws CannotReadException, IOException {
+        String ext = Utils.getExtension(f.getFile());
+        AudioFileReader afr = readers.get(ext);
+        if (afr == null) {
+            throw new CannotReadException(ErrorMessage.NO_READER_FOR_THIS_FORMAT.getMsg(ext));
+        }
+        afr.readAudioDataPosition(f);
     }
 
 }
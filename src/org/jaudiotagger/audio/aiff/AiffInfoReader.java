@@ -8,10 +8,12 @@ import org.jaudiotagger.audio.iff.Chunk;
 import org.jaudiotagger.audio.iff.ChunkHeader;
 import org.jaudiotagger.audio.iff.IffHeaderChunk;
 import org.jaudiotagger.logging.Hex;
+import org.jaudiotagger.logging.LogHelper;
 
 import java.io.IOException;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -22,7 +24,9 @@ public class AiffInfoReader extends AiffChunkReader {
 
 
     protected GenericAudioHeader read(FileChannel fc, final String fileName) throws CannotReadException, IOException {
-        logger.config(fileName + " Reading AIFF file size:" + Hex.asDecAndHex(fc.size()));
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(fileName + " Reading AIFF file size:" + Hex.asDecAndHex(fc.size()));
+        }
         AiffAudioHeader aiffAudioHeader = new AiffAudioHeader();
         final AiffFileHeader fileHeader = new AiffFileHeader();
         long noOfBytes = fileHeader.readHeader(fc, aiffAudioHeader, fileName);
@@ -54,14 +58,14 @@ public class AiffInfoReader extends AiffChunkReader {
      * @return {@code false}, if we were not able to read a valid chunk id
      */
     private boolean readChunk(FileChannel fc, AiffAudioHeader aiffAudioHeader, String fileName) throws IOException, CannotReadException {
-        logger.config(fileName + " Reading Info Chunk");
+        LogHelper.config(logger, "{0} Reading Info Chunk", fileName);
         final Chunk chunk;
         final ChunkHeader chunkHeader = new ChunkHeader(ByteOrder.BIG_ENDIAN);
         if (!chunkHeader.readHeader(fc)) {
             return false;
         }
 
-        logger.config(fileName + "Reading Next Chunk:" + chunkHeader.getID() + ":starting at:" + chunkHeader.getStartLocationInFile() + ":sizeIncHeader:" + (chunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE));
+        LogHelper.config(logger, "{0}Reading Next Chunk:{1}:starting at:{2}:sizeIncHeader:{3}", fileName, chunkHeader.getID(), chunkHeader.getStartLocationInFile(), (chunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE));
         chunk = createChunk(fc, chunkHeader, aiffAudioHeader);
         if (chunk != null) {
             if (!chunk.readChunk()) {
@@ -9,6 +9,7 @@ import org.jaudiotagger.audio.iff.ChunkHeader;
 import org.jaudiotagger.audio.iff.ChunkSummary;
 import org.jaudiotagger.audio.iff.IffHeaderChunk;
 import org.jaudiotagger.logging.Hex;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jaudiotagger.tag.aiff.AiffTag;
 
@@ -59,15 +60,14 @@ public class AiffTagReader extends AiffChunkReader {
      * @return {@code false}, if we were not able to read a valid chunk id
      */
     private boolean readChunk(FileChannel fc, AiffTag aiffTag, String fileName) throws IOException {
-        logger.config(fileName + " Reading Tag Chunk");
+        LogHelper.config(logger, "{0} Reading Tag Chunk", fileName);
 
         ChunkHeader chunkHeader = new ChunkHeader(ByteOrder.BIG_ENDIAN);
         if (!chunkHeader.readHeader(fc)) {
             return false;
         }
-        logger.config(fileName + " Reading Chunk:" + chunkHeader.getID() + ":starting at:"
-                + Hex.asDecAndHex(chunkHeader.getStartLocationInFile())
-                + ":sizeIncHeader:" + (chunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE));
+        LogHelper.config(logger, "{0} Reading Chunk:{1}:starting at:{2}:sizeIncHeader:{3}", fileName, chunkHeader.getID(),
+                chunkHeader.getStartLocationInFile(), chunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE);
 
         long startLocationOfId3TagInFile = fc.position();
         AiffChunkType chunkType = AiffChunkType.get(chunkHeader.getID());
@@ -119,7 +119,7 @@ public class AiffTagReader extends AiffChunkReader {
             fc.position(fc.position() - (ChunkHeader.CHUNK_HEADER_SIZE - 1));
             return true;
         } else {
-            logger.config(fileName + "Skipping Chunk:" + chunkHeader.getID() + ":" + chunkHeader.getSize());
+            LogHelper.config(logger, "{0}Skipping Chunk:{1}:{2}", fileName, chunkHeader.getID(), chunkHeader.getSize());
             aiffTag.addChunkSummary(new ChunkSummary(chunkHeader.getID(), chunkHeader.getStartLocationInFile(), chunkHeader.getSize()));
             fc.position(fc.position() + chunkHeader.getSize());
         }
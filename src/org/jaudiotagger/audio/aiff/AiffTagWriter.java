@@ -22,11 +22,13 @@ import org.jaudiotagger.audio.aiff.chunk.AiffChunkSummary;
 import org.jaudiotagger.audio.aiff.chunk.AiffChunkType;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
+import org.jaudiotagger.audio.generic.BufferPool;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.iff.Chunk;
 import org.jaudiotagger.audio.iff.ChunkHeader;
 import org.jaudiotagger.audio.iff.ChunkSummary;
 import org.jaudiotagger.audio.iff.IffHeaderChunk;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jaudiotagger.tag.aiff.AiffTag;
@@ -223,14 +225,19 @@ public class AiffTagWriter {
     // TODO: arguments are not used, position is implicit
     private void deleteTagChunkUsingSmallByteBufferSegments(final AiffTag existingTag, final FileChannel channel, final long newLength, final long lengthTagChunk)
             throws IOException {
-        final ByteBuffer buffer = ByteBuffer.allocateDirect((int) TagOptionSingleton.getInstance().getWriteChunkSize());
-        while (channel.read(buffer) >= 0 || buffer.position() != 0) {
-            buffer.flip();
-            final long readPosition = channel.position();
-            channel.position(readPosition - lengthTagChunk - buffer.limit());
-            channel.write(buffer);
-            channel.position(readPosition);
-            buffer.compact();
+        final BufferPool bufferPool = TagOptionSingleton.getInstance().getBufferPool();
+        final ByteBuffer buffer = bufferPool.acquireDirect((int) TagOptionSingleton.getInstance().getWriteChunkSize());
+        try {
+            while (channel.read(buffer) >= 0 || buffer.position() != 0) {
+                buffer.flip();
+                final long readPosition = channel.position();
+                channel.position(readPosition - lengthTagChunk - buffer.limit());
+                channel.write(buffer);
+                channel.position(readPosition);
+                buffer.compact();
+            }
+        } finally {
+            bufferPool.release(buffer);
         }
     }
 
@@ -261,7 +268,7 @@ public class AiffTagWriter {
                 //Usual case
                 if (!existingTag.isIncorrectlyAlignedTag()) {
                     final ChunkHeader chunkHeader = seekToStartOfMetadata(fc, existingTag, fileName);
-                    logger.info(fileName + "Current Space allocated:" + existingTag.getSizeOfID3TagOnly() + ":NewTagRequires:" + bb.limit());
+                    LogHelper.info(logger, "{0}Current Space allocated:{1}:NewTagRequires:{2}", fileName, existingTag.getSizeOfID3TagOnly(), bb.limit());
 
                     //Usual case ID3 is last chunk
                     if (isAtEndOfFileAllowingForPaddingByte(existingTag, fc)) {
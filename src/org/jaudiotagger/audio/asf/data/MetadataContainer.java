@@ -109,15 +109,12 @@ public class MetadataContainer extends Chunk implements WriteableChunk {
     private final ContainerType containerType;
 
     /**
-     * Stores the descriptors.
+     * Stores the descriptors, in the order they were added, which is the
+     * order they are written in.<br>
+     * The container is not thread safe, it must not be changed by one thread
+     * while it is used by another.
      */
-    private final Map<DescriptorPointer, List<MetadataDescriptor>> descriptors = new Hashtable<DescriptorPointer, List<MetadataDescriptor>>();
-
-    /**
-     * for performance reasons this instance is used to look up existing
-     * descriptors in {@link #descriptors}.<br>
-     */
-    private final DescriptorPointer perfPoint = new DescriptorPointer(new MetadataDescriptor(""));
+    private final Map<DescriptorPointer, List<MetadataDescriptor>> descriptors = new LinkedHashMap<DescriptorPointer, List<MetadataDescriptor>>();
 
     /**
      * Creates an instance.
@@ -169,10 +166,7 @@ public class MetadataContainer extends Chunk implements WriteableChunk {
          * Check for containers types capabilities.
          */
         // Search for descriptor list by name, language and stream.
-        List<MetadataDescriptor> list;
-        synchronized (this.perfPoint) {
-            list = this.descriptors.get(this.perfPoint.setDescriptor(toAdd));
-        }
+        List<MetadataDescriptor> list = this.descriptors.get(new DescriptorPointer(toAdd));
         if (list == null) {
             list = new ArrayList<MetadataDescriptor>();
             this.descriptors.put(new DescriptorPointer(toAdd), list);
@@ -226,7 +220,7 @@ public class MetadataContainer extends Chunk implements WriteableChunk {
      */
     public final boolean containsDescriptor(final MetadataDescriptor lookup) {
         assert lookup != null;
-        return this.descriptors.containsKey(this.perfPoint.setDescriptor(lookup));
+        return this.descriptors.containsKey(new DescriptorPointer(lookup));
     }
 
     /**
@@ -337,11 +331,9 @@ public class MetadataContainer extends Chunk implements WriteableChunk {
         boolean result = getContainerType().checkConstraints(descriptor.getName(), descriptor.getRawData(), descriptor.getType(), descriptor.getStreamNumber(), descriptor.getLanguageIndex()) == null;
         // Now check if there is already a value contained.
         if (result && !getContainerType().isMultiValued()) {
-            synchronized (this.perfPoint) {
-                final List<MetadataDescriptor> list = this.descriptors.get(this.perfPoint.setDescriptor(descriptor));
-                if (list != null) {
-                    result = list.isEmpty();
-                }
+            final List<MetadataDescriptor> list = this.descriptors.get(new DescriptorPointer(descriptor));
+            if (list != null) {
+                result = list.isEmpty();
             }
         }
         return result;
@@ -1,5 +1,6 @@
 package org.jaudiotagger.audio.dsf;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -15,7 +16,16 @@ public enum DsfChunkType {
     ID3("ID3"),
     ;
 
-    private static final Map<String, DsfChunkType> CODE_TYPE_MAP = new HashMap<String, DsfChunkType>();
+    private static final Map<String, DsfChunkType> CODE_TYPE_MAP;
+
+    static {
+        final Map<String, DsfChunkType> codeTypeMap = new HashMap<String, DsfChunkType>();
+        for (final DsfChunkType type : values()) {
+            codeTypeMap.put(type.getCode(), type);
+        }
+        CODE_TYPE_MAP = Collections.unmodifiableMap(codeTypeMap);
+    }
+
     private String code;
 
     /**
@@ -31,12 +41,7 @@ public enum DsfChunkType {
      * @param code chunk id
      * @return chunk type or {@code null} if not registered
      */
-    public synchronized static DsfChunkType get(final String code) {
-        if (CODE_TYPE_MAP.isEmpty()) {
-            for (final DsfChunkType type : values()) {
-                CODE_TYPE_MAP.put(type.getCode(), type);
-            }
-        }
+    public static DsfChunkType get(final String code) {
         return CODE_TYPE_MAP.get(code);
     }
 
@@ -38,7 +38,30 @@ public class FmtChunk {
     public GenericAudioHeader readChunkData(DsdChunk dsd, FileChannel fc) throws IOException {
         long sizeExcludingChunkHeader = chunkSizeLength - (IffHeaderChunk.SIGNATURE_LENGTH + CHUNKSIZE_LENGTH);
         ByteBuffer audioData = Utils.readFileDataIntoBufferLE(fc, (int) sizeExcludingChunkHeader);
-        return readAudioInfo(dsd, audioData);
+        GenericAudioHeader audioHeader = readAudioInfo(dsd, audioData);
+        setAudioDataPosition(audioHeader, fc);
+        return audioHeader;
+    }
+
+    /**
+     * The data chunk follows the fmt chunk
+     *
+     * @param audioHeader
+     * @param fc positioned at the start of the data chunk
+     * @throws IOException
+     */
+    private void setAudioDataPosition(GenericAudioHeader audioHeader, FileChannel fc) throws IOException {
+        final long dataChunkStart = fc.position();
+        if (fc.size() - dataChunkStart < IffHeaderChunk.SIGNATURE_LENGTH + CHUNKSIZE_LENGTH) {
+            return;
+        }
+        ByteBuffer dataChunkHeader = Utils.readFileDataIntoBufferLE(fc, IffHeaderChunk.SIGNATURE_LENGTH + CHUNKSIZE_LENGTH);
+        if (DsfChunkType.DATA.getCode().equals(Utils.readFourBytesAsChars(dataChunkHeader))) {
+            final long dataChunkSize = dataChunkHeader.getLong();
+            audioHeader.setAudioDataStartPosition(dataChunkStart + IffHeaderChunk.SIGNATURE_LENGTH + CHUNKSIZE_LENGTH);
+            audioHeader.setAudioDataEndPosition(Math.min(dataChunkStart + dataChunkSize, fc.size()));
+            audioHeader.setAudioDataLength(audioHeader.getAudioDataEndPosition() - audioHeader.getAudioDataStartPosition());
+        }
     }
 
     /**
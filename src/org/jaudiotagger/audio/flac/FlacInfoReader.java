@@ -23,6 +23,7 @@ import org.jaudiotagger.audio.flac.metadatablock.BlockType;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataStreamInfo;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockHeader;
 import org.jaudiotagger.audio.generic.Utils;
+import org.jaudiotagger.logging.LogHelper;
 
 import java.io.File;
 import java.io.IOException;
@@ -39,7 +40,7 @@ public class FlacInfoReader {
 
 
     public FlacAudioHeader read(FileChannel fc, final String fileName) throws CannotReadException, IOException {
-        logger.config(fileName + ":start");
+        LogHelper.config(logger, "{0}:start", fileName);
         FlacStreamReader flacStream = new FlacStreamReader(fc, fileName + " ");
         flacStream.findStream();
 
@@ -51,7 +52,7 @@ public class FlacInfoReader {
         //the bitrate
         while (!isLastBlock) {
             MetadataBlockHeader mbh = MetadataBlockHeader.readHeader(fc);
-            logger.info(fileName + " " + mbh.toString());
+            LogHelper.config(logger, "{0} {1}", fileName, mbh);
             if (mbh.getBlockType() == BlockType.STREAMINFO) {
                 mbdsi = new MetadataBlockDataStreamInfo(mbh, fc);
                 if (!mbdsi.isValid()) {
@@ -108,7 +109,7 @@ public class FlacInfoReader {
             int count = 0;
             while (!isLastBlock) {
                 MetadataBlockHeader mbh = MetadataBlockHeader.readHeader(fc);
-                logger.config(f + ":Found block:" + mbh.getBlockType());
+                LogHelper.config(logger, "{0}:Found block:{1}", f, mbh.getBlockType());
                 fc.position(fc.position() + mbh.getDataLength());
                 isLastBlock = mbh.isLastBlock();
                 count++;
@@ -23,6 +23,7 @@ import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataPadding;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataPicture;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockHeader;
 import org.jaudiotagger.audio.generic.AbstractTagCreator;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.flac.FlacTag;
 import org.jaudiotagger.tag.vorbiscomment.VorbisCommentCreator;
@@ -51,7 +52,7 @@ public class FlacTagCreator extends AbstractTagCreator<ByteBuffer> {
      * @throws UnsupportedEncodingException
      */
     public ByteBuffer convert(Tag tag, int paddingSize) throws UnsupportedEncodingException {
-        logger.config("Convert flac tag:padding:" + paddingSize);
+        LogHelper.config(logger, "Convert flac tag:padding:{0}", paddingSize);
         FlacTag flacTag = (FlacTag) tag;
 
         int tagLength = 0;
@@ -64,7 +65,7 @@ public class FlacTagCreator extends AbstractTagCreator<ByteBuffer> {
             tagLength += image.getBytes().limit() + MetadataBlockHeader.HEADER_LENGTH;
         }
 
-        logger.config("Convert flac tag:taglength:" + tagLength);
+        LogHelper.config(logger, "Convert flac tag:taglength:{0}", tagLength);
         ByteBuffer buf = ByteBuffer.allocate(tagLength + paddingSize);
 
         MetadataBlockHeader vorbisHeader;
@@ -95,7 +96,7 @@ public class FlacTagCreator extends AbstractTagCreator<ByteBuffer> {
         }
 
         //Padding
-        logger.config("Convert flac tag at" + buf.position());
+        LogHelper.config(logger, "Convert flac tag at{0}", buf.position());
         if (paddingSize > 0) {
             int paddingDataSize = paddingSize - MetadataBlockHeader.HEADER_LENGTH;
             MetadataBlockHeader paddingHeader = new MetadataBlockHeader(true, BlockType.PADDING, paddingDataSize);
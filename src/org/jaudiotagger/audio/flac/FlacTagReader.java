@@ -19,9 +19,11 @@
 package org.jaudiotagger.audio.flac;
 
 import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.generic.AudioFileMetrics;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataPicture;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockHeader;
 import org.jaudiotagger.logging.Hex;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.InvalidFrameException;
 import org.jaudiotagger.tag.flac.FlacTag;
 import org.jaudiotagger.tag.vorbiscomment.VorbisCommentReader;
@@ -84,7 +86,9 @@ public class FlacTagReader {
 
                     case PICTURE:
                         try {
+                            final long artworkStart = AudioFileMetrics.startPhase();
                             MetadataBlockDataPicture mbdp = new MetadataBlockDataPicture(mbh, fc);
+                            AudioFileMetrics.endArtworkPhase(artworkStart);
                             images.add(mbdp);
                         } catch (IOException ioe) {
                             logger.warning(path + "Unable to read picture metablock, ignoring:" + ioe.getMessage());
@@ -105,7 +109,9 @@ public class FlacTagReader {
             }
             isLastBlock = mbh.isLastBlock();
         }
-        logger.config("Audio should start at:" + Hex.asHex(fc.position()));
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Audio should start at:" + Hex.asHex(fc.position()));
+        }
 
         //Note there may not be either a tag or any images, no problem this is valid however to make it easier we
         //just initialize Flac with an empty VorbisTag
@@ -21,6 +21,8 @@ package org.jaudiotagger.audio.flac;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.flac.metadatablock.*;
+import org.jaudiotagger.audio.generic.BufferPool;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jaudiotagger.tag.flac.FlacTag;
@@ -77,7 +79,7 @@ public class FlacTagWriter {
      * @throws CannotWriteException
      */
     public void write(Tag tag, FileChannel fc, final String fileName) throws CannotWriteException {
-        logger.config(fileName + " Writing tag");
+        LogHelper.config(logger, "{0} Writing tag", fileName);
         try {
             MetadataBlockInfo blockInfo = new MetadataBlockInfo();
 
@@ -153,12 +155,12 @@ public class FlacTagWriter {
             //Go to start of Flac within file
             fc.position(flacStream.getStartOfFlacInFile());
 
-            logger.config(fileName + ":Writing tag available bytes:" + availableRoom + ":needed bytes:" + neededRoom);
+            LogHelper.config(logger, "{0}:Writing tag available bytes:{1}:needed bytes:{2}", fileName, availableRoom, neededRoom);
 
             //There is enough room to fit the tag without moving the audio just need to
             //adjust padding accordingly need to allow space for padding header if padding required
             if ((availableRoom == neededRoom) || (availableRoom > neededRoom + MetadataBlockHeader.HEADER_LENGTH)) {
-                logger.config(fileName + " Room to Rewrite");
+                LogHelper.config(logger, "{0} Room to Rewrite", fileName);
                 //Jump over Id3 (if exists) and flac header
                 fc.position(flacStream.getStartOfFlacInFile() + FlacStreamReader.FLAC_STREAM_IDENTIFIER_LENGTH);
 
@@ -170,7 +172,7 @@ public class FlacTagWriter {
             }
             //Need to move audio
             else {
-                logger.config(fileName + ":Audio must be shifted " + "NewTagSize:" + newTagSize + ":AvailableRoom:" + availableRoom + ":MinimumAdditionalRoomRequired:" + (neededRoom - availableRoom));
+                LogHelper.config(logger, "{0}:Audio must be shifted NewTagSize:{1}:AvailableRoom:{2}:MinimumAdditionalRoomRequired:{3}", fileName, newTagSize, availableRoom, (neededRoom - availableRoom));
                 //As we are having to both anyway may as well put in the default padding
                 insertUsingChunks(fileName, tag, fc, blockInfo, flacStream, neededRoom + FlacTagCreator.DEFAULT_PADDING, availableRoom);
             }
@@ -205,19 +207,24 @@ public class FlacTagWriter {
                 + availableRoom);
 
         //And copy into Buffer, because direct buffer doesnt use heap
-        ByteBuffer audioData = ByteBuffer.allocateDirect((int) (fc.size() - fc.position()));
-        fc.read(audioData);
-        audioData.flip();
+        final BufferPool bufferPool = TagOptionSingleton.getInstance().getBufferPool();
+        ByteBuffer audioData = bufferPool.acquireDirect((int) (fc.size() - fc.position()));
+        try {
+            fc.read(audioData);
+            audioData.flip();
 
-        //Jump over Id3 (if exists) Flac Header
-        fc.position(flacStream.getStartOfFlacInFile() + FlacStreamReader.FLAC_STREAM_IDENTIFIER_LENGTH);
-        writeOtherMetadataBlocks(fc, blockInfo);
+            //Jump over Id3 (if exists) Flac Header
+            fc.position(flacStream.getStartOfFlacInFile() + FlacStreamReader.FLAC_STREAM_IDENTIFIER_LENGTH);
+            writeOtherMetadataBlocks(fc, blockInfo);
 
-        //Write tag (and add some default padding)
-        fc.write(tc.convert(tag, FlacTagCreator.DEFAULT_PADDING));
+            //Write tag (and add some default padding)
+            fc.write(tc.convert(tag, FlacTagCreator.DEFAULT_PADDING));
 
-        //Write Audio
-        fc.write(audioData);
+            //Write Audio
+            fc.write(audioData);
+        } finally {
+            bufferPool.release(audioData);
+        }
     }
 
 
@@ -250,7 +257,7 @@ public class FlacTagWriter {
 
         //Extra Space Required for larger metadata block
         int extraSpaceRequired = neededRoom - availableRoom;
-        logger.config(file + " Audio needs shifting:" + extraSpaceRequired);
+        LogHelper.config(logger, "{0} Audio needs shifting:{1}", file, extraSpaceRequired);
 
         //ChunkSize must be at least as large as the extra space required to write the metadata
         int chunkSize = (int) TagOptionSingleton.getInstance().getWriteChunkSize();
@@ -258,43 +265,51 @@ public class FlacTagWriter {
             chunkSize = extraSpaceRequired;
         }
 
+        final BufferPool bufferPool = TagOptionSingleton.getInstance().getBufferPool();
         Queue<ByteBuffer> queue = new LinkedBlockingQueue<>();
+        try {
+            //Read first chunk of audio
+            fc.position(audioStart);
+            {
+                ByteBuffer audioBuffer = bufferPool.acquireDirect(chunkSize);
+                queue.add(audioBuffer);
+                fc.read(audioBuffer);
+                audioBuffer.flip();
+            }
+            long readPosition = fc.position();
 
-        //Read first chunk of audio
-        fc.position(audioStart);
-        {
-            ByteBuffer audioBuffer = ByteBuffer.allocateDirect(chunkSize);
-            fc.read(audioBuffer);
-            audioBuffer.flip();
-            queue.add(audioBuffer);
-        }
-        long readPosition = fc.position();
-
-        //Jump over Id3 (if exists) and Flac Header
-        fc.position(flacStream.getStartOfFlacInFile() + FlacStreamReader.FLAC_STREAM_IDENTIFIER_LENGTH);
-        writeOtherMetadataBlocks(fc, blockInfo);
-        fc.write(tc.convert(tag, FlacTagCreator.DEFAULT_PADDING));
-        long writePosition = fc.position();
-
-
-        fc.position(readPosition);
-        while (fc.position() < originalFileSize) {
-            //Read next chunk
-            ByteBuffer audioBuffer = ByteBuffer.allocateDirect(chunkSize);
-            fc.read(audioBuffer);
-            readPosition = fc.position();
-            audioBuffer.flip();
-            queue.add(audioBuffer);
+            //Jump over Id3 (if exists) and Flac Header
+            fc.position(flacStream.getStartOfFlacInFile() + FlacStreamReader.FLAC_STREAM_IDENTIFIER_LENGTH);
+            writeOtherMetadataBlocks(fc, blockInfo);
+            fc.write(tc.convert(tag, FlacTagCreator.DEFAULT_PADDING));
+            long writePosition = fc.position();
 
-            //Write previous chunk
-            fc.position(writePosition);
-            fc.write(queue.remove());
-            writePosition = fc.position();
 
             fc.position(readPosition);
+            while (fc.position() < originalFileSize) {
+                //Read next chunk
+                ByteBuffer audioBuffer = bufferPool.acquireDirect(chunkSize);
+                queue.add(audioBuffer);
+                fc.read(audioBuffer);
+                readPosition = fc.position();
+                audioBuffer.flip();
+
+                //Write previous chunk, its buffer can then be used for the chunk after this one
+                fc.position(writePosition);
+                ByteBuffer previousBuffer = queue.remove();
+                fc.write(previousBuffer);
+                bufferPool.release(previousBuffer);
+                writePosition = fc.position();
+
+                fc.position(readPosition);
+            }
+            fc.position(writePosition);
+            fc.write(queue.peek());
+        } finally {
+            for (ByteBuffer audioBuffer : queue) {
+                bufferPool.release(audioBuffer);
+            }
         }
-        fc.position(writePosition);
-        fc.write(queue.remove());
     }
 
     /**
@@ -1,6 +1,7 @@
 package org.jaudiotagger.audio.flac.metadatablock;
 
 import org.jaudiotagger.audio.generic.Utils;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.FieldKey;
 import org.jaudiotagger.tag.InvalidFrameException;
 import org.jaudiotagger.tag.TagField;
@@ -88,7 +89,7 @@ public class MetadataBlockDataPicture implements MetadataBlockData, TagField {
         imageData = new byte[lengthOfPictureInBytes];
         rawdata.get(imageData);
 
-        logger.config("Read image:" + this.toString());
+        LogHelper.config(logger, "Read image:{0}", this);
     }
 
     /**
@@ -30,7 +30,7 @@ import java.util.*;
  *
  * @author Raphaël Slinckx
  */
-public abstract class AbstractTag implements Tag {
+public abstract class AbstractTag implements Tag, ModificationTrackingTag {
     /**
      * Stores the amount of {@link TagField} with {@link TagField#isCommon()}
      * <code>true</code>.
@@ -45,6 +45,21 @@ public abstract class AbstractTag implements Tag {
      */
     protected Map<String, List<TagField>> fields = new LinkedHashMap<>();
 
+    /**
+     * Has the tag been changed since it was read or written
+     */
+    private boolean modified = true;
+
+    @Override
+    public boolean isModified() {
+        return modified;
+    }
+
+    @Override
+    public void setModified(boolean modified) {
+        this.modified = modified;
+    }
+
     /**
      * Add field
      *
@@ -57,6 +72,7 @@ public abstract class AbstractTag implements Tag {
         if (field == null) {
             return;
         }
+        modified = true;
         List<TagField> list = fields.get(field.getId());
 
         // There was no previous item
@@ -75,12 +91,24 @@ public abstract class AbstractTag implements Tag {
 
 
     /**
-     * Get list of fields within this tag with the specified id
+     * Get list of fields within this tag with the specified id, the fields may be changed so the tag is marked as
+     * modified
      *
      * @see org.jaudiotagger.tag.Tag#getFields(java.lang.String)
      */
     @Override
     public List<TagField> getFields(String id) {
+        modified = true;
+        return getFieldList(id);
+    }
+
+    /**
+     * Get list of fields within this tag with the specified id for reading only, does not mark the tag as modified
+     *
+     * @param id
+     * @return
+     */
+    protected List<TagField> getFieldList(String id) {
         List<TagField> list = fields.get(id);
 
         if (list == null) {
@@ -91,13 +119,14 @@ public abstract class AbstractTag implements Tag {
     }
 
     public Map<String, List<TagField>> getMappedFields() {
+        modified = true;
         return fields;
     }
 
 
     public List<String> getAll(String id) throws KeyNotFoundException {
         List<String> fields = new ArrayList<>();
-        List<TagField> tagFields = getFields(id);
+        List<TagField> tagFields = getFieldList(id);
         for (TagField tagField : tagFields) {
             fields.add(tagField.toString());
         }
@@ -110,7 +139,7 @@ public abstract class AbstractTag implements Tag {
      * @return
      */
     public String getItem(String id, int index) {
-        List<TagField> l = getFields(id);
+        List<TagField> l = getFieldList(id);
         return (l.size() > index) ? l.get(index).toString() : "";
     }
 
@@ -127,17 +156,19 @@ public abstract class AbstractTag implements Tag {
 
     @Override
     public String getFirst(String id) {
-        List<TagField> l = getFields(id);
+        List<TagField> l = getFieldList(id);
         return (l.size() != 0) ? l.get(0).toString() : "";
     }
 
     @Override
     public TagField getFirstField(String id) {
-        List<TagField> l = getFields(id);
+        modified = true;
+        List<TagField> l = getFieldList(id);
         return (l.size() != 0) ? l.get(0) : null;
     }
 
     public List<TagField> getAll() {
+        modified = true;
         List<TagField> fieldList = new ArrayList<>();
         for (List<TagField> listOfFields : fields.values()) {
             fieldList.addAll(listOfFields);
@@ -147,6 +178,16 @@ public abstract class AbstractTag implements Tag {
 
     @Override
     public Iterator<TagField> getFields() {
+        modified = true;
+        return getFieldIterator();
+    }
+
+    /**
+     * Iterate over the fields for reading only, does not mark the tag as modified
+     *
+     * @return
+     */
+    protected Iterator<TagField> getFieldIterator() {
         final Iterator<Map.Entry<String, List<TagField>>> it = this.fields.entrySet().iterator();
         return new Iterator<TagField>() {
             private Iterator<TagField> fieldsIt;
@@ -194,7 +235,7 @@ public abstract class AbstractTag implements Tag {
      */
     @Override
     public int getFieldCount() {
-        Iterator it = getFields();
+        Iterator it = getFieldIterator();
         int count = 0;
         while (it.hasNext()) {
             count++;
@@ -225,7 +266,7 @@ public abstract class AbstractTag implements Tag {
      */
     @Override
     public boolean hasField(String id) {
-        return getFields(id).size() != 0;
+        return getFieldList(id).size() != 0;
     }
 
     @Override
@@ -293,6 +334,7 @@ public abstract class AbstractTag implements Tag {
         if (field == null) {
             return;
         }
+        modified = true;
 
         // If there is already an existing field with same id
         // and both are TextFields, we replace the first element
@@ -340,7 +382,7 @@ public abstract class AbstractTag implements Tag {
     public String toString() {
         StringBuffer out = new StringBuffer();
         out.append("Tag content:\n");
-        Iterator it = getFields();
+        Iterator it = getFieldIterator();
         while (it.hasNext()) {
             TagField field = (TagField) it.next();
             out.append("\t");
@@ -381,6 +423,7 @@ public abstract class AbstractTag implements Tag {
      * @param key
      */
     public void deleteField(String key) {
+        modified = true;
         fields.remove(key);
     }
 
@@ -0,0 +1,76 @@
+package org.jaudiotagger.audio.generic;
+
+import org.jaudiotagger.tag.TagOptionSingleton;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+
+/**
+ * Digests part of a file with any number of digests in a single pass
+ *
+ * <p>The file is read in large chunks into a pooled heap buffer, digests are given the backing array directly because
+ * updating a digest from a direct buffer copies the data into a small temporary array anyway.
+ */
+public final class AudioDataDigester {
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+
+    private AudioDataDigester() {
+    }
+
+    /**
+     * Update the digests with the bytes from start up to end
+     *
+     * @param file
+     * @param start      position of the first byte
+     * @param end        position after the last byte
+     * @param bufferSize number of bytes read at a time
+     * @param digests    digests to update
+     * @throws IOException if the file cannot be read or is shorter than end
+     */
+    public static void digest(File file, long start, long end, int bufferSize, MessageDigest... digests) throws IOException {
+        final FileInputStream fis = new FileInputStream(file);
+        try {
+            digest(AudioFileMetrics.wrap(fis.getChannel()), start, end, bufferSize, digests);
+        } finally {
+            fis.close();
+        }
+    }
+
+    /**
+     * Update the digests with the bytes from start up to end
+     *
+     * @param fc         channel to read, its position is not changed
+     * @param start      position of the first byte
+     * @param end        position after the last byte
+     * @param bufferSize number of bytes read at a time
+     * @param digests    digests to update
+     * @throws IOException if the channel cannot be read or is shorter than end
+     */
+    public static void digest(FileChannel fc, long start, long end, int bufferSize, MessageDigest... digests) throws IOException {
+        final BufferPool bufferPool = TagOptionSingleton.getInstance().getBufferPool();
+        final ByteBuffer bb = bufferPool.acquire((int) Math.max(1, Math.min(bufferSize, end - start)));
+        try {
+            final byte[] array = bb.array();
+            final int size = bb.limit();
+            long position = start;
+            while (position < end) {
+                bb.clear();
+                bb.limit((int) Math.min(size, end - position));
+                final int read = fc.read(bb, position);
+                if (read <= 0) {
+                    throw new IOException("Unexpected end of file at " + position + " expected data up to " + end);
+                }
+                for (MessageDigest digest : digests) {
+                    digest.update(array, 0, read);
+                }
+                position += read;
+            }
+        } finally {
+            bufferPool.release(bb);
+        }
+    }
+}
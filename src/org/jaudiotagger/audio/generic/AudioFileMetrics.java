@@ -0,0 +1,236 @@
+package org.jaudiotagger.audio.generic;
+
+import java.io.File;
+import java.nio.channels.FileChannel;
+
+/**
+ * I/O and timing figures collected for a single read, write or delete made through
+ * {@link org.jaudiotagger.audio.AudioFileIO}, passed to each registered {@link AudioFileMetricsListener}
+ * once the operation has finished.
+ *
+ * <p>Figures are only collected while a listener is registered, the collecting metrics are held against the
+ * current thread so the readers and writers can add to them without having them passed down. Bytes and channel
+ * operations are counted for I/O made through a {@link FileChannel} obtained via {@link #wrap(FileChannel)},
+ * which covers the channel based readers and writers and the mp3 reader, I/O made directly on a
+ * RandomAccessFile is not counted.
+ *
+ * <p>Phase times are exclusive, so artwork time is not also included in the tag time.
+ */
+public class AudioFileMetrics {
+    public enum Operation {
+        READ,
+        WRITE,
+        DELETE
+    }
+
+    private static final ThreadLocal<AudioFileMetrics> current = new ThreadLocal<AudioFileMetrics>();
+
+    private final Operation operation;
+    private final File file;
+    private final String format;
+    private final long startNanos;
+    private AudioFileMetrics previous;
+
+    private long bytesRead;
+    private long bytesWritten;
+    private long channelOperations;
+    private long bytesCopiedToTemp;
+    private long headerNanos;
+    private long tagNanos;
+    private long artworkNanos;
+    private long artworkNanosNotYetDeducted;
+    private long elapsedNanos;
+    private boolean failed;
+
+    public AudioFileMetrics(Operation operation, File file, String format) {
+        this.operation = operation;
+        this.file = file;
+        this.format = format;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Start collecting into these metrics on the current thread
+     */
+    public void begin() {
+        previous = current.get();
+        current.set(this);
+    }
+
+    /**
+     * Stop collecting into these metrics, restoring any metrics that were being collected when {@link #begin()} was called
+     *
+     * @param failed true if the operation threw an exception
+     */
+    public void end(boolean failed) {
+        this.failed = failed;
+        this.elapsedNanos = System.nanoTime() - startNanos;
+        if (previous == null) {
+            current.remove();
+        } else {
+            current.set(previous);
+            previous = null;
+        }
+    }
+
+    /**
+     * @return the metrics being collected on the current thread, or null if none are
+     */
+    public static AudioFileMetrics current() {
+        return current.get();
+    }
+
+    /**
+     * Wrap the channel so that its I/O is counted, if metrics are not being collected the channel is returned as is
+     *
+     * @param channel
+     * @return channel to use in place of the one passed in
+     */
+    public static FileChannel wrap(FileChannel channel) {
+        final AudioFileMetrics metrics = current.get();
+        if (metrics == null) {
+            return channel;
+        }
+        return new CountingFileChannel(channel, metrics);
+    }
+
+    /**
+     * @return the time now if metrics are being collected, to be passed to one of the end phase methods
+     */
+    public static long startPhase() {
+        return current.get() != null ? System.nanoTime() : 0;
+    }
+
+    public static void endHeaderPhase(long start) {
+        final AudioFileMetrics metrics = current.get();
+        if (metrics != null) {
+            metrics.headerNanos += metrics.exclusiveOfArtwork(System.nanoTime() - start);
+        }
+    }
+
+    public static void endTagPhase(long start) {
+        final AudioFileMetrics metrics = current.get();
+        if (metrics != null) {
+            metrics.tagNanos += metrics.exclusiveOfArtwork(System.nanoTime() - start);
+        }
+    }
+
+    public static void endArtworkPhase(long start) {
+        final AudioFileMetrics metrics = current.get();
+        if (metrics != null) {
+            final long elapsed = System.nanoTime() - start;
+            metrics.artworkNanos += elapsed;
+            metrics.artworkNanosNotYetDeducted += elapsed;
+        }
+    }
+
+    public static void addBytesCopiedToTemp(long count) {
+        final AudioFileMetrics metrics = current.get();
+        if (metrics != null) {
+            metrics.bytesCopiedToTemp += count;
+        }
+    }
+
+    private long exclusiveOfArtwork(long elapsed) {
+        elapsed -= artworkNanosNotYetDeducted;
+        artworkNanosNotYetDeducted = 0;
+        return Math.max(elapsed, 0);
+    }
+
+    void addRead(long count) {
+        channelOperations++;
+        if (count > 0) {
+            bytesRead += count;
+        }
+    }
+
+    void addWrite(long count) {
+        channelOperations++;
+        if (count > 0) {
+            bytesWritten += count;
+        }
+    }
+
+    void addOperation() {
+        channelOperations++;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * @return the file suffix used to pick the reader or writer, such as mp3 or flac
+     */
+    public String getFormat() {
+        return format;
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * @return number of reads, writes, transfers, seeks and size queries made on counted channels
+     */
+    public long getChannelOperations() {
+        return channelOperations;
+    }
+
+    public long getBytesCopiedToTemp() {
+        return bytesCopiedToTemp;
+    }
+
+    /**
+     * @return time spent reading the audio header (encoding info)
+     */
+    public long getHeaderNanos() {
+        return headerNanos;
+    }
+
+    /**
+     * @return time spent reading the tag, excluding any artwork
+     */
+    public long getTagNanos() {
+        return tagNanos;
+    }
+
+    /**
+     * @return time spent reading artwork
+     */
+    public long getArtworkNanos() {
+        return artworkNanos;
+    }
+
+    /**
+     * @return time for the whole operation
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public boolean isFailed() {
+        return failed;
+    }
+
+    public String toString() {
+        return operation + " " + format + " file:" + file
+                + " bytesRead:" + bytesRead
+                + " bytesWritten:" + bytesWritten
+                + " channelOperations:" + channelOperations
+                + " bytesCopiedToTemp:" + bytesCopiedToTemp
+                + " headerNanos:" + headerNanos
+                + " tagNanos:" + tagNanos
+                + " artworkNanos:" + artworkNanos
+                + " elapsedNanos:" + elapsedNanos
+                + (failed ? " failed" : "");
+    }
+}
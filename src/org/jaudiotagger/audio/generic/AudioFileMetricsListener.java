@@ -0,0 +1,17 @@
+package org.jaudiotagger.audio.generic;
+
+/**
+ * Classes implementing this interface are notified with the I/O and timing figures of every read, write and delete
+ * made through the {@link org.jaudiotagger.audio.AudioFileIO} instance they are registered with.
+ *
+ * The listener is called on the thread that made the call, after the operation has finished (or failed) so
+ * implementations should be quick and thread safe.
+ */
+public interface AudioFileMetricsListener {
+    /**
+     * Notifies that an operation has finished
+     *
+     * @param metrics figures for the operation
+     */
+    void operationFinished(AudioFileMetrics metrics);
+}
@@ -80,6 +80,21 @@ public abstract class AudioFileReader {
      * @exception CannotReadException If anything went bad during the read of this file
      */
     public AudioFile read(File f) throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException {
+        return read(f, true);
+    }
+
+    /*
+     * Reads the tag of the given file without reading the encoding infos, the returned AudioFile has a null
+     * audio header. If the file has no tag, an empty one is returned.
+     *
+     * @param f The file to read
+     * @exception CannotReadException If anything went bad during the read of this file
+     */
+    public AudioFile readTagOnly(File f) throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException {
+        return read(f, false);
+    }
+
+    private AudioFile read(File f, boolean readEncodingInfo) throws CannotReadException, IOException {
         if (logger.isLoggable(Level.CONFIG)) {
             logger.config(ErrorMessage.GENERAL_READ.getMsg(f.getAbsolutePath()));
         }
@@ -98,9 +113,17 @@ public abstract class AudioFileReader {
             raf = new RandomAccessFile(f, "r");
             raf.seek(0);
 
-            GenericAudioHeader info = getEncodingInfo(raf);
-            raf.seek(0);
+            long start;
+            GenericAudioHeader info = null;
+            if (readEncodingInfo) {
+                start = AudioFileMetrics.startPhase();
+                info = getEncodingInfo(raf);
+                AudioFileMetrics.endHeaderPhase(start);
+                raf.seek(0);
+            }
+            start = AudioFileMetrics.startPhase();
             Tag tag = getTag(raf);
+            AudioFileMetrics.endTagPhase(start);
             return new AudioFile(f, info, tag);
 
         } catch (CannotReadException cre) {
@@ -118,4 +141,32 @@ public abstract class AudioFileReader {
             }
         }
     }
+
+    /**
+     * Read where the audio data is when its position was cleared because the tag was written or deleted, the tag may
+     * have grown or shrunk so the audio data may have moved within the file. Only the audio data positions of the audio
+     * header are updated.
+     *
+     * @param audioFile file whose audio data position is to be found
+     * @throws CannotReadException if the file can no longer be read
+     * @throws IOException         on any I/O error
+     */
+    public void readAudioDataPosition(AudioFile audioFile) throws CannotReadException, IOException {
+        RandomAccessFile raf = new RandomAccessFile(audioFile.getFile(), "r");
+        try {
+            setAudioDataPosition(audioFile, getEncodingInfo(raf));
+        } finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * @param audioFile
+     * @param written   audio header read from the file as it is now
+     */
+    protected static void setAudioDataPosition(AudioFile audioFile, GenericAudioHeader written) {
+        final GenericAudioHeader audioHeader = (GenericAudioHeader) audioFile.getAudioHeader();
+        audioHeader.setAudioDataStartPosition(written.getAudioDataStartPosition());
+        audioHeader.setAudioDataEndPosition(written.getAudioDataEndPosition());
+    }
 }
@@ -30,6 +30,22 @@ public abstract class AudioFileReader2 extends AudioFileReader {
      * @exception CannotReadException If anything went bad during the read of this file
      */
     public AudioFile read(File f) throws CannotReadException, IOException {
+        return read(f, true);
+    }
+
+    /*
+     * Reads the tag of the given file without reading the encoding infos, the returned AudioFile has a null
+     * audio header. If the file has no tag, an empty one is returned.
+     *
+     * @param f The file to read
+     * @exception NoReadPermissionsException if permissions prevent reading of file
+     * @exception CannotReadException If anything went bad during the read of this file
+     */
+    public AudioFile readTagOnly(File f) throws CannotReadException, IOException {
+        return read(f, false);
+    }
+
+    private AudioFile read(File f, boolean readEncodingInfo) throws CannotReadException, IOException {
         if (logger.isLoggable(Level.CONFIG)) {
             logger.config(ErrorMessage.GENERAL_READ.getMsg(f));
         }
@@ -44,12 +60,8 @@ public abstract class AudioFileReader2 extends AudioFileReader {
             throw new CannotReadException(ErrorMessage.GENERAL_READ_FAILED_FILE_TOO_SMALL.getMsg(f));
         }
 
-        try (FileChannel channel = new RandomAccessFile(f, "r").getChannel()) {
-            final String absolutePath = f.getAbsolutePath();
-            GenericAudioHeader info = getEncodingInfo(channel, absolutePath);
-            channel.position(0);
-            Tag tag = getTag(channel, absolutePath);
-            return new AudioFile(f, info, tag);
+        try (FileChannel channel = AudioFileMetrics.wrap(new RandomAccessFile(f, "r").getChannel())) {
+            return new AudioFile(f, readEncodingInfo ? readEncodingInfo(channel, f.getAbsolutePath()) : null, readTag(channel, f.getAbsolutePath()));
         } catch (IllegalArgumentException e) {
             logger.warning(ErrorMessage.GENERAL_READ_FAILED_DO_NOT_HAVE_PERMISSION_TO_READ_FILE.getMsg(f));
             throw new CannotReadException(ErrorMessage.GENERAL_READ_FAILED_DO_NOT_HAVE_PERMISSION_TO_READ_FILE.getMsg(f));
@@ -59,6 +71,67 @@ public abstract class AudioFileReader2 extends AudioFileReader {
         }
     }
 
+    /**
+     * Reads the file held by the channel, the returned AudioFile is written back to the channel when committed so
+     * the channel must be left open until then and be writable to do so.
+     *
+     * @param channel  channel holding the file, read from the start
+     * @param fileName name of the file, its extension is the format of the file
+     * @return the AudioFile with the tag and the encoding info
+     * @throws CannotReadException If anything went bad during the read of this file
+     * @throws IOException         on any I/O error
+     */
+    public AudioFile read(FileChannel channel, String fileName) throws CannotReadException, IOException {
+        return read(channel, fileName, true);
+    }
+
+    /**
+     * Reads the tag of the file held by the channel without reading the encoding infos
+     *
+     * @param channel  channel holding the file, read from the start
+     * @param fileName name of the file, its extension is the format of the file
+     * @return the AudioFile with the tag, its audio header is null
+     * @throws CannotReadException If anything went bad during the read of this file
+     * @throws IOException         on any I/O error
+     */
+    public AudioFile readTagOnly(FileChannel channel, String fileName) throws CannotReadException, IOException {
+        return read(channel, fileName, false);
+    }
+
+    private AudioFile read(FileChannel channel, String fileName, boolean readEncodingInfo) throws CannotReadException, IOException {
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(ErrorMessage.GENERAL_READ.getMsg(fileName));
+        }
+        if (channel.size() <= MINIMUM_SIZE_FOR_VALID_AUDIO_FILE) {
+            throw new CannotReadException(ErrorMessage.GENERAL_READ_FAILED_FILE_TOO_SMALL.getMsg(fileName));
+        }
+
+        final FileChannel countingChannel = AudioFileMetrics.wrap(channel);
+        countingChannel.position(0);
+        GenericAudioHeader info = null;
+        if (readEncodingInfo) {
+            info = readEncodingInfo(countingChannel, fileName);
+        }
+        AudioFile audioFile = new AudioFile(fileName, info, readTag(countingChannel, fileName));
+        audioFile.setChannel(channel);
+        return audioFile;
+    }
+
+    private GenericAudioHeader readEncodingInfo(FileChannel channel, String fileName) throws CannotReadException, IOException {
+        long start = AudioFileMetrics.startPhase();
+        GenericAudioHeader info = getEncodingInfo(channel, fileName);
+        AudioFileMetrics.endHeaderPhase(start);
+        channel.position(0);
+        return info;
+    }
+
+    private Tag readTag(FileChannel channel, String fileName) throws CannotReadException, IOException {
+        long start = AudioFileMetrics.startPhase();
+        Tag tag = getTag(channel, fileName);
+        AudioFileMetrics.endTagPhase(start);
+        return tag;
+    }
+
     /**
      * Read Encoding Information
      *
@@ -70,6 +143,27 @@ public abstract class AudioFileReader2 extends AudioFileReader {
      */
     protected abstract GenericAudioHeader getEncodingInfo(FileChannel channel, final String fileName) throws CannotReadException, IOException;
 
+    /**
+     * Read where the audio data is when its position was cleared because the tag was written or deleted, from the
+     * channel the file was read from if any
+     *
+     * @param audioFile file whose audio data position is to be found
+     * @throws CannotReadException if the file can no longer be read
+     * @throws IOException         on any I/O error
+     */
+    @Override
+    public void readAudioDataPosition(AudioFile audioFile) throws CannotReadException, IOException {
+        if (audioFile.getChannel() != null) {
+            final FileChannel channel = AudioFileMetrics.wrap(audioFile.getChannel());
+            channel.position(0);
+            setAudioDataPosition(audioFile, readEncodingInfo(channel, audioFile.getFile().getPath()));
+            return;
+        }
+        try (FileChannel channel = AudioFileMetrics.wrap(new RandomAccessFile(audioFile.getFile(), "r").getChannel())) {
+            setAudioDataPosition(audioFile, readEncodingInfo(channel, audioFile.getFile().getAbsolutePath()));
+        }
+    }
+
     protected GenericAudioHeader getEncodingInfo(RandomAccessFile raf) {
         throw new UnsupportedOperationException("Old method not used in version 2");
     }
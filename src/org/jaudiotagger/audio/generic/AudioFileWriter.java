@@ -24,6 +24,7 @@ import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.exceptions.ModifyVetoException;
 import org.jaudiotagger.audio.mp3.MP3File;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagOptionSingleton;
 
@@ -130,6 +131,7 @@ public abstract class AudioFileWriter {
                 }
 
                 if (tempF.length() > 0 && !revert) {
+                    AudioFileMetrics.addBytesCopiedToTemp(tempF.length());
                     boolean deleteResult = af.getFile().delete();
                     if (!deleteResult) {
                         logger.warning(ErrorMessage.GENERAL_WRITE_FAILED_TO_DELETE_ORIGINAL_FILE.getMsg(af.getFile().getPath(), tempF.getPath()));
@@ -254,7 +256,7 @@ public abstract class AudioFileWriter {
     // TODO Creates temp file in same folder as the original file, this is safe
     // but would impose a performance overhead if the original file is on a networked drive
     public void write(AudioFile af) throws CannotWriteException {
-        logger.config("Started writing tag data for file:" + af.getFile().getName());
+        LogHelper.config(logger, "Started writing tag data for file:{0}", af.getFile().getName());
 
         // Prechecks
         precheckWrite(af);
@@ -384,7 +386,9 @@ public abstract class AudioFileWriter {
         result = af.getFile();
 
         // If the temporary file was used
-        if (newFile.length() > 0) {
+        final long newFileLength = newFile.length();
+        if (newFileLength > 0) {
+            AudioFileMetrics.addBytesCopiedToTemp(newFileLength);
             transferNewFileToOriginalFile(newFile, af.getFile(), TagOptionSingleton.getInstance().isPreserveFileIdentity());
         } else {
             // Delete the temporary file that wasn't ever used
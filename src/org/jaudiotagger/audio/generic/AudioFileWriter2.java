@@ -28,8 +28,18 @@ public abstract class AudioFileWriter2 extends AudioFileWriter {
     @Override
     public void delete(AudioFile af) throws CannotReadException, CannotWriteException {
         final File file = af.getFile();
+        if (af.getChannel() != null) {
+            try {
+                af.getChannel().position(0);
+            } catch (IOException e) {
+                logger.warning(ErrorMessage.GENERAL_DELETE_FAILED.getMsg(file, e.getMessage()));
+                throw new CannotWriteException(ErrorMessage.GENERAL_DELETE_FAILED.getMsg(file, e.getMessage()));
+            }
+            deleteTag(af.getTag(), AudioFileMetrics.wrap(af.getChannel()), file.getPath());
+            return;
+        }
         checkCanWriteAndSize(af, file);
-        try (FileChannel channel = new RandomAccessFile(file, "rw").getChannel()) {
+        try (FileChannel channel = AudioFileMetrics.wrap(new RandomAccessFile(file, "rw").getChannel())) {
             deleteTag(af.getTag(), channel, file.getAbsolutePath());
         } catch (FileNotFoundException e) {
             logger.warning(ErrorMessage.GENERAL_DELETE_FAILED.getMsg(file));
@@ -62,8 +72,19 @@ public abstract class AudioFileWriter2 extends AudioFileWriter {
     @Override
     public void write(AudioFile af) throws CannotWriteException {
         final File file = af.getFile();
+        if (af.getChannel() != null) {
+            //Read from a channel so written back to it, the channel is left open
+            try {
+                af.getChannel().position(0);
+            } catch (IOException e) {
+                logger.warning(ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE.getMsg(file, e.getMessage()));
+                throw new CannotWriteException(e);
+            }
+            writeTag(af.getTag(), AudioFileMetrics.wrap(af.getChannel()), file.getPath());
+            return;
+        }
         checkCanWriteAndSize(af, file);
-        try (FileChannel channel = new RandomAccessFile(file, "rw").getChannel()) {
+        try (FileChannel channel = AudioFileMetrics.wrap(new RandomAccessFile(file, "rw").getChannel())) {
             writeTag(af.getTag(), channel, file.getAbsolutePath());
         } catch (FileNotFoundException e) {
             if (file.exists()) {
@@ -0,0 +1,156 @@
+package org.jaudiotagger.audio.generic;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+
+/**
+ * Hands out the working buffers used by the readers and writers so the large buffers used to read, copy and shift
+ * audio data are reused rather than allocated for every file.
+ *
+ * <p>Buffers are grouped into size classes, each a power of two from {@link #MIN_POOLED_SIZE} up to the maximum pooled
+ * size, and are held against the thread that released them so no locking is needed. Buffers larger than the maximum
+ * pooled size are allocated when asked for and left to the garbage collector when released.
+ *
+ * <p>A buffer must not be used once it has been released, nor released more than once, and only buffers obtained from
+ * {@link #acquire(int)} or {@link #acquireDirect(int)} should be released. Set the pool used with
+ * {@link org.jaudiotagger.tag.TagOptionSingleton#setBufferPool(BufferPool)}, override it to share buffers with the
+ * rest of an application.
+ */
+public class BufferPool {
+    public static final int MIN_POOLED_SIZE = 4 * 1024;
+    public static final int DEFAULT_MAX_POOLED_SIZE = 1024 * 1024;
+    public static final int DEFAULT_BUFFERS_PER_SIZE = 2;
+
+    private static class Pools {
+        private final ArrayDeque<ByteBuffer>[] heap;
+        private final ArrayDeque<ByteBuffer>[] direct;
+
+        @SuppressWarnings("unchecked")
+        private Pools(int sizeClasses) {
+            heap = new ArrayDeque[sizeClasses];
+            direct = new ArrayDeque[sizeClasses];
+            for (int i = 0; i < sizeClasses; i++) {
+                heap[i] = new ArrayDeque<ByteBuffer>();
+                direct[i] = new ArrayDeque<ByteBuffer>();
+            }
+        }
+    }
+
+    private final int maxPooledSize;
+    private final int buffersPerSize;
+    private final int sizeClasses;
+    private final ThreadLocal<Pools> pools = new ThreadLocal<Pools>() {
+        @Override
+        protected Pools initialValue() {
+            return new Pools(sizeClasses);
+        }
+    };
+
+    /**
+     * Pool buffers of up to {@link #DEFAULT_MAX_POOLED_SIZE} bytes, keeping {@link #DEFAULT_BUFFERS_PER_SIZE} of each size
+     * per thread
+     */
+    public BufferPool() {
+        this(DEFAULT_MAX_POOLED_SIZE, DEFAULT_BUFFERS_PER_SIZE);
+    }
+
+    /**
+     * @param maxPooledSize  buffers larger than this are not kept, it is rounded up to a power of two
+     * @param buffersPerSize number of buffers of each size and kind kept per thread, 0 disables pooling
+     */
+    public BufferPool(int maxPooledSize, int buffersPerSize) {
+        this.buffersPerSize = Math.max(0, buffersPerSize);
+        this.sizeClasses = maxPooledSize < MIN_POOLED_SIZE ? 0 : sizeClass(Math.min(maxPooledSize, 1 << 30)) + 1;
+        this.maxPooledSize = sizeClasses == 0 ? 0 : MIN_POOLED_SIZE << (sizeClasses - 1);
+    }
+
+    /**
+     * @return the largest buffer kept once released
+     */
+    public int getMaxPooledSize() {
+        return maxPooledSize;
+    }
+
+    /**
+     * Get a heap buffer, its capacity may be larger than asked for
+     *
+     * @param size bytes needed
+     * @return a cleared big endian buffer whose limit is size
+     */
+    public ByteBuffer acquire(int size) {
+        return acquire(size, false);
+    }
+
+    /**
+     * Get a direct buffer, its capacity may be larger than asked for
+     *
+     * @param size bytes needed
+     * @return a cleared big endian buffer whose limit is size
+     */
+    public ByteBuffer acquireDirect(int size) {
+        return acquire(size, true);
+    }
+
+    /**
+     * Return a buffer so it can be handed out again, null is ignored
+     *
+     * @param buffer obtained from this pool
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer == null || buffersPerSize == 0) {
+            return;
+        }
+        final int capacity = buffer.capacity();
+        if (capacity < MIN_POOLED_SIZE || capacity > maxPooledSize || Integer.bitCount(capacity) != 1) {
+            return;
+        }
+        if (!buffer.isDirect() && (buffer.isReadOnly() || buffer.arrayOffset() != 0)) {
+            return;
+        }
+        final ArrayDeque<ByteBuffer> pool = pool(sizeClass(capacity), buffer.isDirect());
+        if (pool.size() < buffersPerSize) {
+            pool.push(buffer);
+        }
+    }
+
+    private ByteBuffer acquire(int size, boolean direct) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Buffer size cannot be negative:" + size);
+        }
+        ByteBuffer buffer;
+        if (size > maxPooledSize || buffersPerSize == 0) {
+            buffer = allocate(size, direct);
+        } else {
+            final int sizeClass = sizeClass(size);
+            buffer = pool(sizeClass, direct).poll();
+            if (buffer == null) {
+                buffer = allocate(MIN_POOLED_SIZE << sizeClass, direct);
+            }
+        }
+        //A buffer released in little endian order must not be handed out as such
+        buffer.clear();
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        buffer.limit(size);
+        return buffer;
+    }
+
+    private ArrayDeque<ByteBuffer> pool(int sizeClass, boolean direct) {
+        final Pools threadPools = pools.get();
+        return direct ? threadPools.direct[sizeClass] : threadPools.heap[sizeClass];
+    }
+
+    private static ByteBuffer allocate(int size, boolean direct) {
+        return direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+    }
+
+    /**
+     * @return index of the smallest size class holding size bytes
+     */
+    private static int sizeClass(int size) {
+        if (size <= MIN_POOLED_SIZE) {
+            return 0;
+        }
+        return 32 - Integer.numberOfLeadingZeros(size - 1) - Integer.numberOfTrailingZeros(MIN_POOLED_SIZE);
+    }
+}
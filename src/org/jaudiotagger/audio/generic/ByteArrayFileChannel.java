@@ -0,0 +1,230 @@
+package org.jaudiotagger.audio.generic;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileLock;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * FileChannel holding the file in memory, so audio held in a buffer can be read and tagged with
+ * {@link org.jaudiotagger.audio.AudioFileIO#read(FileChannel, String)} without first writing it to disk.
+ *
+ * <p>The array given to the constructor is used directly until the file grows larger than it, the contents are
+ * returned by {@link #toByteArray()}. The channel cannot be mapped or locked.
+ */
+public class ByteArrayFileChannel extends FileChannel {
+    private static final int MAX_SIZE = Integer.MAX_VALUE - 8;
+    private static final int TRANSFER_SIZE = 8192;
+
+    private byte[] data;
+    private int size;
+    private long position;
+
+    /**
+     * Create an empty file
+     */
+    public ByteArrayFileChannel() {
+        this(new byte[0]);
+    }
+
+    /**
+     * @param data contents of the file
+     */
+    public ByteArrayFileChannel(byte[] data) {
+        this.data = data;
+        this.size = data.length;
+    }
+
+    /**
+     * @return a copy of the contents of the file
+     */
+    public synchronized byte[] toByteArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    @Override
+    public synchronized int read(ByteBuffer dst) throws IOException {
+        int count = read(dst, position);
+        if (count > 0) {
+            position += count;
+        }
+        return count;
+    }
+
+    @Override
+    public synchronized long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+        long total = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int count = read(dsts[i]);
+            if (count < 0) {
+                return total == 0 ? -1 : total;
+            }
+            total += count;
+        }
+        return total;
+    }
+
+    @Override
+    public synchronized int read(ByteBuffer dst, long position) throws IOException {
+        ensureOpen();
+        if (position < 0) {
+            throw new IllegalArgumentException("Negative position:" + position);
+        }
+        if (position >= size) {
+            return -1;
+        }
+        int count = (int) Math.min(dst.remaining(), size - position);
+        dst.put(data, (int) position, count);
+        return count;
+    }
+
+    @Override
+    public synchronized int write(ByteBuffer src) throws IOException {
+        int count = write(src, position);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public synchronized long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+        long total = 0;
+        for (int i = offset; i < offset + length; i++) {
+            total += write(srcs[i]);
+        }
+        return total;
+    }
+
+    @Override
+    public synchronized int write(ByteBuffer src, long position) throws IOException {
+        ensureOpen();
+        if (position < 0) {
+            throw new IllegalArgumentException("Negative position:" + position);
+        }
+        int count = src.remaining();
+        if (position + count > MAX_SIZE) {
+            throw new IOException("File cannot be larger than " + MAX_SIZE + " bytes");
+        }
+        int end = (int) position + count;
+        if (end > data.length) {
+            data = Arrays.copyOf(data, (int) Math.min(MAX_SIZE, Math.max(end, (long) data.length * 2)));
+        }
+        if (position > size) {
+            //Bytes left over from before truncating must not reappear
+            Arrays.fill(data, size, (int) position, (byte) 0);
+        }
+        src.get(data, (int) position, count);
+        size = Math.max(size, end);
+        return count;
+    }
+
+    @Override
+    public synchronized long position() throws IOException {
+        ensureOpen();
+        return position;
+    }
+
+    @Override
+    public synchronized FileChannel position(long newPosition) throws IOException {
+        ensureOpen();
+        if (newPosition < 0) {
+            throw new IllegalArgumentException("Negative position:" + newPosition);
+        }
+        position = newPosition;
+        return this;
+    }
+
+    @Override
+    public synchronized long size() throws IOException {
+        ensureOpen();
+        return size;
+    }
+
+    @Override
+    public synchronized FileChannel truncate(long newSize) throws IOException {
+        ensureOpen();
+        if (newSize < 0) {
+            throw new IllegalArgumentException("Negative size:" + newSize);
+        }
+        if (newSize < size) {
+            size = (int) newSize;
+        }
+        if (position > newSize) {
+            position = newSize;
+        }
+        return this;
+    }
+
+    @Override
+    public void force(boolean metaData) throws IOException {
+        ensureOpen();
+    }
+
+    @Override
+    public synchronized long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+        ensureOpen();
+        if (position >= size) {
+            return 0;
+        }
+        ByteBuffer src = ByteBuffer.wrap(data, (int) position, (int) Math.min(count, size - position));
+        long transferred = 0;
+        while (src.hasRemaining()) {
+            int written = target.write(src);
+            if (written <= 0) {
+                break;
+            }
+            transferred += written;
+        }
+        return transferred;
+    }
+
+    @Override
+    public synchronized long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+        ensureOpen();
+        if (position > size) {
+            return 0;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(TRANSFER_SIZE, count));
+        long transferred = 0;
+        while (transferred < count) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), count - transferred));
+            int read = src.read(buffer);
+            if (read <= 0) {
+                break;
+            }
+            buffer.flip();
+            transferred += write(buffer, position + transferred);
+        }
+        return transferred;
+    }
+
+    @Override
+    public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+        throw new UnsupportedOperationException("An in memory file cannot be mapped");
+    }
+
+    @Override
+    public FileLock lock(long position, long size, boolean shared) throws IOException {
+        throw new UnsupportedOperationException("An in memory file cannot be locked");
+    }
+
+    @Override
+    public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+        throw new UnsupportedOperationException("An in memory file cannot be locked");
+    }
+
+    @Override
+    protected void implCloseChannel() throws IOException {
+    }
+
+    private void ensureOpen() throws IOException {
+        if (!isOpen()) {
+            throw new ClosedChannelException();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package org.jaudiotagger.audio.generic;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * FileChannel that delegates to another channel adding the bytes and number of operations to {@link AudioFileMetrics}
+ *
+ * Transfers between two counting channels are made between the underlying channels so the platform can still use
+ * its direct transfer.
+ */
+class CountingFileChannel extends FileChannel {
+    private final FileChannel delegate;
+    private final AudioFileMetrics metrics;
+
+    CountingFileChannel(FileChannel delegate, AudioFileMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    private static FileChannel unwrap(FileChannel channel) {
+        return channel instanceof CountingFileChannel ? ((CountingFileChannel) channel).delegate : channel;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        int count = delegate.read(dst);
+        metrics.addRead(count);
+        return count;
+    }
+
+    @Override
+    public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+        long count = delegate.read(dsts, offset, length);
+        metrics.addRead(count);
+        return count;
+    }
+
+    @Override
+    public int read(ByteBuffer dst, long position) throws IOException {
+        int count = delegate.read(dst, position);
+        metrics.addRead(count);
+        return count;
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+        int count = delegate.write(src);
+        metrics.addWrite(count);
+        return count;
+    }
+
+    @Override
+    public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+        long count = delegate.write(srcs, offset, length);
+        metrics.addWrite(count);
+        return count;
+    }
+
+    @Override
+    public int write(ByteBuffer src, long position) throws IOException {
+        int count = delegate.write(src, position);
+        metrics.addWrite(count);
+        return count;
+    }
+
+    @Override
+    public long position() throws IOException {
+        return delegate.position();
+    }
+
+    @Override
+    public FileChannel position(long newPosition) throws IOException {
+        delegate.position(newPosition);
+        metrics.addOperation();
+        return this;
+    }
+
+    @Override
+    public long size() throws IOException {
+        metrics.addOperation();
+        return delegate.size();
+    }
+
+    @Override
+    public FileChannel truncate(long size) throws IOException {
+        delegate.truncate(size);
+        metrics.addOperation();
+        return this;
+    }
+
+    @Override
+    public void force(boolean metaData) throws IOException {
+        delegate.force(metaData);
+        metrics.addOperation();
+    }
+
+    @Override
+    public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+        WritableByteChannel unwrapped = target instanceof FileChannel ? unwrap((FileChannel) target) : target;
+        long transferred = delegate.transferTo(position, count, unwrapped);
+        metrics.addRead(transferred);
+        if (target instanceof CountingFileChannel) {
+            metrics.addWrite(transferred);
+        }
+        return transferred;
+    }
+
+    @Override
+    public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+        ReadableByteChannel unwrapped = src instanceof FileChannel ? unwrap((FileChannel) src) : src;
+        long transferred = delegate.transferFrom(unwrapped, position, count);
+        metrics.addWrite(transferred);
+        if (src instanceof CountingFileChannel) {
+            metrics.addRead(transferred);
+        }
+        return transferred;
+    }
+
+    @Override
+    public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+        metrics.addOperation();
+        return delegate.map(mode, position, size);
+    }
+
+    @Override
+    public FileLock lock(long position, long size, boolean shared) throws IOException {
+        return delegate.lock(position, size, shared);
+    }
+
+    @Override
+    public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+        return delegate.tryLock(position, size, shared);
+    }
+
+    @Override
+    protected void implCloseChannel() throws IOException {
+        delegate.close();
+    }
+}
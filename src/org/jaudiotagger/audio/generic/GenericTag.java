@@ -171,6 +171,7 @@ public abstract class GenericTag extends AbstractTag {
 
     @Override
     public List<TagField> getFields(final FieldKey genericKey) throws KeyNotFoundException {
+        setModified(true);
         List<TagField> list = fields.get(genericKey.name());
         if (list == null) {
             return new ArrayList<TagField>();
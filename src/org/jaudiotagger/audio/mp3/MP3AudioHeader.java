@@ -21,8 +21,11 @@ package org.jaudiotagger.audio.mp3;
 
 import org.jaudiotagger.audio.AudioHeader;
 import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
+import org.jaudiotagger.audio.generic.AudioFileMetrics;
+import org.jaudiotagger.audio.generic.BufferPool;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.logging.Hex;
+import org.jaudiotagger.tag.TagOptionSingleton;
 
 import java.io.EOFException;
 import java.io.File;
@@ -30,10 +33,6 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.Locale;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -74,10 +73,8 @@ public class MP3AudioHeader implements AudioHeader {
     private long numberOfFramesEstimate;
     private long bitrate;
     private String encoder = "";
+    private MP3SeekIndex seekIndex;
 
-    private static final SimpleDateFormat timeInFormat = new SimpleDateFormat("ss", Locale.UK);
-    private static final SimpleDateFormat timeOutFormat = new SimpleDateFormat("mm:ss", Locale.UK);
-    private static final SimpleDateFormat timeOutOverAnHourFormat = new SimpleDateFormat("kk:mm:ss", Locale.UK);
     private static final char isVbrIdentifier = '~';
     private static final int CONVERT_TO_KILOBITS = 1000;
     private static final String TYPE_MP3 = "mp3";
@@ -87,12 +84,20 @@ public class MP3AudioHeader implements AudioHeader {
     public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.mp3");
 
     /**
-     * After testing the average location of the first MP3Header bit was at 5000 bytes so this is
-     * why chosen as a default.
+     * After testing the average location of the first MP3Header bit was at 5000 bytes so this was originally
+     * chosen as a default, now the buffer is scanned a word at a time a larger buffer means fewer reads when
+     * there is a lot of data before the first frame.
      */
-    private final static int FILE_BUFFER_SIZE = 5000;
+    private final static int FILE_BUFFER_SIZE = 32768;
+
+    /**
+     * Frames longer than this are not real frames, valid frames are never more than a few thousand bytes
+     */
+    private final static int MAX_FRAME_LENGTH = 5000 - MPEGFrameHeader.HEADER_SIZE - XingFrame.MAX_BUFFER_SIZE_NEEDED_TO_READ_XING;
     private final static int MIN_BUFFER_REMAINING_REQUIRED = MPEGFrameHeader.HEADER_SIZE + XingFrame.MAX_BUFFER_SIZE_NEEDED_TO_READ_XING;
     private static final int NO_SECONDS_IN_HOUR = 3600;
+    private static final int NO_SECONDS_IN_MINUTE = 60;
+    private static final int NO_MINUTES_IN_HOUR = 60;
 
     public MP3AudioHeader() {
     }
@@ -136,6 +141,23 @@ public class MP3AudioHeader implements AudioHeader {
         }
     }
 
+    /**
+     * Search for the first MP3Header in the file using an already open channel, as above
+     *
+     * The channel is read using absolute positions so its position is unchanged and it is left open.
+     *
+     * @param seekFile  the file the channel reads, used for its name
+     * @param fc
+     * @param startByte
+     * @throws IOException
+     * @throws InvalidAudioFrameException
+     */
+    public MP3AudioHeader(final File seekFile, final FileChannel fc, long startByte) throws IOException, InvalidAudioFrameException {
+        if (!seek(seekFile, fc, startByte)) {
+            throw new InvalidAudioFrameException(ErrorMessage.NO_AUDIO_HEADER_FOUND.getMsg(seekFile.getName()));
+        }
+    }
+
     /**
      * Returns true if the first MP3 frame can be found for the MP3 file
      *
@@ -147,21 +169,49 @@ public class MP3AudioHeader implements AudioHeader {
      * @throws IOException on any I/O error
      */
     public boolean seek(final File seekFile, long startByte) throws IOException {
+        final FileInputStream fis = new FileInputStream(seekFile);
+        try {
+            final FileChannel fc = AudioFileMetrics.wrap(fis.getChannel());
+            if (!seek(seekFile, fc, startByte)) {
+                return false;
+            }
+            countFrames(seekFile, fc);
+            return true;
+        } finally {
+            fis.close();
+        }
+    }
+
+    /**
+     * Returns true if the first MP3 frame can be found for the MP3 file read by the channel
+     *
+     * The channel is read using absolute positions so its position is unchanged and it is left open. The frames are
+     * not counted, once the start of the audio has been confirmed call {@link #countFrames(File, FileChannel)}.
+     *
+     * @param seekFile  MP3 file to seek, used for its name
+     * @param fc        channel reading the file
+     * @param startByte if there is an ID3v2tag we dont want to start reading from the start of the tag
+     * @return true if the first MP3 frame can be found
+     * @throws IOException on any I/O error
+     */
+    public boolean seek(final File seekFile, final FileChannel fc, long startByte) throws IOException {
+        //Read into Byte Buffer in Chunks
+        final BufferPool bufferPool = TagOptionSingleton.getInstance().getBufferPool();
+        final ByteBuffer bb = bufferPool.acquire(FILE_BUFFER_SIZE);
+        try {
+            return seek(seekFile, fc, startByte, bb);
+        } finally {
+            bufferPool.release(bb);
+        }
+    }
+
+    private boolean seek(final File seekFile, final FileChannel fc, long startByte, ByteBuffer bb) throws IOException {
         //References to Xing/VRbi Header
         ByteBuffer header;
 
         //This is substantially faster than updating the filechannels position
         long filePointerCount;
 
-        final FileInputStream fis = new FileInputStream(seekFile);
-        final FileChannel fc = fis.getChannel();
-
-        //Read into Byte Buffer in Chunks
-        ByteBuffer bb = ByteBuffer.allocateDirect(FILE_BUFFER_SIZE);
-
-        //Move FileChannel to the starting position (skipping over tag if any)
-        fc.position(startByte);
-
         //Update filePointerCount
         filePointerCount = startByte;
 
@@ -172,78 +222,80 @@ public class MP3AudioHeader implements AudioHeader {
         boolean syncFound = false;
         try {
             do {
-                //TODO remaining() is quite an expensive operation, isn't there a way we can work this out without
-                //interrogating the bytebuffer. Also this is rarely going to be true, and could be made less true
-                //by increasing FILE_BUFFER_SIZE
                 if (bb.remaining() <= MIN_BUFFER_REMAINING_REQUIRED) {
                     bb.clear();
-                    fc.position(filePointerCount);
-                    fc.read(bb, fc.position());
+                    fc.read(bb, filePointerCount);
                     bb.flip();
                     if (bb.limit() <= MIN_BUFFER_REMAINING_REQUIRED) {
                         //No mp3 exists
                         return false;
                     }
                 }
-                //MP3File.logger.finest("fc:"+fc.position() + "bb"+bb.position());
-                if (MPEGFrameHeader.isMPEGFrame(bb)) {
-                    try {
+
+                //Skip to the next valid header, leaving enough of the buffer after it to check for a Xing/Vbri frame
+                final int scanEnd = bb.limit() - MIN_BUFFER_REMAINING_REQUIRED;
+                final int candidate = MPEGSyncScanner.findFrame(bb, bb.position(), scanEnd);
+                if (candidate == -1) {
+                    filePointerCount += scanEnd - bb.position();
+                    bb.position(scanEnd);
+                    continue;
+                }
+                filePointerCount += candidate - bb.position();
+                bb.position(candidate);
+                try {
+                    if (MP3AudioHeader.logger.isLoggable(Level.FINEST)) {
+                        MP3AudioHeader.logger.finest("Found Possible header at:" + filePointerCount);
+                    }
+
+                    mp3FrameHeader = MPEGFrameHeader.parseMPEGHeader(bb);
+                    syncFound = true;
+                    //if(2==1) use this line when you want to test getting the next frame without using xing
+
+                    if ((header = XingFrame.isXingFrame(bb, mp3FrameHeader)) != null) {
                         if (MP3AudioHeader.logger.isLoggable(Level.FINEST)) {
-                            MP3AudioHeader.logger.finest("Found Possible header at:" + filePointerCount);
+                            MP3AudioHeader.logger.finest("Found Possible XingHeader");
                         }
-
-                        mp3FrameHeader = MPEGFrameHeader.parseMPEGHeader(bb);
-                        syncFound = true;
-                        //if(2==1) use this line when you want to test getting the next frame without using xing
-
-                        if ((header = XingFrame.isXingFrame(bb, mp3FrameHeader)) != null) {
-                            if (MP3AudioHeader.logger.isLoggable(Level.FINEST)) {
-                                MP3AudioHeader.logger.finest("Found Possible XingHeader");
-                            }
-                            try {
-                                //Parses Xing frame without modifying position of main buffer
-                                mp3XingFrame = XingFrame.parseXingFrame(header);
-                            } catch (InvalidAudioFrameException ex) {
-                                // We Ignore because even if Xing Header is corrupted
-                                //doesn't mean file is corrupted
-                            }
-                            break;
-                        } else if ((header = VbriFrame.isVbriFrame(bb, mp3FrameHeader)) != null) {
-                            if (MP3AudioHeader.logger.isLoggable(Level.FINEST)) {
-                                MP3AudioHeader.logger.finest("Found Possible VbriHeader");
-                            }
-                            try {
-                                //Parses Vbri frame without modifying position of main buffer
-                                mp3VbriFrame = VbriFrame.parseVBRIFrame(header);
-                            } catch (InvalidAudioFrameException ex) {
-                                // We Ignore because even if Vbri Header is corrupted
-                                //doesn't mean file is corrupted
-                            }
-                            break;
+                        try {
+                            //Parses Xing frame without modifying position of main buffer
+                            mp3XingFrame = XingFrame.parseXingFrame(header);
+                        } catch (InvalidAudioFrameException ex) {
+                            // We Ignore because even if Xing Header is corrupted
+                            //doesn't mean file is corrupted
                         }
-                        // There is a small but real chance that an unsynchronised ID3 Frame could fool the MPEG
-                        // Parser into thinking it was an MPEG Header. If this happens the chances of the next bytes
-                        // forming a Xing frame header are very remote. On the basis that  most files these days have
-                        // Xing headers we do an additional check for when an apparent frame header has been found
-                        // but is not followed by a Xing Header:We check the next header this wont impose a large
-                        // overhead because wont apply to most Mpegs anyway ( Most likely to occur if audio
-                        // has an  APIC frame which should have been unsynchronised but has not been) , or if the frame
-                        // has been encoded with as Unicode LE because these have a BOM of 0xFF 0xFE
-                        else {
-                            syncFound = isNextFrameValid(seekFile, filePointerCount, bb, fc);
-                            if (syncFound) {
-                                break;
-                            }
+                        break;
+                    } else if ((header = VbriFrame.isVbriFrame(bb, mp3FrameHeader)) != null) {
+                        if (MP3AudioHeader.logger.isLoggable(Level.FINEST)) {
+                            MP3AudioHeader.logger.finest("Found Possible VbriHeader");
+                        }
+                        try {
+                            //Parses Vbri frame without modifying position of main buffer
+                            mp3VbriFrame = VbriFrame.parseVBRIFrame(header);
+                        } catch (InvalidAudioFrameException ex) {
+                            // We Ignore because even if Vbri Header is corrupted
+                            //doesn't mean file is corrupted
+                        }
+                        break;
+                    }
+                    // There is a small but real chance that an unsynchronised ID3 Frame could fool the MPEG
+                    // Parser into thinking it was an MPEG Header. If this happens the chances of the next bytes
+                    // forming a Xing frame header are very remote. On the basis that  most files these days have
+                    // Xing headers we do an additional check for when an apparent frame header has been found
+                    // but is not followed by a Xing Header:We check the next header this wont impose a large
+                    // overhead because wont apply to most Mpegs anyway ( Most likely to occur if audio
+                    // has an  APIC frame which should have been unsynchronised but has not been) , or if the frame
+                    // has been encoded with as Unicode LE because these have a BOM of 0xFF 0xFE
+                    else {
+                        syncFound = isNextFrameValid(seekFile, filePointerCount, bb, fc);
+                        if (syncFound) {
+                            break;
                         }
-
-                    } catch (InvalidAudioFrameException ex) {
-                        // We Ignore because likely to be incorrect sync bits ,
-                        // will just continue in loop
                     }
+
+                } catch (InvalidAudioFrameException ex) {
+                    // We Ignore because likely to be incorrect sync bits ,
+                    // will just continue in loop
                 }
 
-                //TODO position() is quite an expensive operation, isn't there a way we can work this out without
-                //interrogating the bytebuffer
                 bb.position(bb.position() + 1);
                 filePointerCount++;
 
@@ -257,22 +309,16 @@ public class MP3AudioHeader implements AudioHeader {
             MP3AudioHeader.logger.log(Level.SEVERE, "IOException occurred whilst trying to find sync", iox);
             syncFound = false;
             throw iox;
-        } finally {
-            if (fc != null) {
-                fc.close();
-            }
-
-            if (fis != null) {
-                fis.close();
-            }
         }
 
         //Return to start of audio header
         if (MP3AudioHeader.logger.isLoggable(Level.FINEST)) {
             MP3AudioHeader.logger.finer("Return found matching mp3 header starting at" + filePointerCount);
         }
-        setFileSize(seekFile.length());
+        setFileSize(fc.size());
         setMp3StartByte(filePointerCount);
+        setAudioDataStartPosition(filePointerCount);
+        setAudioDataEndPosition(fileSize);
         setTimePerFrame();
         setNumberOfFrames();
         setTrackLength();
@@ -307,7 +353,7 @@ public class MP3AudioHeader implements AudioHeader {
         //Our buffer is not large enough to fit in the whole of this frame, something must
         //have gone wrong because frames are not this large, so just return false
         //bad frame header
-        if (mp3FrameHeader.getFrameLength() > (FILE_BUFFER_SIZE - MIN_BUFFER_REMAINING_REQUIRED)) {
+        if (mp3FrameHeader.getFrameLength() > MAX_FRAME_LENGTH) {
             MP3AudioHeader.logger.finer("Frame size is too large to be a frame:" + mp3FrameHeader.getFrameLength());
             return false;
         }
@@ -316,8 +362,7 @@ public class MP3AudioHeader implements AudioHeader {
         if (bb.remaining() <= MIN_BUFFER_REMAINING_REQUIRED + mp3FrameHeader.getFrameLength()) {
             MP3AudioHeader.logger.finer("Buffer too small, need to reload, buffer size:" + bb.remaining());
             bb.clear();
-            fc.position(filePointerCount);
-            fc.read(bb, fc.position());
+            fc.read(bb, filePointerCount);
             bb.flip();
             //So now original buffer has been replaced, so set current position to start of buffer
             currentPosition = 0;
@@ -467,26 +512,31 @@ public class MP3AudioHeader implements AudioHeader {
      * @return
      */
     public String getTrackLengthAsString() {
-        final Date timeIn;
-        try {
-            final long lengthInSecs = getTrackLength();
-            synchronized (timeInFormat) {
-                timeIn = timeInFormat.parse(String.valueOf(lengthInSecs));
-            }
+        return formatTrackLength(getTrackLength());
+    }
 
-            if (lengthInSecs < NO_SECONDS_IN_HOUR) {
-                synchronized (timeOutFormat) {
-                    return timeOutFormat.format(timeIn);
-                }
-            } else {
-                synchronized (timeOutOverAnHourFormat) {
-                    return timeOutOverAnHourFormat.format(timeIn);
-                }
-            }
-        } catch (ParseException pe) {
-            logger.warning("Unable to parse:" + getPreciseTrackLength() + " failed with ParseException:" + pe.getMessage());
-            return "";
+    /**
+     * Format the length as mm:ss, or as kk:mm:ss once it is an hour or more, without using a shared date format
+     *
+     * @param lengthInSecs
+     * @return the formatted length
+     */
+    static String formatTrackLength(long lengthInSecs) {
+        final StringBuilder sb = new StringBuilder(8);
+        if (lengthInSecs >= NO_SECONDS_IN_HOUR) {
+            //Hour of day from 1 to 24 as kk would give
+            final long hours = (lengthInSecs / NO_SECONDS_IN_HOUR) % 24;
+            appendTwoDigits(sb, hours == 0 ? 24 : hours).append(':');
+        }
+        appendTwoDigits(sb, (lengthInSecs / NO_SECONDS_IN_MINUTE) % NO_MINUTES_IN_HOUR).append(':');
+        return appendTwoDigits(sb, lengthInSecs % NO_SECONDS_IN_MINUTE).toString();
+    }
+
+    private static StringBuilder appendTwoDigits(StringBuilder sb, long value) {
+        if (value < 10) {
+            sb.append('0');
         }
+        return sb.append(value);
     }
 
     /**
@@ -518,6 +568,78 @@ public class MP3AudioHeader implements AudioHeader {
         }
     }
 
+    /**
+     * Count every frame from the start of the audio when {@link TagOptionSingleton#isAccurateMp3Length()} and there
+     * is no Xing or Vbri header, or get the count from the cache if the file has not changed since it was counted from
+     * the same start.
+     *
+     * Only call this once the start of the audio has been confirmed, a count started from a false sync is wasted.
+     *
+     * @param seekFile the file the channel reads
+     * @param fc       channel reading the file
+     * @throws IOException on any I/O error
+     */
+    public void countFrames(File seekFile, FileChannel fc) throws IOException {
+        if (mp3FrameHeader == null || mp3XingFrame != null || mp3VbriFrame != null || !TagOptionSingleton.getInstance().isAccurateMp3Length()) {
+            return;
+        }
+        final MP3FrameCountCache cache = TagOptionSingleton.getInstance().getMp3FrameCountCache();
+        MP3FrameCount frameCount = cache != null ? cache.get(seekFile, startByte) : null;
+        if (frameCount == null) {
+            frameCount = MP3FrameCounter.count(fc, startByte);
+            if (cache != null) {
+                cache.put(seekFile, startByte, frameCount);
+            }
+        }
+        if (MP3AudioHeader.logger.isLoggable(Level.FINER)) {
+            MP3AudioHeader.logger.finer(seekFile.getName() + ":" + frameCount);
+        }
+        setFrameCount(frameCount);
+    }
+
+    /**
+     * Replace the values estimated from the first frame with those from counting every frame
+     *
+     * @param frameCount
+     */
+    protected void setFrameCount(MP3FrameCount frameCount) {
+        if (frameCount.getNumberOfFrames() == 0) {
+            return;
+        }
+        numberOfFrames = frameCount.getNumberOfFrames();
+        trackLength = frameCount.getTrackLength();
+        timePerFrame = trackLength / numberOfFrames;
+        bitrate = frameCount.getBitRate();
+    }
+
+    /**
+     * Get the index mapping times to positions in the file, built from the Xing table of contents if there is one,
+     * otherwise the Vbri table of contents, otherwise by walking the frames of the file. The index is kept so is
+     * only built once.
+     *
+     * @param file the file this header was read from, only read if the index has to be built by walking the frames
+     * @return the seek index
+     * @throws IOException on any I/O error
+     */
+    public synchronized MP3SeekIndex getSeekIndex(File file) throws IOException {
+        if (seekIndex == null) {
+            if (mp3XingFrame != null && mp3XingFrame.isTocEnabled()) {
+                final long audioSize = mp3XingFrame.isAudioSizeEnabled() && mp3XingFrame.getAudioSize() > 0 ? mp3XingFrame.getAudioSize() : fileSize - startByte;
+                seekIndex = MP3SeekIndex.fromXing(mp3XingFrame, startByte, audioSize, trackLength);
+            } else if (mp3VbriFrame != null && mp3VbriFrame.getToc() != null) {
+                seekIndex = MP3SeekIndex.fromVbri(mp3VbriFrame, startByte, timePerFrame);
+            } else {
+                final FileInputStream fis = new FileInputStream(file);
+                try {
+                    seekIndex = MP3SeekIndex.fromFrames(AudioFileMetrics.wrap(fis.getChannel()), startByte, MP3SeekIndex.DEFAULT_FRAMES_PER_ENTRY);
+                } finally {
+                    fis.close();
+                }
+            }
+        }
+        return seekIndex;
+    }
+
     protected void setEncoder() {
         if (mp3XingFrame != null) {
             if (mp3XingFrame.getLameFrame() != null) {
@@ -703,11 +825,13 @@ public class MP3AudioHeader implements AudioHeader {
     }
 
     /**
-     * TODO (Was origjnally added for Wavs)
-     * @return
+     * @return length of the audio data, or zero if it is not known
      */
     public Long getAudioDataLength() {
-        return Long.valueOf(0);
+        if (audioDataStartPosition == null || audioDataEndPosition == null) {
+            return Long.valueOf(0);
+        }
+        return audioDataEndPosition - audioDataStartPosition;
     }
 
     @Override
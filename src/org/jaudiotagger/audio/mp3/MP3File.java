@@ -23,6 +23,9 @@ package org.jaudiotagger.audio.mp3;
 
 import org.jaudiotagger.audio.AudioFile;
 import org.jaudiotagger.audio.exceptions.*;
+import org.jaudiotagger.audio.generic.AudioDataDigester;
+import org.jaudiotagger.audio.generic.AudioFileMetrics;
+import org.jaudiotagger.audio.generic.BufferPool;
 import org.jaudiotagger.logging.*;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagException;
@@ -32,8 +35,6 @@ import org.jaudiotagger.tag.id3.*;
 import org.jaudiotagger.tag.lyrics3.AbstractLyrics3;
 
 import java.io.*;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.security.MessageDigest;
@@ -69,6 +70,17 @@ public class MP3File extends AudioFile {
      */
     private ID3v1Tag id3v1tag = null;
 
+    /**
+     * Has the ID3v1 tag been replaced or removed since the file was read or saved, changes within the tag are tracked
+     * by the tag itself
+     */
+    private boolean id3v1TagReplaced = true;
+
+    /**
+     * Has the ID3v2 tag been replaced or removed since the file was read or saved
+     */
+    private boolean id3v2TagReplaced = true;
+
     /**
      * Creates a new empty MP3File datatype that is not associated with a
      * specific file.
@@ -122,22 +134,32 @@ public class MP3File extends AudioFile {
      * Read v1 tag
      *
      * @param file
-     * @param newFile
+     * @param fc
      * @param loadOptions
      * @throws IOException
      */
-    private void readV1Tag(File file, RandomAccessFile newFile, int loadOptions) throws IOException {
+    private void readV1Tag(File file, FileChannel fc, int loadOptions) throws IOException {
         if ((loadOptions & LOAD_IDV1TAG) != 0) {
             logger.finer("Attempting to read id3v1tags");
+            final long fileSize = fc.size();
+            if (fileSize < AbstractID3v1Tag.TAG_LENGTH) {
+                logger.config("No id3v1 tag found");
+                return;
+            }
+
+            //Read the end of the file once and try it as either version
+            ByteBuffer bb = ByteBuffer.allocate(AbstractID3v1Tag.TAG_LENGTH);
+            fc.read(bb, fileSize - AbstractID3v1Tag.TAG_LENGTH);
+            bb.flip();
             try {
-                id3v1tag = new ID3v11Tag(newFile, file.getName());
+                id3v1tag = new ID3v11Tag(bb, file.getName());
             } catch (TagNotFoundException ex) {
                 logger.config("No ids3v11 tag found");
             }
 
             try {
                 if (id3v1tag == null) {
-                    id3v1tag = new ID3v1Tag(newFile, file.getName());
+                    id3v1tag = new ID3v1Tag(bb, file.getName());
                 }
             } catch (TagNotFoundException ex) {
                 logger.config("No id3v1 tag found");
@@ -146,95 +168,50 @@ public class MP3File extends AudioFile {
     }
 
     /**
-     * Read V2tag if exists
-     *
-     * TODO:shouldn't we be handing TagExceptions:when will they be thrown
+     * Read the ID3v2 tag, only the tag itself is read into memory rather than everything before the audio
      *
      * @param file
+     * @param fc
      * @param loadOptions
+     * @param tagSize size of the tag including header and footer, limited to where the audio starts
      * @throws IOException
      * @throws TagException
      */
-    private void readV2Tag(File file, int loadOptions, int startByte) throws IOException, TagException {
-        //We know where the actual Audio starts so load all the file from start to that point into
-        //a buffer then we can read the IDv2 information without needing any more File I/O
-        if (startByte >= AbstractID3v2Tag.TAG_HEADER_LENGTH) {
-            logger.finer("Attempting to read id3v2tags");
-            FileInputStream fis = null;
-            FileChannel fc = null;
-            ByteBuffer bb;
-            try {
-                fis = new FileInputStream(file);
-                fc = fis.getChannel();
-                bb = ByteBuffer.allocate(startByte);
+    private void readV2Tag(File file, FileChannel fc, int loadOptions, int tagSize) throws IOException, TagException {
+        //Read the whole tag into a buffer, then we can read the IDv2 information without needing any more File I/O
+        if (tagSize >= AbstractID3v2Tag.TAG_HEADER_LENGTH) {
+            if ((loadOptions & LOAD_IDV2TAG) != 0) {
+                logger.config("Attempting to read id3v2tags");
                 // XXX: don't change it to map
                 // https://stackoverflow.com/questions/28378713/bytebuffer-getbyte-int-int-failed-on-android-ics-and-jb
+                ByteBuffer bb = ByteBuffer.allocate(tagSize);
                 fc.read(bb, 0);
-            } finally {
-                if (fc != null) {
-                    fc.close();
-                }
-
-                if (fis != null) {
-                    fis.close();
-                }
-            }
-
-            try {
                 bb.rewind();
 
-                if ((loadOptions & LOAD_IDV2TAG) != 0) {
-                    logger.config("Attempting to read id3v2tags");
-                    try {
-                        this.setID3v2Tag(new ID3v24Tag(bb, file.getName()));
-                    } catch (TagNotFoundException ex) {
-                        logger.config("No id3v24 tag found");
-                    }
+                try {
+                    this.setID3v2Tag(new ID3v24Tag(bb, file.getName()));
+                } catch (TagNotFoundException ex) {
+                    logger.config("No id3v24 tag found");
+                }
 
-                    try {
-                        if (id3v2tag == null) {
-                            this.setID3v2Tag(new ID3v23Tag(bb, file.getName()));
-                        }
-                    } catch (TagNotFoundException ex) {
-                        logger.config("No id3v23 tag found");
-                    }
-
-                    try {
-                        if (id3v2tag == null) {
-                            this.setID3v2Tag(new ID3v22Tag(bb, file.getName()));
-                        }
-                    } catch (TagNotFoundException ex) {
-                        logger.config("No id3v22 tag found");
+                try {
+                    if (id3v2tag == null) {
+                        this.setID3v2Tag(new ID3v23Tag(bb, file.getName()));
                     }
+                } catch (TagNotFoundException ex) {
+                    logger.config("No id3v23 tag found");
                 }
-            } finally {
-                //Workaround for 4724038 on Windows
-                bb.clear();
-                if (bb.isDirect() && !TagOptionSingleton.getInstance().isAndroid()) {
-                    // Reflection substitute for following code:
-                    //    ((sun.nio.ch.DirectBuffer) bb).cleaner().clean();
-                    // which causes exception on Android - Sun NIO classes are not available
-                    try {
-                        Class<?> clazz = Class.forName("sun.nio.ch.DirectBuffer");
-                        Method cleanerMethod = clazz.getMethod("cleaner");
-                        Object cleaner = cleanerMethod.invoke(bb);  // cleaner = bb.cleaner()
-                        if (cleaner != null) {
-                            Method cleanMethod = cleaner.getClass().getMethod("clean");
-                            cleanMethod.invoke(cleaner);   // cleaner.clean()
-                        }
-                    } catch (ClassNotFoundException e) {
-                        logger.severe("Could not load sun.nio.ch.DirectBuffer.");
-                    } catch (NoSuchMethodException e) {
-                        logger.severe("Could not invoke DirectBuffer method - " + e.getMessage());
-                    } catch (InvocationTargetException e) {
-                        logger.severe("Could not invoke DirectBuffer method - target exception");
-                    } catch (IllegalAccessException e) {
-                        logger.severe("Could not invoke DirectBuffer method - illegal access");
+
+                try {
+                    if (id3v2tag == null) {
+                        this.setID3v2Tag(new ID3v22Tag(bb, file.getName()));
                     }
+                } catch (TagNotFoundException ex) {
+                    logger.config("No id3v22 tag found");
                 }
             }
         } else {
-            logger.config("Not enough room for valid id3v2 tag:" + startByte);
+            LogHelper.config(logger, "Not enough room for valid id3v2 tag:{0}", tagSize);
         }
     }
 
@@ -282,44 +259,38 @@ public class MP3File extends AudioFile {
      * @return true if all the bytes between in the file between startByte and endByte are null, false
      * otherwise
      */
-    private boolean isFilePortionNull(int startByte, int endByte) throws IOException {
-        logger.config("Checking file portion:" + Hex.asHex(startByte) + ":" + Hex.asHex(endByte));
-        FileInputStream fis = null;
-        FileChannel fc = null;
+    private boolean isFilePortionNull(FileChannel fc, int startByte, int endByte) throws IOException {
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Checking file portion:" + Hex.asHex(startByte) + ":" + Hex.asHex(endByte));
+        }
+        final BufferPool bufferPool = TagOptionSingleton.getInstance().getBufferPool();
+        final ByteBuffer bb = bufferPool.acquire(endByte - startByte);
         try {
-            fis = new FileInputStream(file);
-            fc = fis.getChannel();
-            fc.position(startByte);
-            ByteBuffer bb = ByteBuffer.allocateDirect(endByte - startByte);
-            fc.read(bb);
+            fc.read(bb, startByte);
+            bb.flip();
             while (bb.hasRemaining()) {
                 if (bb.get() != 0) {
                     return false;
                 }
             }
+            return true;
         } finally {
-            if (fc != null) {
-                fc.close();
-            }
-
-            if (fis != null) {
-                fis.close();
-            }
+            bufferPool.release(bb);
         }
-        return true;
     }
 
     /**
      * Regets the audio header starting from start of file, and write appropriate logging to indicate
      * potential problem to user.
      *
+     * @param fc
      * @param startByte
      * @param firstHeaderAfterTag
      * @return
      * @throws IOException
      * @throws InvalidAudioFrameException
      */
-    private MP3AudioHeader checkAudioStart(long startByte, MP3AudioHeader firstHeaderAfterTag) throws IOException, InvalidAudioFrameException {
+    private MP3AudioHeader checkAudioStart(FileChannel fc, long startByte, MP3AudioHeader firstHeaderAfterTag) throws IOException, InvalidAudioFrameException {
         MP3AudioHeader headerOne;
         MP3AudioHeader headerTwo;
 
@@ -328,8 +299,8 @@ public class MP3File extends AudioFile {
         //because we cant agree on start location we reread the audioheader from the start of the file, at least
         //this way we cant overwrite the audio although we might overwrite part of the tag if we write this file
         //back later
-        headerOne = new MP3AudioHeader(file, 0);
-        logger.config("Checking from start:" + headerOne);
+        headerOne = new MP3AudioHeader(file, fc, 0);
+        LogHelper.config(logger, "Checking from start:{0}", headerOne);
 
         //Although the id3 tag size appears to be incorrect at least we have found the same location for the start
         //of audio whether we start searching from start of file or at the end of the alleged of file so no real
@@ -354,12 +325,12 @@ public class MP3File extends AudioFile {
             //If the size reported by the tag header is a little short and there is only nulls between the recorded value
             //and the start of the first audio found then we stick with the original header as more likely that currentHeader
             //DataInputStream not really a header
-            if (isFilePortionNull((int) startByte, (int) firstHeaderAfterTag.getMp3StartByte())) {
+            if (isFilePortionNull(fc, (int) startByte, (int) firstHeaderAfterTag.getMp3StartByte())) {
                 return firstHeaderAfterTag;
             }
 
             //Skip to the next header (header 2, counting from start of file)
-            headerTwo = new MP3AudioHeader(file, headerOne.getMp3StartByte()
+            headerTwo = new MP3AudioHeader(file, fc, headerOne.getMp3StartByte()
                     + headerOne.mp3FrameHeader.getFrameLength());
 
             //It matches the header we found when doing the original search from after the ID3Tag therefore it
@@ -399,6 +370,27 @@ public class MP3File extends AudioFile {
      * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
      */
     public MP3File(File file, int loadOptions, boolean readOnly) throws IOException, TagException, ReadOnlyFileException, CannotReadException, InvalidAudioFrameException {
+        this(file, loadOptions, readOnly, true);
+    }
+
+    /**
+     * Creates a new MP3File dataType and parse the tag from the given file
+     * Object, optionally without reading the audio header.
+     *
+     * Without the audio header the ID3v2 tag is read using the size given in its tag header rather than searching
+     * for the first MP3 frame, and {@link #getAudioHeader()} returns null. The audio header is found when the file is
+     * saved.
+     *
+     * @param file            MP3 file
+     * @param loadOptions     decide what tags to load
+     * @param readOnly        causes the files to be opened readonly
+     * @param readAudioHeader false to skip searching for the first MP3 frame and reading the audio header
+     * @throws IOException  on any I/O error
+     * @throws TagException on any exception generated by this library.
+     * @throws org.jaudiotagger.audio.exceptions.ReadOnlyFileException
+     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
+     */
+    public MP3File(File file, int loadOptions, boolean readOnly, boolean readAudioHeader) throws IOException, TagException, ReadOnlyFileException, CannotReadException, InvalidAudioFrameException {
         RandomAccessFile newFile = null;
         try {
             this.file = file;
@@ -406,32 +398,42 @@ public class MP3File extends AudioFile {
             //Check File accessibility
             newFile = checkFilePermissions(file, readOnly);
 
+            //All reads are made through this one channel, using absolute positions
+            final FileChannel fc = AudioFileMetrics.wrap(newFile.getChannel());
+
             //Read ID3v2 tag size (if tag exists) to allow audioHeader parsing to skip over tag
-            long tagSizeReportedByHeader = AbstractID3v2Tag.getV2TagSizeIfExists(file);
-            logger.config("TagHeaderSize:" + Hex.asHex(tagSizeReportedByHeader));
-            audioHeader = new MP3AudioHeader(file, tagSizeReportedByHeader);
-
-            //If the audio header is not straight after the end of the tag then search from start of file
-            if (tagSizeReportedByHeader != ((MP3AudioHeader) audioHeader).getMp3StartByte()) {
-                logger.config("First header found after tag:" + audioHeader);
-                audioHeader = checkAudioStart(tagSizeReportedByHeader, (MP3AudioHeader) audioHeader);
+            long start = AudioFileMetrics.startPhase();
+            long tagSizeReportedByHeader = AbstractID3v2Tag.getV2TagSizeIfExists(fc);
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config("TagHeaderSize:" + Hex.asHex(tagSizeReportedByHeader));
+            }
+
+            if (!readAudioHeader) {
+                start = AudioFileMetrics.startPhase();
+                readV1Tag(file, fc, loadOptions);
+                readV2Tag(file, fc, loadOptions, (int) Math.min(tagSizeReportedByHeader, fc.size()));
+                AudioFileMetrics.endTagPhase(start);
+                setTagFromLoadedTags();
+                setLoadedTagsUnmodified(loadOptions);
+                return;
             }
 
+            audioHeader = findAudioHeader(fc, tagSizeReportedByHeader);
+
+            AudioFileMetrics.endHeaderPhase(start);
+
             //Read v1 tags (if any)
-            readV1Tag(file, newFile, loadOptions);
+            start = AudioFileMetrics.startPhase();
+            readV1Tag(file, fc, loadOptions);
+            if (id3v1tag != null) {
+                ((MP3AudioHeader) audioHeader).setAudioDataEndPosition(fc.size() - AbstractID3v1Tag.TAG_LENGTH);
+            }
 
             //Read v2 tags (if any)
-            readV2Tag(file, loadOptions, (int) ((MP3AudioHeader) audioHeader).getMp3StartByte());
-
-            //If we have a v2 tag use that, if we do not but have v1 tag use that
-            //otherwise use nothing
-            //TODO:if have both should we merge
-            //rather than just returning specific ID3v22 tag, would it be better to return v24 version ?
-            if (this.getID3v2Tag() != null) {
-                tag = this.getID3v2Tag();
-            } else if (id3v1tag != null) {
-                tag = id3v1tag;
-            }
+            readV2Tag(file, fc, loadOptions, (int) Math.min(tagSizeReportedByHeader, ((MP3AudioHeader) audioHeader).getMp3StartByte()));
+            AudioFileMetrics.endTagPhase(start);
+            setTagFromLoadedTags();
+            setLoadedTagsUnmodified(loadOptions);
         } finally {
             if (newFile != null) {
                 newFile.close();
@@ -439,6 +441,60 @@ public class MP3File extends AudioFile {
         }
     }
 
+    /**
+     * If we have a v2 tag use that, if we do not but have v1 tag use that otherwise use nothing
+     */
+    private void setTagFromLoadedTags() {
+        //TODO:if have both should we merge
+        //rather than just returning specific ID3v22 tag, would it be better to return v24 version ?
+        if (this.getID3v2Tag() != null) {
+            tag = this.getID3v2Tag();
+        } else if (id3v1tag != null) {
+            tag = id3v1tag;
+        }
+    }
+
+    /**
+     * The loaded tags match the file, tags that were not loaded are treated as replaced so saving still writes or
+     * deletes them as it always has
+     *
+     * @param loadOptions
+     */
+    private void setLoadedTagsUnmodified(int loadOptions) {
+        setTagModified(false);
+        id3v1TagReplaced = (loadOptions & LOAD_IDV1TAG) == 0;
+        id3v2TagReplaced = (loadOptions & LOAD_IDV2TAG) == 0;
+    }
+
+    /**
+     * @return true if any of the tags have been changed, replaced or removed since the file was read or saved
+     */
+    @Override
+    public boolean isTagModified() {
+        return id3v1TagReplaced || id3v2TagReplaced
+                || (id3v1tag != null && id3v1tag.isModified())
+                || (id3v2tag != null && id3v2tag.isModified())
+                || (lyrics3tag != null && lyrics3tag.isModified());
+    }
+
+    /**
+     * @param modified
+     */
+    @Override
+    public void setTagModified(boolean modified) {
+        id3v1TagReplaced = modified;
+        id3v2TagReplaced = modified;
+        if (id3v1tag != null) {
+            id3v1tag.setModified(modified);
+        }
+        if (id3v2tag != null) {
+            id3v2tag.setModified(modified);
+        }
+        if (lyrics3tag != null) {
+            lyrics3tag.setModified(modified);
+        }
+    }
+
     /**
      * Used by tags when writing to calculate the location of the music file
      *
@@ -448,21 +504,50 @@ public class MP3File extends AudioFile {
      * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
      */
     public long getMP3StartByte(File file) throws InvalidAudioFrameException, IOException {
+        return findAudioHeader(file).getMp3StartByte();
+    }
+
+    /**
+     * Find the audio header, skipping over the ID3v2 tag if any
+     *
+     * @param file
+     * @return the audio header
+     * @throws java.io.IOException
+     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
+     */
+    private MP3AudioHeader findAudioHeader(File file) throws InvalidAudioFrameException, IOException {
+        FileInputStream fis = new FileInputStream(file);
         try {
+            FileChannel fc = AudioFileMetrics.wrap(fis.getChannel());
+
             //Read ID3v2 tag size (if tag exists) to allow audio header parsing to skip over tag
-            long startByte = AbstractID3v2Tag.getV2TagSizeIfExists(file);
+            return findAudioHeader(fc, AbstractID3v2Tag.getV2TagSizeIfExists(fc));
+        } finally {
+            fis.close();
+        }
+    }
 
-            MP3AudioHeader audioHeader = new MP3AudioHeader(file, startByte);
-            if (startByte != audioHeader.getMp3StartByte()) {
-                logger.config("First header found after tag:" + audioHeader);
-                audioHeader = checkAudioStart(startByte, audioHeader);
-            }
-            return audioHeader.getMp3StartByte();
-        } catch (InvalidAudioFrameException iafe) {
-            throw iafe;
-        } catch (IOException ioe) {
-            throw ioe;
+    /**
+     * Find the audio header starting the search after the ID3v2 tag
+     *
+     * @param fc
+     * @param startByte size of the ID3v2 tag reported by its header
+     * @return the audio header
+     * @throws java.io.IOException
+     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
+     */
+    private MP3AudioHeader findAudioHeader(FileChannel fc, long startByte) throws InvalidAudioFrameException, IOException {
+        MP3AudioHeader audioHeader = new MP3AudioHeader(file, fc, startByte);
+
+        //If the audio header is not straight after the end of the tag then search from start of file
+        if (startByte != audioHeader.getMp3StartByte()) {
+            LogHelper.config(logger, "First header found after tag:{0}", audioHeader);
+            audioHeader = checkAudioStart(fc, startByte, audioHeader);
         }
+
+        //Only count the frames from the start we have settled on
+        audioHeader.countFrames(file, fc);
+        return audioHeader;
     }
 
     /**
@@ -557,11 +642,13 @@ public class MP3File extends AudioFile {
      */
     public void setID3v1Tag(ID3v1Tag id3v1tag) {
         logger.config("setting tagv1:v1 tag");
+        id3v1TagReplaced = true;
         this.id3v1tag = id3v1tag;
     }
 
     public void setID3v1Tag(Tag id3v1tag) {
         logger.config("setting tagv1:v1 tag");
+        id3v1TagReplaced = true;
         this.id3v1tag = (ID3v1Tag) id3v1tag;
     }
 
@@ -575,6 +662,7 @@ public class MP3File extends AudioFile {
      */
     public void setID3v1Tag(AbstractTag mp3tag) {
         logger.config("setting tagv1:abstract");
+        id3v1TagReplaced = true;
         id3v1tag = new ID3v11Tag(mp3tag);
     }
 
@@ -658,28 +746,8 @@ public class MP3File extends AudioFile {
             id3v1TagSize = id1tag.getSize();
         }
 
-        InputStream inStream = new FileInputStream(mp3File);
-
-        byte[] buffer = new byte[bufferSize];
-
         MessageDigest digest = MessageDigest.getInstance(algorithm);
-
-        inStream.skip(startByte);
-
-        int read;
-        long totalSize = mp3File.length() - startByte - id3v1TagSize;
-        int pointer = buffer.length;
-
-        while (pointer <= totalSize) {
-
-            read = inStream.read(buffer);
-
-            digest.update(buffer, 0, read);
-            pointer += buffer.length;
-        }
-        read = inStream.read(buffer, 0, (int) totalSize - pointer + buffer.length);
-        digest.update(buffer, 0, read);
-
+        AudioDataDigester.digest(mp3File, startByte, mp3File.length() - id3v1TagSize, bufferSize, digest);
         byte[] hash = digest.digest();
 
 
@@ -695,6 +763,7 @@ public class MP3File extends AudioFile {
      *               new ID3v2_4 dataType.
      */
     public void setID3v2Tag(AbstractTag mp3tag) {
+        id3v2TagReplaced = true;
         id3v2tag = new ID3v24Tag(mp3tag);
 
     }
@@ -707,6 +776,7 @@ public class MP3File extends AudioFile {
      * @param id3v2tag
      */
     public void setID3v2Tag(AbstractID3v2Tag id3v2tag) {
+        id3v2TagReplaced = true;
         this.id3v2tag = id3v2tag;
         if (id3v2tag instanceof ID3v24Tag) {
             this.id3v2Asv24tag = (ID3v24Tag) this.id3v2tag;
@@ -722,6 +792,7 @@ public class MP3File extends AudioFile {
      */
     //TODO temp its rather messy
     public void setID3v2TagOnly(AbstractID3v2Tag id3v2tag) {
+        id3v2TagReplaced = true;
         this.id3v2tag = id3v2tag;
         this.id3v2Asv24tag = null;
     }
@@ -813,20 +884,19 @@ public class MP3File extends AudioFile {
     }
 
     /**
-     * Overridden for compatibility with merged code
+     * Overridden for compatibility with merged code, only the tags modified since the file was read or saved are
+     * written so committing an untouched file writes nothing
      *
      * @throws NoWritePermissionsException if the file could not be written to due to file permissions
      * @throws CannotWriteException
      */
     public void commit() throws CannotWriteException {
         try {
-            save();
+            save(this.file, true);
         } catch (UnableToModifyFileException umfe) {
             throw new NoWritePermissionsException(umfe);
         } catch (IOException ioe) {
             throw new CannotWriteException(ioe);
-        } catch (TagException te) {
-            throw new CannotWriteException(te);
         }
     }
 
@@ -862,55 +932,91 @@ public class MP3File extends AudioFile {
      * @throws IOException           on any I/O error
      */
     public void save(File fileToSave) throws IOException {
+        save(fileToSave, false);
+    }
+
+    /**
+     * Saves the tags to the file, tags that were not in this file when it was read and have not been set since are
+     * not deleted again
+     *
+     * @param fileToSave   file to save the this dataTypes tags to
+     * @param onlyModified only write the tags modified since this file was read or saved, otherwise write them all so
+     *                     that changes to the write options are applied
+     * @throws IOException on any I/O error
+     */
+    private void save(File fileToSave, boolean onlyModified) throws IOException {
         //Ensure we are dealing with absolute filepaths not relative ones
         File file = fileToSave.getAbsoluteFile();
 
-        logger.config("Saving  : " + file.getPath());
+        LogHelper.config(logger, "Saving  : {0}", file.getPath());
 
         //Checks before starting write
         precheck(file);
 
+        //Tags unchanged since they were read from or saved to this file do not need writing again
+        final boolean isSameFile = this.file != null && file.equals(this.file.getAbsoluteFile());
+
         RandomAccessFile rfile = null;
         try {
             //ID3v2 Tag
             if (TagOptionSingleton.getInstance().isId3v2Save()) {
-                if (id3v2tag == null) {
+                if (isSameFile && !id3v2TagReplaced && (id3v2tag == null || (onlyModified && !id3v2tag.isModified()))) {
+                    LogHelper.config(logger, "ID3v2 tag unchanged:{0}", file.getName());
+                } else if (id3v2tag == null) {
                     rfile = new RandomAccessFile(file, "rw");
                     (new ID3v24Tag()).delete(rfile);
                     (new ID3v23Tag()).delete(rfile);
                     (new ID3v22Tag()).delete(rfile);
-                    logger.config("Deleting ID3v2 tag:" + file.getName());
+                    LogHelper.config(logger, "Deleting ID3v2 tag:{0}", file.getName());
                     rfile.close();
                 } else {
-                    logger.config("Writing ID3v2 tag:" + file.getName());
+                    LogHelper.config(logger, "Writing ID3v2 tag:{0}", file.getName());
+                    //Read without the audio header so find it now, we need to know where the audio starts
+                    if (this.getAudioHeader() == null) {
+                        try {
+                            audioHeader = findAudioHeader(file);
+                        } catch (InvalidAudioFrameException iafe) {
+                            throw new IOException(iafe.getMessage(), iafe);
+                        }
+                    }
                     final MP3AudioHeader mp3AudioHeader = (MP3AudioHeader) this.getAudioHeader();
                     final long mp3StartByte = mp3AudioHeader.getMp3StartByte();
                     final long newMp3StartByte = id3v2tag.write(file, mp3StartByte);
                     if (mp3StartByte != newMp3StartByte) {
-                        logger.config("New mp3 start byte: " + newMp3StartByte);
+                        LogHelper.config(logger, "New mp3 start byte: {0}", newMp3StartByte);
                         mp3AudioHeader.setMp3StartByte(newMp3StartByte);
                     }
 
                 }
             }
-            rfile = new RandomAccessFile(file, "rw");
-
-            //Lyrics 3 Tag
-            if (TagOptionSingleton.getInstance().isLyrics3Save()) {
-                if (lyrics3tag != null) {
+            final boolean isLyrics3Write = TagOptionSingleton.getInstance().isLyrics3Save()
+                    && lyrics3tag != null && (!isSameFile || !onlyModified || lyrics3tag.isModified());
+            final boolean isId3v1Write = TagOptionSingleton.getInstance().isId3v1Save()
+                    && (!isSameFile || id3v1TagReplaced || (id3v1tag != null && (!onlyModified || id3v1tag.isModified())));
+            if (isLyrics3Write || isId3v1Write) {
+                rfile = new RandomAccessFile(file, "rw");
+
+                //Lyrics 3 Tag
+                if (isLyrics3Write) {
                     lyrics3tag.write(rfile);
                 }
-            }
-            //ID3v1 tag
-            if (TagOptionSingleton.getInstance().isId3v1Save()) {
-                logger.config("Processing ID3v1");
-                if (id3v1tag == null) {
-                    logger.config("Deleting ID3v1");
-                    (new ID3v1Tag()).delete(rfile);
-                } else {
-                    logger.config("Saving ID3v1");
-                    id3v1tag.write(rfile);
+                //ID3v1 tag
+                if (isId3v1Write) {
+                    logger.config("Processing ID3v1");
+                    if (id3v1tag == null) {
+                        logger.config("Deleting ID3v1");
+                        (new ID3v1Tag()).delete(rfile);
+                    } else {
+                        logger.config("Saving ID3v1");
+                        id3v1tag.write(rfile);
+                    }
                 }
+            } else {
+                LogHelper.config(logger, "ID3v1 and Lyrics3 tags unchanged:{0}", file.getName());
+            }
+            if (isSameFile) {
+                setTagModified(false);
+                clearAudioDataPosition();
             }
         } catch (FileNotFoundException ex) {
             logger.log(Level.SEVERE, ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE_FILE_NOT_FOUND.getMsg(file.getName()), ex);
@@ -928,6 +1034,49 @@ public class MP3File extends AudioFile {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void clearAudioDataPosition() {
+        if (audioHeader instanceof MP3AudioHeader) {
+            ((MP3AudioHeader) audioHeader).setAudioDataStartPosition(null);
+            ((MP3AudioHeader) audioHeader).setAudioDataEndPosition(null);
+        }
+    }
+
+    /**
+     * The ID3v2 tag may have grown or shrunk and an ID3v1 tag may have been added or removed since the file was read,
+     * the audio data starts at the start byte recorded when the file was saved and ends at the ID3v1 tag if there is one
+     *
+     * @throws IOException on any I/O error
+     */
+    @Override
+    protected void findAudioDataPosition() throws IOException {
+        if (!(audioHeader instanceof MP3AudioHeader)) {
+            return;
+        }
+        final MP3AudioHeader mp3AudioHeader = (MP3AudioHeader) audioHeader;
+        mp3AudioHeader.setAudioDataStartPosition(mp3AudioHeader.getMp3StartByte());
+
+        FileInputStream fis = new FileInputStream(file);
+        try {
+            final FileChannel fc = fis.getChannel();
+            long audioDataEnd = fc.size();
+            if (audioDataEnd >= AbstractID3v1Tag.TAG_LENGTH) {
+                ByteBuffer bb = ByteBuffer.allocate(AbstractID3v1Tag.TAG.length());
+                fc.read(bb, audioDataEnd - AbstractID3v1Tag.TAG_LENGTH);
+                bb.flip();
+                if (AbstractID3v1Tag.seekForV1OrV11Tag(bb)) {
+                    audioDataEnd -= AbstractID3v1Tag.TAG_LENGTH;
+                }
+            }
+            mp3AudioHeader.setAudioDataEndPosition(audioDataEnd);
+        } finally {
+            fis.close();
+        }
+    }
+
     /**
      * Displays MP3File Structure
      */
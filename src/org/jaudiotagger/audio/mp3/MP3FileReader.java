@@ -36,6 +36,17 @@ public class MP3FileReader extends AudioFileReader {
         return mp3File;
     }
 
+    /**
+     * Read the tags without searching for the first MP3 frame or reading the audio header
+     *
+     * @param f
+     * @return
+     */
+    @Override
+    public AudioFile readTagOnly(File f) throws IOException, TagException, ReadOnlyFileException, CannotReadException, InvalidAudioFrameException {
+        return new MP3File(f, MP3File.LOAD_IDV1TAG | MP3File.LOAD_IDV2TAG, true, false);
+    }
+
     /**
      * Read
      *
@@ -0,0 +1,54 @@
+package org.jaudiotagger.audio.mp3;
+
+/**
+ * The result of walking every frame of an MP3 file with {@link MP3FrameCounter}
+ */
+public final class MP3FrameCount {
+    private static final int CONVERTS_BYTE_TO_BITS = 8;
+    private static final int CONVERT_TO_KILOBITS = 1000;
+
+    private final long numberOfFrames;
+    private final long audioSize;
+    private final double trackLength;
+
+    public MP3FrameCount(long numberOfFrames, long audioSize, double trackLength) {
+        this.numberOfFrames = numberOfFrames;
+        this.audioSize = audioSize;
+        this.trackLength = trackLength;
+    }
+
+    /**
+     * @return the number of complete frames found
+     */
+    public long getNumberOfFrames() {
+        return numberOfFrames;
+    }
+
+    /**
+     * @return the total size of those frames in bytes
+     */
+    public long getAudioSize() {
+        return audioSize;
+    }
+
+    /**
+     * @return the length of the audio in seconds
+     */
+    public double getTrackLength() {
+        return trackLength;
+    }
+
+    /**
+     * @return the average bitrate in kbps
+     */
+    public long getBitRate() {
+        if (trackLength <= 0) {
+            return 0;
+        }
+        return (long) ((audioSize * CONVERTS_BYTE_TO_BITS) / (trackLength * CONVERT_TO_KILOBITS));
+    }
+
+    public String toString() {
+        return "frames:" + numberOfFrames + " audioSize:" + audioSize + " trackLength:" + trackLength;
+    }
+}
@@ -0,0 +1,135 @@
+package org.jaudiotagger.audio.mp3;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * Remembers the result of counting the frames of MP3 files so a file only has to be walked again if it has changed,
+ * a file is identified by its path, length and last modified time. The count is only reused if it was made from the
+ * same start of audio, so a count made from a different start is never mistaken for it.
+ *
+ * <p>The cache can be saved to and loaded from a file so results are kept between runs, set it with
+ * {@link org.jaudiotagger.tag.TagOptionSingleton#setMp3FrameCountCache(MP3FrameCountCache)}.
+ */
+public class MP3FrameCountCache {
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.mp3");
+
+    private static final String SEPARATOR = ",";
+
+    private static class Entry {
+        private final long length;
+        private final long lastModified;
+        private final long startByte;
+        private final MP3FrameCount frameCount;
+
+        private Entry(long length, long lastModified, long startByte, MP3FrameCount frameCount) {
+            this.length = length;
+            this.lastModified = lastModified;
+            this.startByte = startByte;
+            this.frameCount = frameCount;
+        }
+    }
+
+    private final Map<String, Entry> entries = new HashMap<String, Entry>();
+
+    /**
+     * @param file
+     * @param startByte start of the audio the frames were counted from
+     * @return the frame count for the file, or null if it is not cached, was counted from another start or the file
+     * has changed since
+     */
+    public synchronized MP3FrameCount get(File file, long startByte) {
+        Entry entry = entries.get(file.getAbsolutePath());
+        if (entry == null || entry.startByte != startByte || entry.length != file.length() || entry.lastModified != file.lastModified()) {
+            return null;
+        }
+        return entry.frameCount;
+    }
+
+    /**
+     * @param file
+     * @param startByte  start of the audio the frames were counted from
+     * @param frameCount the frame count of the file as it is now
+     */
+    public synchronized void put(File file, long startByte, MP3FrameCount frameCount) {
+        entries.put(file.getAbsolutePath(), new Entry(file.length(), file.lastModified(), startByte, frameCount));
+    }
+
+    /**
+     * @return the number of files in the cache
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Add the entries previously saved to a file, entries that cannot be read are ignored
+     *
+     * @param cacheFile
+     * @throws IOException
+     */
+    public void load(File cacheFile) throws IOException {
+        Properties properties = new Properties();
+        InputStream in = new FileInputStream(cacheFile);
+        try {
+            properties.load(in);
+        } finally {
+            in.close();
+        }
+
+        synchronized (this) {
+            for (String path : properties.stringPropertyNames()) {
+                String[] values = properties.getProperty(path).split(SEPARATOR);
+                if (values.length != 6) {
+                    logger.warning("Ignoring cached frame count for:" + path);
+                    continue;
+                }
+                try {
+                    MP3FrameCount frameCount = new MP3FrameCount(Long.parseLong(values[3]), Long.parseLong(values[4]), Double.parseDouble(values[5]));
+                    entries.put(path, new Entry(Long.parseLong(values[0]), Long.parseLong(values[1]), Long.parseLong(values[2]), frameCount));
+                } catch (NumberFormatException nfe) {
+                    logger.warning("Ignoring cached frame count for:" + path);
+                }
+            }
+        }
+    }
+
+    /**
+     * Save all the entries to a file
+     *
+     * @param cacheFile
+     * @throws IOException
+     */
+    public void save(File cacheFile) throws IOException {
+        Properties properties = new Properties();
+        synchronized (this) {
+            for (Map.Entry<String, Entry> next : entries.entrySet()) {
+                Entry entry = next.getValue();
+                properties.setProperty(next.getKey(), entry.length + SEPARATOR + entry.lastModified
+                        + SEPARATOR + entry.startByte
+                        + SEPARATOR + entry.frameCount.getNumberOfFrames()
+                        + SEPARATOR + entry.frameCount.getAudioSize()
+                        + SEPARATOR + entry.frameCount.getTrackLength());
+            }
+        }
+
+        OutputStream out = new FileOutputStream(cacheFile);
+        try {
+            properties.store(out, "MP3 frame counts");
+        } finally {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package org.jaudiotagger.audio.mp3;
+
+import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
+import org.jaudiotagger.audio.generic.BufferPool;
+import org.jaudiotagger.tag.TagOptionSingleton;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Counts the frames of an MP3 file by walking from one frame header to the next, giving an exact frame count and
+ * track length for variable bitrate files that do not have a Xing or Vbri header.
+ *
+ * <p>The file is read in large chunks and every header is decoded with a single table lookup so this is limited by
+ * the speed the file can be read. Frame lengths and samples per frame are those of the MPEG specification, if the
+ * walk loses sync (e.g. corrupt data or a trailing tag) it searches for the next header and only carries on if it is
+ * followed by another header.
+ */
+public final class MP3FrameCounter {
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.mp3");
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    /**
+     * Always have this much of the file in the buffer after the current frame, enough for the next two frames
+     */
+    private static final int LOOKAHEAD = 8192;
+
+    private static final int SYNC_MASK = 0xFFE00000;
+
+    private static final int SAMPLES_LAYER_I = 384;
+    private static final int SAMPLES_LAYER_II = 1152;
+    private static final int SAMPLES_LAYER_III_V1 = 1152;
+    private static final int SAMPLES_LAYER_III_V2 = 576;
+
+    private MP3FrameCounter() {
+    }
+
+    /**
+     * Frame length and duration keyed on the five bits after the sync bits and the third byte of the header, the
+     * fourth byte does not affect either. Only built if frames are counted.
+     */
+    private static class FrameTable {
+        private static final int[] frameLengths = new int[32 * 256];
+        private static final double[] frameDurations = new double[32 * 256];
+
+        static {
+            ByteBuffer header = ByteBuffer.allocate(MPEGFrameHeader.HEADER_SIZE);
+            for (int index = 0; index < frameLengths.length; index++) {
+                header.put(0, (byte) 0xFF);
+                header.put(1, (byte) (0xE0 | (index >>> 8)));
+                header.put(2, (byte) index);
+                header.put(3, (byte) 0);
+                if (!MPEGFrameHeader.isValidMPEGFrame(header, 0)) {
+                    continue;
+                }
+                try {
+                    header.position(0);
+                    MPEGFrameHeader frameHeader = MPEGFrameHeader.parseMPEGHeader(header);
+                    final int bitRate = frameHeader.getBitRate() * 1000;
+                    final int samplingRate = frameHeader.getSamplingRate();
+                    final int padding = frameHeader.getPaddingLength();
+                    final int samples;
+                    switch (frameHeader.getLayer()) {
+                        case MPEGFrameHeader.LAYER_I:
+                            samples = SAMPLES_LAYER_I;
+                            frameLengths[index] = (12 * bitRate / samplingRate + padding) * MPEGFrameHeader.LAYER_I_SLOT_SIZE;
+                            break;
+                        case MPEGFrameHeader.LAYER_II:
+                            samples = SAMPLES_LAYER_II;
+                            frameLengths[index] = 144 * bitRate / samplingRate + padding;
+                            break;
+                        default:
+                            if (frameHeader.getVersion() == MPEGFrameHeader.VERSION_1) {
+                                samples = SAMPLES_LAYER_III_V1;
+                                frameLengths[index] = 144 * bitRate / samplingRate + padding;
+                            } else {
+                                samples = SAMPLES_LAYER_III_V2;
+                                frameLengths[index] = 72 * bitRate / samplingRate + padding;
+                            }
+                            break;
+                    }
+                    frameDurations[index] = samples / (double) samplingRate;
+                } catch (InvalidAudioFrameException iafe) {
+                    //Leave as invalid
+                }
+            }
+        }
+    }
+
+    private static int tableIndex(int header) {
+        return (header >>> 8) & 0x1FFF;
+    }
+
+    /**
+     * @param bb
+     * @param offset
+     * @return length of the frame starting at offset, or zero if there is not a valid header there
+     */
+    private static int frameLength(ByteBuffer bb, int offset) {
+        final int header = bb.getInt(offset);
+        if ((header & SYNC_MASK) != SYNC_MASK) {
+            return 0;
+        }
+        return FrameTable.frameLengths[tableIndex(header)];
+    }
+
+    /**
+     * Count the frames from the first frame to the end of the file
+     *
+     * @param fc        channel reading the file, its position is not changed
+     * @param startByte position of the first frame
+     * @return the frames found
+     * @throws IOException on any I/O error
+     */
+    public static MP3FrameCount count(FileChannel fc, long startByte) throws IOException {
+        return count(fc, startByte, 0, null);
+    }
+
+    /**
+     * Count the frames from the first frame to the end of the file, adding a point to the seek index every so
+     * many frames
+     *
+     * @param fc             channel reading the file, its position is not changed
+     * @param startByte      position of the first frame
+     * @param framesPerEntry number of frames between the points added to the index
+     * @param index          to add the points to, or null
+     * @return the frames found
+     * @throws IOException on any I/O error
+     */
+    static MP3FrameCount count(FileChannel fc, long startByte, int framesPerEntry, MP3SeekIndex.Builder index) throws IOException {
+        final long fileSize = fc.size();
+        final BufferPool bufferPool = TagOptionSingleton.getInstance().getBufferPool();
+        final ByteBuffer bb = bufferPool.acquire((int) Math.min(BUFFER_SIZE, Math.max(fileSize - startByte, LOOKAHEAD)));
+        try {
+            long numberOfFrames = 0;
+            long audioSize = 0;
+            double trackLength = 0;
+
+            long bufferStart = startByte;
+            long bufferEnd = startByte;
+            long position = startByte;
+            //The first frame has already been checked by the caller
+            boolean synced = true;
+            long skipped = 0;
+
+            while (true) {
+                if (position + LOOKAHEAD > bufferEnd && bufferEnd < fileSize) {
+                    bb.clear();
+                    while (bb.hasRemaining()) {
+                        if (fc.read(bb, position + bb.position()) <= 0) {
+                            break;
+                        }
+                    }
+                    bb.flip();
+                    bufferStart = position;
+                    bufferEnd = position + bb.limit();
+                }
+
+                final int offset = (int) (position - bufferStart);
+                if (offset + MPEGFrameHeader.HEADER_SIZE > bb.limit()) {
+                    break;
+                }
+
+                final int length = frameLength(bb, offset);
+                if (length > 0 && (synced || isFollowedByFrame(bb, offset + length))) {
+                    if (position + length > fileSize) {
+                        //Incomplete last frame
+                        break;
+                    }
+                    if (index != null && numberOfFrames % framesPerEntry == 0) {
+                        index.add(trackLength, position);
+                    }
+                    numberOfFrames++;
+                    audioSize += length;
+                    trackLength += FrameTable.frameDurations[tableIndex(bb.getInt(offset))];
+                    position += length;
+                    synced = true;
+                    continue;
+                }
+
+                //Lost sync, or the header found is not followed by another one
+                synced = false;
+                final int scanEnd = bb.limit() - MPEGFrameHeader.HEADER_SIZE + 1;
+                final int next = MPEGSyncScanner.findFrame(bb, offset + 1, scanEnd);
+                if (next == -1) {
+                    if (bufferEnd >= fileSize) {
+                        break;
+                    }
+                    skipped += scanEnd - offset;
+                    position = bufferStart + scanEnd;
+                } else {
+                    skipped += next - offset;
+                    position = bufferStart + next;
+                }
+            }
+
+            if (skipped > 0 && logger.isLoggable(Level.FINER)) {
+                logger.finer("Skipped " + skipped + " bytes between frames");
+            }
+            return new MP3FrameCount(numberOfFrames, audioSize, trackLength);
+        } finally {
+            bufferPool.release(bb);
+        }
+    }
+
+    /**
+     * @param bb
+     * @param offset
+     * @return true if there is a valid header at offset, or offset is at the end of the data
+     */
+    private static boolean isFollowedByFrame(ByteBuffer bb, int offset) {
+        if (offset + MPEGFrameHeader.HEADER_SIZE > bb.limit()) {
+            return offset == bb.limit();
+        }
+        return frameLength(bb, offset) > 0;
+    }
+}
@@ -0,0 +1,172 @@
+package org.jaudiotagger.audio.mp3;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Maps a time within an MP3 file to the position in the file to start reading from to play from that time.
+ *
+ * <p>The index is a list of points each holding a time and a file position, kept as two arrays. Points built
+ * from the Vbri table or from walking the frames are at the start of a frame and the position returned is that of
+ * the last point at or before the time. Points built from the Xing table of contents are only approximate so the
+ * position is interpolated between the points either side and will not usually be the start of a frame.
+ */
+public class MP3SeekIndex {
+    /**
+     * Number of frames between points when the index is built by walking the frames, about one second of audio
+     */
+    public static final int DEFAULT_FRAMES_PER_ENTRY = 40;
+
+    private static final int XING_TOC_ENTRIES = 100;
+    private static final double XING_TOC_SCALE = 256.0;
+
+    private final double[] times;
+    private final long[] positions;
+    private final boolean interpolate;
+
+    private MP3SeekIndex(double[] times, long[] positions, boolean interpolate) {
+        this.times = times;
+        this.positions = positions;
+        this.interpolate = interpolate;
+    }
+
+    /**
+     * Build the index from the Xing table of contents
+     *
+     * @param xingFrame   Xing frame with a table of contents
+     * @param startByte   start of the Xing frame
+     * @param audioSize   size of the audio from the Xing frame on
+     * @param trackLength in seconds
+     * @return
+     */
+    static MP3SeekIndex fromXing(XingFrame xingFrame, long startByte, long audioSize, double trackLength) {
+        final byte[] toc = xingFrame.getToc();
+        final double[] times = new double[XING_TOC_ENTRIES + 1];
+        final long[] positions = new long[XING_TOC_ENTRIES + 1];
+        for (int i = 0; i < XING_TOC_ENTRIES; i++) {
+            times[i] = trackLength * i / XING_TOC_ENTRIES;
+            positions[i] = startByte + (long) ((toc[i] & 0xFF) / XING_TOC_SCALE * audioSize);
+        }
+        times[XING_TOC_ENTRIES] = trackLength;
+        positions[XING_TOC_ENTRIES] = startByte + audioSize;
+        return new MP3SeekIndex(times, positions, true);
+    }
+
+    /**
+     * Build the index from the Vbri table of contents
+     *
+     * @param vbriFrame    Vbri frame with a table of contents
+     * @param startByte    start of the Vbri frame
+     * @param timePerFrame in seconds
+     * @return
+     */
+    static MP3SeekIndex fromVbri(VbriFrame vbriFrame, long startByte, double timePerFrame) {
+        final int[] toc = vbriFrame.getToc();
+        final double timePerEntry = vbriFrame.getFramesPerTocEntry() * timePerFrame;
+        final double[] times = new double[toc.length + 1];
+        final long[] positions = new long[toc.length + 1];
+        positions[0] = startByte;
+        for (int i = 0; i < toc.length; i++) {
+            times[i + 1] = timePerEntry * (i + 1);
+            positions[i + 1] = positions[i] + toc[i];
+        }
+        return new MP3SeekIndex(times, positions, false);
+    }
+
+    /**
+     * Build the index by walking the frames
+     *
+     * @param fc             channel reading the file, its position is not changed
+     * @param startByte      position of the first frame
+     * @param framesPerEntry number of frames between points
+     * @return
+     * @throws IOException on any I/O error
+     */
+    public static MP3SeekIndex fromFrames(FileChannel fc, long startByte, int framesPerEntry) throws IOException {
+        if (framesPerEntry < 1) {
+            throw new IllegalArgumentException("Frames per entry must be at least one:" + framesPerEntry);
+        }
+        Builder builder = new Builder();
+        MP3FrameCounter.count(fc, startByte, framesPerEntry, builder);
+        return builder.build();
+    }
+
+    /**
+     * @return the number of points in the index
+     */
+    public int size() {
+        return times.length;
+    }
+
+    /**
+     * @param index
+     * @return time of the point in seconds
+     */
+    public double getPointTime(int index) {
+        return times[index];
+    }
+
+    /**
+     * @param index
+     * @return position of the point in the file
+     */
+    public long getPointPosition(int index) {
+        return positions[index];
+    }
+
+    /**
+     * @param seconds time from the start of the audio
+     * @return position in the file to start reading from to play from this time
+     */
+    public long getPosition(double seconds) {
+        if (times.length == 0) {
+            return 0;
+        }
+        int index = Arrays.binarySearch(times, seconds);
+        if (index < 0) {
+            //Insertion point is after the last point at or before the time
+            index = -index - 2;
+        } else {
+            //If points have the same time use the last
+            while (index + 1 < times.length && times[index + 1] == seconds) {
+                index++;
+            }
+        }
+        if (index < 0) {
+            return positions[0];
+        }
+        if (!interpolate || index + 1 >= times.length || times[index + 1] == times[index]) {
+            return positions[index];
+        }
+        final double fraction = (seconds - times[index]) / (times[index + 1] - times[index]);
+        return positions[index] + (long) ((positions[index + 1] - positions[index]) * fraction);
+    }
+
+    public String toString() {
+        return "seekindex points:" + times.length + " interpolated:" + interpolate;
+    }
+
+    /**
+     * Collects points in growing arrays when walking the frames
+     */
+    static class Builder {
+        private double[] times = new double[256];
+        private long[] positions = new long[256];
+        private int size;
+
+        void add(double time, long position) {
+            if (size == times.length) {
+                times = Arrays.copyOf(times, size * 2);
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            times[size] = time;
+            positions[size] = position;
+            size++;
+        }
+
+        MP3SeekIndex build() {
+            return new MP3SeekIndex(Arrays.copyOf(times, size), Arrays.copyOf(positions, size), false);
+        }
+    }
+}
@@ -42,8 +42,6 @@ public class MPEGFrameHeader {
     public static final int SYNC_BYTE2 = 0xE0;
     public static final int SYNC_BIT_ANDSAMPING_BYTE3 = 0xFC;
 
-    private static final byte[] header = new byte[HEADER_SIZE];
-
 
     /**
      * Constants for MPEG Version
@@ -779,6 +777,31 @@ public class MPEGFrameHeader {
         setEmphasis();
     }
 
+    /**
+     * Whether a header with sync bits and the given second and third bytes can be parsed, indexed by the
+     * bits of the second byte after the sync bits and the third byte, see {@link #isValidMPEGFrame(ByteBuffer, int)}.
+     *
+     * Every value of the fourth byte decodes to something so it does not need to be checked.
+     */
+    private static final boolean[] validHeaderTable = new boolean[32 * 256];
+
+    static {
+        for (int index = 0; index < validHeaderTable.length; index++) {
+            byte[] b = new byte[HEADER_SIZE];
+            b[BYTE_1] = (byte) SYNC_BYTE1;
+            b[BYTE_2] = (byte) (SYNC_BYTE2 | (index >>> 8));
+            b[BYTE_3] = (byte) index;
+            if ((b[BYTE_3] & SYNC_BIT_ANDSAMPING_BYTE3) != SYNC_BIT_ANDSAMPING_BYTE3) {
+                try {
+                    new MPEGFrameHeader(b);
+                    validHeaderTable[index] = true;
+                } catch (InvalidAudioFrameException iafe) {
+                    //Leave as invalid
+                }
+            }
+        }
+    }
+
     /**
      * Parse the MPEGFrameHeader of an MP3File, file pointer returns at end of the frame header
      *
@@ -788,6 +811,7 @@ public class MPEGFrameHeader {
      */
     public static MPEGFrameHeader parseMPEGHeader(ByteBuffer bb) throws InvalidAudioFrameException {
         int position = bb.position();
+        byte[] header = new byte[HEADER_SIZE];
         bb.get(header, 0, HEADER_SIZE);
         bb.position(position);
         MPEGFrameHeader frameHeader = new MPEGFrameHeader(header);
@@ -795,6 +819,25 @@ public class MPEGFrameHeader {
         return frameHeader;
     }
 
+    /**
+     * Is there a frame header at the given position that {@link #parseMPEGHeader(ByteBuffer)} would parse without error,
+     * this is a table lookup so is much cheaper than attempting the parse. The buffer position is not changed.
+     *
+     * @param bb
+     * @param position of the first header byte, there must be at least {@link #HEADER_SIZE} bytes from here
+     * @return true if there is a valid frame header at the position
+     */
+    public static boolean isValidMPEGFrame(ByteBuffer bb, int position) {
+        if ((bb.get(position) & SYNC_BYTE1) != SYNC_BYTE1) {
+            return false;
+        }
+        final int byte2 = bb.get(position + 1) & 0xFF;
+        if ((byte2 & SYNC_BYTE2) != SYNC_BYTE2) {
+            return false;
+        }
+        return validHeaderTable[(byte2 & ~SYNC_BYTE2) << 8 | (bb.get(position + 2) & 0xFF)];
+    }
+
     /**
      * Gets the MPEGFrame attribute of the MPEGFrame object
      *
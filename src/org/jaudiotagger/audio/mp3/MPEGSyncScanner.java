@@ -0,0 +1,53 @@
+package org.jaudiotagger.audio.mp3;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Searches a buffer for the next MPEG frame header
+ *
+ * The buffer is read eight bytes at a time and only when one of them is 0xFF are those bytes checked individually,
+ * each candidate is then checked with {@link MPEGFrameHeader#isValidMPEGFrame(ByteBuffer, int)} so only headers that
+ * can be parsed are returned. This is much faster than checking every position when there is a lot of data
+ * before the first frame such as an unsynchronised image.
+ */
+public final class MPEGSyncScanner {
+    private static final int WORD_SIZE = 8;
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    private MPEGSyncScanner() {
+    }
+
+    /**
+     * Find the first valid frame header starting in the range, the buffer position is not changed.
+     *
+     * @param bb
+     * @param from first position to check
+     * @param to   position to stop checking at (exclusive), there must be at least {@link MPEGFrameHeader#HEADER_SIZE}
+     *             - 1 bytes in the buffer after this
+     * @return the position of the header, or -1 if there is none in the range
+     */
+    public static int findFrame(ByteBuffer bb, int from, int to) {
+        int position = from;
+        while (position + WORD_SIZE <= to) {
+            final long word = bb.getLong(position);
+            //Inverting makes 0xFF bytes zero, then the usual test for any zero byte in a word
+            final long inverted = ~word;
+            if (((inverted - LOW_BITS) & word & HIGH_BITS) == 0) {
+                position += WORD_SIZE;
+                continue;
+            }
+            for (int end = position + WORD_SIZE; position < end; position++) {
+                if (MPEGFrameHeader.isValidMPEGFrame(bb, position)) {
+                    return position;
+                }
+            }
+        }
+        for (; position < to; position++) {
+            if (MPEGFrameHeader.isValidMPEGFrame(bb, position)) {
+                return position;
+            }
+        }
+        return -1;
+    }
+}
@@ -43,6 +43,7 @@ public class VbriFrame {
     private static final int VBRI_AUDIOSIZE_BUFFER_SIZE = 4;
     private static final int VBRI_FRAMECOUNT_BUFFER_SIZE = 4;
     private static final int VBRI_TOC_ENTRY_BUFFER_SIZE = 2;
+    private static final int VBRI_TOC_MAX_ENTRY_SIZE = 4;
 
     public static final int MAX_BUFFER_SIZE_NEEDED_TO_READ_VBRI = VBRI_OFFSET + VBRI_HEADER_BUFFER_SIZE;
 
@@ -61,6 +62,8 @@ public class VbriFrame {
     private boolean vbr = false;
     private int frameCount = -1;
     private int audioSize = -1;
+    private int[] toc;
+    private int framesPerTocEntry;
     private LameFrame lameFrame;
 
     /**
@@ -73,6 +76,10 @@ public class VbriFrame {
         header.position(10);
         setAudioSize();
         setFrameCount();
+        setToc();
+
+        //Everything has been read, and the header is a slice of a buffer that is reused
+        this.header = null;
     }
 
     /**
@@ -95,6 +102,30 @@ public class VbriFrame {
         frameCount = (frameCountBuffer[BYTE_1] << 24) & 0xFF000000 | (frameCountBuffer[BYTE_2] << 16) & 0x00FF0000 | (frameCountBuffer[BYTE_3] << 8) & 0x0000FF00 | frameCountBuffer[BYTE_4] & 0x000000FF;
     }
 
+    /**
+     * Set table of contents, if the whole table is in the buffer
+     */
+    private void setToc() {
+        if (header.remaining() < VBRI_TOC_ENTRY_BUFFER_SIZE * 4) {
+            return;
+        }
+        final int noOfEntries = header.getShort() & 0xFFFF;
+        final int scale = header.getShort() & 0xFFFF;
+        final int entrySize = header.getShort() & 0xFFFF;
+        final int framesPerEntry = header.getShort() & 0xFFFF;
+        if (entrySize < 1 || entrySize > VBRI_TOC_MAX_ENTRY_SIZE || framesPerEntry == 0 || header.remaining() < noOfEntries * entrySize) {
+            return;
+        }
+        toc = new int[noOfEntries];
+        for (int i = 0; i < noOfEntries; i++) {
+            int entry = 0;
+            for (int j = 0; j < entrySize; j++) {
+                entry = (entry << 8) | (header.get() & 0xFF);
+            }
+            toc[i] = entry * scale;
+        }
+        framesPerTocEntry = framesPerEntry;
+    }
 
     /**
      * @return count of frames
@@ -110,6 +141,22 @@ public class VbriFrame {
         return audioSize;
     }
 
+    /**
+     * Each entry is the size in bytes of the next {@link #getFramesPerTocEntry()} frames
+     *
+     * @return table of contents, or null if it could not be read
+     */
+    public final int[] getToc() {
+        return toc;
+    }
+
+    /**
+     * @return number of frames covered by each table of contents entry
+     */
+    public final int getFramesPerTocEntry() {
+        return framesPerTocEntry;
+    }
+
     /**
      * Parse the VBRIFrame of an MP3File, cannot be called until we have validated that
      * this is a VBRIFrame
@@ -36,6 +36,7 @@ public class XingFrame {
     private static final int XING_FLAG_BUFFER_SIZE = 4;
     private static final int XING_FRAMECOUNT_BUFFER_SIZE = 4;
     private static final int XING_AUDIOSIZE_BUFFER_SIZE = 4;
+    private static final int XING_TOC_BUFFER_SIZE = 100;
 
     public static final int MAX_BUFFER_SIZE_NEEDED_TO_READ_XING = MPEG_VERSION_1_MODE_STEREO_OFFSET + XING_HEADER_BUFFER_SIZE + LameFrame.LAME_HEADER_BUFFER_SIZE;
 
@@ -63,6 +64,7 @@ public class XingFrame {
     private int frameCount = -1;
     private boolean isAudioSizeEnabled = false;
     private int audioSize = -1;
+    private byte[] toc;
     private LameFrame lameFrame;
 
     /**
@@ -91,7 +93,11 @@ public class XingFrame {
             setAudioSize();
         }
 
-        //TODO TOC
+        //Read TOC if flag set
+        if ((flagBuffer[BYTE_4] & (byte) (1 << 2)) != 0) {
+            setToc();
+        }
+
         //TODO VBR Quality
 
         //Look for LAME Header as long as we have enough bytes to do it properly
@@ -99,6 +105,9 @@ public class XingFrame {
             header.position(XING_HEADER_BUFFER_SIZE);
             lameFrame = LameFrame.parseLameFrame(header);
         }
+
+        //Everything has been read, and the header is a slice of a buffer that is reused
+        this.header = null;
     }
 
     public LameFrame getLameFrame() {
@@ -166,6 +175,31 @@ public class XingFrame {
         return audioSize;
     }
 
+    /**
+     * Set table of contents
+     */
+    private void setToc() {
+        toc = new byte[XING_TOC_BUFFER_SIZE];
+        header.get(toc);
+    }
+
+    /**
+     * @return true if the table of contents has been specified in header
+     */
+    public final boolean isTocEnabled() {
+        return toc != null;
+    }
+
+    /**
+     * The table of contents has 100 entries, entry n is the position n percent of the way through the audio as a
+     * fraction of the audio size in 256ths (unsigned)
+     *
+     * @return table of contents, or null if not specified
+     */
+    public final byte[] getToc() {
+        return toc;
+    }
+
     /**
      * Parse the XingFrame of an MP3File, cannot be called until we have validated that
      * this is a XingFrame
@@ -20,6 +20,7 @@ package org.jaudiotagger.audio.mp4;
 
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotReadVideoException;
+import org.jaudiotagger.audio.generic.AudioFileMetrics;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jcodec.containers.mp4.MP4Util;
@@ -57,7 +58,7 @@ public class Mp4InfoReader {
     public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.mp4.atom");
 
     public GenericAudioHeader read(RandomAccessFile raf) throws CannotReadException, IOException {
-        MP4Util.Movie mp4 = MP4Util.parseFullMovieChannel(raf.getChannel());
+        MP4Util.Movie mp4 = MP4Util.parseFullMovieChannel(AudioFileMetrics.wrap(raf.getChannel()));
         Mp4AudioHeader info = new Mp4AudioHeader();
 
         //File Identification
@@ -19,6 +19,7 @@
 package org.jaudiotagger.audio.mp4;
 
 import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.generic.AudioFileMetrics;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 import org.jaudiotagger.tag.mp4.Mp4FieldKey;
@@ -81,7 +82,7 @@ public class Mp4TagReader {
 
      */
     public Mp4Tag read(RandomAccessFile raf) throws CannotReadException, IOException {
-        MP4Util.Movie mp4 = MP4Util.parseFullMovieChannel(raf.getChannel());
+        MP4Util.Movie mp4 = MP4Util.parseFullMovieChannel(AudioFileMetrics.wrap(raf.getChannel()));
         Mp4Tag tag = new Mp4Tag();
 
         //Get to the facts everything we are interested in is within the moov box, so just load data from file
@@ -177,7 +178,9 @@ public class Mp4TagReader {
                             tag.addField(new Mp4GenreField(metaValue.getData()));
                             break;
                         case ARTWORK:
+                            final long artworkStart = AudioFileMetrics.startPhase();
                             tag.addField(new Mp4TagCoverField(metaValue.getData()));
+                            AudioFileMetrics.endArtworkPhase(artworkStart);
                             break;
                         default:
                             switch (key.getSubClassFieldType()) {
@@ -24,6 +24,7 @@ import org.jaudiotagger.audio.ogg.util.OggPageHeader;
 import org.jaudiotagger.audio.ogg.util.VorbisHeader;
 import org.jaudiotagger.audio.ogg.util.VorbisPacketType;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.vorbiscomment.VorbisCommentReader;
 import org.jaudiotagger.tag.vorbiscomment.VorbisCommentTag;
@@ -34,6 +35,7 @@ import java.io.RandomAccessFile;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -302,7 +304,9 @@ public class OggVorbisTagReader {
             throw new CannotReadException("Cannot find comment block (no vorbiscomment header)");
         }
         raf.seek(raf.getFilePointer() - (VorbisHeader.FIELD_PACKET_TYPE_LENGTH + VorbisHeader.FIELD_CAPTURE_PATTERN_LENGTH));
-        logger.config("Found start of comment header at:" + raf.getFilePointer());
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Found start of comment header at:" + raf.getFilePointer());
+        }
 
         //Calculate Comment Size (not inc header)
         while (true) {
@@ -314,7 +318,9 @@ public class OggVorbisTagReader {
             //end son this page and we can break
             if (packetList.size() > 1 || !pageHeader.isLastPacketIncomplete()) {
                 //done comment size
-                logger.config("Found end of comment:size:" + commentHeaderSize + "finishes at file position:" + raf.getFilePointer());
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config("Found end of comment:size:" + commentHeaderSize + "finishes at file position:" + raf.getFilePointer());
+                }
                 break;
             }
             pageHeader = OggPageHeader.read(raf);
@@ -334,14 +340,16 @@ public class OggVorbisTagReader {
                 throw new CannotReadException(ErrorMessage.OGG_VORBIS_NO_VORBIS_HEADER_FOUND.getMsg());
             }
             raf.seek(raf.getFilePointer() - (VorbisHeader.FIELD_PACKET_TYPE_LENGTH + VorbisHeader.FIELD_CAPTURE_PATTERN_LENGTH));
-            logger.config("Found start of vorbis setup header at file position:" + raf.getFilePointer());
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config("Found start of vorbis setup header at file position:" + raf.getFilePointer());
+            }
 
             //Set this to the  start of the OggPage that setup header was found on
             setupHeaderStartPosition = raf.getFilePointer() - (OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + pageHeader.getSegmentTable().length);
 
             //Add packet data to size to the setup header size
             setupHeaderSize = packet.getLength();
-            logger.fine("Adding:" + packet.getLength() + " to setup header size");
+            LogHelper.fine(logger, "Adding:{0} to setup header size", packet.getLength());
 
             //Skip over the packet data
             raf.skipBytes(packet.getLength());
@@ -349,7 +357,9 @@ public class OggVorbisTagReader {
             //If there are other packets that follow this one, or if the last packet is complete then we must have
             //got the size of the setup header.
             if (packetList.size() > 1 || !pageHeader.isLastPacketIncomplete()) {
-                logger.config("Found end of setupheader:size:" + setupHeaderSize + "finishes at:" + raf.getFilePointer());
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config("Found end of setupheader:size:" + setupHeaderSize + "finishes at:" + raf.getFilePointer());
+                }
                 if (packetList.size() > 1) {
                     extraPackets = packetList.subList(1, packetList.size());
                 }
@@ -360,11 +370,13 @@ public class OggVorbisTagReader {
                 packetList = pageHeader.getPacketList();
                 while (true) {
                     setupHeaderSize += packetList.get(0).getLength();
-                    logger.fine("Adding:" + packetList.get(0).getLength() + " to setup header size");
+                    LogHelper.fine(logger, "Adding:{0} to setup header size", packetList.get(0).getLength());
                     raf.skipBytes(packetList.get(0).getLength());
                     if (packetList.size() > 1 || !pageHeader.isLastPacketIncomplete()) {
                         //done setup size
-                        logger.fine("Found end of setupheader:size:" + setupHeaderSize + "finishes at:" + raf.getFilePointer());
+                        if (logger.isLoggable(Level.FINE)) {
+                            logger.fine("Found end of setupheader:size:" + setupHeaderSize + "finishes at:" + raf.getFilePointer());
+                        }
                         if (packetList.size() > 1) {
                             extraPackets = packetList.subList(1, packetList.size());
                         }
@@ -388,7 +400,9 @@ public class OggVorbisTagReader {
                 throw new CannotReadException(ErrorMessage.OGG_VORBIS_NO_VORBIS_HEADER_FOUND.getMsg());
             }
             raf.seek(raf.getFilePointer() - (VorbisHeader.FIELD_PACKET_TYPE_LENGTH + VorbisHeader.FIELD_CAPTURE_PATTERN_LENGTH));
-            logger.config("Found start of vorbis setup header at file position:" + raf.getFilePointer());
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config("Found start of vorbis setup header at file position:" + raf.getFilePointer());
+            }
 
             //Set this to the  start of the OggPage that setupheader was found on
             setupHeaderStartPosition = raf.getFilePointer() - (OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + pageHeader.getSegmentTable().length)
@@ -396,7 +410,7 @@ public class OggVorbisTagReader {
 
             //Add packet data to size to the setup header size
             setupHeaderSize = packet.getLength();
-            logger.fine("Adding:" + packet.getLength() + " to setup header size");
+            LogHelper.fine(logger, "Adding:{0} to setup header size", packet.getLength());
 
             //Skip over the packet data
             raf.skipBytes(packet.getLength());
@@ -404,7 +418,9 @@ public class OggVorbisTagReader {
             //If there are other packets that follow this one, or if the last packet is complete then we must have
             //got the size of the setup header.
             if (packetList.size() > 2 || !pageHeader.isLastPacketIncomplete()) {
-                logger.fine("Found end of setupheader:size:" + setupHeaderSize + "finishes at:" + raf.getFilePointer());
+                if (logger.isLoggable(Level.FINE)) {
+                    logger.fine("Found end of setupheader:size:" + setupHeaderSize + "finishes at:" + raf.getFilePointer());
+                }
                 if (packetList.size() > 2) {
                     extraPackets = packetList.subList(2, packetList.size());
                 }
@@ -415,11 +431,13 @@ public class OggVorbisTagReader {
                 packetList = pageHeader.getPacketList();
                 while (true) {
                     setupHeaderSize += packetList.get(0).getLength();
-                    logger.fine("Adding:" + packetList.get(0).getLength() + " to setup header size");
+                    LogHelper.fine(logger, "Adding:{0} to setup header size", packetList.get(0).getLength());
                     raf.skipBytes(packetList.get(0).getLength());
                     if (packetList.size() > 1 || !pageHeader.isLastPacketIncomplete()) {
                         //done setup size
-                        logger.fine("Found end of setupheader:size:" + setupHeaderSize + "finishes at:" + raf.getFilePointer());
+                        if (logger.isLoggable(Level.FINE)) {
+                            logger.fine("Found end of setupheader:size:" + setupHeaderSize + "finishes at:" + raf.getFilePointer());
+                        }
                         if (packetList.size() > 1) {
                             extraPackets = packetList.subList(1, packetList.size());
                         }
@@ -24,6 +24,7 @@ import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.ogg.util.OggCRCFactory;
 import org.jaudiotagger.audio.ogg.util.OggPageHeader;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.id3.AbstractID3v1Tag;
 import org.jaudiotagger.tag.vorbiscomment.VorbisCommentTag;
@@ -81,7 +82,7 @@ public class OggVorbisTagWriter {
 
         //2nd Page:Store the end of Header
         long secondPageHeaderEndPos = raf.getFilePointer();
-        logger.fine("Read 2nd Page:comment and setup and possibly audio:Header finishes at file position:" + secondPageHeaderEndPos);
+        LogHelper.fine(logger, "Read 2nd Page:comment and setup and possibly audio:Header finishes at file position:{0}", secondPageHeaderEndPos);
 
         //Get header sizes
         raf.seek(0);
@@ -95,15 +96,15 @@ public class OggVorbisTagWriter {
 
         //Calculate new size of new 2nd page
         int newSecondPageDataLength = vorbisHeaderSizes.getSetupHeaderSize() + newCommentLength + vorbisHeaderSizes.getExtraPacketDataSize();
-        logger.fine("Old 2nd Page no of packets: " + secondPageHeader.getPacketList().size());
-        logger.fine("Old 2nd Page size: " + secondPageHeader.getPageLength());
-        logger.fine("Old last page status: " + secondPageHeader.isLastPage());
-        logger.fine("Setup Header Size: " + vorbisHeaderSizes.getSetupHeaderSize());
-        logger.fine("Extra Packets: " + vorbisHeaderSizes.getExtraPacketList().size());
-        logger.fine("Extra Packet Data Size: " + vorbisHeaderSizes.getExtraPacketDataSize());
-        logger.fine("Old comment: " + vorbisHeaderSizes.getCommentHeaderSize());
-        logger.fine("New comment: " + newCommentLength);
-        logger.fine("New Page Data Size: " + newSecondPageDataLength);
+        LogHelper.fine(logger, "Old 2nd Page no of packets: {0}", secondPageHeader.getPacketList().size());
+        LogHelper.fine(logger, "Old 2nd Page size: {0}", secondPageHeader.getPageLength());
+        LogHelper.fine(logger, "Old last page status: {0}", secondPageHeader.isLastPage());
+        LogHelper.fine(logger, "Setup Header Size: {0}", vorbisHeaderSizes.getSetupHeaderSize());
+        LogHelper.fine(logger, "Extra Packets: {0}", vorbisHeaderSizes.getExtraPacketList().size());
+        LogHelper.fine(logger, "Extra Packet Data Size: {0}", vorbisHeaderSizes.getExtraPacketDataSize());
+        LogHelper.fine(logger, "Old comment: {0}", vorbisHeaderSizes.getCommentHeaderSize());
+        LogHelper.fine(logger, "New comment: {0}", newCommentLength);
+        LogHelper.fine(logger, "New Page Data Size: {0}", newSecondPageDataLength);
         //Second Page containing new vorbis, setup and possibly some extra packets can fit on one page
         if (isCommentAndSetupHeaderFitsOnASinglePage(newCommentLength, vorbisHeaderSizes.getSetupHeaderSize(), vorbisHeaderSizes.getExtraPacketList())) {
             //And if comment and setup header originally fitted on both, the length of the 2nd
@@ -170,8 +171,8 @@ public class OggVorbisTagWriter {
         logger.fine("WriteOgg Type 1");
         byte[] segmentTable = createSegmentTable(newCommentLength, vorbisHeaderSizes.getSetupHeaderSize(), vorbisHeaderSizes.getExtraPacketList());
         int newSecondPageHeaderLength = OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + segmentTable.length;
-        logger.fine("New second page header length:" + newSecondPageHeaderLength);
-        logger.fine("No of segments:" + segmentTable.length);
+        LogHelper.fine(logger, "New second page header length:{0}", newSecondPageHeaderLength);
+        LogHelper.fine(logger, "No of segments:{0}", segmentTable.length);
 
         ByteBuffer secondPageBuffer = ByteBuffer.allocate(newSecondPageLength + newSecondPageHeaderLength);
         secondPageBuffer.order(ByteOrder.LITTLE_ENDIAN);
@@ -252,7 +253,7 @@ public class OggVorbisTagWriter {
         //Add setup header and packets
         int pageSequence = secondPageHeader.getPageSequence();
         byte[] setupHeaderData = reader.convertToVorbisSetupHeaderPacketAndAdditionalPackets(originalHeaderSizes.getSetupHeaderStartPosition(), raf);
-        logger.finest(setupHeaderData.length + ":" + secondPageBuffer.position() + ":" + secondPageBuffer.capacity());
+        LogHelper.finest(logger, "{0}:{1}:{2}", setupHeaderData.length, secondPageBuffer.position(), secondPageBuffer.capacity());
         secondPageBuffer.put(setupHeaderData);
 
         calculateChecksumOverPage(secondPageBuffer);
@@ -279,7 +280,7 @@ public class OggVorbisTagWriter {
 
         //We need to work out how to split the newcommentlength over the pages
         int noOfCompletePagesNeededForComment = newCommentLength / OggPageHeader.MAXIMUM_PAGE_DATA_SIZE;
-        logger.config("Comment requires:" + noOfCompletePagesNeededForComment + " complete pages");
+        LogHelper.config(logger, "Comment requires:{0} complete pages", noOfCompletePagesNeededForComment);
 
         //Create the Pages
         int newCommentOffset = 0;
@@ -320,7 +321,7 @@ public class OggVorbisTagWriter {
         }
 
         int lastPageCommentPacketSize = newCommentLength % OggPageHeader.MAXIMUM_PAGE_DATA_SIZE;
-        logger.fine("Last comment packet size:" + lastPageCommentPacketSize);
+        LogHelper.fine(logger, "Last comment packet size:{0}", lastPageCommentPacketSize);
 
         //End of comment and setup header cannot fit on the last page
         if (!isCommentAndSetupHeaderFitsOnASinglePage(lastPageCommentPacketSize, originalHeaderSizes.getSetupHeaderSize(), originalHeaderSizes.getExtraPacketList())) {
@@ -344,7 +345,7 @@ public class OggVorbisTagWriter {
                 if (noOfCompletePagesNeededForComment > 0) {
                     pageBuffer.put(OggPageHeader.FIELD_HEADER_TYPE_FLAG_POS, OggPageHeader.HeaderTypeFlag.CONTINUED_PACKET.getFileValue());
                 }
-                logger.fine("Writing Last Comment Page " + pageSequence + " to file");
+                LogHelper.fine(logger, "Writing Last Comment Page {0} to file", pageSequence);
                 pageSequence++;
                 calculateChecksumOverPage(pageBuffer);
                 rafTemp.getChannel().write(pageBuffer);
@@ -365,7 +366,7 @@ public class OggVorbisTagWriter {
                 pageBuffer.put(setupHeaderData);
                 pageBuffer.putInt(OggPageHeader.FIELD_PAGE_SEQUENCE_NO_POS, pageSequence);
                 //pageBuffer.put(OggPageHeader.FIELD_HEADER_TYPE_FLAG_POS, OggPageHeader.HeaderTypeFlag.CONTINUED_PACKET.getFileValue());
-                logger.fine("Writing Setup Header and packets Page " + pageSequence + " to file");
+                LogHelper.fine(logger, "Writing Setup Header and packets Page {0} to file", pageSequence);
 
                 calculateChecksumOverPage(pageBuffer);
                 rafTemp.getChannel().write(pageBuffer);
@@ -480,7 +481,7 @@ public class OggVorbisTagWriter {
      * @return new segment table.
      */
     private byte[] createSegmentTable(int newCommentLength, int setupHeaderLength, List<OggPageHeader.PacketStartAndLength> extraPackets) {
-        logger.finest("Create SegmentTable CommentLength:" + newCommentLength + ":SetupHeaderLength:" + setupHeaderLength);
+        LogHelper.finest(logger, "Create SegmentTable CommentLength:{0}:SetupHeaderLength:{1}", newCommentLength, setupHeaderLength);
         ByteArrayOutputStream resultBaos = new ByteArrayOutputStream();
 
         byte[] newStart;
@@ -507,8 +508,8 @@ public class OggVorbisTagWriter {
             restShouldBe = createSegments(setupHeaderLength, false);
         }
 
-        logger.finest("Created " + newStart.length + " segments for header");
-        logger.finest("Created " + restShouldBe.length + " segments for setup");
+        LogHelper.finest(logger, "Created {0} segments for header", newStart.length);
+        LogHelper.finest(logger, "Created {0} segments for setup", restShouldBe.length);
 
         try {
             resultBaos.write(newStart);
@@ -516,7 +517,7 @@ public class OggVorbisTagWriter {
             if (extraPackets.size() > 0) {
                 //Packets are being copied literally not converted from a length, so always pass
                 //false parameter, TODO is this statement correct
-                logger.finer("Creating segments for " + extraPackets.size() + " packets");
+                LogHelper.finer(logger, "Creating segments for {0} packets", extraPackets.size());
                 for (OggPageHeader.PacketStartAndLength packet : extraPackets) {
                     nextPacket = createSegments(packet.getLength(), false);
                     resultBaos.write(nextPacket);
@@ -579,7 +580,7 @@ public class OggVorbisTagWriter {
     //TODO if pass is data of max length (65025 bytes) and have quitStream==true
     //this will return 256 segments which is illegal, should be checked somewhere
     private byte[] createSegments(int length, boolean quitStream) {
-        logger.finest("Create Segments for length:" + length + ":QuitStream:" + quitStream);
+        LogHelper.finest(logger, "Create Segments for length:{0}:QuitStream:{1}", length, quitStream);
         //It is valid to have nil length packets
         if (length == 0) {
             byte[] result = new byte[1];
@@ -614,7 +615,7 @@ public class OggVorbisTagWriter {
                 totalDataSize++;
             }
         }
-        logger.finest("Require:" + totalDataSize + " segments for comment");
+        LogHelper.finest(logger, "Require:{0} segments for comment", totalDataSize);
 
         if (setupHeaderLength == 0) {
             totalDataSize++;
@@ -624,7 +625,7 @@ public class OggVorbisTagWriter {
                 totalDataSize++;
             }
         }
-        logger.finest("Require:" + totalDataSize + " segments for comment plus setup");
+        LogHelper.finest(logger, "Require:{0} segments for comment plus setup", totalDataSize);
 
         for (OggPageHeader.PacketStartAndLength extraPacket : extraPacketList) {
             if (extraPacket.getLength() == 0) {
@@ -637,7 +638,7 @@ public class OggVorbisTagWriter {
             }
         }
 
-        logger.finest("Total No Of Segment If New Comment And Header Put On One Page:" + totalDataSize);
+        LogHelper.finest(logger, "Total No Of Segment If New Comment And Header Put On One Page:{0}", totalDataSize);
         return totalDataSize <= OggPageHeader.MAXIMUM_NO_OF_SEGMENT_SIZE;
     }
 
@@ -21,6 +21,7 @@ package org.jaudiotagger.audio.ogg.util;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
 
 import java.io.IOException;
@@ -170,7 +171,7 @@ public class OggPageHeader {
     public static OggPageHeader read(ByteBuffer byteBuffer) throws CannotReadException {
         //byteBuffer
         int start = byteBuffer.position();
-        logger.fine("Trying to read OggPage at:" + start);
+        LogHelper.fine(logger, "Trying to read OggPage at:{0}", start);
 
         byte[] b = new byte[OggPageHeader.CAPTURE_PATTERN.length];
         byteBuffer.get(b);
@@ -199,7 +200,7 @@ public class OggPageHeader {
      */
     public static OggPageHeader read(RandomAccessFile raf) throws IOException, CannotReadException {
         long start = raf.getFilePointer();
-        logger.fine("Trying to read OggPage at: " + start);
+        LogHelper.fine(logger, "Trying to read OggPage at: {0}", start);
 
         byte[] b = new byte[OggPageHeader.CAPTURE_PATTERN.length];
         raf.read(b);
@@ -307,7 +308,7 @@ public class OggPageHeader {
     }
 
     public long getAbsoluteGranulePosition() {
-        logger.fine("Number Of Samples: " + absoluteGranulePosition);
+        LogHelper.fine(logger, "Number Of Samples: {0}", absoluteGranulePosition);
         return this.absoluteGranulePosition;
     }
 
@@ -326,7 +327,7 @@ public class OggPageHeader {
 
 
     public int getPageLength() {
-        logger.finer("This page length: " + pageLength);
+        LogHelper.finer(logger, "This page length: {0}", pageLength);
         return this.pageLength;
     }
 
@@ -19,6 +19,7 @@
 package org.jaudiotagger.audio.ogg.util;
 
 import org.jaudiotagger.audio.ogg.VorbisVersion;
+import org.jaudiotagger.logging.LogHelper;
 
 import java.nio.charset.Charset;
 import java.util.logging.Logger;
@@ -115,17 +116,17 @@ public class VorbisIdentificationHeader implements VorbisHeader {
 
     public void decodeHeader(byte[] b) {
         int packetType = b[FIELD_PACKET_TYPE_POS];
-        logger.fine("packetType" + packetType);
+        LogHelper.fine(logger, "packetType{0}", packetType);
         String vorbis = new String(b, VorbisHeader.FIELD_CAPTURE_PATTERN_POS, VorbisHeader.FIELD_CAPTURE_PATTERN_LENGTH, Charset.forName("ISO-8859-1"));
 
         if (packetType == VorbisPacketType.IDENTIFICATION_HEADER.getType() && vorbis.equals(CAPTURE_PATTERN)) {
             this.vorbisVersion = b[7] + (b[8] << 8) + (b[9] << 16) + (b[10] << 24);
-            logger.fine("vorbisVersion" + vorbisVersion);
+            LogHelper.fine(logger, "vorbisVersion{0}", vorbisVersion);
             this.audioChannels = u(b[FIELD_AUDIO_CHANNELS_POS]);
-            logger.fine("audioChannels" + audioChannels);
+            LogHelper.fine(logger, "audioChannels{0}", audioChannels);
             this.audioSampleRate = u(b[12]) + (u(b[13]) << 8) + (u(b[14]) << 16) + (u(b[15]) << 24);
-            logger.fine("audioSampleRate" + audioSampleRate);
-            logger.fine("audioSampleRate" + b[12] + " " + b[13] + " " + b[14]);
+            LogHelper.fine(logger, "audioSampleRate{0}", audioSampleRate);
+            LogHelper.fine(logger, "audioSampleRate{0} {1} {2}", b[12], b[13], b[14]);
 
             //TODO is this right spec says signed
             this.bitrateMinimal = u(b[16]) + (u(b[17]) << 8) + (u(b[18]) << 16) + (u(b[19]) << 24);
@@ -135,7 +136,7 @@ public class VorbisIdentificationHeader implements VorbisHeader {
             //byte blockSize1 = (byte) ( b[28] & 15 );
 
             int framingFlag = b[FIELD_FRAMING_FLAG_POS];
-            logger.fine("framingFlag" + framingFlag);
+            LogHelper.fine(logger, "framingFlag{0}", framingFlag);
             if (framingFlag != 0) {
                 isValid = true;
             }
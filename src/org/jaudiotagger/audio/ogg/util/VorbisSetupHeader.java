@@ -1,5 +1,7 @@
 package org.jaudiotagger.audio.ogg.util;
 
+import org.jaudiotagger.logging.LogHelper;
+
 import java.nio.charset.Charset;
 import java.util.logging.Logger;
 
@@ -28,7 +30,7 @@ public class VorbisSetupHeader implements VorbisHeader {
 
     public void decodeHeader(byte[] b) {
         int packetType = b[FIELD_PACKET_TYPE_POS];
-        logger.fine("packetType" + packetType);
+        LogHelper.fine(logger, "packetType{0}", packetType);
         String vorbis = new String(b, FIELD_CAPTURE_PATTERN_POS, FIELD_CAPTURE_PATTERN_LENGTH, Charset.forName("ISO-8859-1"));
         if (packetType == VorbisPacketType.SETUP_HEADER.getType() && vorbis.equals(CAPTURE_PATTERN)) {
             isValid = true;
@@ -6,6 +6,7 @@ import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.ogg.OggVorbisCommentTagCreator;
 import org.jaudiotagger.audio.ogg.util.OggPage;
 import org.jaudiotagger.audio.ogg.util.OggPageHeader;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.vorbiscomment.VorbisCommentTag;
 
@@ -45,7 +46,7 @@ public class OpusVorbisTagWriter {
     }
 
     public void write(Tag tag, RandomAccessFile raf, RandomAccessFile rafTemp) throws CannotReadException, CannotWriteException, IOException {
-        logger.config("Starting to write file: " + raf);
+        LogHelper.config(logger, "Starting to write file: {0}", raf);
 
         FileChannel fi = raf.getChannel();
         FileChannel fo = rafTemp.getChannel();
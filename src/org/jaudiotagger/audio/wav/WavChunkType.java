@@ -1,5 +1,6 @@
 package org.jaudiotagger.audio.wav;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -19,7 +20,16 @@ public enum WavChunkType {
     CORRUPT_ID3_LATE("d3 \u0000", "Stores metadata in ID3 chunk"),
     CORRUPT_ID3_EARLY("\u0000id3", "Stores metadata in ID3 chunk");
 
-    private static final Map<String, WavChunkType> CODE_TYPE_MAP = new HashMap<String, WavChunkType>();
+    private static final Map<String, WavChunkType> CODE_TYPE_MAP;
+
+    static {
+        final Map<String, WavChunkType> codeTypeMap = new HashMap<String, WavChunkType>();
+        for (final WavChunkType type : values()) {
+            codeTypeMap.put(type.getCode(), type);
+        }
+        CODE_TYPE_MAP = Collections.unmodifiableMap(codeTypeMap);
+    }
+
     private String code;
     private String description;
 
@@ -29,12 +39,7 @@ public enum WavChunkType {
      * @param code chunk id
      * @return chunk type or {@code null} if not registered
      */
-    public synchronized static WavChunkType get(final String code) {
-        if (CODE_TYPE_MAP.isEmpty()) {
-            for (final WavChunkType type : values()) {
-                CODE_TYPE_MAP.put(type.getCode(), type);
-            }
-        }
+    public static WavChunkType get(final String code) {
         return CODE_TYPE_MAP.get(code);
     }
 
@@ -5,6 +5,7 @@ import org.jaudiotagger.audio.iff.Chunk;
 import org.jaudiotagger.audio.iff.ChunkHeader;
 import org.jaudiotagger.audio.iff.IffHeaderChunk;
 import org.jaudiotagger.logging.Hex;
+import org.jaudiotagger.logging.LogHelper;
 
 import java.io.File;
 import java.io.FileFilter;
@@ -75,9 +76,8 @@ public class WavCleaner {
         }
 
         String id = chunkHeader.getID();
-        logger.config(loggingName + " Reading Chunk:" + id
-                + ":starting at:" + Hex.asDecAndHex(chunkHeader.getStartLocationInFile())
-                + ":sizeIncHeader:" + (chunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE));
+        LogHelper.config(logger, "{0} Reading Chunk:{1}:starting at:{2}:sizeIncHeader:{3}", loggingName, id,
+                chunkHeader.getStartLocationInFile(), chunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE);
         final WavChunkType chunkType = WavChunkType.get(id);
 
         //If known chunkType
@@ -91,7 +91,7 @@ public class WavCleaner {
 
                 //Dont need to do anything with these just skip
                 default:
-                    logger.config(loggingName + " Skipping chunk bytes:" + chunkHeader.getSize());
+                    LogHelper.config(logger, "{0} Skipping chunk bytes:{1}", loggingName, chunkHeader.getSize());
                     fc.position(fc.position() + chunkHeader.getSize());
             }
         }
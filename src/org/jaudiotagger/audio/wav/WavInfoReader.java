@@ -26,7 +26,7 @@ import org.jaudiotagger.audio.iff.ChunkHeader;
 import org.jaudiotagger.audio.iff.IffHeaderChunk;
 import org.jaudiotagger.audio.wav.chunk.WavFactChunk;
 import org.jaudiotagger.audio.wav.chunk.WavFormatChunk;
-import org.jaudiotagger.logging.Hex;
+import org.jaudiotagger.logging.LogHelper;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -95,9 +95,8 @@ public class WavInfoReader {
         }
 
         String id = chunkHeader.getID();
-        logger.fine(loggingName + " Reading Chunk:" + id
-                + ":starting at:" + Hex.asDecAndHex(chunkHeader.getStartLocationInFile())
-                + ":sizeIncHeader:" + (chunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE));
+        LogHelper.fine(logger, "{0} Reading Chunk:{1}:starting at:{2}:sizeIncHeader:{3}", loggingName, id,
+                chunkHeader.getStartLocationInFile(), chunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE);
         final WavChunkType chunkType = WavChunkType.get(id);
 
         //If known chunkType
@@ -137,7 +136,7 @@ public class WavInfoReader {
 
                 //Dont need to do anything with these just skip
                 default:
-                    logger.config(loggingName + " Skipping chunk bytes:" + chunkHeader.getSize());
+                    LogHelper.config(logger, "{0} Skipping chunk bytes:{1}", loggingName, chunkHeader.getSize());
                     fc.position(fc.position() + chunkHeader.getSize());
             }
         }
@@ -149,7 +148,7 @@ public class WavInfoReader {
                 logger.severe(msg);
                 throw new CannotReadException(msg);
             }
-            logger.config(loggingName + " Skipping chunk bytes:" + chunkHeader.getSize() + " for " + chunkHeader.getID());
+            LogHelper.config(logger, "{0} Skipping chunk bytes:{1} for {2}", loggingName, chunkHeader.getSize(), chunkHeader.getID());
 
             fc.position(fc.position() + chunkHeader.getSize());
             if (fc.position() > fc.size()) {
@@ -27,6 +27,7 @@ import org.jaudiotagger.audio.iff.IffHeaderChunk;
 import org.jaudiotagger.audio.wav.chunk.WavId3Chunk;
 import org.jaudiotagger.audio.wav.chunk.WavListChunk;
 import org.jaudiotagger.logging.Hex;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jaudiotagger.tag.wav.WavInfoTag;
 import org.jaudiotagger.tag.wav.WavTag;
@@ -34,6 +35,7 @@ import org.jaudiotagger.tag.wav.WavTag;
 import java.io.IOException;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -58,7 +60,7 @@ public class WavTagReader {
      * @throws IOException
      */
     public WavTag read(FileChannel fc) throws CannotReadException, IOException {
-        logger.config(loggingName + " Read Tag:start");
+        LogHelper.config(logger, "{0} Read Tag:start", loggingName);
         WavTag tag = new WavTag(TagOptionSingleton.getInstance().getWavOptions());
         if (WavRIFFHeader.isValidHeader(fc)) {
             while (fc.position() < fc.size()) {
@@ -70,7 +72,7 @@ public class WavTagReader {
             throw new CannotReadException(loggingName + " Wav RIFF Header not valid");
         }
         createDefaultMetadataTagsIfMissing(tag);
-        logger.config(loggingName + " Read Tag:end");
+        LogHelper.config(logger, "{0} Read Tag:end", loggingName);
         return tag;
     }
 
@@ -106,7 +108,9 @@ public class WavTagReader {
         }
 
         String id = chunkHeader.getID();
-        logger.config(loggingName + " Next Id is:" + id + ":FileLocation:" + fc.position() + ":Size:" + chunkHeader.getSize());
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(loggingName + " Next Id is:" + id + ":FileLocation:" + fc.position() + ":Size:" + chunkHeader.getSize());
+        }
         final WavChunkType chunkType = WavChunkType.get(id);
         if (chunkType != null) {
             switch (chunkType) {
@@ -176,7 +180,7 @@ public class WavTagReader {
                 logger.severe(msg);
                 throw new CannotReadException(msg);
             }
-            logger.config(loggingName + " Skipping chunk bytes:" + chunkHeader.getSize() + "for" + chunkHeader.getID());
+            LogHelper.config(logger, "{0} Skipping chunk bytes:{1}for{2}", loggingName, chunkHeader.getSize(), chunkHeader.getID());
             fc.position(fc.position() + chunkHeader.getSize());
             if (fc.position() > fc.size()) {
                 String msg = loggingName + " Failed to move to invalid position to " + fc.position() + " because file length is only " + fc.size()
@@ -20,12 +20,14 @@ package org.jaudiotagger.audio.wav;
 
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
+import org.jaudiotagger.audio.generic.BufferPool;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.iff.ChunkHeader;
 import org.jaudiotagger.audio.iff.ChunkSummary;
 import org.jaudiotagger.audio.iff.IffHeaderChunk;
 import org.jaudiotagger.audio.wav.chunk.WavChunkSummary;
 import org.jaudiotagger.audio.wav.chunk.WavInfoIdentifier;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.*;
 import org.jaudiotagger.tag.wav.WavInfoTag;
 import org.jaudiotagger.tag.wav.WavTag;
@@ -126,7 +128,7 @@ public class WavTagWriter {
      * @throws CannotWriteException
      */
     public void delete(Tag tag, FileChannel fc) throws CannotWriteException {
-        logger.info(loggingName + " Deleting metadata from file");
+        LogHelper.info(logger, "{0} Deleting metadata from file", loggingName);
         try {
             WavTag existingTag = getExistingMetadata(fc);
             fc.position(0);
@@ -139,10 +141,10 @@ public class WavTagWriter {
                     //Quick method
                     if (fs.isAtEnd) {
                         if (fs.isInfoTagFirst) {
-                            logger.info(loggingName + ":Setting new length to:" + existingTag.getInfoTag().getStartLocationInFile());
+                            LogHelper.info(logger, "{0}:Setting new length to:{1}", loggingName, existingTag.getInfoTag().getStartLocationInFile());
                             fc.truncate(existingTag.getInfoTag().getStartLocationInFile());
                         } else {
-                            logger.info(loggingName + ":Setting new length to:" + existingTag.getStartLocationInFileOfId3Chunk());
+                            LogHelper.info(logger, "{0}:Setting new length to:{1}", loggingName, existingTag.getStartLocationInFileOfId3Chunk());
                             fc.truncate(existingTag.getStartLocationInFileOfId3Chunk());
                         }
                     }
@@ -186,7 +188,7 @@ public class WavTagWriter {
                 ChunkHeader chunkHeader = seekToStartOfListInfoMetadata(fc, existingTag);
                 //and it is at end of the file
                 if (existingInfoTag.getEndLocationInFile() == fc.size()) {
-                    logger.info(loggingName + ":Setting new length to:" + existingInfoTag.getStartLocationInFile());
+                    LogHelper.info(logger, "{0}:Setting new length to:{1}", loggingName, existingInfoTag.getStartLocationInFile());
                     fc.truncate(existingInfoTag.getStartLocationInFile());
                 } else {
                     deleteInfoTagChunk(fc, existingTag, chunkHeader);
@@ -195,7 +197,7 @@ public class WavTagWriter {
                 ChunkHeader chunkHeader = seekToStartOfId3Metadata(fc, existingTag);
                 //and it is at end of the file
                 if (isID3TagAtEndOfFileAllowingForPaddingByte(existingTag, fc)) {
-                    logger.info(loggingName + ":Setting new length to:" + existingTag.getStartLocationInFileOfId3Chunk());
+                    LogHelper.info(logger, "{0}:Setting new length to:{1}", loggingName, existingTag.getStartLocationInFileOfId3Chunk());
                     fc.truncate(existingTag.getStartLocationInFileOfId3Chunk());
                 } else {
                     deleteId3TagChunk(fc, existingTag, chunkHeader);
@@ -254,18 +256,23 @@ public class WavTagWriter {
         //Position for reading after the tag
         fc.position(endOfExistingChunk);
 
-        final ByteBuffer buffer = ByteBuffer.allocate((int) TagOptionSingleton.getInstance().getWriteChunkSize());
-        while (fc.read(buffer) >= 0 || buffer.position() != 0) {
-            buffer.flip();
-            final long readPosition = fc.position();
-            fc.position(readPosition - lengthTagChunk - buffer.limit());
-            fc.write(buffer);
-            fc.position(readPosition);
-            buffer.compact();
+        final BufferPool bufferPool = TagOptionSingleton.getInstance().getBufferPool();
+        final ByteBuffer buffer = bufferPool.acquire((int) TagOptionSingleton.getInstance().getWriteChunkSize());
+        try {
+            while (fc.read(buffer) >= 0 || buffer.position() != 0) {
+                buffer.flip();
+                final long readPosition = fc.position();
+                fc.position(readPosition - lengthTagChunk - buffer.limit());
+                fc.write(buffer);
+                fc.position(readPosition);
+                buffer.compact();
+            }
+        } finally {
+            bufferPool.release(buffer);
         }
         //Truncate the file after the last chunk
         final long newLength = fc.size() - lengthTagChunk;
-        logger.config(loggingName + " Setting new length to:" + newLength);
+        LogHelper.config(logger, "{0} Setting new length to:{1}", loggingName, newLength);
         fc.truncate(newLength);
     }
 
@@ -275,7 +282,7 @@ public class WavTagWriter {
      * @throws CannotWriteException
      */
     public void write(final Tag tag, FileChannel fc) throws CannotWriteException {
-        logger.config(loggingName + " Writing tag to file:start");
+        LogHelper.config(logger, "{0} Writing tag to file:start", loggingName);
 
         WavSaveOptions wso = TagOptionSingleton.getInstance().getWavSaveOptions();
         WavTag existingTag = null;
@@ -435,7 +442,7 @@ public class WavTagWriter {
                 TagTextField next = (TagTextField) nextField;
                 WavInfoIdentifier wii = WavInfoIdentifier.getByByFieldKey(FieldKey.valueOf(next.getId()));
                 baos.write(wii.getCode().getBytes(Charset.forName("US-ASCII")));
-                logger.config(loggingName + " Writing:" + wii.getCode() + ":" + next.getContent());
+                LogHelper.config(logger, "{0} Writing:{1}:{2}", loggingName, wii.getCode(), next.getContent());
 
                 //TODO Is UTF8 allowed format
                 byte[] contentConvertedToBytes = next.getContent().getBytes(Charset.forName("UTF-8"));
@@ -451,7 +458,7 @@ public class WavTagWriter {
                 if (wii == WavInfoIdentifier.TRACKNO) {
                     if (TagOptionSingleton.getInstance().isWriteWavForTwonky()) {
                         baos.write(WavInfoIdentifier.TWONKY_TRACKNO.getCode().getBytes(Charset.forName("US-ASCII")));
-                        logger.config(loggingName + " Writing:" + WavInfoIdentifier.TWONKY_TRACKNO.getCode() + ":" + next.getContent());
+                        LogHelper.config(logger, "{0} Writing:{1}:{2}", loggingName, WavInfoIdentifier.TWONKY_TRACKNO.getCode(), next.getContent());
 
                         baos.write(Utils.getSizeLEInt32(contentConvertedToBytes.length));
                         baos.write(contentConvertedToBytes);
@@ -469,7 +476,7 @@ public class WavTagWriter {
             while (ti.hasNext()) {
                 TagTextField next = ti.next();
                 baos.write(next.getId().getBytes(Charset.forName("US-ASCII")));
-                logger.config(loggingName + " Writing:" + next.getId() + ":" + next.getContent());
+                LogHelper.config(logger, "{0} Writing:{1}:{2}", loggingName, next.getId(), next.getContent());
                 byte[] contentConvertedToBytes = next.getContent().getBytes(Charset.forName("UTF-8"));
                 baos.write(Utils.getSizeLEInt32(contentConvertedToBytes.length));
                 baos.write(contentConvertedToBytes);
@@ -2,6 +2,7 @@ package org.jaudiotagger.audio.wav.chunk;
 
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.iff.IffHeaderChunk;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.FieldDataInvalidException;
 import org.jaudiotagger.tag.wav.WavInfoTag;
 import org.jaudiotagger.tag.wav.WavTag;
@@ -60,7 +61,7 @@ public class WavInfoChunk {
                 return false;
             }
 
-            logger.config(loggingName + "Result:" + id + ":" + size + ":" + value + ":");
+            LogHelper.config(logger, "{0}Result:{1}:{2}:{3}:", loggingName, id, size, value);
             WavInfoIdentifier wii = WavInfoIdentifier.getByCode(id);
             if (wii != null && wii.getFieldKey() != null) {
                 try {
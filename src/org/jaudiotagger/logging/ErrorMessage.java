@@ -106,6 +106,7 @@ public enum ErrorMessage {
     GENERIC_NOT_SUPPORTED("Not implemented for this format"),
     OPERATION_NOT_SUPPORTED_FOR_FIELD("Not available for this field {0}"),
     ID3_UNABLE_TO_DECOMPRESS_FRAME("Unable to decompress frame {0} in file {1} because {2}"),
+    ID3_DECOMPRESSED_FRAME_SIZE_NOT_ALLOWED("Unable to decompress frame {0} in file {1} because decompressed size {2} is not between 0 and {3}"),
     NO_WRITER_FOR_THIS_FORMAT("No Writer associated with this extension:{0}"),
     NO_READER_FOR_THIS_FORMAT("No Reader associated with this extension:{0}"),
     NO_DELETER_FOR_THIS_FORMAT("No Deleter associated with this extension:{0}"),
@@ -118,8 +119,12 @@ public enum ErrorMessage {
     ATOM_LENGTH_LARGER_THAN_DATA("The atom {0} states its data length to be {1} but there are only {2} bytes remaining in the file"),
     INVALID_FIELD_FOR_ID3V1TAG("Invalid field {0} for ID3v1 tag"),
     NO_AUDIO_HEADER_FOUND("No audio header found within {0}"),
+    AUDIO_DATA_POSITION_NOT_KNOWN("Position of the audio data within {0} is not known"),
     NOT_STANDARD_MP$_GENRE("This is not a standard genre value, use custom genre field instead"),
     FLAC_NO_BLOCKTYPE("Flac file has invalid block type {0}"),
+    NO_CHANNEL_READER_FOR_THIS_FORMAT("Files with this extension cannot be read from a channel:{0}"),
+    NO_CHANNEL_WRITER_FOR_THIS_FORMAT("Files with this extension cannot be written to a channel:{0}"),
+    CHANNEL_FILE_CANNOT_BE_SAVED_TO_ANOTHER_PATH("Cannot save a file read from a channel to another path:{0}"),
     ;
 
 
@@ -0,0 +1,187 @@
+package org.jaudiotagger.logging;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Parameterised logging for the debug levels (finest to info)
+ *
+ * <p>Messages are patterns using {0}, {1}... placeholders in the same style as {@link ErrorMessage}, the level is
+ * checked before anything is built so a disabled log statement costs a level check and nothing else. Arguments are
+ * converted with {@link String#valueOf(Object)} so numbers are not grouped as they would be with MessageFormat.
+ *
+ * <p>Arguments are still evaluated by the caller, so if an argument is expensive to compute (such as a channel
+ * position) guard the call with {@link Logger#isLoggable(Level)} instead.
+ *
+ * <p>The record is logged against the logger name rather than inferring the calling class and method from the stack.
+ */
+public final class LogHelper {
+    private LogHelper() {
+    }
+
+    public static void finest(Logger logger, String pattern, Object arg0) {
+        if (logger.isLoggable(Level.FINEST)) {
+            log(logger, Level.FINEST, pattern, arg0, null, null, null);
+        }
+    }
+
+    public static void finest(Logger logger, String pattern, Object arg0, Object arg1) {
+        if (logger.isLoggable(Level.FINEST)) {
+            log(logger, Level.FINEST, pattern, arg0, arg1, null, null);
+        }
+    }
+
+    public static void finest(Logger logger, String pattern, Object arg0, Object arg1, Object arg2) {
+        if (logger.isLoggable(Level.FINEST)) {
+            log(logger, Level.FINEST, pattern, arg0, arg1, arg2, null);
+        }
+    }
+
+    public static void finest(Logger logger, String pattern, Object arg0, Object arg1, Object arg2, Object arg3) {
+        if (logger.isLoggable(Level.FINEST)) {
+            log(logger, Level.FINEST, pattern, arg0, arg1, arg2, arg3);
+        }
+    }
+
+    public static void finer(Logger logger, String pattern, Object arg0) {
+        if (logger.isLoggable(Level.FINER)) {
+            log(logger, Level.FINER, pattern, arg0, null, null, null);
+        }
+    }
+
+    public static void finer(Logger logger, String pattern, Object arg0, Object arg1) {
+        if (logger.isLoggable(Level.FINER)) {
+            log(logger, Level.FINER, pattern, arg0, arg1, null, null);
+        }
+    }
+
+    public static void finer(Logger logger, String pattern, Object arg0, Object arg1, Object arg2) {
+        if (logger.isLoggable(Level.FINER)) {
+            log(logger, Level.FINER, pattern, arg0, arg1, arg2, null);
+        }
+    }
+
+    public static void finer(Logger logger, String pattern, Object arg0, Object arg1, Object arg2, Object arg3) {
+        if (logger.isLoggable(Level.FINER)) {
+            log(logger, Level.FINER, pattern, arg0, arg1, arg2, arg3);
+        }
+    }
+
+    public static void fine(Logger logger, String pattern, Object arg0) {
+        if (logger.isLoggable(Level.FINE)) {
+            log(logger, Level.FINE, pattern, arg0, null, null, null);
+        }
+    }
+
+    public static void fine(Logger logger, String pattern, Object arg0, Object arg1) {
+        if (logger.isLoggable(Level.FINE)) {
+            log(logger, Level.FINE, pattern, arg0, arg1, null, null);
+        }
+    }
+
+    public static void fine(Logger logger, String pattern, Object arg0, Object arg1, Object arg2) {
+        if (logger.isLoggable(Level.FINE)) {
+            log(logger, Level.FINE, pattern, arg0, arg1, arg2, null);
+        }
+    }
+
+    public static void fine(Logger logger, String pattern, Object arg0, Object arg1, Object arg2, Object arg3) {
+        if (logger.isLoggable(Level.FINE)) {
+            log(logger, Level.FINE, pattern, arg0, arg1, arg2, arg3);
+        }
+    }
+
+    public static void config(Logger logger, String pattern, Object arg0) {
+        if (logger.isLoggable(Level.CONFIG)) {
+            log(logger, Level.CONFIG, pattern, arg0, null, null, null);
+        }
+    }
+
+    public static void config(Logger logger, String pattern, Object arg0, Object arg1) {
+        if (logger.isLoggable(Level.CONFIG)) {
+            log(logger, Level.CONFIG, pattern, arg0, arg1, null, null);
+        }
+    }
+
+    public static void config(Logger logger, String pattern, Object arg0, Object arg1, Object arg2) {
+        if (logger.isLoggable(Level.CONFIG)) {
+            log(logger, Level.CONFIG, pattern, arg0, arg1, arg2, null);
+        }
+    }
+
+    public static void config(Logger logger, String pattern, Object arg0, Object arg1, Object arg2, Object arg3) {
+        if (logger.isLoggable(Level.CONFIG)) {
+            log(logger, Level.CONFIG, pattern, arg0, arg1, arg2, arg3);
+        }
+    }
+
+    public static void info(Logger logger, String pattern, Object arg0) {
+        if (logger.isLoggable(Level.INFO)) {
+            log(logger, Level.INFO, pattern, arg0, null, null, null);
+        }
+    }
+
+    public static void info(Logger logger, String pattern, Object arg0, Object arg1) {
+        if (logger.isLoggable(Level.INFO)) {
+            log(logger, Level.INFO, pattern, arg0, arg1, null, null);
+        }
+    }
+
+    public static void info(Logger logger, String pattern, Object arg0, Object arg1, Object arg2) {
+        if (logger.isLoggable(Level.INFO)) {
+            log(logger, Level.INFO, pattern, arg0, arg1, arg2, null);
+        }
+    }
+
+    public static void info(Logger logger, String pattern, Object arg0, Object arg1, Object arg2, Object arg3) {
+        if (logger.isLoggable(Level.INFO)) {
+            log(logger, Level.INFO, pattern, arg0, arg1, arg2, arg3);
+        }
+    }
+
+    private static void log(Logger logger, Level level, String pattern, Object arg0, Object arg1, Object arg2, Object arg3) {
+        logger.logp(level, null, null, format(pattern, arg0, arg1, arg2, arg3));
+    }
+
+    /**
+     * Replace {0} to {3} within the pattern with the matching argument, anything else is copied as is
+     *
+     * @param pattern
+     * @param arg0
+     * @param arg1
+     * @param arg2
+     * @param arg3
+     * @return the formatted message
+     */
+    static String format(String pattern, Object arg0, Object arg1, Object arg2, Object arg3) {
+        final StringBuilder sb = new StringBuilder(pattern.length() + 32);
+        final int length = pattern.length();
+        int i = 0;
+        while (i < length) {
+            char c = pattern.charAt(i);
+            if (c == '{' && i + 2 < length && pattern.charAt(i + 2) == '}') {
+                switch (pattern.charAt(i + 1)) {
+                    case '0':
+                        sb.append(arg0);
+                        i += 3;
+                        continue;
+                    case '1':
+                        sb.append(arg1);
+                        i += 3;
+                        continue;
+                    case '2':
+                        sb.append(arg2);
+                        i += 3;
+                        continue;
+                    case '3':
+                        sb.append(arg3);
+                        i += 3;
+                        continue;
+                }
+            }
+            sb.append(c);
+            i++;
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,26 @@
+package org.jaudiotagger.tag;
+
+/**
+ * This interface indicates that the tag knows whether it has been changed since it was read from or written to the
+ * file, so committing a file whose tag has not changed does not rewrite it. Tags that do not implement it are always
+ * written.
+ */
+public interface ModificationTrackingTag {
+    /**
+     * Has the tag been changed since it was read from or written to the file, a newly created tag is always modified.
+     * <p>
+     * Fields returned by the tag may be changed directly so methods returning fields also count as a change, methods
+     * returning values such as getFirst() and getAll() do not.
+     *
+     * @return true if the tag needs writing
+     */
+    boolean isModified();
+
+    /**
+     * Set whether the tag needs writing, this is cleared once the tag has been read or written and should be set if
+     * the tag is changed in a way it cannot know about.
+     *
+     * @param modified
+     */
+    void setModified(boolean modified);
+}
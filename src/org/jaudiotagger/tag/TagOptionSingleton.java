@@ -23,6 +23,8 @@
  */
 package org.jaudiotagger.tag;
 
+import org.jaudiotagger.audio.generic.BufferPool;
+import org.jaudiotagger.audio.mp3.MP3FrameCountCache;
 import org.jaudiotagger.audio.wav.WavOptions;
 import org.jaudiotagger.audio.wav.WavSaveOptions;
 import org.jaudiotagger.audio.wav.WavSaveOrder;
@@ -44,8 +46,10 @@ import org.jaudiotagger.tag.vorbiscomment.VorbisAlbumArtistReadOptions;
 import org.jaudiotagger.tag.vorbiscomment.VorbisAlbumArtistSaveOptions;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.Set;
 
 public class TagOptionSingleton {
     private boolean isWriteWavForTwonky = false;
@@ -372,6 +376,51 @@ public class TagOptionSingleton {
      */
     private boolean preserveFileIdentity = true;
 
+    /**
+     * Count every frame of MP3 files that do not have a Xing or Vbri header to get the exact track length
+     */
+    private boolean accurateMp3Length = false;
+
+    /**
+     * Where the frame counts are cached, if at all
+     */
+    private MP3FrameCountCache mp3FrameCountCache = null;
+
+    /**
+     * ID3v2 frame bodies holding at least this many bytes of binary data are only decoded when first accessed
+     */
+    private int id3v2LazyFrameBodySize = 16 * 1024;
+
+    /**
+     * Compressed ID3v2 frames that would decompress to more than this many bytes are not read
+     */
+    private int id3v2MaxDecompressedFrameSize = 16 * 1024 * 1024;
+
+    /**
+     * ID3v2 frame bodies of at least this many bytes may be compressed on write, zero never compresses
+     */
+    private int id3v2CompressFrameBodySize = 0;
+
+    /**
+     * Identifiers of ID3v2 frames that are skipped on read without decoding their body
+     */
+    private Set<String> id3v2SkippedFrameIds = new HashSet<String>();
+
+    /**
+     * Skip all binary ID3v2 frames on read without decoding their body
+     */
+    private boolean id3v2SkipBinaryFrames = false;
+
+    /**
+     * Keep the bytes of skipped ID3v2 frames so they are written back unchanged
+     */
+    private boolean id3v2KeepSkippedFrames = true;
+
+    /**
+     * Where the readers and writers get their working buffers from
+     */
+    private BufferPool bufferPool = new BufferPool();
+
     /**
      *
      */
@@ -863,6 +912,15 @@ public class TagOptionSingleton {
         id3v2Version = ID3V2Version.ID3_V23;
         checkIsWritable = false;
         preserveFileIdentity = false;
+        accurateMp3Length = false;
+        mp3FrameCountCache = null;
+        id3v2LazyFrameBodySize = 16 * 1024;
+        id3v2MaxDecompressedFrameSize = 16 * 1024 * 1024;
+        id3v2CompressFrameBodySize = 0;
+        id3v2SkippedFrameIds = new HashSet<String>();
+        id3v2SkipBinaryFrames = false;
+        id3v2KeepSkippedFrames = true;
+        bufferPool = new BufferPool();
         //default all lyrics3 fields to save. id3v1 fields are individual
         // settings. id3v2 fields are always looked at to save.
         Iterator<String> iterator = Lyrics3v2Fields.getInstanceOf().getIdToValueMap().keySet().iterator();
@@ -1267,6 +1325,140 @@ public class TagOptionSingleton {
         this.preserveFileIdentity = preserveFileIdentity;
     }
 
+    /**
+     * If {@code true} when reading an MP3 file that does not have a Xing or Vbri header every frame is read to give
+     * the exact number of frames, track length and average bitrate, otherwise they are estimated from the first
+     * frame which is badly wrong for variable bitrate files without one of these headers.
+     *
+     * @return {@code true} or {@code false}. Default is {@code false}.
+     */
+    public boolean isAccurateMp3Length() {
+        return accurateMp3Length;
+    }
+
+    public void setAccurateMp3Length(boolean accurateMp3Length) {
+        this.accurateMp3Length = accurateMp3Length;
+    }
+
+    /**
+     * @return the cache used for the frame counts when {@link #isAccurateMp3Length()}, or null if they are not cached
+     */
+    public MP3FrameCountCache getMp3FrameCountCache() {
+        return mp3FrameCountCache;
+    }
+
+    public void setMp3FrameCountCache(MP3FrameCountCache mp3FrameCountCache) {
+        this.mp3FrameCountCache = mp3FrameCountCache;
+    }
+
+    /**
+     * Frame bodies that can be written again as they were read, such as pictures, and hold at least this many bytes
+     * are only decoded when the body is first accessed. Until then only the bytes read are kept, so reading a tag
+     * just for its text does not copy the images it holds.
+     *
+     * @return the size in bytes, Integer.MAX_VALUE decodes every body when the tag is read. Default is 16384.
+     */
+    public int getId3v2LazyFrameBodySize() {
+        return id3v2LazyFrameBodySize;
+    }
+
+    public void setId3v2LazyFrameBodySize(int id3v2LazyFrameBodySize) {
+        this.id3v2LazyFrameBodySize = id3v2LazyFrameBodySize;
+    }
+
+    /**
+     * Compressed ID3v2.3 and ID3v2.4 frames hold the size they decompress to, frames claiming to be larger than this
+     * are skipped as invalid rather than being decompressed, so a small corrupt or malicious frame cannot use up the
+     * memory available.
+     *
+     * @return the size in bytes. Default is 16MB.
+     */
+    public int getId3v2MaxDecompressedFrameSize() {
+        return id3v2MaxDecompressedFrameSize;
+    }
+
+    public void setId3v2MaxDecompressedFrameSize(int id3v2MaxDecompressedFrameSize) {
+        this.id3v2MaxDecompressedFrameSize = id3v2MaxDecompressedFrameSize;
+    }
+
+    /**
+     * When an ID3v2.3 or ID3v2.4 tag no longer fits in the space before the audio, frame bodies of at least this many
+     * bytes, such as lyrics or embedded objects, are compressed if that makes them smaller. The compressed tag is only
+     * written if it then fits, so the audio does not have to be moved, otherwise the frames are written uncompressed.
+     *
+     * @return the size in bytes, zero never compresses frames. Default is 0.
+     */
+    public int getId3v2CompressFrameBodySize() {
+        return id3v2CompressFrameBodySize;
+    }
+
+    public void setId3v2CompressFrameBodySize(int id3v2CompressFrameBodySize) {
+        this.id3v2CompressFrameBodySize = id3v2CompressFrameBodySize;
+    }
+
+    /**
+     * Frames with these identifiers, such as APIC, PRIV, GEOB or SYLT, are skipped by their size when an ID3v2 tag is
+     * read rather than having their body decoded, so reading only the frames wanted is quicker. ID3v2.2 frames are also
+     * skipped by the ID3v2.3 identifier they convert to. Skipped frames are not part of the tag fields, see
+     * {@link #isId3v2KeepSkippedFrames()} for whether they are written back. Setting or deleting a field or frame with
+     * the identifier of skipped frames removes them, and converting the tag to another ID3v2 version decodes them so
+     * they can be converted.
+     *
+     * @return the identifiers, changes made to the set apply to tags read afterwards. Default is empty.
+     */
+    public Set<String> getId3v2SkippedFrameIds() {
+        return id3v2SkippedFrameIds;
+    }
+
+    public void setId3v2SkippedFrameIds(Set<String> id3v2SkippedFrameIds) {
+        this.id3v2SkippedFrameIds = new HashSet<String>(id3v2SkippedFrameIds);
+    }
+
+    /**
+     * Skip every binary ID3v2 frame when a tag is read, as well as those listed in {@link #getId3v2SkippedFrameIds()}
+     *
+     * @return true to skip binary frames. Default is false.
+     */
+    public boolean isId3v2SkipBinaryFrames() {
+        return id3v2SkipBinaryFrames;
+    }
+
+    public void setId3v2SkipBinaryFrames(boolean id3v2SkipBinaryFrames) {
+        this.id3v2SkipBinaryFrames = id3v2SkipBinaryFrames;
+    }
+
+    /**
+     * Frames skipped on read keep the bytes they were read from, no copy is made, and are written back unchanged when
+     * the tag is saved. If not kept they are dropped from the tag, so saving the tag removes them from the file.
+     *
+     * @return true to keep skipped frames. Default is true.
+     */
+    public boolean isId3v2KeepSkippedFrames() {
+        return id3v2KeepSkippedFrames;
+    }
+
+    public void setId3v2KeepSkippedFrames(boolean id3v2KeepSkippedFrames) {
+        this.id3v2KeepSkippedFrames = id3v2KeepSkippedFrames;
+    }
+
+    /**
+     * The pool the buffers used to read, copy and shift audio data are taken from and returned to. The default keeps
+     * a couple of buffers of each size up to 1MB per thread, use <code>new BufferPool(0, 0)</code> to allocate a new
+     * buffer every time.
+     *
+     * @return the buffer pool, never null
+     */
+    public BufferPool getBufferPool() {
+        return bufferPool;
+    }
+
+    public void setBufferPool(BufferPool bufferPool) {
+        if (bufferPool == null) {
+            throw new IllegalArgumentException("Buffer pool cannot be null");
+        }
+        this.bufferPool = bufferPool;
+    }
+
     public boolean isWriteWavForTwonky() {
         return isWriteWavForTwonky;
     }
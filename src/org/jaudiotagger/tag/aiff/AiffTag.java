@@ -16,7 +16,7 @@ import java.util.List;
 /**
  * Wraps ID3Tag for most of its metadata.
  */
-public class AiffTag implements Tag, Id3SupportingTag {
+public class AiffTag implements Tag, Id3SupportingTag, ModificationTrackingTag {
     private List<ChunkSummary> chunkSummaryList = new ArrayList<ChunkSummary>();
 
     public void addChunkSummary(ChunkSummary cs) {
@@ -44,6 +44,11 @@ public class AiffTag implements Tag, Id3SupportingTag {
 
     private AbstractID3v2Tag id3Tag;
 
+    /**
+     * Has the ID3 tag been replaced since it was read or written, the ID3 tag tracks its own changes
+     */
+    private boolean tagReplaced = true;
+
     public AiffTag() {
     }
 
@@ -62,6 +67,7 @@ public class AiffTag implements Tag, Id3SupportingTag {
      * Sets the ID3 tag
      */
     public void setID3Tag(AbstractID3v2Tag t) {
+        tagReplaced = true;
         id3Tag = t;
     }
 
@@ -328,4 +334,15 @@ public class AiffTag implements Tag, Id3SupportingTag {
         this.isIncorrectlyAlignedTag = isIncorrectlyAlignedTag;
     }
 
+    public boolean isModified() {
+        return tagReplaced || (id3Tag != null && id3Tag.isModified());
+    }
+
+    public void setModified(boolean modified) {
+        tagReplaced = modified;
+        if (id3Tag != null) {
+            id3Tag.setModified(modified);
+        }
+    }
+
 }
@@ -501,7 +501,7 @@ public final class AsfTag extends AbstractTag {
      * @return
      */
     public List<Artwork> getArtworkList() {
-        final List<TagField> coverartList = getFields(FieldKey.COVER_ART);
+        final List<TagField> coverartList = getFieldList(tagFieldToAsfField.get(FieldKey.COVER_ART).getFieldName());
         final List<Artwork> artworkList = new ArrayList<Artwork>(coverartList.size());
 
         for (final TagField next : coverartList) {
@@ -692,7 +692,7 @@ public final class AsfTag extends AbstractTag {
      */
     public boolean hasField(FieldKey genericKey) {
         AsfFieldKey mp4FieldKey = tagFieldToAsfField.get(genericKey);
-        return getFields(mp4FieldKey.getFieldName()).size() != 0;
+        return getFieldList(mp4FieldKey.getFieldName()).size() != 0;
     }
 
     /**
@@ -700,7 +700,7 @@ public final class AsfTag extends AbstractTag {
      * @return
      */
     public boolean hasField(AsfFieldKey asfFieldKey) {
-        return getFields(asfFieldKey.getFieldName()).size() != 0;
+        return getFieldList(asfFieldKey.getFieldName()).size() != 0;
     }
 
     public TagField createCompilationField(boolean value) throws KeyNotFoundException, FieldDataInvalidException {
@@ -276,6 +276,27 @@ public abstract class AbstractDataType {
      */
     public abstract void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException;
 
+    /**
+     * Read the datatype from the bytes of arr before end, so a frame body can be read straight from the tag
+     * buffer without first being copied to an array of its own.
+     *
+     * Datatypes that only read what they need from the array override this, by default just the bytes from offset
+     * to end are copied and read.
+     *
+     * @param arr
+     * @param offset
+     * @param end    position after the last byte that belongs to this datatype
+     * @throws org.jaudiotagger.tag.InvalidDataTypeException
+     */
+    public void readByteArray(byte[] arr, int offset, int end) throws InvalidDataTypeException {
+        if (end == arr.length) {
+            readByteArray(arr, offset);
+            return;
+        }
+        final int start = Math.min(offset, end);
+        readByteArray(Arrays.copyOfRange(arr, start, end), offset - start);
+    }
+
 
     /**
      * Starting point write ID3 Datatype back to array of bytes.
@@ -16,6 +16,7 @@
  */
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
@@ -113,7 +114,7 @@ public abstract class AbstractDataTypeList<T extends AbstractDataType> extends A
      * @return a byte array that that contains the data that should be persisted to file
      */
     public byte[] writeByteArray() {
-        logger.config("Writing DataTypeList " + this.getIdentifier());
+        LogHelper.config(logger, "Writing DataTypeList {0}", this.getIdentifier());
         final byte[] buffer = new byte[getSize()];
         int offset = 0;
         for (final AbstractDataType data : getValue()) {
@@ -22,13 +22,13 @@
  */
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 
-import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
-import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
 
 /**
  * A partial implementation for String based ID3 fields
@@ -108,7 +108,7 @@ public abstract class AbstractString extends AbstractDataType {
         if (encoder.canEncode((String) value)) {
             return true;
         } else {
-            logger.finest("Failed Trying to decode" + value + "with" + encoder.toString());
+            LogHelper.finest(logger, "Failed Trying to decode{0}with{1}", value, encoder);
             return false;
         }
     }
@@ -116,38 +116,40 @@ public abstract class AbstractString extends AbstractDataType {
     /**
      * If they have specified UTF-16 then decoder works out by looking at BOM
      * but if missing we have to make an educated guess otherwise just use
-     * specified decoder
+     * specified charset
      *
-     * @param inBuffer
-     * @return
+     * @param arr
+     * @param offset start of the text
+     * @param length length of the text
+     * @return the charset to decode the text with
      */
-    protected CharsetDecoder getCorrectDecoder(ByteBuffer inBuffer) {
-        CharsetDecoder decoder = null;
-        if (inBuffer.remaining() <= 2) {
-            decoder = getTextEncodingCharSet().newDecoder();
-            decoder.reset();
-            return decoder;
+    protected Charset getCorrectCharset(byte[] arr, int offset, int length) {
+        final Charset charset = getTextEncodingCharSet();
+        if (length <= 2 || !StandardCharsets.UTF_16.equals(charset)) {
+            return charset;
         }
 
-        if (getTextEncodingCharSet() == Charset.forName("UTF-16")) {
-            if (inBuffer.getChar(0) == 0xfffe || inBuffer.getChar(0) == 0xfeff) {
-                //Get the Specified Decoder
-                decoder = getTextEncodingCharSet().newDecoder();
-                decoder.reset();
-            } else {
-                if (inBuffer.get(0) == 0) {
-                    decoder = Charset.forName("UTF-16BE").newDecoder();
-                    decoder.reset();
-                } else {
-                    decoder = Charset.forName("UTF-16LE").newDecoder();
-                    decoder.reset();
-                }
-            }
+        final int first = ((arr[offset] & 0xff) << 8) | (arr[offset + 1] & 0xff);
+        if (first == 0xfffe || first == 0xfeff) {
+            return charset;
+        } else if (arr[offset] == 0) {
+            return StandardCharsets.UTF_16BE;
         } else {
-            decoder = getTextEncodingCharSet().newDecoder();
-            decoder.reset();
+            return StandardCharsets.UTF_16LE;
         }
-        return decoder;
+    }
+
+    /**
+     * Decode text using the charset given by {@link #getCorrectCharset(byte[], int, int)}, stopping at the first
+     * malformed input
+     *
+     * @param arr
+     * @param offset start of the text
+     * @param length length of the text
+     * @return the text
+     */
+    protected String decode(byte[] arr, int offset, int length) {
+        return TextCodec.decode(arr, offset, length, getCorrectCharset(arr, offset, length));
     }
 
     /**
@@ -160,7 +162,7 @@ public abstract class AbstractString extends AbstractDataType {
     protected Charset getTextEncodingCharSet() {
         final byte textEncoding = this.getBody().getTextEncoding();
         final Charset charSetName = TextEncoding.getInstanceOf().getCharsetForId(textEncoding);
-        logger.finest("text encoding:" + textEncoding + " charset:" + charSetName.name());
+        LogHelper.finest(logger, "text encoding:{0} charset:{1}", textEncoding, charSetName.name());
         return charSetName;
     }
 }
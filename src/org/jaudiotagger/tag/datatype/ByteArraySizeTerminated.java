@@ -22,9 +22,12 @@
  */
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
+import java.util.Arrays;
+
 /**
  * Represents a stream of bytes, continuing until the end of the buffer. Usually used for binary data or where
  * we havent yet mapped the data to a better fitting type.
@@ -65,23 +68,34 @@ public class ByteArraySizeTerminated extends AbstractDataType {
      * @throws IndexOutOfBoundsException
      */
     public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException {
+        readByteArray(arr, offset, arr.length);
+    }
+
+    /**
+     * Copy the bytes from offset up to end, this is the only copy made of them
+     *
+     * @param arr
+     * @param offset
+     * @param end
+     * @throws NullPointerException
+     * @throws IndexOutOfBoundsException
+     */
+    public void readByteArray(byte[] arr, int offset, int end) throws InvalidDataTypeException {
         if (arr == null) {
             throw new NullPointerException("Byte array is null");
         }
 
         if (offset < 0) {
-            throw new IndexOutOfBoundsException("Offset to byte array is out of bounds: offset = " + offset + ", array.length = " + arr.length);
+            throw new IndexOutOfBoundsException("Offset to byte array is out of bounds: offset = " + offset + ", array.length = " + end);
         }
 
         //Empty Byte Array
-        if (offset >= arr.length) {
+        if (offset >= end) {
             value = null;
             return;
         }
 
-        int len = arr.length - offset;
-        value = new byte[len];
-        System.arraycopy(arr, offset, value, 0, len);
+        value = Arrays.copyOfRange(arr, offset, end);
     }
 
     /**
@@ -100,7 +114,7 @@ public class ByteArraySizeTerminated extends AbstractDataType {
      * @return a byte array that that contians the data that should be perisisted to file
      */
     public byte[] writeByteArray() {
-        logger.config("Writing byte array" + this.getIdentifier());
+        LogHelper.config(logger, "Writing byte array{0}", this.getIdentifier());
         return (byte[]) value;
     }
 }
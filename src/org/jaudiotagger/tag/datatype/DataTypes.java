@@ -163,6 +163,7 @@ public class DataTypes {
     public static final String OBJ_END_TIME = "EndTime";
     public static final String OBJ_START_OFFSET = "StartOffset";
     public static final String OBJ_END_OFFSET = "EndOffset";
+    public static final String OBJ_SUB_FRAMES = "SubFrames";
 
     //CTOC Frame
 }
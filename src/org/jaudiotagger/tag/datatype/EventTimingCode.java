@@ -13,6 +13,7 @@
  */
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import org.jaudiotagger.tag.id3.valuepair.EventTimingTypes;
@@ -80,7 +81,7 @@ public class EventTimingCode extends AbstractDataType implements Cloneable {
         int localOffset = originalOffset;
         int size = getSize();
 
-        logger.finest("offset:" + localOffset);
+        LogHelper.finest(logger, "offset:{0}", localOffset);
 
         //The read has extended further than the defined frame size (ok to extend upto
         //size because the next datatype may be of length 0.)
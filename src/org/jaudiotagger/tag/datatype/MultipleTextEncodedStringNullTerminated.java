@@ -1,5 +1,6 @@
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
@@ -73,7 +74,7 @@ public class MultipleTextEncodedStringNullTerminated extends AbstractDataType {
      * @throws InvalidDataTypeException if unable to find any null terminated Strings
      */
     public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException {
-        logger.finer("Reading MultipleTextEncodedStringNullTerminated from array from offset:" + offset);
+        LogHelper.finer(logger, "Reading MultipleTextEncodedStringNullTerminated from array from offset:{0}", offset);
         //Continue until unable to read a null terminated String
         while (true) {
             try {
@@ -102,7 +103,7 @@ public class MultipleTextEncodedStringNullTerminated extends AbstractDataType {
                 throw new InvalidDataTypeException("No null terminated Strings found");
             }
         }
-        logger.finer("Read  MultipleTextEncodedStringNullTerminated:" + value + " size:" + size);
+        LogHelper.finer(logger, "Read  MultipleTextEncodedStringNullTerminated:{0} size:{1}", value, size);
     }
 
     /**
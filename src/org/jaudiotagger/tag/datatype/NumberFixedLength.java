@@ -23,6 +23,7 @@
  */
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import org.jaudiotagger.tag.id3.ID3Tags;
@@ -109,16 +110,29 @@ public class NumberFixedLength extends AbstractDataType {
      * @throws IndexOutOfBoundsException
      */
     public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException {
+        readByteArray(arr, offset, arr.length);
+    }
+
+    /**
+     * Read the number from the byte array, the number must end before end
+     *
+     * @param arr
+     * @param offset
+     * @param end
+     * @throws NullPointerException
+     * @throws IndexOutOfBoundsException
+     */
+    public void readByteArray(byte[] arr, int offset, int end) throws InvalidDataTypeException {
         if (arr == null) {
             throw new NullPointerException("Byte array is null");
         }
-        if ((offset < 0) || (offset >= arr.length)) {
-            throw new InvalidDataTypeException("Offset to byte array is out of bounds: offset = " + offset + ", array.length = " + arr.length);
+        if ((offset < 0) || (offset >= end)) {
+            throw new InvalidDataTypeException("Offset to byte array is out of bounds: offset = " + offset + ", array.length = " + end);
         }
 
-        if (offset + size > arr.length) {
+        if (offset + size > end) {
             throw new InvalidDataTypeException("Offset plus size to byte array is out of bounds: offset = "
-                    + offset + ", size = " + size + " + arr.length " + arr.length);
+                    + offset + ", size = " + size + " + arr.length " + end);
         }
 
         long lvalue = 0;
@@ -127,7 +141,7 @@ public class NumberFixedLength extends AbstractDataType {
             lvalue += (arr[i] & 0xff);
         }
         value = lvalue;
-        logger.config("Read NumberFixedlength:" + value);
+        LogHelper.config(logger, "Read NumberFixedlength:{0}", value);
     }
 
 
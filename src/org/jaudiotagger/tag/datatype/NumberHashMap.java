@@ -190,8 +190,8 @@ public class NumberHashMap extends NumberFixedLength implements HashMapInterface
      * @param offset
      * @throws InvalidDataTypeException if emptyValues are not allowed and the eky was invalid.
      */
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException {
-        super.readByteArray(arr, offset);
+    public void readByteArray(byte[] arr, int offset, int end) throws InvalidDataTypeException {
+        super.readByteArray(arr, offset, end);
 
         //Mismatch:Superclass uses Long, but maps expect Integer
         Integer intValue = ((Long) value).intValue();
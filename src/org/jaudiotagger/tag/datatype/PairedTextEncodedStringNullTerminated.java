@@ -1,5 +1,6 @@
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import org.jaudiotagger.utils.EqualsUtil;
@@ -78,7 +79,7 @@ public class PairedTextEncodedStringNullTerminated extends AbstractDataType {
      * @throws InvalidDataTypeException if unable to find any null terminated Strings
      */
     public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException {
-        logger.finer("Reading PairTextEncodedStringNullTerminated from array from offset:" + offset);
+        LogHelper.finer(logger, "Reading PairTextEncodedStringNullTerminated from array from offset:{0}", offset);
         //Continue until unable to read a null terminated String
         while (true) {
             try {
@@ -128,7 +129,7 @@ public class PairedTextEncodedStringNullTerminated extends AbstractDataType {
                 throw new InvalidDataTypeException("No null terminated Strings found");
             }
         }
-        logger.finer("Read  PairTextEncodedStringNullTerminated:" + value + " size:" + size);
+        LogHelper.finer(logger, "Read  PairTextEncodedStringNullTerminated:{0} size:{1}", value, size);
     }
 
 
@@ -1,5 +1,6 @@
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
@@ -76,29 +77,27 @@ public class PartOfSet extends AbstractString {
      * @throws IndexOutOfBoundsException
      */
     public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException {
-        logger.finest("Reading from array from offset:" + offset);
-
-        //Get the Specified Decoder
-        CharsetDecoder decoder = getTextEncodingCharSet().newDecoder();
-
-        //Decode sliced inBuffer
-        ByteBuffer inBuffer = ByteBuffer.wrap(arr, offset, arr.length - offset).slice();
-        CharBuffer outBuffer = CharBuffer.allocate(arr.length - offset);
-        decoder.reset();
-        CoderResult coderResult = decoder.decode(inBuffer, outBuffer, true);
-        if (coderResult.isError()) {
-            logger.warning("Decoding error:" + coderResult.toString());
-        }
-        decoder.flush(outBuffer);
-        outBuffer.flip();
+        readByteArray(arr, offset, arr.length);
+    }
+
+    /**
+     * Read the value from the bytes from offset up to end
+     *
+     * @param arr
+     * @param offset
+     * @param end
+     * @throws InvalidDataTypeException
+     */
+    public void readByteArray(byte[] arr, int offset, int end) throws InvalidDataTypeException {
+        LogHelper.finest(logger, "Reading from array from offset:{0}", offset);
 
-        //Store value
-        String stringValue = outBuffer.toString();
+        //Decode using the specified charset and store value
+        String stringValue = TextCodec.decode(arr, offset, end - offset, getTextEncodingCharSet());
         value = new PartOfSetValue(stringValue);
 
         //SetSize, important this is correct for finding the next datatype
-        setSize(arr.length - offset);
-        logger.config("Read SizeTerminatedString:" + value + " size:" + size);
+        setSize(end - offset);
+        LogHelper.config(logger, "Read SizeTerminatedString:{0} size:{1}", value, size);
     }
 
     /**
@@ -160,7 +159,7 @@ public class PartOfSet extends AbstractString {
     protected Charset getTextEncodingCharSet() {
         final byte textEncoding = this.getBody().getTextEncoding();
         final Charset charset = TextEncoding.getInstanceOf().getCharsetForId(textEncoding);
-        logger.finest("text encoding:" + textEncoding + " charset:" + charset.name());
+        LogHelper.finest(logger, "text encoding:{0} charset:{1}", textEncoding, charset.name());
         return charset;
     }
 
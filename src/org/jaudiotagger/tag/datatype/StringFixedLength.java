@@ -22,6 +22,7 @@
  */
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
@@ -30,7 +31,6 @@ import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
-import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
 
 
@@ -79,28 +79,34 @@ public class StringFixedLength extends AbstractString {
      * @param offset this is where to start reading in the buffer for this field
      */
     public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException {
-        logger.config("Reading from array from offset:" + offset);
-        try {
-            final CharsetDecoder decoder = getTextEncodingCharSet().newDecoder();
+        readByteArray(arr, offset, arr.length);
+    }
 
+    /**
+     * Read a string of the fixed length, it must end before end
+     *
+     * @param arr
+     * @param offset
+     * @param end
+     * @throws InvalidDataTypeException
+     */
+    public void readByteArray(byte[] arr, int offset, int end) throws InvalidDataTypeException {
+        LogHelper.config(logger, "Reading from array from offset:{0}", offset);
+        try {
             //Decode buffer if runs into problems should through exception which we
             //catch and then set value to empty string.
-            logger.finest("Array length is:" + arr.length + "offset is:" + offset + "Size is:" + size);
+            LogHelper.finest(logger, "Array length is:{0}offset is:{1}Size is:{2}", end, offset, size);
 
 
-            if (arr.length - offset < size) {
+            if (end - offset < size) {
                 throw new InvalidDataTypeException("byte array is to small to retrieve string of declared length:" + size);
             }
-            String str = decoder.decode(ByteBuffer.wrap(arr, offset, size)).toString();
-            if (str == null) {
-                throw new NullPointerException("String is null");
-            }
-            value = str;
+            value = TextCodec.decodeStrict(arr, offset, size, getTextEncodingCharSet());
         } catch (CharacterCodingException ce) {
             logger.severe(ce.getMessage());
             value = "";
         }
-        logger.config("Read StringFixedLength:" + value);
+        LogHelper.config(logger, "Read StringFixedLength:{0}", value);
     }
 
     /**
@@ -190,7 +196,7 @@ public class StringFixedLength extends AbstractString {
     protected Charset getTextEncodingCharSet() {
         final byte textEncoding = this.getBody().getTextEncoding();
         final Charset charset = TextEncoding.getInstanceOf().getCharsetForId(textEncoding);
-        logger.finest("text encoding:" + textEncoding + " charset:" + charset.name());
+        LogHelper.finest(logger, "text encoding:{0} charset:{1}", textEncoding, charset.name());
         return charset;
     }
 }
@@ -0,0 +1,266 @@
+package org.jaudiotagger.tag.datatype;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Decodes the text held by ID3 datatypes straight from the frame bytes
+ *
+ * <p>The four ID3 text encodings (ISO-8859-1, UTF-16 with a BOM, UTF-16BE and UTF-8) are decoded by hand into a char
+ * array that the String is then made from, so no decoder or buffers are created for each field. The result is the
+ * same as decoding with a new decoder for the charset, including stopping at the first malformed input. Any other
+ * charset is decoded with a decoder that is kept for reuse by the current thread.
+ */
+public final class TextCodec {
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.tag.datatype");
+
+    private static final char BYTE_ORDER_MARK = '\ufeff';
+    private static final char REVERSED_MARK = '\ufffe';
+
+    private static final ThreadLocal<Map<Charset, CharsetDecoder>> decoders = new ThreadLocal<Map<Charset, CharsetDecoder>>() {
+        @Override
+        protected Map<Charset, CharsetDecoder> initialValue() {
+            return new HashMap<Charset, CharsetDecoder>();
+        }
+    };
+
+    private TextCodec() {
+    }
+
+    /**
+     * @param charset
+     * @return true if the null terminator in this charset is a single byte, false if it is two bytes
+     */
+    public static boolean isNullOneByte(Charset charset) {
+        return StandardCharsets.ISO_8859_1.equals(charset) || StandardCharsets.UTF_8.equals(charset);
+    }
+
+    /**
+     * Find the null terminator, for two byte terminators only pairs of bytes starting at offset are checked
+     *
+     * @param arr
+     * @param offset        first byte to check
+     * @param end           position after the last byte to check
+     * @param nullIsOneByte
+     * @return position of the terminator, or -1 if there is none. For two byte terminators a single null as the last
+     * byte also counts
+     */
+    public static int indexOfNull(byte[] arr, int offset, int end, boolean nullIsOneByte) {
+        if (nullIsOneByte) {
+            for (int i = offset; i < end; i++) {
+                if (arr[i] == 0) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        for (int i = offset; i < end; i += 2) {
+            if (arr[i] == 0 && (i + 1 == end || arr[i + 1] == 0)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Decode the bytes as a new decoder for the charset would, stopping at the first malformed input
+     *
+     * @param arr
+     * @param offset
+     * @param length
+     * @param charset
+     * @return the text decoded before any malformed input
+     */
+    public static String decode(byte[] arr, int offset, int length, Charset charset) {
+        try {
+            return decode(arr, offset, length, charset, false);
+        } catch (CharacterCodingException cce) {
+            //Cannot happen, malformed input is only reported when strict
+            throw new IllegalStateException(cce);
+        }
+    }
+
+    /**
+     * Decode the bytes as a new decoder for the charset would
+     *
+     * @param arr
+     * @param offset
+     * @param length
+     * @param charset
+     * @return the text
+     * @throws CharacterCodingException if the bytes are malformed for the charset
+     */
+    public static String decodeStrict(byte[] arr, int offset, int length, Charset charset) throws CharacterCodingException {
+        return decode(arr, offset, length, charset, true);
+    }
+
+    private static String decode(byte[] arr, int offset, int length, Charset charset, boolean strict) throws CharacterCodingException {
+        if (length == 0) {
+            return "";
+        }
+        if (StandardCharsets.ISO_8859_1.equals(charset)) {
+            return new String(arr, offset, length, StandardCharsets.ISO_8859_1);
+        }
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            return decodeUtf8(arr, offset, length, strict);
+        }
+        if (StandardCharsets.UTF_16.equals(charset)) {
+            if (length >= 2) {
+                int first = ((arr[offset] & 0xff) << 8) | (arr[offset + 1] & 0xff);
+                if (first == BYTE_ORDER_MARK) {
+                    return decodeUtf16(arr, offset + 2, length - 2, true, strict);
+                } else if (first == REVERSED_MARK) {
+                    return decodeUtf16(arr, offset + 2, length - 2, false, strict);
+                }
+            }
+            return decodeUtf16(arr, offset, length, true, strict);
+        }
+        if (StandardCharsets.UTF_16BE.equals(charset)) {
+            return decodeUtf16(arr, offset, length, true, strict);
+        }
+        if (StandardCharsets.UTF_16LE.equals(charset)) {
+            return decodeUtf16(arr, offset, length, false, strict);
+        }
+        return decodeWithDecoder(arr, offset, length, charset, strict);
+    }
+
+    private static String malformed(char[] chars, int count, int position, boolean strict) throws CharacterCodingException {
+        if (strict) {
+            throw new MalformedInputException(1);
+        }
+        logger.warning("Decoding error:malformed input at byte " + position);
+        return new String(chars, 0, count);
+    }
+
+    private static String decodeUtf16(byte[] arr, int offset, int length, boolean bigEndian, boolean strict) throws CharacterCodingException {
+        final char[] chars = new char[length >> 1];
+        final int end = offset + length;
+        final int hi = bigEndian ? 0 : 1;
+        final int lo = bigEndian ? 1 : 0;
+        int count = 0;
+        int i = offset;
+        while (i + 1 < end) {
+            final char c = (char) (((arr[i + hi] & 0xff) << 8) | (arr[i + lo] & 0xff));
+            if (Character.isSurrogate(c)) {
+                if (Character.isLowSurrogate(c) || i + 3 >= end) {
+                    return malformed(chars, count, i, strict);
+                }
+                final char c2 = (char) (((arr[i + 2 + hi] & 0xff) << 8) | (arr[i + 2 + lo] & 0xff));
+                if (!Character.isLowSurrogate(c2)) {
+                    return malformed(chars, count, i, strict);
+                }
+                chars[count++] = c;
+                chars[count++] = c2;
+                i += 4;
+            } else {
+                chars[count++] = c;
+                i += 2;
+            }
+        }
+        if (i < end) {
+            //Odd number of bytes
+            return malformed(chars, count, i, strict);
+        }
+        return new String(chars, 0, count);
+    }
+
+    private static boolean isContinuation(byte b) {
+        return (b & 0xc0) == 0x80;
+    }
+
+    private static String decodeUtf8(byte[] arr, int offset, int length, boolean strict) throws CharacterCodingException {
+        final int end = offset + length;
+        int i = offset;
+        while (i < end && arr[i] >= 0) {
+            i++;
+        }
+        if (i == end) {
+            //All ASCII
+            return new String(arr, offset, length, StandardCharsets.ISO_8859_1);
+        }
+
+        final char[] chars = new char[length];
+        int count = 0;
+        for (int j = offset; j < i; j++) {
+            chars[count++] = (char) arr[j];
+        }
+        while (i < end) {
+            final int b1 = arr[i];
+            if (b1 >= 0) {
+                chars[count++] = (char) b1;
+                i++;
+            } else if ((b1 >> 5) == -2 && (b1 & 0x1e) != 0) {
+                if (i + 1 >= end || !isContinuation(arr[i + 1])) {
+                    return malformed(chars, count, i, strict);
+                }
+                chars[count++] = (char) (((b1 & 0x1f) << 6) | (arr[i + 1] & 0x3f));
+                i += 2;
+            } else if ((b1 >> 4) == -2) {
+                if (i + 2 >= end) {
+                    return malformed(chars, count, i, strict);
+                }
+                final int b2 = arr[i + 1];
+                final int b3 = arr[i + 2];
+                if ((b1 == (byte) 0xe0 && (b2 & 0xe0) == 0x80) || !isContinuation((byte) b2) || !isContinuation((byte) b3)) {
+                    return malformed(chars, count, i, strict);
+                }
+                final char c = (char) (((b1 & 0x0f) << 12) | ((b2 & 0x3f) << 6) | (b3 & 0x3f));
+                if (Character.isSurrogate(c)) {
+                    return malformed(chars, count, i, strict);
+                }
+                chars[count++] = c;
+                i += 3;
+            } else if ((b1 >> 3) == -2) {
+                if (i + 3 >= end) {
+                    return malformed(chars, count, i, strict);
+                }
+                final int b2 = arr[i + 1];
+                final int b3 = arr[i + 2];
+                final int b4 = arr[i + 3];
+                final int codePoint = ((b1 & 0x07) << 18) | ((b2 & 0x3f) << 12) | ((b3 & 0x3f) << 6) | (b4 & 0x3f);
+                if (!isContinuation((byte) b2) || !isContinuation((byte) b3) || !isContinuation((byte) b4) || !Character.isSupplementaryCodePoint(codePoint)) {
+                    return malformed(chars, count, i, strict);
+                }
+                chars[count++] = Character.highSurrogate(codePoint);
+                chars[count++] = Character.lowSurrogate(codePoint);
+                i += 4;
+            } else {
+                return malformed(chars, count, i, strict);
+            }
+        }
+        return new String(chars, 0, count);
+    }
+
+    private static String decodeWithDecoder(byte[] arr, int offset, int length, Charset charset, boolean strict) throws CharacterCodingException {
+        final Map<Charset, CharsetDecoder> threadDecoders = decoders.get();
+        CharsetDecoder decoder = threadDecoders.get(charset);
+        if (decoder == null) {
+            decoder = charset.newDecoder();
+            threadDecoders.put(charset, decoder);
+        }
+        decoder.reset();
+        final ByteBuffer inBuffer = ByteBuffer.wrap(arr, offset, length);
+        final CharBuffer outBuffer = CharBuffer.allocate((int) Math.ceil(length * (double) decoder.maxCharsPerByte()));
+        CoderResult coderResult = decoder.decode(inBuffer, outBuffer, true);
+        if (!coderResult.isError()) {
+            coderResult = decoder.flush(outBuffer);
+        }
+        if (coderResult.isError()) {
+            if (strict) {
+                coderResult.throwException();
+            }
+            logger.warning("Decoding error:" + coderResult.toString());
+        }
+        outBuffer.flip();
+        return outBuffer.toString();
+    }
+}
@@ -1,5 +1,6 @@
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
@@ -56,113 +57,48 @@ public class TextEncodedStringNullTerminated extends AbstractString {
      * @param offset this is where to start reading in the buffer for this field
      */
     public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException {
-        if (offset >= arr.length) {
+        readByteArray(arr, offset, arr.length);
+    }
+
+    /**
+     * Read a string from the bytes before end, stopping at the null terminator
+     *
+     * @param arr
+     * @param offset
+     * @param end
+     * @throws InvalidDataTypeException
+     */
+    public void readByteArray(byte[] arr, int offset, int end) throws InvalidDataTypeException {
+        if (offset >= end) {
             throw new InvalidDataTypeException("Unable to find null terminated string");
         }
-        int bufferSize;
-
-        logger.finer("Reading from array starting from offset:" + offset);
-        int size;
-
-        //Get the Specified Decoder
-        final Charset charset = getTextEncodingCharSet();
 
+        LogHelper.finer(logger, "Reading from array starting from offset:{0}", offset);
 
         //We only want to load up to null terminator, data after this is part of different
         //field and it may not be possible to decode it so do the check before we do
         //do the decoding,encoding dependent.
-        ByteBuffer buffer = ByteBuffer.wrap(arr, offset, arr.length - offset);
-        int endPosition = 0;
-
         //Latin-1 and UTF-8 strings are terminated by a single-byte null,
         //while UTF-16 and its variants need two bytes for the null terminator.
-        final boolean nullIsOneByte = Charset.forName("ISO-8859-1") == charset || Charset.forName("UTF-8") == charset;
-
-        boolean isNullTerminatorFound = false;
-        while (buffer.hasRemaining()) {
-            byte nextByte = buffer.get();
-            if (nextByte == 0x00) {
-                if (nullIsOneByte) {
-                    buffer.mark();
-                    buffer.reset();
-                    endPosition = buffer.position() - 1;
-                    logger.finest("Null terminator found starting at:" + endPosition);
-
-                    isNullTerminatorFound = true;
-                    break;
-                } else {
-                    // Looking for two-byte null
-                    if (buffer.hasRemaining()) {
-                        nextByte = buffer.get();
-                        if (nextByte == 0x00) {
-                            buffer.mark();
-                            buffer.reset();
-                            endPosition = buffer.position() - 2;
-                            logger.finest("UTF16:Null terminator found starting  at:" + endPosition);
-                            isNullTerminatorFound = true;
-                            break;
-                        } else {
-                            //Nothing to do, we have checked 2nd value of pair it was not a null terminator
-                            //so will just start looking again in next invocation of loop
-                        }
-                    } else {
-                        buffer.mark();
-                        buffer.reset();
-                        endPosition = buffer.position() - 1;
-                        logger.warning("UTF16:Should be two null terminator marks but only found one starting at:" + endPosition);
-
-                        isNullTerminatorFound = true;
-                        break;
-                    }
-                }
-            } else {
-                //If UTF16, we should only be looking on 2 byte boundaries
-                if (!nullIsOneByte) {
-                    if (buffer.hasRemaining()) {
-                        buffer.get();
-                    }
-                }
-            }
-        }
-
-        if (!isNullTerminatorFound) {
+        final boolean nullIsOneByte = TextCodec.isNullOneByte(getTextEncodingCharSet());
+        final int endPosition = TextCodec.indexOfNull(arr, offset, end, nullIsOneByte);
+        if (endPosition == -1) {
             throw new InvalidDataTypeException("Unable to find null terminated string");
         }
-
-
-        logger.finest("End Position is:" + endPosition + "Offset:" + offset);
-
-        //Set Size so offset is ready for next field (includes the null terminator)
-        size = endPosition - offset;
-        size++;
-        if (!nullIsOneByte) {
-            size++;
-        }
-        setSize(size);
-
-        //Decode buffer if runs into problems should throw exception which we
-        //catch and then set value to empty string. (We don't read the null terminator
-        //because we dont want to display this)
-        bufferSize = endPosition - offset;
-        logger.finest("Text size is:" + bufferSize);
-        if (bufferSize == 0) {
-            value = "";
-        } else {
-            //Decode sliced inBuffer
-            ByteBuffer inBuffer = ByteBuffer.wrap(arr, offset, bufferSize).slice();
-            CharBuffer outBuffer = CharBuffer.allocate(bufferSize);
-
-            final CharsetDecoder decoder = getCorrectDecoder(inBuffer);
-            CoderResult coderResult = decoder.decode(inBuffer, outBuffer, true);
-            if (coderResult.isError()) {
-                logger.warning("Problem decoding text encoded null terminated string:" + coderResult.toString());
-            }
-            decoder.flush(outBuffer);
-            outBuffer.flip();
-            value = outBuffer.toString();
+        if (!nullIsOneByte && endPosition == end - 1) {
+            logger.warning("UTF16:Should be two null terminator marks but only found one starting at:" + endPosition);
         }
+        LogHelper.finest(logger, "End Position is:{0}Offset:{1}", endPosition, offset);
+
         //Set Size so offset is ready for next field (includes the null terminator)
-        logger.config("Read NullTerminatedString:" + value + " size inc terminator:" + size);
+        setSize(endPosition - offset + (nullIsOneByte ? 1 : 2));
+
+        //Decode the text, if it runs into problems the text up to the problem is kept. (We don't read the null
+        //terminator because we dont want to display this)
+        final int textSize = endPosition - offset;
+        LogHelper.finest(logger, "Text size is:{0}", textSize);
+        value = textSize == 0 ? "" : decode(arr, offset, textSize);
+        LogHelper.config(logger, "Read NullTerminatedString:{0} size inc terminator:{1}", value, size);
     }
 
     /**
@@ -171,7 +107,7 @@ public class TextEncodedStringNullTerminated extends AbstractString {
      * @return the data as a byte array in format to write to file
      */
     public byte[] writeByteArray() {
-        logger.config("Writing NullTerminatedString." + value);
+        LogHelper.config(logger, "Writing NullTerminatedString.{0}", value);
         byte[] data;
         //Write to buffer using the CharSet defined by getTextEncodingCharSet()
         //Add a null terminator which will be encoded based on encoding.
@@ -219,7 +155,7 @@ public class TextEncodedStringNullTerminated extends AbstractString {
     protected Charset getTextEncodingCharSet() {
         final byte textEncoding = this.getBody().getTextEncoding();
         final Charset charset = TextEncoding.getInstanceOf().getCharsetForId(textEncoding);
-        logger.finest("text encoding:" + textEncoding + " charset:" + charset.name());
+        LogHelper.finest(logger, "text encoding:{0} charset:{1}", textEncoding, charset.name());
         return charset;
     }
 }
@@ -1,5 +1,6 @@
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
@@ -69,41 +70,31 @@ public class TextEncodedStringSizeTerminated extends AbstractString {
      * @throws IndexOutOfBoundsException
      */
     public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException {
-        logger.finest("Reading from array from offset:" + offset);
-
-
-        //Decode sliced inBuffer
-        ByteBuffer inBuffer;
-        if (TagOptionSingleton.getInstance().isAndroid()) {
-            //#302 [dallen] truncating array manually since the decoder.decode() does not honor the offset in the in buffer
-            byte[] truncArr = new byte[arr.length - offset];
-            System.arraycopy(arr, offset, truncArr, 0, truncArr.length);
-            inBuffer = ByteBuffer.wrap(truncArr);
-        } else {
-            inBuffer = ByteBuffer.wrap(arr, offset, arr.length - offset).slice();
-        }
-
-        CharBuffer outBuffer = CharBuffer.allocate(arr.length - offset);
-
+        readByteArray(arr, offset, arr.length);
+    }
 
-        CharsetDecoder decoder = getCorrectDecoder(inBuffer);
-        CoderResult coderResult = decoder.decode(inBuffer, outBuffer, true);
-        if (coderResult.isError()) {
-            logger.warning("Decoding error:" + coderResult.toString());
-        }
-        decoder.flush(outBuffer);
-        outBuffer.flip();
+    /**
+     * Read a string from the bytes from offset up to end
+     *
+     * @param arr
+     * @param offset
+     * @param end
+     * @throws InvalidDataTypeException
+     */
+    public void readByteArray(byte[] arr, int offset, int end) throws InvalidDataTypeException {
+        LogHelper.finest(logger, "Reading from array from offset:{0}", offset);
+        final String text = decode(arr, offset, end - offset);
 
         //If using UTF16 with BOM we then search through the text removing any BOMs that could exist
         //for multiple values, BOM could be Big Endian or Little Endian
-        if (Charset.forName("UTF-16").equals(getTextEncodingCharSet())) {
-            value = outBuffer.toString().replace("\ufeff", "").replace("\ufffe", "");
+        if (StandardCharsets.UTF_16.equals(getTextEncodingCharSet())) {
+            value = text.replace("\ufeff", "").replace("\ufffe", "");
         } else {
-            value = outBuffer.toString();
+            value = text;
         }
         //SetSize, important this is correct for finding the next datatype
-        setSize(arr.length - offset);
-        logger.finest("Read SizeTerminatedString:" + value + " size:" + size);
+        setSize(end - offset);
+        LogHelper.finest(logger, "Read SizeTerminatedString:{0} size:{1}", value, size);
 
     }
 
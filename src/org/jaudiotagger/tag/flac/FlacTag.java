@@ -20,10 +20,15 @@ import java.util.List;
  * <p>
  * This class enscapulates the items into a single tag
  */
-public class FlacTag implements Tag {
+public class FlacTag implements Tag, ModificationTrackingTag {
     private VorbisCommentTag tag = null;
     private List<MetadataBlockDataPicture> images = new ArrayList<MetadataBlockDataPicture>();
 
+    /**
+     * Have the images been changed since they were read or written, the vorbis tag tracks its own changes
+     */
+    private boolean imagesModified = true;
+
     public FlacTag() {
         this(VorbisCommentTag.createNewTag(), new ArrayList<MetadataBlockDataPicture>());
     }
@@ -37,6 +42,7 @@ public class FlacTag implements Tag {
      * @return images
      */
     public List<MetadataBlockDataPicture> getImages() {
+        imagesModified = true;
         return images;
     }
 
@@ -49,6 +55,7 @@ public class FlacTag implements Tag {
 
     public void addField(TagField field) throws FieldDataInvalidException {
         if (field instanceof MetadataBlockDataPicture) {
+            imagesModified = true;
             images.add((MetadataBlockDataPicture) field);
         } else {
             tag.addField(field);
@@ -57,6 +64,7 @@ public class FlacTag implements Tag {
 
     public List<TagField> getFields(String id) {
         if (id.equals(FieldKey.COVER_ART.name())) {
+            imagesModified = true;
             List<TagField> castImages = new ArrayList<TagField>();
             for (MetadataBlockDataPicture image : images) {
                 castImages.add(image);
@@ -233,6 +241,7 @@ public class FlacTag implements Tag {
      */
     public void setField(TagField field) throws FieldDataInvalidException {
         if (field instanceof MetadataBlockDataPicture) {
+            imagesModified = true;
             if (images.size() == 0) {
                 images.add(0, (MetadataBlockDataPicture) field);
             } else {
@@ -306,6 +315,7 @@ public class FlacTag implements Tag {
 
     public TagField getFirstField(String id) {
         if (id.equals(FieldKey.COVER_ART.name())) {
+            imagesModified = true;
             if (images.size() > 0) {
                 return images.get(0);
             } else {
@@ -335,6 +345,7 @@ public class FlacTag implements Tag {
      */
     public void deleteField(FieldKey fieldKey) throws KeyNotFoundException {
         if (fieldKey.equals(FieldKey.COVER_ART)) {
+            imagesModified = true;
             images.clear();
         } else {
             tag.deleteField(fieldKey);
@@ -343,6 +354,7 @@ public class FlacTag implements Tag {
 
     public void deleteField(String id) throws KeyNotFoundException {
         if (id.equals(FieldKey.COVER_ART.name())) {
+            imagesModified = true;
             images.clear();
         } else {
             tag.deleteField(id);
@@ -370,6 +382,7 @@ public class FlacTag implements Tag {
 
     public List<TagField> getFields(FieldKey id) throws KeyNotFoundException {
         if (id.equals(FieldKey.COVER_ART)) {
+            imagesModified = true;
             List<TagField> castImages = new ArrayList<TagField>();
             for (MetadataBlockDataPicture image : images) {
                 castImages.add(image);
@@ -502,4 +515,15 @@ public class FlacTag implements Tag {
         return "FLAC " + getVorbisCommentTag();
     }
 
+    public boolean isModified() {
+        return imagesModified || (tag != null && tag.isModified());
+    }
+
+    public void setModified(boolean modified) {
+        imagesModified = modified;
+        if (tag != null) {
+            tag.setModified(modified);
+        }
+    }
+
 }
\ No newline at end of file
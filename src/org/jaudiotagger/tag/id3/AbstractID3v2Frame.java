@@ -15,10 +15,14 @@
  */
 package org.jaudiotagger.tag.id3;
 
+import org.jaudiotagger.audio.generic.AudioFileMetrics;
 import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.*;
 import org.jaudiotagger.tag.id3.framebody.AbstractID3v2FrameBody;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyAPIC;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyEncrypted;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyPIC;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyUnsupported;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 import org.jaudiotagger.utils.EqualsUtil;
@@ -28,6 +32,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.Set;
 import java.util.logging.Level;
 
 /**
@@ -43,6 +48,15 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
     protected static final String TYPE_FRAME_SIZE = "frameSize";
     protected static final String UNSUPPORTED_ID = "Unsupported";
 
+    private static final String FRAME_BODY_CLASS_PREFIX = "org.jaudiotagger.tag.id3.framebody.FrameBody";
+
+    //Marks identifiers in frameBodyClasses that have no frame body class
+    private static final Object NO_FRAME_BODY_CLASS = new Object();
+
+    //The frame body class for each identifier of the frame tables looked up so far, keyed by packed identifier, other
+    //identifiers are not held so that reading files with many made up identifiers cannot grow it
+    private static volatile FrameIdTable<Object> frameBodyClasses = new FrameIdTable<Object>();
+
     //Frame identifier
     protected String identifier = "";
 
@@ -54,6 +68,28 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
     //when processing many files
     private String loggingFilename = "";
 
+    //The body as it was read, written again instead of encoding the body for as long as the body is unmodified
+    private ByteBuffer readBodyData;
+
+    //The body that readBodyData was read into, if the body has been replaced the data no longer applies
+    private AbstractTagFrameBody readBodyDataOwner;
+
+    //The body is large and has not been decoded from readBodyData yet, this is done when it is first accessed. Only
+    //cleared once the body has been decoded so that a thread seeing it cleared sees the whole body
+    private volatile boolean bodyPending;
+
+    //Set by the tag when it is writing frames compressed so that it fits in the space available
+    private boolean compressOnWrite;
+
+    //The frame type is skipped on read, its body is not decoded and is only kept to be written back
+    private boolean skipped;
+
+    //The identifier the body of a skipped frame would have been read as
+    private String skippedBodyIdentifier;
+
+    //The body has been changed since the tag holding the frame was read or written
+    private boolean changed;
+
     /**
      * @return size in bytes of the frameid field
      */
@@ -75,6 +111,83 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
     protected AbstractID3v2Frame() {
     }
 
+    /**
+     * Get the frame body class for the identifier, the classes are looked up once for each identifier of the frame
+     * tables and then held keyed by packed identifier, the class for any other identifier is looked up each time
+     *
+     * @param identifier
+     * @return the frame body class
+     * @throws ClassNotFoundException if there is no frame body class for the identifier
+     */
+    @SuppressWarnings("unchecked")
+    protected static Class<AbstractID3v2FrameBody> getFrameBodyClass(String identifier) throws ClassNotFoundException {
+        final int length = identifier.length();
+        final int code = (length == 3 || length == 4) ? PackedFrameId.pack(identifier, length) : PackedFrameId.INVALID;
+        if (code == PackedFrameId.INVALID || !isKnownIdentifier(code, length)) {
+            return (Class<AbstractID3v2FrameBody>) Class.forName(FRAME_BODY_CLASS_PREFIX + identifier);
+        }
+
+        Object frameBodyClass = frameBodyClasses.get(code);
+        if (frameBodyClass == null) {
+            try {
+                frameBodyClass = Class.forName(FRAME_BODY_CLASS_PREFIX + identifier);
+            } catch (ClassNotFoundException cnfe) {
+                frameBodyClass = NO_FRAME_BODY_CLASS;
+            }
+            synchronized (AbstractID3v2Frame.class) {
+                frameBodyClasses = frameBodyClasses.with(code, frameBodyClass);
+            }
+        }
+        if (frameBodyClass == NO_FRAME_BODY_CLASS) {
+            throw new ClassNotFoundException(FRAME_BODY_CLASS_PREFIX + identifier);
+        }
+        return (Class<AbstractID3v2FrameBody>) frameBodyClass;
+    }
+
+    /**
+     * @param code   packed frame identifier
+     * @param length length of the identifier
+     * @return true if the identifier is in the ID3v22, ID3v23, ID3v24 or chapter frame tables
+     */
+    private static boolean isKnownIdentifier(int code, int length) {
+        if (length == 3) {
+            return ID3v22Frames.getInstanceOf().getIdentifier(code) != null;
+        }
+        return ID3v24Frames.getInstanceOf().getIdentifier(code) != null
+                || ID3v23Frames.getInstanceOf().getIdentifier(code) != null
+                || ID3v2ChapterFrames.getInstanceOf().getIdentifier(code) != null;
+    }
+
+    /**
+     * @return the number of identifiers whose frame body class is held
+     */
+    static int getFrameBodyClassCacheSize() {
+        return frameBodyClasses.size();
+    }
+
+    /**
+     * @param buffer frame identifier as read
+     * @return the identifier held for the frame in the frame tables, so no String has to be created for frames that
+     * are known, or null if the frame is not known
+     */
+    private static String getKnownIdentifier(byte[] buffer) {
+        final int code = PackedFrameId.pack(buffer, 0, buffer.length);
+        if (code == PackedFrameId.INVALID) {
+            return null;
+        }
+        if (buffer.length == ID3v22Frame.FRAME_ID_SIZE) {
+            return ID3v22Frames.getInstanceOf().getIdentifier(code);
+        }
+        String knownIdentifier = ID3v24Frames.getInstanceOf().getIdentifier(code);
+        if (knownIdentifier == null) {
+            knownIdentifier = ID3v23Frames.getInstanceOf().getIdentifier(code);
+        }
+        if (knownIdentifier == null) {
+            knownIdentifier = ID3v2ChapterFrames.getInstanceOf().getIdentifier(code);
+        }
+        return knownIdentifier;
+    }
+
     /**
      * This holds the Status flags (not supported in v2.20
      */
@@ -111,13 +224,13 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
      */
     //TODO the identifier checks should be done in the relevent subclasses
     public AbstractID3v2Frame(String identifier) {
-        logger.config("Creating empty frame of type" + identifier);
+        LogHelper.config(logger, "Creating empty frame of type{0}", identifier);
         this.identifier = identifier;
 
         // Use reflection to map id to frame body, which makes things much easier
         // to keep things up to date.
         try {
-            Class<AbstractID3v2FrameBody> c = (Class<AbstractID3v2FrameBody>) Class.forName("org.jaudiotagger.tag.id3.framebody.FrameBody" + identifier);
+            Class<AbstractID3v2FrameBody> c = getFrameBodyClass(identifier);
             frameBody = c.newInstance();
         } catch (ClassNotFoundException cnfe) {
             logger.severe(cnfe.getMessage());
@@ -140,7 +253,7 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
             frameBody.setTextEncoding(TagOptionSingleton.getInstance().getId3v23DefaultTextEncoding());
         }
 
-        logger.config("Created empty frame of type" + identifier);
+        LogHelper.config(logger, "Created empty frame of type{0}", identifier);
     }
 
     /**
@@ -228,21 +341,58 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
     //TODO using reflection is rather slow perhaps we should change this
     protected AbstractID3v2FrameBody readBody(String identifier, ByteBuffer byteBuffer, int frameSize)
             throws InvalidFrameException, InvalidDataTypeException {
+        return readBody(identifier, byteBuffer, frameSize, true);
+    }
+
+    /**
+     * Read the frame body from the specified file via the buffer
+     *
+     * @param identifier the frame identifier
+     * @param byteBuffer to read the frame body from
+     * @param frameSize
+     * @param deferrable false to decode the body straight away, even if this type of frame is skipped on read or the
+     *                   body is large
+     * @return a newly created FrameBody
+     * @throws InvalidFrameException unable to construct a framebody from the data
+     */
+    @SuppressWarnings("unchecked")
+    private AbstractID3v2FrameBody readBody(String identifier, ByteBuffer byteBuffer, int frameSize, boolean deferrable)
+            throws InvalidFrameException, InvalidDataTypeException {
         //Use reflection to map id to frame body, which makes things much easier
         //to keep things up to date,although slight performance hit.
         logger.finest("Creating framebody:start");
 
+        final long start = AudioFileMetrics.startPhase();
         AbstractID3v2FrameBody frameBody;
+        ByteBuffer bodyData = null;
+        if (frameSize >= 0 && frameSize <= byteBuffer.remaining()) {
+            bodyData = byteBuffer.slice();
+            bodyData.limit(frameSize);
+        }
+        if (deferrable && bodyData != null && isSkippedOnRead(identifier)) {
+            byteBuffer.position(byteBuffer.position() + frameSize);
+            return createSkippedBody(identifier, bodyData, frameSize);
+        }
         try {
-            Class<AbstractID3v2FrameBody> c = (Class<AbstractID3v2FrameBody>) Class.forName("org.jaudiotagger.tag.id3.framebody.FrameBody" + identifier);
-            Class<?>[] constructorParameterTypes = {Class.forName("java.nio.ByteBuffer"), Integer.TYPE};
+            Class<AbstractID3v2FrameBody> c = getFrameBodyClass(identifier);
+            if (deferrable && bodyData != null && frameSize >= TagOptionSingleton.getInstance().getId3v2LazyFrameBodySize()) {
+                frameBody = createDeferredBody(c, frameSize);
+                if (frameBody != null) {
+                    byteBuffer.position(byteBuffer.position() + frameSize);
+                    readBodyData = bodyData;
+                    readBodyDataOwner = frameBody;
+                    bodyPending = true;
+                    return frameBody;
+                }
+            }
+            Class<?>[] constructorParameterTypes = {ByteBuffer.class, Integer.TYPE};
             Object[] constructorParameterValues = {byteBuffer, frameSize};
             Constructor<AbstractID3v2FrameBody> construct = c.getConstructor(constructorParameterTypes);
             frameBody = (construct.newInstance(constructorParameterValues));
         }
         //No class defined for this frame type,use FrameUnsupported
         catch (ClassNotFoundException cex) {
-            logger.config(getLoggingFilename() + ":" + "Identifier not recognised:" + identifier + " using FrameBodyUnsupported");
+            LogHelper.config(logger, "{0}:Identifier not recognised:{1} using FrameBodyUnsupported", getLoggingFilename(), identifier);
             try {
                 frameBody = new FrameBodyUnsupported(byteBuffer, frameSize);
             }
@@ -285,11 +435,78 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
             logger.log(Level.SEVERE, getLoggingFilename() + ":" + "Illegal access exception :" + iae.getMessage(), iae);
             throw new RuntimeException(iae.getMessage());
         }
-        logger.finest(getLoggingFilename() + ":" + "Created framebody:end" + frameBody.getIdentifier());
+        LogHelper.finest(logger, "{0}:Created framebody:end{1}", getLoggingFilename(), frameBody.getIdentifier());
         frameBody.setHeader(this);
+        if (bodyData != null && frameBody.isReadDataReusable()) {
+            readBodyData = bodyData;
+            readBodyDataOwner = frameBody;
+        }
+        if (identifier.equals(ID3v24Frames.FRAME_ID_ATTACHED_PICTURE) || identifier.equals(ID3v22Frames.FRAME_ID_V2_ATTACHED_PICTURE)) {
+            AudioFileMetrics.endArtworkPhase(start);
+        }
         return frameBody;
     }
 
+    /**
+     * Create an empty body to be read when it is first accessed
+     *
+     * @param c         class of the body
+     * @param frameSize
+     * @return the empty body, or null if this type of body has to be read straight away
+     */
+    private AbstractID3v2FrameBody createDeferredBody(Class<AbstractID3v2FrameBody> c, int frameSize) {
+        AbstractID3v2FrameBody frameBody;
+        try {
+            frameBody = c.newInstance();
+        } catch (InstantiationException ie) {
+            return null;
+        } catch (IllegalAccessException iae) {
+            return null;
+        }
+
+        if (!frameBody.isReadDataReusable()) {
+            return null;
+        }
+        LogHelper.finest(logger, "{0}:Deferred reading framebody:{1}", getLoggingFilename(), frameBody.getIdentifier());
+        frameBody.setSize(frameSize);
+        frameBody.setHeader(this);
+        return frameBody;
+    }
+
+    /**
+     * Share the bytes the body of another frame was read from rather than copying its body, used when converting
+     * a frame to a version that holds the same body.
+     * <p>
+     * This frame gets a body of its own that is decoded from the shared bytes when it is first accessed, the bytes
+     * themselves are never changed so modifying either frame does not affect the other. Nothing is shared if the
+     * body of the other frame has been modified since it was read.
+     *
+     * @param frame to share the read bytes of
+     * @return true if the bytes are shared, false if the body has to be copied
+     */
+    protected boolean shareReadBody(AbstractID3v2Frame frame) {
+        if (frame.isModified()) {
+            return false;
+        }
+
+        final AbstractID3v2FrameBody body;
+        try {
+            body = (AbstractID3v2FrameBody) frame.frameBody.getClass().newInstance();
+        } catch (InstantiationException ie) {
+            return false;
+        } catch (IllegalAccessException iae) {
+            return false;
+        }
+        LogHelper.finest(logger, "{0}:Sharing read framebody:{1}", getLoggingFilename(), frame.getIdentifier());
+        body.setSize(frame.readBodyData.remaining());
+        body.setHeader(this);
+        frameBody = body;
+        readBodyData = frame.readBodyData.duplicate();
+        readBodyDataOwner = body;
+        bodyPending = true;
+        return true;
+    }
+
     /**
      * Get the next frame id, throwing an exception if unable to do this and check against just having padded data
      *
@@ -316,8 +533,11 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
         }
 
 
-        identifier = new String(buffer);
-        logger.fine(getLoggingFilename() + ":" + "Identifier is" + identifier);
+        identifier = getKnownIdentifier(buffer);
+        if (identifier == null) {
+            identifier = new String(buffer);
+        }
+        LogHelper.fine(logger, "{0}:Identifier is{1}", getLoggingFilename(), identifier);
         return identifier;
     }
 
@@ -346,13 +566,13 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
          */
         AbstractID3v2FrameBody frameBody;
         try {
-            Class<AbstractID3v2FrameBody> c = (Class<AbstractID3v2FrameBody>) Class.forName("org.jaudiotagger.tag.id3.framebody.FrameBody" + identifier);
+            Class<AbstractID3v2FrameBody> c = getFrameBodyClass(identifier);
             Class<?>[] constructorParameterTypes = {body.getClass()};
             Object[] constructorParameterValues = {body};
             Constructor<AbstractID3v2FrameBody> construct = c.getConstructor(constructorParameterTypes);
             frameBody = (construct.newInstance(constructorParameterValues));
         } catch (ClassNotFoundException cex) {
-            logger.config("Identifier not recognised:" + identifier + " unable to create framebody");
+            LogHelper.config(logger, "Identifier not recognised:{0} unable to create framebody", identifier);
             throw new InvalidFrameException("FrameBody" + identifier + " does not exist");
         }
         //If suitable constructor does not exist
@@ -382,7 +602,7 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
             throw new RuntimeException(iae.getMessage());
         }
 
-        logger.finer("frame Body created" + frameBody.getIdentifier());
+        LogHelper.finer(logger, "frame Body created{0}", frameBody.getIdentifier());
         frameBody.setHeader(this);
         return frameBody;
     }
@@ -395,6 +615,234 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
 
     public abstract void write(ByteArrayOutputStream tagBuffer);
 
+    /**
+     * Returns the body, decoding it first if reading it was deferred because it is large
+     * <p>
+     * The body is decoded once even if more than one thread asks for it at the same time
+     *
+     * @return the body
+     */
+    public AbstractTagFrameBody getBody() {
+        if (bodyPending) {
+            loadBody();
+        }
+        return frameBody;
+    }
+
+    /**
+     * Is this type of frame skipped on read, see {@link TagOptionSingleton#getId3v2SkippedFrameIds()} and
+     * {@link TagOptionSingleton#isId3v2SkipBinaryFrames()}
+     *
+     * @param identifier the identifier the body is read as, which may differ from the frame identifier
+     * @return true if the body is not to be decoded
+     */
+    protected boolean isSkippedOnRead(String identifier) {
+        final TagOptionSingleton options = TagOptionSingleton.getInstance();
+        if (options.isId3v2SkipBinaryFrames() && isBinary()) {
+            return true;
+        }
+        final Set<String> skippedFrameIds = options.getId3v2SkippedFrameIds();
+        return !skippedFrameIds.isEmpty()
+                && (skippedFrameIds.contains(getIdentifier()) || skippedFrameIds.contains(identifier));
+    }
+
+    /**
+     * Create an empty body for a frame skipped on read, the bytes it was read from are kept if skipped frames are to be
+     * written back and are only decoded if the body is accessed
+     *
+     * @param identifier
+     * @param bodyData   the bytes of the body
+     * @param frameSize
+     * @return the empty body
+     */
+    private AbstractID3v2FrameBody createSkippedBody(String identifier, ByteBuffer bodyData, int frameSize) {
+        LogHelper.finest(logger, "{0}:Skipped reading framebody:{1}", getLoggingFilename(), identifier);
+        AbstractID3v2FrameBody frameBody = new FrameBodyUnsupported(getIdentifier());
+        frameBody.setSize(frameSize);
+        frameBody.setHeader(this);
+        skipped = true;
+        skippedBodyIdentifier = identifier;
+        if (TagOptionSingleton.getInstance().isId3v2KeepSkippedFrames()) {
+            readBodyData = bodyData;
+            readBodyDataOwner = frameBody;
+            bodyPending = true;
+        }
+        return frameBody;
+    }
+
+    /**
+     * @return true if this frame was skipped on read, skipped frames are not part of the tag fields
+     */
+    public boolean isSkipped() {
+        return skipped;
+    }
+
+    /**
+     * Decode the body of a frame skipped on read as it would have been read had it not been skipped, so that the frame
+     * can be converted to another version. Does nothing if the frame was not skipped.
+     *
+     * @throws InvalidFrameException if the body bytes were not kept or cannot be decoded
+     */
+    synchronized void readSkippedBody() throws InvalidFrameException {
+        if (!skipped) {
+            return;
+        }
+        if (readBodyData == null) {
+            throw new InvalidFrameException(identifier + " skipped frame body has not been kept");
+        }
+        //bodyPending stays set until the body has been replaced so getBody() waits for it
+        final ByteBuffer bodyData = readBodyData.duplicate();
+        readBodyData = null;
+        readBodyDataOwner = null;
+        try {
+            frameBody = readBody(skippedBodyIdentifier, bodyData, bodyData.remaining(), false);
+        } catch (InvalidDataTypeException idte) {
+            throw new InvalidFrameException(identifier + " skipped frame body is invalid:" + idte.getMessage());
+        } finally {
+            skipped = false;
+            bodyPending = false;
+        }
+    }
+
+    /**
+     * @return the body without decoding it if decoding has been deferred, so only its type can be relied on
+     */
+    AbstractTagFrameBody peekBody() {
+        return frameBody;
+    }
+
+    /**
+     * Decode the body from the bytes it was read from, if they are invalid the problem is logged and the body is
+     * replaced by a FrameBodyUnsupported holding the same bytes, as it would have been had the frame type not been
+     * known, so they are still written as they were read
+     * <p>
+     * The body is only handed out by {@link #getBody()} once bodyPending has been cleared, so it is decoded and any
+     * replacement body is set before that is done
+     */
+    private synchronized void loadBody() {
+        if (!bodyPending) {
+            return;
+        }
+        final long start = AudioFileMetrics.startPhase();
+        final AbstractID3v2FrameBody body = (AbstractID3v2FrameBody) readBodyDataOwner;
+        final boolean artwork = body instanceof FrameBodyAPIC || body instanceof FrameBodyPIC;
+        LogHelper.finest(logger, "{0}:Reading deferred framebody:{1}", getLoggingFilename(), identifier);
+        try {
+            body.read(readBodyData.duplicate());
+        } catch (InvalidTagException ite) {
+            logger.warning(getLoggingFilename() + ":Unable to read deferred framebody:" + identifier + ":" + ite.getMessage() + " using FrameBodyUnsupported");
+            final byte[] data = new byte[readBodyData.remaining()];
+            readBodyData.duplicate().get(data);
+            final AbstractID3v2FrameBody unsupported = new FrameBodyUnsupported(getIdentifier(), data);
+            unsupported.setSize(data.length);
+            unsupported.setHeader(this);
+            frameBody = unsupported;
+            readBodyData = null;
+            readBodyDataOwner = null;
+        }
+        bodyPending = false;
+        if (artwork) {
+            AudioFileMetrics.endArtworkPhase(start);
+        }
+    }
+
+    /**
+     * Has the body been modified since it was read, if not the bytes it was read from can be written again rather than
+     * encoding the body.
+     * <p>
+     * Changes made through the body setters are noticed, if the datatypes of the body or the values they return
+     * are changed directly call {@link #setModified()}
+     *
+     * @return true if the body has to be encoded on write
+     */
+    public boolean isModified() {
+        return readBodyData == null
+                || readBodyDataOwner != frameBody
+                || (!skipped && !((AbstractID3v2FrameBody) frameBody).isReadDataReusable());
+    }
+
+    /**
+     * Mark the body as modified so that it is encoded on write rather than writing the bytes it was read from
+     */
+    public void setModified() {
+        if (bodyPending) {
+            loadBody();
+        }
+        readBodyData = null;
+        readBodyDataOwner = null;
+        changed = true;
+    }
+
+    /**
+     * Sets the body, the tag holding the frame then has to be written
+     *
+     * @param frameBody the body datatype
+     */
+    @Override
+    public void setBody(AbstractTagFrameBody frameBody) {
+        super.setBody(frameBody);
+        changed = true;
+    }
+
+    /**
+     * @return true if the body has been changed or replaced since the tag holding the frame was read or written
+     */
+    boolean isChanged() {
+        return changed;
+    }
+
+    /**
+     * @param changed
+     */
+    void setChanged(boolean changed) {
+        this.changed = changed;
+    }
+
+    /**
+     * Write the frame body, writing the bytes it was read from if it has not been modified
+     *
+     * @param bodyBuffer to write the body to
+     */
+    protected void writeBody(ByteArrayOutputStream bodyBuffer) {
+        if (isModified()) {
+            ((AbstractID3v2FrameBody) getBody()).write(bodyBuffer);
+            return;
+        }
+
+        LogHelper.config(logger, "Writing unmodified frame body for{0}:Size:{1}", getIdentifier(), readBodyData.remaining());
+        ByteBuffer data = readBodyData.duplicate();
+        if (data.hasArray()) {
+            bodyBuffer.write(data.array(), data.arrayOffset() + data.position(), data.remaining());
+        } else {
+            byte[] bytes = new byte[data.remaining()];
+            data.get(bytes);
+            bodyBuffer.write(bytes, 0, bytes.length);
+        }
+        ((AbstractID3v2FrameBody) frameBody).setSize(readBodyData.remaining());
+    }
+
+    /**
+     * @param compressOnWrite true to compress the body on write if it is large enough and compressing makes it smaller
+     */
+    void setCompressOnWrite(boolean compressOnWrite) {
+        this.compressOnWrite = compressOnWrite;
+    }
+
+    /**
+     * Compress the body if the tag is writing large frames compressed, see
+     * {@link TagOptionSingleton#getId3v2CompressFrameBodySize()}
+     *
+     * @param body the body as written
+     * @return the compressed body, or null if the body is to be written as it is
+     */
+    protected byte[] compressBody(byte[] body) {
+        int minSize = TagOptionSingleton.getInstance().getId3v2CompressFrameBodySize();
+        if (!compressOnWrite || minSize <= 0 || body.length < minSize) {
+            return null;
+        }
+        return ID3Compression.compress(getIdentifier(), getLoggingFilename(), body);
+    }
+
     /**
      * @param b
      */
@@ -19,10 +19,12 @@ import org.jaudiotagger.audio.AudioFile;
 import org.jaudiotagger.audio.exceptions.UnableToCreateFileException;
 import org.jaudiotagger.audio.exceptions.UnableToModifyFileException;
 import org.jaudiotagger.audio.exceptions.UnableToRenameFileException;
+import org.jaudiotagger.audio.generic.AudioFileMetrics;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.mp3.MP3File;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.logging.FileSystemMessage;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.*;
 import org.jaudiotagger.tag.datatype.DataTypes;
 import org.jaudiotagger.tag.datatype.Pair;
@@ -88,6 +90,9 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
 
     /**
      * Map of all frames for this tag
+     * <p>
+     * Changes made directly to the map are not tracked, call setModified(true) after making them. Changes made to the
+     * bodies of the frames through their setters are tracked.
      */
     public HashMap<String, Object> frameMap = null;
 
@@ -96,6 +101,20 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      */
     public HashMap<String, Object> encryptedFrameMap = null;
 
+    /**
+     * Map of frames skipped on read, these are not part of the tag fields and are only kept to be written back. They
+     * are removed when a field or frame with the same identifier is set or deleted.
+     */
+    public HashMap<String, Object> skippedFrameMap = new LinkedHashMap<String, Object>();
+
+    //The skipped frames were copied from a tag of another version and have still to be converted to this version
+    private boolean convertSkippedFrames;
+
+    /**
+     * Index of the chapter frames, created when first asked for and dropped when the tag is modified
+     */
+    ID3v2ChapterIndex chapterIndex;
+
     /**
      * Holds the ids of invalid duplicate frames
      */
@@ -126,6 +145,11 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
     protected static final String TYPE_INVALIDFRAMES = "invalidFrames";
     protected int invalidFrames = 0;
 
+    /**
+     * True while writing frames with large frames compressed
+     */
+    private boolean compressFrames = false;
+
     /**
      * True if files has a ID3v2 header
      *
@@ -255,6 +279,76 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
                 }
             }
         }
+
+        //Frames skipped on read are kept outside the tag fields, those of another version are not converted until
+        //needed so that they are not decoded just to create a tag of another version
+        skippedFrameMap = new LinkedHashMap<String, Object>();
+        convertSkippedFrames = false;
+        for (AbstractID3v2Frame frame : getFrames(copyObject.skippedFrameMap)) {
+            addSkippedFrame(frame.getIdentifier(), frame);
+            convertSkippedFrames |= !isFrameOfThisVersion(frame);
+        }
+    }
+
+    /**
+     * @param map frame map
+     * @return all the frames held in the map
+     */
+    private static List<AbstractID3v2Frame> getFrames(HashMap<String, Object> map) {
+        List<AbstractID3v2Frame> frames = new ArrayList<AbstractID3v2Frame>();
+        for (Object o : map.values()) {
+            if (o instanceof AbstractID3v2Frame) {
+                frames.add((AbstractID3v2Frame) o);
+            } else if (o instanceof AggregatedFrame) {
+                frames.addAll(((AggregatedFrame) o).getFrames());
+            } else if (o instanceof List) {
+                frames.addAll((List<AbstractID3v2Frame>) o);
+            }
+        }
+        return frames;
+    }
+
+    /**
+     * @param frame
+     * @return true if the frame is of the same version as this tag
+     */
+    private boolean isFrameOfThisVersion(AbstractID3v2Frame frame) {
+        switch (getMajorVersion()) {
+            case ID3v22Tag.MAJOR_VERSION:
+                return frame instanceof ID3v22Frame;
+            case ID3v23Tag.MAJOR_VERSION:
+                return frame instanceof ID3v23Frame;
+            default:
+                return frame instanceof ID3v24Frame;
+        }
+    }
+
+    /**
+     * Convert the skipped frames copied from a tag of another version to this version. Their bodies have to be decoded
+     * to be converted, so they are no longer skipped in the tag they were copied from either. A frame that cannot be
+     * converted is dropped with a warning.
+     */
+    private void convertSkippedFrames() {
+        if (!convertSkippedFrames) {
+            return;
+        }
+        convertSkippedFrames = false;
+        List<AbstractID3v2Frame> frames = getFrames(skippedFrameMap);
+        skippedFrameMap = new LinkedHashMap<String, Object>();
+        for (AbstractID3v2Frame frame : frames) {
+            if (isFrameOfThisVersion(frame)) {
+                addSkippedFrame(frame.getIdentifier(), frame);
+                continue;
+            }
+            try {
+                frame.readSkippedBody();
+                for (AbstractID3v2Frame next : convertFrame(frame)) {
+                    addSkippedFrame(next.getIdentifier(), next);
+                }
+            } catch (InvalidFrameException ife) {
+                logger.warning(getLoggingFilename() + ":Unable to convert skipped frame, dropping it:" + frame.getIdentifier() + ":" + ife.getMessage());
+            }
+        }
     }
 
     /**
@@ -348,7 +442,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      */
     public boolean hasFrameAndBody(String identifier) {
         if (hasFrame(identifier)) {
-            Object o = getFrame(identifier);
+            Object o = frameMap.get(identifier);
             if (o instanceof AbstractID3v2Frame) {
                 return !(((AbstractID3v2Frame) o).getBody() instanceof FrameBodyUnsupported);
             }
@@ -409,6 +503,71 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
         return encryptedFrameMap.get(identifier);
     }
 
+    /**
+     * Return any frames with this identifier that were skipped on read, see
+     * {@link TagOptionSingleton#getId3v2SkippedFrameIds()}
+     * <p>
+     * Returns the frame, or a list of all the frames if more than one frame with this identifier was skipped. Setting or
+     * deleting a field or frame with this identifier removes the skipped frames, they cannot be matched on their
+     * content, such as a description, without decoding them. Frames skipped by a tag of another version this tag was
+     * created from are converted to this version, by decoding them, when first asked for or when the tag is written.
+     *
+     * @param identifier
+     * @return
+     */
+    public Object getSkippedFrame(String identifier) {
+        convertSkippedFrames();
+        return skippedFrameMap.get(identifier);
+    }
+
+    /**
+     * Return the chapters of this tag, indexed by start time
+     * <p>
+     * The index is created from the chapter frames when first asked for, and created again if the tag is modified
+     *
+     * @return the chapter index, empty if the tag has no chapters
+     */
+    public ID3v2ChapterIndex getChapterIndex() {
+        if (chapterIndex == null) {
+            chapterIndex = new ID3v2ChapterIndex(this);
+        }
+        return chapterIndex;
+    }
+
+    /**
+     * Set whether the tag needs writing, the chapter index is created again once the tag is modified
+     *
+     * @param modified
+     */
+    @Override
+    public void setModified(boolean modified) {
+        super.setModified(modified);
+        if (modified) {
+            chapterIndex = null;
+        } else {
+            for (AbstractID3v2Frame frame : getFrames(frameMap)) {
+                frame.setChanged(false);
+            }
+        }
+    }
+
+    /**
+     * @return true if the tag has been changed since it was read from or written to the file, including changes made
+     * to the bodies of its frames
+     */
+    @Override
+    public boolean isModified() {
+        if (super.isModified()) {
+            return true;
+        }
+        for (AbstractID3v2Frame frame : getFrames(frameMap)) {
+            if (frame.isChanged()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Retrieve the first value that exists for this identifier
      * <p/>
@@ -418,7 +577,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      * @return
      */
     public String getFirst(String identifier) {
-        AbstractID3v2Frame frame = getFirstField(identifier);
+        AbstractID3v2Frame frame = getFirstFrame(identifier);
         if (frame == null) {
             return "";
         }
@@ -434,7 +593,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
     }
 
     public TagField getFirstField(FieldKey genericKey) throws KeyNotFoundException {
-        List<TagField> fields = getFields(genericKey);
+        List<TagField> fields = getFieldList(genericKey);
         if (fields.size() > 0) {
             return fields.get(0);
         }
@@ -449,7 +608,17 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      * @return tag field or null if doesn't exist
      */
     public AbstractID3v2Frame getFirstField(String identifier) {
-        Object object = getFrame(identifier);
+        return getFirstFrame(identifier);
+    }
+
+    /**
+     * Retrieve the first frame that exists for this identifier
+     *
+     * @param identifier
+     * @return frame or null if doesn't exist
+     */
+    private AbstractID3v2Frame getFirstFrame(String identifier) {
+        Object object = frameMap.get(identifier);
         if (object == null) {
             return null;
         }
@@ -471,6 +640,8 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
     //TODO needs to ensure do not addField an invalid frame for this tag
     //TODO what happens if already contains a list with this ID
     public void setFrame(AbstractID3v2Frame frame) {
+        setModified(true);
+        removeSkippedFrame(frame.getIdentifier());
         frameMap.put(frame.getIdentifier(), frame);
     }
 
@@ -495,6 +666,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      * @param nextFrame
      */
     public void mergeNumberTotalFrames(AbstractID3v2Frame newFrame, AbstractID3v2Frame nextFrame) {
+        setModified(true);
         AbstractFrameBodyNumberTotal newBody = (AbstractFrameBodyNumberTotal) newFrame.getBody();
         AbstractFrameBodyNumberTotal oldBody = (AbstractFrameBodyNumberTotal) nextFrame.getBody();
 
@@ -515,6 +687,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      * @param frames
      */
     public void mergeDuplicateFrames(AbstractID3v2Frame newFrame, List<AbstractID3v2Frame> frames) {
+        setModified(true);
         for (ListIterator<AbstractID3v2Frame> li = frames.listIterator(); li.hasNext(); ) {
             AbstractID3v2Frame nextFrame = li.next();
 
@@ -680,9 +853,11 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      * @throws FieldDataInvalidException
      */
     public void setField(TagField field) throws FieldDataInvalidException {
+        setModified(true);
         if ((!(field instanceof AbstractID3v2Frame)) && (!(field instanceof AggregatedFrame))) {
             throw new FieldDataInvalidException("Field " + field + " is not of type AbstractID3v2Frame nor AggregatedFrame");
         }
+        removeSkippedFrame(field.getId());
 
         if (field instanceof AbstractID3v2Frame) {
             AbstractID3v2Frame newFrame = (AbstractID3v2Frame) field;
@@ -722,6 +897,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      * @throws FieldDataInvalidException
      */
     public void addField(TagField field) throws FieldDataInvalidException {
+        setModified(true);
         if (field == null) {
             return;
         }
@@ -766,7 +942,9 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      * @param multiFrame
      */
     public void setFrame(String identifier, List<AbstractID3v2Frame> multiFrame) {
-        logger.finest("Adding " + multiFrame.size() + " frames for " + identifier);
+        LogHelper.finest(logger, "Adding {0} frames for {1}", multiFrame.size(), identifier);
+        setModified(true);
+        removeSkippedFrame(identifier);
         frameMap.put(identifier, multiFrame);
     }
 
@@ -876,8 +1054,22 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      * @param identifier frameId to look for
      */
     public void removeFrame(String identifier) {
-        logger.finest("Removing frame with identifier:" + identifier);
+        LogHelper.finest(logger, "Removing frame with identifier:{0}", identifier);
+        setModified(true);
         frameMap.remove(identifier);
+        removeSkippedFrame(identifier);
+    }
+
+    /**
+     * Remove any frames with this identifier that were skipped on read
+     *
+     * @param identifier frameId to look for
+     */
+    private void removeSkippedFrame(String identifier) {
+        convertSkippedFrames();
+        if (skippedFrameMap.remove(identifier) != null) {
+            LogHelper.finest(logger, "Removing skipped frame with identifier:{0}", identifier);
+        }
     }
 
     /**
@@ -890,7 +1082,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
             Object o = i.next();
             if (o instanceof AbstractID3v2Frame) {
                 if (((AbstractID3v2Frame) o).getBody() instanceof FrameBodyUnsupported) {
-                    logger.finest("Removing frame" + ((AbstractID3v2Frame) o).getIdentifier());
+                    LogHelper.finest(logger, "Removing frame{0}", ((AbstractID3v2Frame) o).getIdentifier());
                     i.remove();
                 }
             }
@@ -903,6 +1095,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      * @param identifier start of frameId to look for
      */
     public void removeFrameOfType(String identifier) {
+        setModified(true);
         //First fine matching keys
         HashSet<String> result = new HashSet<String>();
         for (Object match : frameMap.keySet()) {
@@ -911,11 +1104,18 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
                 result.add(key);
             }
         }
+        convertSkippedFrames();
+        for (String key : skippedFrameMap.keySet()) {
+            if (key.startsWith(identifier)) {
+                result.add(key);
+            }
+        }
         //Then deleteField outside of loop to prevent concurrent modificatioon eception if there are two keys
         //with the same id
         for (String match : result) {
-            logger.finest("Removing frame with identifier:" + match + "because starts with:" + identifier);
+            LogHelper.finest(logger, "Removing frame with identifier:{0}because starts with:{1}", match, identifier);
             frameMap.remove(match);
+            removeSkippedFrame(match);
         }
     }
 
@@ -943,7 +1143,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      *                                                        because indicates a programming error
      */
     protected FileLock getFileLockForWriting(FileChannel fileChannel, String filePath) throws IOException {
-        logger.finest("locking fileChannel for " + filePath);
+        LogHelper.finest(logger, "locking fileChannel for {0}", filePath);
         FileLock fileLock;
         try {
             fileLock = fileChannel.tryLock();
@@ -1027,29 +1227,35 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      */
     public static long getV2TagSizeIfExists(File file) throws IOException {
         FileInputStream fis = null;
-        FileChannel fc = null;
-        ByteBuffer bb = null;
         try {
-            //Files
             fis = new FileInputStream(file);
-            fc = fis.getChannel();
-
-            //Read possible Tag header  Byte Buffer
-            bb = ByteBuffer.allocate(TAG_HEADER_LENGTH);
-            fc.read(bb);
-            bb.flip();
-            if (bb.limit() < (TAG_HEADER_LENGTH)) {
-                return 0;
-            }
+            return getV2TagSizeIfExists(AudioFileMetrics.wrap(fis.getChannel()));
         } finally {
-            if (fc != null) {
-                fc.close();
-            }
-
             if (fis != null) {
                 fis.close();
             }
         }
+    }
+
+    /**
+     * Checks to see if the file read by the channel contains an ID3tag and if so return its size as reported in
+     * the tag header  and return the size of the tag (including header and footer), if no such tag exists return
+     * zero.
+     *
+     * The header is read from the start of the file using an absolute position so the channel position is unchanged.
+     *
+     * @param fc
+     * @return the end of the tag in the file or zero if no tag exists.
+     * @throws java.io.IOException
+     */
+    public static long getV2TagSizeIfExists(FileChannel fc) throws IOException {
+        //Read possible Tag header  Byte Buffer
+        ByteBuffer bb = ByteBuffer.allocate(TAG_HEADER_LENGTH);
+        fc.read(bb, 0);
+        bb.flip();
+        if (bb.limit() < (TAG_HEADER_LENGTH)) {
+            return 0;
+        }
 
         //ID3 identifier
         byte[] tagIdentifier = new byte[FIELD_TAGID_LENGTH];
@@ -1067,14 +1273,18 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
         //Skip Minor Version
         bb.get();
 
-        //Skip Flags
-        bb.get();
+        byte flags = bb.get();
 
         //Get size as recorded in frame header
         int frameSize = ID3SyncSafeInteger.bufferToValue(bb);
 
         //addField header size to frame size
         frameSize += TAG_HEADER_LENGTH;
+
+        //A v24 footer is a copy of the header that follows the frames
+        if (majorVersion == ID3v24Tag.MAJOR_VERSION && (flags & ID3v24Tag.MASK_V24_FOOTER_PRESENT) != 0) {
+            frameSize += TAG_HEADER_LENGTH;
+        }
         return frameSize;
     }
 
@@ -1086,7 +1296,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      */
     public boolean seek(ByteBuffer byteBuffer) {
         byteBuffer.rewind();
-        logger.config("ByteBuffer pos:" + byteBuffer.position() + ":limit" + byteBuffer.limit() + ":cap" + byteBuffer.capacity());
+        LogHelper.config(logger, "ByteBuffer pos:{0}:limit{1}:cap{2}", byteBuffer.position(), byteBuffer.limit(), byteBuffer.capacity());
 
 
         byte[] tagIdentifier = new byte[FIELD_TAGID_LENGTH];
@@ -1153,7 +1363,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
 
         try {
             paddedFile = File.createTempFile(Utils.getBaseFilenameForTempFile(file), ".new", file.getParentFile());
-            logger.finest("Created temp file:" + paddedFile.getName() + " for " + file.getName());
+            LogHelper.finest(logger, "Created temp file:{0} for {1}", paddedFile.getName(), file.getName());
         }
         //Vista:Can occur if have Write permission on folder this file would be created in Denied
         catch (IOException ioe) {
@@ -1186,7 +1396,9 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
             long written = fcOut.write(paddingBuffer);
 
             //Write rest of file starting from audio
-            logger.finer("Copying:" + (file.length() - audioStart) + "bytes");
+            if (logger.isLoggable(Level.FINER)) {
+                logger.finer("Copying:" + (file.length() - audioStart) + "bytes");
+            }
 
             //If the amount to be copied is very large we split into 10MB lumps to try and avoid
             //out of memory errors
@@ -1194,7 +1406,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
             if (audiolength <= MAXIMUM_WRITABLE_CHUNK_SIZE) {
                 fcIn.position(audioStart);
                 long written2 = fcOut.transferFrom(fcIn, paddingSize, audiolength);
-                logger.finer("Written padding:" + written + " Data:" + written2);
+                LogHelper.finer(logger, "Written padding:{0} Data:{1}", written, written2);
                 if (written2 != audiolength) {
                     throw new RuntimeException(ErrorMessage.MP3_UNABLE_TO_ADJUST_PADDING.getMsg(audiolength, written2));
                 }
@@ -1206,7 +1418,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
                     written2 += fcIn.transferTo(audioStart + (i * MAXIMUM_WRITABLE_CHUNK_SIZE), MAXIMUM_WRITABLE_CHUNK_SIZE, fcOut);
                 }
                 written2 += fcIn.transferTo(audioStart + (noOfChunks * MAXIMUM_WRITABLE_CHUNK_SIZE), lastChunkSize, fcOut);
-                logger.finer("Written padding:" + written + " Data:" + written2);
+                LogHelper.finer(logger, "Written padding:{0} Data:{1}", written, written2);
                 if (written2 != audiolength) {
                     throw new RuntimeException(ErrorMessage.MP3_UNABLE_TO_ADJUST_PADDING.getMsg(audiolength, written2));
                 }
@@ -1415,7 +1627,9 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      * @param next
      */
     protected void loadFrameIntoMap(String frameId, AbstractID3v2Frame next) {
-        if (next.getBody() instanceof FrameBodyEncrypted) {
+        if (next.isSkipped()) {
+            loadSkippedFrame(frameId, next);
+        } else if (next.peekBody() instanceof FrameBodyEncrypted) {
             loadFrameIntoSpecifiedMap(encryptedFrameMap, frameId, next);
         } else {
             loadFrameIntoSpecifiedMap(frameMap, frameId, next);
@@ -1423,6 +1637,40 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
     }
 
 
+    /**
+     * Keep a frame skipped on read so it can be written back, every skipped frame is kept including duplicates
+     *
+     * @param frameId
+     * @param next
+     */
+    private void loadSkippedFrame(String frameId, AbstractID3v2Frame next) {
+        if (!TagOptionSingleton.getInstance().isId3v2KeepSkippedFrames()) {
+            LogHelper.finer(logger, "Discarding Skipped Frame{0}", frameId);
+            return;
+        }
+        addSkippedFrame(frameId, next);
+    }
+
+    /**
+     * Add a skipped frame to the skipped frame map, keeping any others with the same identifier
+     *
+     * @param frameId
+     * @param next
+     */
+    private void addSkippedFrame(String frameId, AbstractID3v2Frame next) {
+        Object o = skippedFrameMap.get(frameId);
+        if (o == null) {
+            skippedFrameMap.put(frameId, next);
+        } else if (o instanceof ArrayList) {
+            ((ArrayList<AbstractID3v2Frame>) o).add(next);
+        } else {
+            ArrayList<AbstractID3v2Frame> frames = new ArrayList<AbstractID3v2Frame>();
+            frames.add((AbstractID3v2Frame) o);
+            frames.add(next);
+            skippedFrameMap.put(frameId, frames);
+        }
+    }
+
     /**
      * Decides what to with the frame that has just been read from file.
      * If the frame is an allowable duplicate frame and is a duplicate we add all
@@ -1436,23 +1684,24 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
     protected void loadFrameIntoSpecifiedMap(HashMap map, String frameId, AbstractID3v2Frame next) {
         if ((ID3v24Frames.getInstanceOf().isMultipleAllowed(frameId)) ||
                 (ID3v23Frames.getInstanceOf().isMultipleAllowed(frameId)) ||
-                (ID3v22Frames.getInstanceOf().isMultipleAllowed(frameId))) {
+                (ID3v22Frames.getInstanceOf().isMultipleAllowed(frameId)) ||
+                (ID3v2ChapterFrames.getInstanceOf().isMultipleAllowed(frameId))) {
             //If a frame already exists of this type
             if (map.containsKey(frameId)) {
                 Object o = map.get(frameId);
                 if (o instanceof ArrayList) {
                     ArrayList<AbstractID3v2Frame> multiValues = (ArrayList<AbstractID3v2Frame>) o;
                     multiValues.add(next);
-                    logger.finer("Adding Multi Frame(1)" + frameId);
+                    LogHelper.finer(logger, "Adding Multi Frame(1){0}", frameId);
                 } else {
                     ArrayList<AbstractID3v2Frame> multiValues = new ArrayList<AbstractID3v2Frame>();
                     multiValues.add((AbstractID3v2Frame) o);
                     multiValues.add(next);
                     map.put(frameId, multiValues);
-                    logger.finer("Adding Multi Frame(2)" + frameId);
+                    LogHelper.finer(logger, "Adding Multi Frame(2){0}", frameId);
                 }
             } else {
-                logger.finer("Adding Multi FrameList(3)" + frameId);
+                LogHelper.finer(logger, "Adding Multi FrameList(3){0}", frameId);
                 map.put(frameId, next);
             }
         }
@@ -1466,7 +1715,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
             this.duplicateFrameId += frameId;
             this.duplicateBytes += ((AbstractID3v2Frame) frameMap.get(frameId)).getSize();
         } else {
-            logger.finer("Adding Frame" + frameId);
+            LogHelper.finer(logger, "Adding Frame{0}", frameId);
             map.put(frameId, next);
         }
     }
@@ -1516,9 +1765,45 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
         ByteArrayOutputStream bodyBuffer = new ByteArrayOutputStream();
         writeFramesToBufferStream(frameMap, bodyBuffer);
         writeFramesToBufferStream(encryptedFrameMap, bodyBuffer);
+        convertSkippedFrames();
+        writeFramesToBufferStream(skippedFrameMap, bodyBuffer);
         return bodyBuffer;
     }
 
+    /**
+     * Write all the frames, if they do not fit in the space available and large frames may be compressed, see
+     * {@link TagOptionSingleton#getId3v2CompressFrameBodySize()}, they are written again with large frames compressed.
+     * The compressed frames are only used if they then fit so that the audio does not have to be moved.
+     *
+     * @param availableSize space available for the whole tag, including the header
+     * @return the frames
+     * @throws IOException
+     */
+    protected byte[] writeFramesToBuffer(int availableSize) throws IOException {
+        byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
+        if (bodyByteBuffer.length + TAG_HEADER_LENGTH <= availableSize
+                || availableSize <= TAG_HEADER_LENGTH
+                || TagOptionSingleton.getInstance().getId3v2CompressFrameBodySize() <= 0) {
+            return bodyByteBuffer;
+        }
+
+        byte[] compressedByteBuffer;
+        compressFrames = true;
+        try {
+            compressedByteBuffer = writeFramesToBuffer().toByteArray();
+        } finally {
+            compressFrames = false;
+        }
+        if (compressedByteBuffer.length + TAG_HEADER_LENGTH <= availableSize) {
+            LogHelper.config(logger, "{0}:Compressed frames to fit tag in {1} bytes", getLoggingFilename(), availableSize);
+            return compressedByteBuffer;
+        }
+
+        //Written uncompressed so frames are written compressed only when it avoids moving the audio
+        LogHelper.config(logger, "{0}:Compressed frames do not fit in {1} bytes either", getLoggingFilename(), availableSize);
+        return writeFramesToBuffer().toByteArray();
+    }
+
     /**
      * Write frames in map to bodyBuffer
      *
@@ -1536,17 +1821,20 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
             if (o instanceof AbstractID3v2Frame) {
                 frame = (AbstractID3v2Frame) o;
                 frame.setLoggingFilename(getLoggingFilename());
+                frame.setCompressOnWrite(compressFrames);
                 frame.write(bodyBuffer);
             } else if (o instanceof AggregatedFrame) {
                 AggregatedFrame ag = (AggregatedFrame) o;
                 for (AbstractID3v2Frame next : ag.getFrames()) {
                     next.setLoggingFilename(getLoggingFilename());
+                    next.setCompressOnWrite(compressFrames);
                     next.write(bodyBuffer);
                 }
             } else {
                 List<AbstractID3v2Frame> multiFrames = (List<AbstractID3v2Frame>) o;
                 for (AbstractID3v2Frame nextFrame : multiFrames) {
                     nextFrame.setLoggingFilename(getLoggingFilename());
+                    nextFrame.setCompressOnWrite(compressFrames);
                     nextFrame.write(bodyBuffer);
                 }
             }
@@ -1602,7 +1890,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
         //Special case here because the generic key to frameid/subid mapping is identical for trackno versus tracktotal
         //and discno versus disctotal so we have to handle here, also want to ignore index parameter.
         List<String> values = new ArrayList<String>();
-        List<TagField> fields = getFields(genericKey);
+        List<TagField> fields = getFieldList(genericKey);
 
         if (ID3NumberTotalFields.isNumber(genericKey)) {
             if (fields != null && fields.size() > 0) {
@@ -1631,7 +1919,17 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      * Retrieve the values that exists for this id3 frame id
      */
     public List<TagField> getFields(String id) throws KeyNotFoundException {
-        Object o = getFrame(id);
+        return getFieldList(id);
+    }
+
+    /**
+     * Retrieve the values that exists for this id3 frame id
+     *
+     * @param id
+     * @return
+     */
+    protected List<TagField> getFieldList(String id) {
+        Object o = frameMap.get(id);
         if (o == null) {
             return new ArrayList<TagField>();
         } else if (o instanceof List) {
@@ -1673,7 +1971,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
         }
 
         try {
-            return getFirstField(key) != null;
+            return getFieldList(key).size() != 0;
         } catch (KeyNotFoundException knfe) {
             logger.log(Level.SEVERE, knfe.getMessage(), knfe);
             return false;
@@ -1703,6 +2001,13 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      * fields
      */
     public Iterator<TagField> getFields() {
+        return getFieldIterator();
+    }
+
+    /**
+     * @return iterator of all fields
+     */
+    protected Iterator<TagField> getFieldIterator() {
         //Iterator of each different frameId in this tag
         final Iterator<Map.Entry<String, Object>> it = this.frameMap.entrySet().iterator();
 
@@ -1795,7 +2100,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      * @return
      */
     public int getFieldCount() {
-        Iterator<TagField> it = getFields();
+        Iterator<TagField> it = getFieldIterator();
         int count = 0;
 
         //Done this way because it.hasNext() incorrectly counts empty list
@@ -1818,7 +2123,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      * @return count of fields
      */
     public int getFieldCountIncludingSubValues() {
-        Iterator<TagField> it = getFields();
+        Iterator<TagField> it = getFieldIterator();
         int count = 0;
 
         //Done this way because it.hasNext() incorrectly counts empty list
@@ -1876,7 +2181,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
         //Special case here because the generic key to frameid/subid mapping is identical for trackno versus tracktotal
         //and discno versus disctotal so we have to handle here, also want to ignore index parameter.
         if (ID3NumberTotalFields.isNumber(genericKey) || ID3NumberTotalFields.isTotal(genericKey)) {
-            List<TagField> fields = getFields(genericKey);
+            List<TagField> fields = getFieldList(genericKey);
             if (fields != null && fields.size() > 0) {
                 //Should only be one frame so ignore index value, and we ignore multiple values within the frame
                 //it would make no sense if it existed.
@@ -1893,7 +2198,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
         //Special Case, TODO may be possible to put into doGetValueAtIndex but getUserFriendlyValue in POPMGFrameBody
         //is implemented different to what we would need.
         else if (genericKey == FieldKey.RATING) {
-            List<TagField> fields = getFields(genericKey);
+            List<TagField> fields = getFieldList(genericKey);
             if (fields != null && fields.size() > index) {
                 AbstractID3v2Frame frame = (AbstractID3v2Frame) fields.get(index);
                 return String.valueOf(((FrameBodyPOPM) frame.getBody()).getRating());
@@ -2030,7 +2335,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
 
         if (formatKey.getSubId() != null) {
             //Get list of frames that this uses
-            List<TagField> list = getFields(formatKey.getFrameId());
+            List<TagField> list = getFieldList(formatKey.getFrameId());
             ListIterator<TagField> li = list.listIterator();
             while (li.hasNext()) {
                 AbstractTagFrameBody next = ((AbstractID3v2Frame) li.next()).getBody();
@@ -2070,7 +2375,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
         else if ((formatKey.getGenericKey() != null) &&
                 ((formatKey.getGenericKey() == FieldKey.PERFORMER) || (formatKey.getGenericKey() == FieldKey.INVOLVED_PERSON))
         ) {
-            List<TagField> list = getFields(formatKey.getFrameId());
+            List<TagField> list = getFieldList(formatKey.getFrameId());
             ListIterator<TagField> li = list.listIterator();
             while (li.hasNext()) {
                 AbstractTagFrameBody next = ((AbstractID3v2Frame) li.next()).getBody();
@@ -2091,7 +2396,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
         }
         //Simple 1 to 1 mapping
         else {
-            List<TagField> list = getFields(formatKey.getFrameId());
+            List<TagField> list = getFieldList(formatKey.getFrameId());
             for (TagField next : list) {
                 AbstractID3v2Frame frame = (AbstractID3v2Frame) next;
                 if (frame != null) {
@@ -2194,6 +2499,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      * @param fieldKey
      */
     public void deleteField(FieldKey fieldKey) throws KeyNotFoundException {
+        setModified(true);
         FrameAndSubId formatKey = getFrameAndSubIdFromGenericKey(fieldKey);
         if (fieldKey == null) {
             throw new KeyNotFoundException();
@@ -2231,9 +2537,11 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      * @throws KeyNotFoundException
      */
     protected void doDeleteTagField(FrameAndSubId formatKey) throws KeyNotFoundException {
+        setModified(true);
+        removeSkippedFrame(formatKey.getFrameId());
         if (formatKey.getSubId() != null) {
             //Get list of frames that this uses
-            List<TagField> list = getFields(formatKey.getFrameId());
+            List<TagField> list = getFieldList(formatKey.getFrameId());
             ListIterator<TagField> li = list.listIterator();
             while (li.hasNext()) {
                 AbstractTagFrameBody next = ((AbstractID3v2Frame) li.next()).getBody();
@@ -2307,7 +2615,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
         } else if ((formatKey.getGenericKey() != null) &&
                 ((formatKey.getGenericKey() == FieldKey.PERFORMER) || (formatKey.getGenericKey() == FieldKey.INVOLVED_PERSON))
         ) {
-            List<TagField> list = getFields(formatKey.getFrameId());
+            List<TagField> list = getFieldList(formatKey.getFrameId());
             ListIterator<TagField> li = list.listIterator();
             while (li.hasNext()) {
                 AbstractTagFrameBody next = ((AbstractID3v2Frame) li.next()).getBody();
@@ -2347,13 +2655,24 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      * @throws KeyNotFoundException
      */
     public List<TagField> getFields(FieldKey genericKey) throws KeyNotFoundException {
+        return getFieldList(genericKey);
+    }
+
+    /**
+     * Maps the generic key to the id3 key and return the list of frames for this field
+     *
+     * @param genericKey
+     * @return
+     * @throws KeyNotFoundException
+     */
+    protected List<TagField> getFieldList(FieldKey genericKey) throws KeyNotFoundException {
         if (genericKey == null) {
             throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
         }
         FrameAndSubId formatKey = getFrameAndSubIdFromGenericKey(genericKey);
 
         //Get list of frames that this uses, as we are going to remove entries we don't want take a copy
-        List<TagField> list = getFields(formatKey.getFrameId());
+        List<TagField> list = getFieldList(formatKey.getFrameId());
         List<TagField> filteredList = new ArrayList<TagField>();
         String subFieldId = formatKey.getSubId();
 
@@ -2492,7 +2811,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
     public String toString() {
         final StringBuilder out = new StringBuilder();
         out.append("Tag content:\n");
-        final Iterator<TagField> it = getFields();
+        final Iterator<TagField> it = getFieldIterator();
         while (it.hasNext()) {
             final TagField field = it.next();
             out.append("\t");
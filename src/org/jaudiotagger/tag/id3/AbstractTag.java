@@ -23,6 +23,8 @@
  */
 package org.jaudiotagger.tag.id3;
 
+import org.jaudiotagger.tag.ModificationTrackingTag;
+
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
@@ -31,9 +33,13 @@ import java.util.Iterator;
 /**
  * A tag is term given to a container that holds audio metadata
  */
-public abstract class AbstractTag extends AbstractTagItem {
+public abstract class AbstractTag extends AbstractTagItem implements ModificationTrackingTag {
     protected static final String TYPE_TAG = "tag";
 
+    /**
+     * Has the tag been changed since it was read or written
+     */
+    private boolean modified = true;
 
     public AbstractTag() {
     }
@@ -84,6 +90,23 @@ public abstract class AbstractTag extends AbstractTagItem {
      * @return
      */
     abstract public Iterator iterator();
+
+    /**
+     * @return true if the tag has been changed since it was read from or written to the file, a newly created tag
+     * is always modified
+     */
+    public boolean isModified() {
+        return modified;
+    }
+
+    /**
+     * Set whether the tag needs writing, cleared once the tag has been read or written
+     *
+     * @param modified
+     */
+    public void setModified(boolean modified) {
+        this.modified = modified;
+    }
 }
 
 
@@ -47,7 +47,7 @@ public abstract class AbstractTagFrame extends AbstractTagItem {
      * @param copyObject
      */
     public AbstractTagFrame(AbstractTagFrame copyObject) {
-        this.frameBody = (AbstractTagFrameBody) ID3Tags.copyObject(copyObject.frameBody);
+        this.frameBody = (AbstractTagFrameBody) ID3Tags.copyObject(copyObject.getBody());
         this.frameBody.setHeader(this);
     }
 
@@ -84,15 +84,15 @@ public abstract class AbstractTagFrame extends AbstractTagItem {
             return false;
         }
 
-        if ((frameBody == null) && (((AbstractTagFrame) obj).frameBody == null)) {
+        if ((getBody() == null) && (((AbstractTagFrame) obj).getBody() == null)) {
             return true;
         }
 
-        if ((frameBody == null) || (((AbstractTagFrame) obj).frameBody == null)) {
+        if ((getBody() == null) || (((AbstractTagFrame) obj).getBody() == null)) {
             return false;
         }
 
-        return frameBody.isSubsetOf(((AbstractTagFrame) obj).frameBody) && super.isSubsetOf(obj);
+        return getBody().isSubsetOf(((AbstractTagFrame) obj).getBody()) && super.isSubsetOf(obj);
 
     }
 
@@ -114,7 +114,7 @@ public abstract class AbstractTagFrame extends AbstractTagItem {
         AbstractTagFrame that = (AbstractTagFrame) obj;
         return
                 EqualsUtil.areEqual(this.getIdentifier(), that.getIdentifier()) &&
-                        EqualsUtil.areEqual(this.frameBody, that.frameBody) &&
+                        EqualsUtil.areEqual(this.getBody(), that.getBody()) &&
                         super.equals(that);
 
     }
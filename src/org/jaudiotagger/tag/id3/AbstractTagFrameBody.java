@@ -159,14 +159,17 @@ public abstract class AbstractTagFrameBody extends AbstractTagItem {
      * @param value      new datatype value
      */
     public final void setObjectValue(String identifier, Object value) {
-        AbstractDataType object;
-        Iterator<AbstractDataType> iterator = objectList.listIterator();
-        while (iterator.hasNext()) {
-            object = iterator.next();
+        for (int i = 0, size = objectList.size(); i < size; i++) {
+            final AbstractDataType object = objectList.get(i);
             if (object.getIdentifier().equals(identifier)) {
                 object.setValue(value);
             }
         }
+
+        //The bytes this body was read from no longer match it
+        if (header instanceof AbstractID3v2Frame) {
+            ((AbstractID3v2Frame) header).setModified();
+        }
     }
 
     /**
@@ -190,10 +193,8 @@ public abstract class AbstractTagFrameBody extends AbstractTagItem {
      *         <code>identifier</code>
      */
     public final AbstractDataType getObject(String identifier) {
-        AbstractDataType object;
-        Iterator<AbstractDataType> iterator = objectList.listIterator();
-        while (iterator.hasNext()) {
-            object = iterator.next();
+        for (int i = 0, size = objectList.size(); i < size; i++) {
+            final AbstractDataType object = objectList.get(i);
             if (object.getIdentifier().equals(identifier)) {
                 return object;
             }
@@ -0,0 +1,169 @@
+package org.jaudiotagger.tag.id3;
+
+import org.jaudiotagger.logging.LogHelper;
+import org.jaudiotagger.tag.InvalidDataTypeException;
+import org.jaudiotagger.tag.InvalidFrameException;
+import org.jaudiotagger.tag.id3.framebody.ID3v2ChapterFrameBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Reads and writes the frames embedded in chapter and table of contents frames
+ *
+ * <p>The embedded frames are held by the chapter frame body as the bytes they were read from, they are in the format
+ * of the frames of the tag holding the chapter frame. The frame headers can be walked without decoding the frames so
+ * a single embedded frame, such as the title, can be found, decoded or replaced leaving the others as they are.
+ */
+final class ChapterSubFrames {
+    //Logger
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.tag.id3");
+
+    /**
+     * Header size of v23 and v24 frames, identifier, size and two flag bytes
+     */
+    private static final int FRAME_HEADER_SIZE = 10;
+
+    private static final int FRAME_SIZE_OFFSET = 4;
+
+    private ChapterSubFrames() {
+    }
+
+    /**
+     * @param data   embedded frames
+     * @param offset start of a frame header
+     * @param v24    true if the frames are v24 frames, which have a sync safe size
+     * @return length of the frame including its header, or -1 if there is no valid frame at offset
+     */
+    static int getFrameLength(byte[] data, int offset, boolean v24) {
+        if (offset + FRAME_HEADER_SIZE > data.length
+                || PackedFrameId.pack(data, offset, ID3v24Frame.FRAME_ID_SIZE) == PackedFrameId.INVALID) {
+            return -1;
+        }
+        ByteBuffer size = ByteBuffer.wrap(data, offset + FRAME_SIZE_OFFSET, ID3SyncSafeInteger.INTEGRAL_SIZE);
+        int frameSize = v24 ? ID3SyncSafeInteger.bufferToValue(size) : size.getInt();
+        if (frameSize < 0 || frameSize > data.length - offset - FRAME_HEADER_SIZE) {
+            return -1;
+        }
+        return FRAME_HEADER_SIZE + frameSize;
+    }
+
+    /**
+     * Find the first embedded frame with the identifier, only the frame headers are read
+     *
+     * @param data       embedded frames
+     * @param identifier
+     * @param v24        true if the frames are v24 frames
+     * @return offset of the frame header, or -1 if there is no such frame
+     */
+    static int find(byte[] data, String identifier, boolean v24) {
+        final int code = PackedFrameId.pack(identifier, ID3v24Frame.FRAME_ID_SIZE);
+        int offset = 0;
+        int length;
+        while ((length = getFrameLength(data, offset, v24)) != -1) {
+            if (PackedFrameId.pack(data, offset, ID3v24Frame.FRAME_ID_SIZE) == code) {
+                return offset;
+            }
+            offset += length;
+        }
+        return -1;
+    }
+
+    /**
+     * Decode the embedded frames
+     *
+     * @param data            embedded frames
+     * @param offset          start of the first frame to decode
+     * @param length          length of the frames to decode
+     * @param v24             true if the frames are v24 frames
+     * @param loggingFilename
+     * @return the frames that could be decoded
+     */
+    static List<AbstractID3v2Frame> read(byte[] data, int offset, int length, boolean v24, String loggingFilename) {
+        List<AbstractID3v2Frame> frames = new ArrayList<AbstractID3v2Frame>();
+        ByteBuffer byteBuffer = ByteBuffer.wrap(data, offset, length).slice();
+        while (byteBuffer.remaining() >= FRAME_HEADER_SIZE) {
+            try {
+                frames.add(v24 ? new ID3v24Frame(byteBuffer, loggingFilename) : new ID3v23Frame(byteBuffer, loggingFilename));
+            }
+            //Padding or a frame that cannot be read, the rest cannot be found
+            catch (InvalidFrameException ife) {
+                LogHelper.config(logger, "{0}:Unable to read embedded frame:{1}", loggingFilename, ife.getMessage());
+                break;
+            }
+            //The frame length was valid so carry on with the next frame
+            catch (InvalidDataTypeException idte) {
+                LogHelper.config(logger, "{0}:Corrupt embedded frame:{1}", loggingFilename, idte.getMessage());
+            }
+        }
+        return frames;
+    }
+
+    /**
+     * @param frames
+     * @return the frames written one after the other
+     */
+    static byte[] write(List<? extends AbstractID3v2Frame> frames) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (AbstractID3v2Frame frame : frames) {
+            frame.write(out);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Replace the first embedded frame with the identifier of the new frame, other frames are copied as they are
+     *
+     * @param data     embedded frames
+     * @param newFrame frame of the same version as the embedded frames
+     * @param v24      true if the frames are v24 frames
+     * @return the new embedded frames, the frame is added at the end if there was no frame to replace
+     */
+    static byte[] replace(byte[] data, AbstractID3v2Frame newFrame, boolean v24) {
+        ByteArrayOutputStream frameBytes = new ByteArrayOutputStream();
+        newFrame.write(frameBytes);
+        byte[] frame = frameBytes.toByteArray();
+
+        int offset = find(data, newFrame.getIdentifier(), v24);
+        int end = offset;
+        if (offset == -1) {
+            offset = data.length;
+            end = data.length;
+        } else {
+            end += getFrameLength(data, offset, v24);
+        }
+        byte[] newData = new byte[data.length - (end - offset) + frame.length];
+        System.arraycopy(data, 0, newData, 0, offset);
+        System.arraycopy(frame, 0, newData, offset, frame.length);
+        System.arraycopy(data, end, newData, offset + frame.length, data.length - end);
+        return newData;
+    }
+
+    /**
+     * Convert the embedded frames of a chapter frame body copied from a frame of the other version, if they cannot be
+     * converted they are left as they are
+     *
+     * @param body            copied body
+     * @param toV24           true if converting v23 frames to v24 frames, false if converting v24 frames to v23 frames
+     * @param loggingFilename
+     */
+    static void convert(ID3v2ChapterFrameBody body, boolean toV24, String loggingFilename) {
+        byte[] data = body.getSubFrameData();
+        if (data.length == 0) {
+            return;
+        }
+        List<AbstractID3v2Frame> converted = new ArrayList<AbstractID3v2Frame>();
+        try {
+            for (AbstractID3v2Frame frame : read(data, 0, data.length, !toV24, loggingFilename)) {
+                converted.add(toV24 ? new ID3v24Frame(frame) : new ID3v23Frame(frame));
+            }
+        } catch (InvalidFrameException ife) {
+            LogHelper.config(logger, "{0}:Unable to convert embedded frames:{1}", loggingFilename, ife.getMessage());
+            return;
+        }
+        body.setSubFrameData(write(converted));
+    }
+}
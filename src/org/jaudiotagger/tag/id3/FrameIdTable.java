@@ -0,0 +1,68 @@
+package org.jaudiotagger.tag.id3;
+
+import java.util.Arrays;
+
+/**
+ * Table of values keyed by packed frame identifier, see {@link PackedFrameId}
+ *
+ * <p>The packed identifiers are held sorted in an int array and found by binary search, so lookups need no boxing or
+ * hashing. The table is not changed once created, entries are added by creating a new table with {@link #with}, so a
+ * table can be shared between threads.
+ *
+ * @param <V> type of value held
+ */
+final class FrameIdTable<V> {
+    private final int[] codes;
+    private final Object[] values;
+
+    FrameIdTable() {
+        this(new int[0], new Object[0]);
+    }
+
+    private FrameIdTable(int[] codes, Object[] values) {
+        this.codes = codes;
+        this.values = values;
+    }
+
+    /**
+     * @param code packed identifier
+     * @return the value held for the identifier, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    V get(int code) {
+        final int index = Arrays.binarySearch(codes, code);
+        return index >= 0 ? (V) values[index] : null;
+    }
+
+    /**
+     * @param code  packed identifier
+     * @param value
+     * @return a new table holding the entries of this table and the value for the identifier, replacing any value
+     * this table holds for it
+     */
+    FrameIdTable<V> with(int code, V value) {
+        int index = Arrays.binarySearch(codes, code);
+        if (index >= 0) {
+            final Object[] newValues = values.clone();
+            newValues[index] = value;
+            return new FrameIdTable<V>(codes, newValues);
+        }
+        index = -index - 1;
+        final int[] newCodes = new int[codes.length + 1];
+        final Object[] newValues = new Object[codes.length + 1];
+        System.arraycopy(codes, 0, newCodes, 0, index);
+        System.arraycopy(values, 0, newValues, 0, index);
+        newCodes[index] = code;
+        newValues[index] = value;
+        System.arraycopy(codes, index, newCodes, index + 1, codes.length - index);
+        System.arraycopy(values, index, newValues, index + 1, codes.length - index);
+        return new FrameIdTable<V>(newCodes, newValues);
+    }
+
+    /**
+     * @return the number of entries
+     */
+    int size() {
+        return codes.length;
+    }
+}
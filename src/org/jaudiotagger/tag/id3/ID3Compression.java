@@ -1,12 +1,17 @@
 package org.jaudiotagger.tag.id3;
 
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.InvalidFrameException;
+import org.jaudiotagger.tag.TagOptionSingleton;
 
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
 import java.util.zip.Inflater;
 
 /**
@@ -14,14 +19,26 @@ import java.util.zip.Inflater;
  * <p>
  * Is currently required for V23Frames and V24Frames
  */
-//TODO also need to support compress framedata
 public class ID3Compression {
     //Logger
     public static Logger logger = Logger.getLogger("org.jaudiotagger.tag.id3");
 
+    /**
+     * Size of the decompressed size held with a compressed frame, in both v23 and v24 (as the data length indicator)
+     */
+    protected static final int DECOMPRESSED_SIZE_LENGTH = 4;
+
+    /**
+     * Frames claiming to decompress to more than this many times their size are treated as invalid
+     */
+    protected static final int MAX_COMPRESSION_RATIO = 100;
+
     /**
      * Decompress realFrameSize bytes to decompressedFrameSize bytes and return as ByteBuffer
      *
+     * The compressed bytes are read from the position of byteBuffer, which is left unchanged. Frames that would
+     * decompress to more than {@link TagOptionSingleton#getId3v2MaxDecompressedFrameSize()} are not decompressed.
+     *
      * @param byteBuffer
      * @param decompressedFrameSize
      * @param realFrameSize
@@ -29,31 +46,76 @@ public class ID3Compression {
      * @throws org.jaudiotagger.tag.InvalidFrameException
      */
     protected static ByteBuffer uncompress(String identifier, String filename, ByteBuffer byteBuffer, int decompressedFrameSize, int realFrameSize) throws InvalidFrameException {
-        logger.config(filename + ":About to decompress " + realFrameSize + " bytes, expect result to be:" + decompressedFrameSize + " bytes");
+        LogHelper.config(logger, "{0}:About to decompress {1} bytes, expect result to be:{2} bytes", filename, realFrameSize, decompressedFrameSize);
+        int maxSize = TagOptionSingleton.getInstance().getId3v2MaxDecompressedFrameSize();
+        if (decompressedFrameSize < 0 || decompressedFrameSize > maxSize) {
+            throw new InvalidFrameException(ErrorMessage.ID3_DECOMPRESSED_FRAME_SIZE_NOT_ALLOWED.getMsg(identifier, filename, decompressedFrameSize, maxSize));
+        }
+        if (realFrameSize > byteBuffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+
         // Decompress the bytes into this buffer, size initialized from header field
         byte[] result = new byte[decompressedFrameSize];
-        byte[] input = new byte[realFrameSize];
-
-        //Store position ( just after frame header and any extra bits)
-        //Read frame data into array, and then put buffer back to where it was
-        int position = byteBuffer.position();
-        byteBuffer.get(input, 0, realFrameSize);
-        byteBuffer.position(position);
 
         Inflater decompresser = new Inflater();
-        decompresser.setInput(input);
         try {
+            //Inflate straight from the tag data if we can rather than a copy of it
+            if (byteBuffer.hasArray()) {
+                decompresser.setInput(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), realFrameSize);
+            } else {
+                byte[] input = new byte[realFrameSize];
+                byteBuffer.duplicate().get(input);
+                decompresser.setInput(input);
+            }
             int inflatedTo = decompresser.inflate(result);
-            logger.config(filename + ":Decompressed to " + inflatedTo + " bytes");
+            LogHelper.config(logger, "{0}:Decompressed to {1} bytes", filename, inflatedTo);
         } catch (DataFormatException dfe) {
             logger.log(Level.CONFIG, "Unable to decompress this frame:" + identifier, dfe);
-
-            //Update position of main buffer, so no attempt is made to reread these bytes
-            byteBuffer.position(byteBuffer.position() + realFrameSize);
             throw new InvalidFrameException(ErrorMessage.ID3_UNABLE_TO_DECOMPRESS_FRAME.getMsg(identifier, filename, dfe.getMessage()));
+        } finally {
+            decompresser.end();
         }
-        decompresser.end();
         return ByteBuffer.wrap(result);
     }
 
-}
\ No newline at end of file
+    /**
+     * Compress the frame body
+     *
+     * @param identifier
+     * @param filename
+     * @param body
+     * @return the compressed body, or null if compressing does not make the body smaller once the decompressed size
+     * written with it is allowed for
+     */
+    protected static byte[] compress(String identifier, String filename, byte[] body) {
+        int maxSize = body.length - DECOMPRESSED_SIZE_LENGTH - 1;
+        if (maxSize <= 0) {
+            return null;
+        }
+
+        byte[] result = new byte[maxSize];
+        int length = 0;
+        Deflater compresser = new Deflater();
+        try {
+            compresser.setInput(body);
+            compresser.finish();
+            while (!compresser.finished() && length < maxSize) {
+                length += compresser.deflate(result, length, maxSize - length);
+            }
+            if (!compresser.finished()) {
+                LogHelper.finest(logger, "{0}:Compressing frame {1} does not make it smaller", filename, identifier);
+                return null;
+            }
+            //Would not be read back
+            if (body.length > (long) MAX_COMPRESSION_RATIO * (length + DECOMPRESSED_SIZE_LENGTH)) {
+                LogHelper.finest(logger, "{0}:Compressing frame {1} makes it too small", filename, identifier);
+                return null;
+            }
+        } finally {
+            compresser.end();
+        }
+        LogHelper.config(logger, "{0}:Compressed frame {1} from {2} to {3} bytes", filename, identifier, body.length, length);
+        return Arrays.copyOf(result, length);
+    }
+}
@@ -61,6 +61,11 @@ public abstract class ID3Frames extends AbstractStringStringValuePair {
      */
     protected TreeSet<String> binaryFrames = new TreeSet<String>();
 
+    /**
+     * The identifiers of all the frames, keyed by packed identifier
+     */
+    private FrameIdTable<String> identifiers = new FrameIdTable<String>();
+
     /**
      * If file changes discard these frames
      *
@@ -118,6 +123,26 @@ public abstract class ID3Frames extends AbstractStringStringValuePair {
         return extensionFrames.contains(frameID);
     }
 
+    /**
+     * @param code packed frame identifier, see {@link PackedFrameId}
+     * @return the identifier of the frame, or null if it is not one of these frames
+     */
+    public String getIdentifier(int code) {
+        return code == PackedFrameId.INVALID ? null : identifiers.get(code);
+    }
+
+    protected void createMaps() {
+        super.createMaps();
+        FrameIdTable<String> table = new FrameIdTable<String>();
+        for (String id : idToValue.keySet()) {
+            final int code = PackedFrameId.pack(id, id.length());
+            if (code != PackedFrameId.INVALID) {
+                table = table.with(code, id);
+            }
+        }
+        identifiers = table;
+    }
+
 
     /**
      * Mapping from v22 to v23
@@ -18,6 +18,8 @@ package org.jaudiotagger.tag.id3;
 import org.jaudiotagger.tag.TagException;
 
 import java.lang.reflect.Constructor;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 /**
@@ -32,6 +34,8 @@ public class ID3Tags {
     //Logger
     public static Logger logger = Logger.getLogger("org.jaudiotagger.tag.id3");
 
+    //Copy constructor of each class copied so far, so they are only looked up once
+    private static final Map<Class<?>, Constructor<?>> copyConstructors = new ConcurrentHashMap<Class<?>, Constructor<?>>();
 
     private ID3Tags() {
     }
@@ -48,7 +52,7 @@ public class ID3Tags {
             return false;
         }
         //If 3 is it a known identifier
-        else return identifier.length() == 3 && ID3v22Frames.getInstanceOf().getIdToValueMap().containsKey(identifier);
+        else return identifier.length() == 3 && ID3v22Frames.getInstanceOf().getIdentifier(PackedFrameId.pack(identifier, 3)) != null;
     }
 
     /**
@@ -58,7 +62,7 @@ public class ID3Tags {
      * @return true if the identifier is a valid ID3v2.3 frame identifier
      */
     public static boolean isID3v23FrameIdentifier(String identifier) {
-        return identifier.length() >= 4 && ID3v23Frames.getInstanceOf().getIdToValueMap().containsKey(identifier.substring(0, 4));
+        return ID3v23Frames.getInstanceOf().getIdentifier(PackedFrameId.pack(identifier, 4)) != null;
     }
 
     /**
@@ -68,7 +72,18 @@ public class ID3Tags {
      * @return true if the identifier is a valid ID3v2.4 frame identifier
      */
     public static boolean isID3v24FrameIdentifier(String identifier) {
-        return identifier.length() >= 4 && ID3v24Frames.getInstanceOf().getIdToValueMap().containsKey(identifier.substring(0, 4));
+        return ID3v24Frames.getInstanceOf().getIdentifier(PackedFrameId.pack(identifier, 4)) != null;
+    }
+
+    /**
+     * Returns true if the identifier is a chapter or table of contents frame identifier, these are valid in both
+     * ID3v2.3 and ID3v2.4
+     *
+     * @param identifier string to test
+     * @return true if the identifier is a chapter frame identifier
+     */
+    public static boolean isID3v2ChapterFrameIdentifier(String identifier) {
+        return ID3v2ChapterFrames.getInstanceOf().getIdentifier(PackedFrameId.pack(identifier, 4)) != null;
     }
 
     /**
@@ -257,25 +272,25 @@ public class ID3Tags {
      * constructor. So find out the instantiated class name and call the copy
      * constructor through reflection (e.g for a a FrameBody would have to have a constructor
      * that takes another frameBody as the same type as a parameter)
+     * <p>
+     * The constructor is only looked up the first time each class is copied.
      *
      * @param copyObject
      * @return
      * @throws IllegalArgumentException if no suitable constructor exists
      */
     public static Object copyObject(Object copyObject) {
-        Constructor<?> constructor;
-        Class<?>[] constructorParameterArray;
-        Object[] parameterArray;
         if (copyObject == null) {
             return null;
         }
         try {
-            constructorParameterArray = new Class[1];
-            constructorParameterArray[0] = copyObject.getClass();
-            constructor = copyObject.getClass().getConstructor(constructorParameterArray);
-            parameterArray = new Object[1];
-            parameterArray[0] = copyObject;
-            return constructor.newInstance(parameterArray);
+            final Class<?> copyClass = copyObject.getClass();
+            Constructor<?> constructor = copyConstructors.get(copyClass);
+            if (constructor == null) {
+                constructor = copyClass.getConstructor(copyClass);
+                copyConstructors.put(copyClass, constructor);
+            }
+            return constructor.newInstance(copyObject);
         } catch (NoSuchMethodException ex) {
             throw new IllegalArgumentException("NoSuchMethodException: Error finding constructor to create copy:" + copyObject.getClass().getName());
         } catch (IllegalAccessException ex) {
@@ -2,8 +2,6 @@ package org.jaudiotagger.tag.id3;
 
 import org.jaudiotagger.audio.mp3.MPEGFrameHeader;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -17,6 +15,44 @@ public class ID3Unsynchronization {
     //Logger
     public static Logger logger = Logger.getLogger("org.jaudiotagger.tag.id3");
 
+    private static final byte SYNC_BYTE = (byte) MPEGFrameHeader.SYNC_BYTE1;
+    private static final int WORD_SIZE = 8;
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    /**
+     * Find the first $FF byte that is followed by a byte that has to be changed, $FF bytes are found eight at a time
+     *
+     * @param buffer      to search, absolute positions are used
+     * @param from        first position to check
+     * @param to          position after the last byte
+     * @param synchronize true to find $FF $00 which is removed when synchronizing, false to find $FF followed by a
+     *                    byte >=224 which requires unsynchronizing
+     * @return the position of the $FF byte, or -1 if there is none
+     */
+    private static int indexOfSyncByte(ByteBuffer buffer, int from, int to, boolean synchronize) {
+        int i = from;
+        while (i < to - 1) {
+            //A word can only hold $FF if inverting it gives a zero byte
+            if (i + WORD_SIZE <= to) {
+                final long inverted = ~buffer.getLong(i);
+                if (((inverted - LOW_BITS) & ~inverted & HIGH_BITS) == 0) {
+                    i += WORD_SIZE;
+                    continue;
+                }
+            }
+            final int wordEnd = Math.min(i + WORD_SIZE, to - 1);
+            for (; i < wordEnd; i++) {
+                if (buffer.get(i) == SYNC_BYTE) {
+                    final int next = buffer.get(i + 1);
+                    if (synchronize ? next == 0 : (next & MPEGFrameHeader.SYNC_BYTE2) == MPEGFrameHeader.SYNC_BYTE2) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
 
     /**
      * Check if a byte array will require unsynchronization before being written as a tag.
@@ -26,16 +62,14 @@ public class ID3Unsynchronization {
      * @return true if unsynchronization is required, false otherwise
      */
     public static boolean requiresUnsynchronization(byte[] abySource) {
-        for (int i = 0; i < abySource.length - 1; i++) {
-            if (((abySource[i] & MPEGFrameHeader.SYNC_BYTE1) == MPEGFrameHeader.SYNC_BYTE1) && ((abySource[i + 1] & MPEGFrameHeader.SYNC_BYTE2) == MPEGFrameHeader.SYNC_BYTE2)) {
-                if (logger.isLoggable(Level.FINEST)) {
-                    logger.finest("Unsynchronisation required found bit at:" + i);
-                }
-                return true;
-            }
+        final int i = indexOfSyncByte(ByteBuffer.wrap(abySource), 0, abySource.length, false);
+        if (i == -1) {
+            return false;
         }
-
-        return false;
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest("Unsynchronisation required found bit at:" + i);
+        }
+        return true;
     }
 
     /**
@@ -48,175 +82,102 @@ public class ID3Unsynchronization {
      * $FF $00 $00
      *
      * @param abySource a byte array to be unsynchronized
-     * @return a unsynchronized representation of the source
+     * @return a unsynchronized representation of the source, the source itself if nothing had to be changed
      */
     public static byte[] unsynchronize(byte[] abySource) {
-        ByteArrayInputStream input = new ByteArrayInputStream(abySource);
-        ByteArrayOutputStream output = new ByteArrayOutputStream(abySource.length);
-
-        int count = 0;
-        while (input.available() > 0) {
-            int firstByte = input.read();
-            count++;
-            output.write(firstByte);
-            if ((firstByte & MPEGFrameHeader.SYNC_BYTE1) == MPEGFrameHeader.SYNC_BYTE1) {
-                // if byte is $FF, we must check the following byte if there is one
-                if (input.available() > 0) {
-                    input.mark(1);  // remember where we were, if we don't need to unsynchronize
-                    int secondByte = input.read();
-                    if ((secondByte & MPEGFrameHeader.SYNC_BYTE2) == MPEGFrameHeader.SYNC_BYTE2) {
-                        // we need to unsynchronize here
-                        if (logger.isLoggable(Level.FINEST)) {
-                            logger.finest("Writing unsynchronisation bit at:" + count);
-                        }
-                        output.write(0);
+        final int len = abySource.length;
+        if (len == 0) {
+            return abySource;
+        }
 
-                    } else if (secondByte == 0) {
-                        // we need to unsynchronize here
-                        if (logger.isLoggable(Level.FINEST)) {
-                            logger.finest("Inserting zero unsynchronisation bit at:" + count);
-                        }
-                        output.write(0);
-                    }
-                    input.reset();
+        //Count the zero bytes to insert, so the result can be created at its final size
+        int insertCount = 0;
+        for (int i = 0; i < len - 1; i++) {
+            if (abySource[i] == SYNC_BYTE) {
+                final int next = abySource[i + 1];
+                if (next == 0 || (next & MPEGFrameHeader.SYNC_BYTE2) == MPEGFrameHeader.SYNC_BYTE2) {
+                    insertCount++;
                 }
             }
         }
         // if we needed to unsynchronize anything, and this tag ends with 0xff, we have to append a zero byte,
         // which will be removed on de-unsynchronization later
-        if ((abySource[abySource.length - 1] & MPEGFrameHeader.SYNC_BYTE1) == MPEGFrameHeader.SYNC_BYTE1) {
+        final boolean endsWithSyncByte = abySource[len - 1] == SYNC_BYTE;
+        if (endsWithSyncByte) {
             logger.finest("Adding unsynchronisation bit at end of stream");
-            output.write(0);
+            insertCount++;
         }
-        return output.toByteArray();
-    }
-
-
-    /**
-     * Synchronize an array of bytes, this should only be called if it has been determined the tag is unsynchronised
-     *
-     * Any patterns of the form $FF $00 should be replaced by $FF
-     *
-     * @param source a ByteBuffer to be unsynchronized
-     * @return a synchronized representation of the source
-     */
-    /*
-    public static ByteBuffer synchronize(ByteBuffer source)
-    {
-        long start = System.nanoTime();
-
-        int bufferSize = source.limit();
-        ByteArrayOutputStream oBAOS = new ByteArrayOutputStream(bufferSize);
-        int position = 0;
-        while (position < bufferSize)
-        {
-            int byteValue = source.get();
-            position ++;
-            oBAOS.write(byteValue);
-            if ((byteValue & MPEGFrameHeader.SYNC_BYTE1) == MPEGFrameHeader.SYNC_BYTE1)
-            {
-                // we are skipping if $00 byte but check not an end of stream
-                if (position < bufferSize)
-                {
-                    int unsyncByteValue = source.get();
-                    position++;
-                    //If its the null byte we just ignore it
-                    if (unsyncByteValue != 0)
-                    {
-                        oBAOS.write(unsyncByteValue);
-                    }
-                }
-            }
+        if (insertCount == 0) {
+            return abySource;
         }
-        long time = System.nanoTime() - start;
-        ByteBuffer bb = ByteBuffer.wrap(oBAOS.toByteArray());
-        System.out.printf("Took %6.3f ms, was %d bytes, now %,d bytes%n", time/1e6, source.limit(), bb.limit());
-        return bb;
-    }
-    */
-
-    /**
-     * Synchronize an array of bytes, this should only be called if it has been determined the tag is unsynchronised
-     *
-     * Any patterns of the form $FF $00 should be replaced by $FF
-     *
-     * @param source a ByteBuffer to be unsynchronized
-     * @return a synchronized representation of the source
-     */
-    /*
-    public static ByteBuffer synchronize(ByteBuffer source)
-    {
-        long start = System.nanoTime();
 
-        int bufferSize = source.limit();
-        ByteBuffer output = ByteBuffer.allocate(bufferSize);
-        int position = 0;
-        int offset = 0;
-        int length = 0;
-        while (position < bufferSize)
-        {
-            int byteValue = source.get();
-            position++;
-            length++;
-            if ((byteValue & MPEGFrameHeader.SYNC_BYTE1) == MPEGFrameHeader.SYNC_BYTE1)
-            {
-                // we are skipping if $00 byte but check not an end of stream
-                if (position < bufferSize)
-                {
-                    int unsyncByteValue = source.get();
-                    position++;
-                    //If this is null byte, then write upto this point
-                    if (unsyncByteValue == 0)
-                    {
-                        output.put(source.array(), source.arrayOffset() + offset, length);
-                        offset = position;
-                        length = 0;
-                    }
-                    else
-                    {
-                        length++;
+        final byte[] output = new byte[len + insertCount];
+        int from = 0;
+        int to = 0;
+        for (int i = 0; i < len - 1; i++) {
+            if (abySource[i] == SYNC_BYTE) {
+                final int next = abySource[i + 1];
+                if (next == 0 || (next & MPEGFrameHeader.SYNC_BYTE2) == MPEGFrameHeader.SYNC_BYTE2) {
+                    if (logger.isLoggable(Level.FINEST)) {
+                        logger.finest("Writing unsynchronisation bit at:" + (i + 1));
                     }
+                    //Copy up to and including the $FF, the zero byte is already in place
+                    System.arraycopy(abySource, from, output, to, i + 1 - from);
+                    to += i + 2 - from;
+                    from = i + 1;
                 }
             }
         }
-        if (length > 0)
-        {
-            output.put(source.array(), source.arrayOffset() + offset, length);
-        }
-        output.flip();
-        long time = System.nanoTime() - start;
-        System.out.printf("Took %6.3f ms, was %d bytes, now %,d bytes%n", time/1e6, source.limit(), output.limit());
+        System.arraycopy(abySource, from, output, to, len - from);
         return output;
     }
-    */
 
     /**
      * Synchronize an array of bytes, this should only be called if it has been determined the tag is unsynchronised
      * <p>
      * Any patterns of the form $FF $00 should be replaced by $FF
+     * <p>
+     * The source is first searched for $FF $00, if there is none nothing has to be changed so a slice of the source
+     * is returned rather than a copy. Otherwise the bytes are copied in a single pass, leaving out the $00 bytes.
      *
-     * @param source a ByteBuffer to be unsynchronized
+     * @param source a ByteBuffer to be unsynchronized, its position is moved to its limit
      * @return a synchronized representation of the source
      */
-
     public static ByteBuffer synchronize(ByteBuffer source) {
-        //long start = System.nanoTime();
-
-        int len = source.remaining();
-        byte[] bytes = new byte[len + 1]; // an extra byte saves a check later.
-        source.get(bytes, 0, len);
-        int from = 0, to = 0;
-        boolean copy = true; // whether to copy the byte, if false, check the byte != 0.
-        while (from < len) {
-            byte byteValue = bytes[from++];
-            if (copy || byteValue != 0) bytes[to++] = byteValue;
-            copy = ((byteValue & MPEGFrameHeader.SYNC_BYTE1) != MPEGFrameHeader.SYNC_BYTE1);
+        final int start = source.position();
+        final int end = source.limit();
+        int syncIndex = indexOfSyncByte(source, start, end, true);
+        if (syncIndex == -1) {
+            final ByteBuffer unchanged = source.slice();
+            source.position(end);
+            return unchanged;
         }
 
-        ByteBuffer bb2 = ByteBuffer.wrap(bytes, 0, to);
-        //long time = System.nanoTime() - start;
-        //System.out.printf("Took %6.3f ms, was %d bytes, now %,d bytes%n", time/1e6, source.limit(), bb2.limit());
-        return bb2;
+        final byte[] bytes = new byte[end - start];
+        int to = 0;
+        int from = start;
+        while (syncIndex != -1) {
+            //Copy up to and including the $FF, then skip the $00
+            final int count = syncIndex + 1 - from;
+            copy(source, from, bytes, to, count);
+            to += count;
+            from = syncIndex + 2;
+            syncIndex = indexOfSyncByte(source, from, end, true);
+        }
+        copy(source, from, bytes, to, end - from);
+        to += end - from;
+        source.position(end);
+        return ByteBuffer.wrap(bytes, 0, to);
     }
 
+    private static void copy(ByteBuffer source, int from, byte[] dest, int to, int count) {
+        if (source.hasArray()) {
+            System.arraycopy(source.array(), source.arrayOffset() + from, dest, to, count);
+        } else {
+            final ByteBuffer part = source.duplicate();
+            part.limit(from + count);
+            part.position(from);
+            part.get(dest, to, count);
+        }
+    }
 }
@@ -188,6 +188,18 @@ public class ID3v11Tag extends ID3v1Tag {
         }
     }
 
+    /**
+     * Creates a new ID3v11Tag datatype from the last TAG_LENGTH bytes of a file, already read into the buffer
+     *
+     * @param byteBuffer
+     * @param loggingFilename
+     * @throws TagNotFoundException
+     */
+    public ID3v11Tag(ByteBuffer byteBuffer, String loggingFilename) throws TagNotFoundException {
+        setLoggingFilename(loggingFilename);
+        read(byteBuffer.duplicate());
+    }
+
     /**
      * Creates a new ID3v11 datatype.
      *
@@ -229,6 +241,7 @@ public class ID3v11Tag extends ID3v1Tag {
      * @param comment
      */
     public void setComment(String comment) {
+        setModified(true);
         if (comment == null) {
             throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
         }
@@ -252,6 +265,7 @@ public class ID3v11Tag extends ID3v1Tag {
      */
 
     public void setTrack(String trackValue) {
+        setModified(true);
         int trackAsInt;
         //Try and convert String representation of track into an integer
         try {
@@ -362,6 +376,7 @@ public class ID3v11Tag extends ID3v1Tag {
      * @param genericKey
      */
     public void deleteField(FieldKey genericKey) {
+        setModified(true);
         if (genericKey == FieldKey.TRACK) {
             track = 0;
         } else {
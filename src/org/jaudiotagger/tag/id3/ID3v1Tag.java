@@ -24,6 +24,7 @@ package org.jaudiotagger.tag.id3;
 
 import org.jaudiotagger.audio.mp3.MP3File;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.*;
 import org.jaudiotagger.tag.images.Artwork;
 import org.jaudiotagger.tag.reference.GenreTypes;
@@ -160,6 +161,18 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag {
         }
     }
 
+    /**
+     * Creates a new ID3v1Tag datatype from the last TAG_LENGTH bytes of a file, already read into the buffer
+     *
+     * @param byteBuffer
+     * @param loggingFilename
+     * @throws TagNotFoundException
+     */
+    public ID3v1Tag(ByteBuffer byteBuffer, String loggingFilename) throws TagNotFoundException {
+        setLoggingFilename(loggingFilename);
+        read(byteBuffer.duplicate());
+    }
+
     /**
      * Creates a new ID3v1 datatype.
      *
@@ -248,6 +261,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag {
      * @param album
      */
     public void setAlbum(String album) {
+        setModified(true);
         if (album == null) {
             throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
         }
@@ -282,6 +296,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag {
      * @param artist
      */
     public void setArtist(String artist) {
+        setModified(true);
         if (artist == null) {
             throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
         }
@@ -316,6 +331,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag {
      * @throws IllegalArgumentException if comment null
      */
     public void setComment(String comment) {
+        setModified(true);
         if (comment == null) {
             throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
         }
@@ -353,6 +369,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag {
      * @param genreVal
      */
     public void setGenre(String genreVal) {
+        setModified(true);
         if (genreVal == null) {
             throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
         }
@@ -401,6 +418,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag {
      * @param title
      */
     public void setTitle(String title) {
+        setModified(true);
         if (title == null) {
             throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
         }
@@ -438,6 +456,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag {
      * @param year
      */
     public void setYear(String year) {
+        setModified(true);
         this.year = ID3Tags.truncate(year, FIELD_YEAR_LENGTH);
     }
 
@@ -777,7 +796,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag {
         if (!seek(byteBuffer)) {
             throw new TagNotFoundException(getLoggingFilename() + ":" + "ID3v1 tag not found");
         }
-        logger.finer(getLoggingFilename() + ":" + "Reading v1 tag");
+        LogHelper.finer(logger, "{0}:Reading v1 tag", getLoggingFilename());
         //Do single file read of data to cut down on file reads
         byte[] dataBuffer = new byte[TAG_LENGTH];
         byteBuffer.position(0);
@@ -794,10 +813,10 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag {
         }
         album = new String(dataBuffer, FIELD_ALBUM_POS, FIELD_ALBUM_LENGTH, Charset.forName("ISO-8859-1")).trim();
         m = AbstractID3v1Tag.endofStringPattern.matcher(album);
-        logger.finest(getLoggingFilename() + ":" + "Orig Album is:" + comment + ":");
+        LogHelper.finest(logger, "{0}:Orig Album is:{1}:", getLoggingFilename(), comment);
         if (m.find()) {
             album = album.substring(0, m.start());
-            logger.finest(getLoggingFilename() + ":" + "Album is:" + album + ":");
+            LogHelper.finest(logger, "{0}:Album is:{1}:", getLoggingFilename(), album);
         }
         year = new String(dataBuffer, FIELD_YEAR_POS, FIELD_YEAR_LENGTH, Charset.forName("ISO-8859-1")).trim();
         m = AbstractID3v1Tag.endofStringPattern.matcher(year);
@@ -806,10 +825,10 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag {
         }
         comment = new String(dataBuffer, FIELD_COMMENT_POS, FIELD_COMMENT_LENGTH, Charset.forName("ISO-8859-1")).trim();
         m = AbstractID3v1Tag.endofStringPattern.matcher(comment);
-        logger.finest(getLoggingFilename() + ":" + "Orig Comment is:" + comment + ":");
+        LogHelper.finest(logger, "{0}:Orig Comment is:{1}:", getLoggingFilename(), comment);
         if (m.find()) {
             comment = comment.substring(0, m.start());
-            logger.finest(getLoggingFilename() + ":" + "Comment is:" + comment + ":");
+            LogHelper.finest(logger, "{0}:Comment is:{1}:", getLoggingFilename(), comment);
         }
         genre = dataBuffer[FIELD_GENRE_POS];
 
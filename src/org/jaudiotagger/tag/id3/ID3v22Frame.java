@@ -16,10 +16,12 @@
 package org.jaudiotagger.tag.id3;
 
 import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.EmptyFrameException;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.InvalidFrameException;
 import org.jaudiotagger.tag.InvalidFrameIdentifierException;
+import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jaudiotagger.tag.id3.framebody.AbstractID3v2FrameBody;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyDeprecated;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyUnsupported;
@@ -32,8 +34,6 @@ import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.logging.Level;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Represents an ID3v2.2 frame.
@@ -43,7 +43,6 @@ import java.util.regex.Pattern;
  * @version $Id$
  */
 public class ID3v22Frame extends AbstractID3v2Frame {
-    private static Pattern validFrameIdentifier = Pattern.compile("[A-Z][0-9A-Z]{2}");
 
     protected static final int FRAME_ID_SIZE = 3;
     protected static final int FRAME_SIZE_SIZE = 3;
@@ -111,7 +110,7 @@ public class ID3v22Frame extends AbstractID3v2Frame {
     @SuppressWarnings("unchecked")
     public ID3v22Frame(String identifier) {
 
-        logger.config("Creating empty frame of type" + identifier);
+        LogHelper.config(logger, "Creating empty frame of type{0}", identifier);
         String bodyIdentifier = identifier;
         this.identifier = identifier;
 
@@ -140,7 +139,7 @@ public class ID3v22Frame extends AbstractID3v2Frame {
         // Use reflection to map id to frame body, which makes things much easier
         // to keep things up to date.
         try {
-            Class<AbstractID3v2FrameBody> c = (Class<AbstractID3v2FrameBody>) Class.forName("org.jaudiotagger.tag.id3.framebody.FrameBody" + bodyIdentifier);
+            Class<AbstractID3v2FrameBody> c = getFrameBodyClass(bodyIdentifier);
             frameBody = c.newInstance();
         } catch (ClassNotFoundException cnfe) {
             logger.log(Level.SEVERE, cnfe.getMessage(), cnfe);
@@ -157,7 +156,7 @@ public class ID3v22Frame extends AbstractID3v2Frame {
             throw new RuntimeException(iae);
         }
         frameBody.setHeader(this);
-        logger.config("Created empty frame of type" + this.identifier + "with frame body of" + bodyIdentifier);
+        LogHelper.config(logger, "Created empty frame of type{0}with frame body of{1}", this.identifier, bodyIdentifier);
 
     }
 
@@ -176,14 +175,14 @@ public class ID3v22Frame extends AbstractID3v2Frame {
     private void createV22FrameFromV23Frame(ID3v23Frame frame) throws InvalidFrameException {
         identifier = ID3Tags.convertFrameID23To22(frame.getIdentifier());
         if (identifier != null) {
-            logger.config("V2:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+            LogHelper.config(logger, "V2:Orig id is:{0}:New id is:{1}", frame.getIdentifier(), identifier);
             this.frameBody = (AbstractID3v2FrameBody) ID3Tags.copyObject(frame.getBody());
         }
         // Is it a known v3 frame which needs forcing to v2 frame e.g. APIC - PIC
         else if (ID3Tags.isID3v23FrameIdentifier(frame.getIdentifier())) {
             identifier = ID3Tags.forceFrameID23To22(frame.getIdentifier());
             if (identifier != null) {
-                logger.config("V2:Force:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                LogHelper.config(logger, "V2:Force:Orig id is:{0}:New id is:{1}", frame.getIdentifier(), identifier);
                 this.frameBody = this.readBody(identifier, (AbstractID3v2FrameBody) frame.getBody());
             }
             // No mechanism exists to convert it to a v22 frame
@@ -197,20 +196,20 @@ public class ID3v22Frame extends AbstractID3v2Frame {
             if (ID3Tags.isID3v22FrameIdentifier(frame.getIdentifier())) {
                 this.frameBody = frame.getBody();
                 identifier = frame.getIdentifier();
-                logger.config("DEPRECATED:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                LogHelper.config(logger, "DEPRECATED:Orig id is:{0}:New id is:{1}", frame.getIdentifier(), identifier);
             }
             //or was it still deprecated, if so leave as is
             else {
                 this.frameBody = new FrameBodyDeprecated((FrameBodyDeprecated) frame.getBody());
                 identifier = frame.getIdentifier();
-                logger.config("DEPRECATED:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                LogHelper.config(logger, "DEPRECATED:Orig id is:{0}:New id is:{1}", frame.getIdentifier(), identifier);
             }
         }
         // Unknown Frame e.g NCON
         else {
             this.frameBody = new FrameBodyUnsupported((FrameBodyUnsupported) frame.getBody());
             identifier = frame.getIdentifier();
-            logger.config("v2:UNKNOWN:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+            LogHelper.config(logger, "v2:UNKNOWN:Orig id is:{0}:New id is:{1}", frame.getIdentifier(), identifier);
         }
     }
 
@@ -291,7 +290,7 @@ public class ID3v22Frame extends AbstractID3v2Frame {
 
         // Is this a valid identifier?
         if (!isValidID3v2FrameIdentifier(identifier)) {
-            logger.config("Invalid identifier:" + identifier);
+            LogHelper.config(logger, "Invalid identifier:{0}", identifier);
             byteBuffer.position(byteBuffer.position() - (getFrameIdSize() - 1));
             throw new InvalidFrameIdentifierException(getLoggingFilename() + ":" + identifier + ":is not a valid ID3v2.20 frame");
         }
@@ -308,7 +307,7 @@ public class ID3v22Frame extends AbstractID3v2Frame {
             logger.warning("Invalid Frame size larger than size before mp3 audio:" + identifier);
             throw new InvalidFrameException(identifier + " is invalid frame");
         } else {
-            logger.fine("Frame Size Is:" + frameSize);
+            LogHelper.fine(logger, "Frame Size Is:{0}", frameSize);
             //Convert v2.2 to v2.4 id just for reading the data
             String id = ID3Tags.convertFrameID22To24(identifier);
             if (id == null) {
@@ -326,7 +325,7 @@ public class ID3v22Frame extends AbstractID3v2Frame {
                     }
                 }
             }
-            logger.fine("Identifier was:" + identifier + " reading using:" + id);
+            LogHelper.fine(logger, "Identifier was:{0} reading using:{1}", identifier, id);
 
             //Create Buffer that only contains the body of this frame rather than the remainder of tag
             ByteBuffer frameBodyBuffer = byteBuffer.slice();
@@ -361,14 +360,14 @@ public class ID3v22Frame extends AbstractID3v2Frame {
      * Write Frame raw data
      */
     public void write(ByteArrayOutputStream tagBuffer) {
-        logger.config("Write Frame to Buffer" + getIdentifier());
+        LogHelper.config(logger, "Write Frame to Buffer{0}", getIdentifier());
         //This is where we will write header, move position to where we can
         //write body
         ByteBuffer headerBuffer = ByteBuffer.allocate(getFrameHeaderSize());
 
         //Write Frame Body Data
         ByteArrayOutputStream bodyOutputStream = new ByteArrayOutputStream();
-        ((AbstractID3v2FrameBody) frameBody).write(bodyOutputStream);
+        writeBody(bodyOutputStream);
 
         //Write Frame Header
         //Write Frame ID must adjust can only be 3 bytes long
@@ -398,7 +397,9 @@ public class ID3v22Frame extends AbstractID3v2Frame {
         headerBuffer.put((byte) ((size & 0x00FF0000) >> 16));
         headerBuffer.put((byte) ((size & 0x0000FF00) >> 8));
         headerBuffer.put((byte) (size & 0x000000FF));
-        logger.fine("Frame Size Is Actual:" + size + ":Encoded bin:" + Integer.toBinaryString(size) + ":Encoded Hex" + Integer.toHexString(size));
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Frame Size Is Actual:" + size + ":Encoded bin:" + Integer.toBinaryString(size) + ":Encoded Hex" + Integer.toHexString(size));
+        }
     }
 
     /**
@@ -409,8 +410,7 @@ public class ID3v22Frame extends AbstractID3v2Frame {
      * @return
      */
     public boolean isValidID3v2FrameIdentifier(String identifier) {
-        Matcher m = ID3v22Frame.validFrameIdentifier.matcher(identifier);
-        return m.matches();
+        return PackedFrameId.isValid(identifier, FRAME_ID_SIZE);
     }
 
     /**
@@ -419,7 +419,7 @@ public class ID3v22Frame extends AbstractID3v2Frame {
     public void createStructure() {
         MP3File.getStructureFormatter().openHeadingElement(TYPE_FRAME, getIdentifier());
         MP3File.getStructureFormatter().addElement(TYPE_FRAME_SIZE, frameSize);
-        frameBody.createStructure();
+        getBody().createStructure();
         MP3File.getStructureFormatter().closeHeadingElement(TYPE_FRAME);
     }
 
@@ -430,6 +430,23 @@ public class ID3v22Frame extends AbstractID3v2Frame {
         return ID3v22Frames.getInstanceOf().isCommon(getId());
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Also skipped if the ID3v2.3 identifier the frame converts to is skipped
+     */
+    @Override
+    protected boolean isSkippedOnRead(String identifier) {
+        if (super.isSkippedOnRead(identifier)) {
+            return true;
+        }
+        String v23Identifier = ID3Tags.convertFrameID22To23(getIdentifier());
+        if (v23Identifier == null) {
+            v23Identifier = ID3Tags.forceFrameID22To23(getIdentifier());
+        }
+        return v23Identifier != null && TagOptionSingleton.getInstance().getId3v2SkippedFrameIds().contains(v23Identifier);
+    }
+
     /**
      * @return true if considered a common frame
      */
@@ -18,6 +18,7 @@ package org.jaudiotagger.tag.id3;
 import org.jaudiotagger.FileConstants;
 import org.jaudiotagger.audio.mp3.MP3File;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.*;
 import org.jaudiotagger.tag.datatype.DataTypes;
 import org.jaudiotagger.tag.id3.framebody.*;
@@ -286,11 +287,11 @@ public class ID3v22Tag extends AbstractID3v2Tag {
         compression = (flags & MASK_V22_COMPRESSION) != 0;
 
         if (unsynchronization) {
-            logger.config(ErrorMessage.ID3_TAG_UNSYNCHRONIZED.getMsg(getLoggingFilename()));
+            LogHelper.config(logger, ErrorMessage.ID3_TAG_UNSYNCHRONIZED.getMsg(), getLoggingFilename());
         }
 
         if (compression) {
-            logger.config(ErrorMessage.ID3_TAG_COMPRESSED.getMsg(getLoggingFilename()));
+            LogHelper.config(logger, ErrorMessage.ID3_TAG_COMPRESSED.getMsg(), getLoggingFilename());
         }
 
         //Not allowable/Unknown Flags
@@ -323,7 +324,7 @@ public class ID3v22Tag extends AbstractID3v2Tag {
         if (!seek(byteBuffer)) {
             throw new TagNotFoundException("ID3v2.20 tag not found");
         }
-        logger.config(getLoggingFilename() + ":" + "Reading tag from file");
+        LogHelper.config(logger, "{0}:Reading tag from file", getLoggingFilename());
 
         //Read the flags
         readHeaderFlags(byteBuffer);
@@ -339,7 +340,7 @@ public class ID3v22Tag extends AbstractID3v2Tag {
             bufferWithoutHeader = ID3Unsynchronization.synchronize(bufferWithoutHeader);
         }
         readFrames(bufferWithoutHeader, size);
-        logger.config(getLoggingFilename() + ":" + "Loaded Frames,there are:" + frameMap.keySet().size());
+        LogHelper.config(logger, "{0}:Loaded Frames,there are:{1}", getLoggingFilename(), frameMap.keySet().size());
     }
 
     /**
@@ -353,10 +354,11 @@ public class ID3v22Tag extends AbstractID3v2Tag {
         ID3v22Frame next;
         frameMap = new LinkedHashMap();
         encryptedFrameMap = new LinkedHashMap();
+        skippedFrameMap = new LinkedHashMap();
 
         //Read the size from the Tag Header
         this.fileReadSize = size;
-        logger.finest(getLoggingFilename() + ":" + "Start of frame body at:" + byteBuffer.position() + ",frames sizes and padding is:" + size);
+        LogHelper.finest(logger, "{0}:Start of frame body at:{1},frames sizes and padding is:{2}", getLoggingFilename(), byteBuffer.position(), size);
         /* todo not done yet. Read the first Frame, there seems to be quite a
          ** common case of extra data being between the tag header and the first
          ** frame so should we allow for this when reading first frame, but not subsequent frames
@@ -365,14 +367,14 @@ public class ID3v22Tag extends AbstractID3v2Tag {
         while (byteBuffer.position() < size) {
             try {
                 //Read Frame
-                logger.finest(getLoggingFilename() + ":" + "looking for next frame at:" + byteBuffer.position());
+                LogHelper.finest(logger, "{0}:looking for next frame at:{1}", getLoggingFilename(), byteBuffer.position());
                 next = new ID3v22Frame(byteBuffer, getLoggingFilename());
                 String id = next.getIdentifier();
                 loadFrameIntoMap(id, next);
             }
             //Found Padding, no more frames
             catch (PaddingException ex) {
-                logger.config(getLoggingFilename() + ":Found padding starting at:" + byteBuffer.position());
+                LogHelper.config(logger, "{0}:Found padding starting at:{1}", getLoggingFilename(), byteBuffer.position());
                 break;
             }
             //Found Empty Frame
@@ -380,7 +382,7 @@ public class ID3v22Tag extends AbstractID3v2Tag {
                 logger.warning(getLoggingFilename() + ":" + "Empty Frame:" + ex.getMessage());
                 this.emptyFrameBytes += ID3v22Frame.FRAME_HEADER_SIZE;
             } catch (InvalidFrameIdentifierException ifie) {
-                logger.config(getLoggingFilename() + ":" + "Invalid Frame Identifier:" + ifie.getMessage());
+                LogHelper.config(logger, "{0}:Invalid Frame Identifier:{1}", getLoggingFilename(), ifie.getMessage());
                 this.invalidFrames++;
                 //Dont try and find any more frames
                 break;
@@ -470,7 +472,7 @@ public class ID3v22Tag extends AbstractID3v2Tag {
     @Override
     public long write(File file, long audioStartLocation) throws IOException {
         setLoggingFilename(file.getName());
-        logger.config("Writing tag to file:" + getLoggingFilename());
+        LogHelper.config(logger, "Writing tag to file:{0}", getLoggingFilename());
 
         // Write Body Buffer
         byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
@@ -479,14 +481,14 @@ public class ID3v22Tag extends AbstractID3v2Tag {
         unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
         if (isUnsynchronization()) {
             bodyByteBuffer = ID3Unsynchronization.unsynchronize(bodyByteBuffer);
-            logger.config(getLoggingFilename() + ":bodybytebuffer:sizeafterunsynchronisation:" + bodyByteBuffer.length);
+            LogHelper.config(logger, "{0}:bodybytebuffer:sizeafterunsynchronisation:{1}", getLoggingFilename(), bodyByteBuffer.length);
         }
 
         int sizeIncPadding = calculateTagSize(bodyByteBuffer.length + TAG_HEADER_LENGTH, (int) audioStartLocation);
         int padding = sizeIncPadding - (bodyByteBuffer.length + TAG_HEADER_LENGTH);
-        logger.config(getLoggingFilename() + ":Current audiostart:" + audioStartLocation);
-        logger.config(getLoggingFilename() + ":Size including padding:" + sizeIncPadding);
-        logger.config(getLoggingFilename() + ":Padding:" + padding);
+        LogHelper.config(logger, "{0}:Current audiostart:{1}", getLoggingFilename(), audioStartLocation);
+        LogHelper.config(logger, "{0}:Size including padding:{1}", getLoggingFilename(), sizeIncPadding);
+        LogHelper.config(logger, "{0}:Padding:{1}", getLoggingFilename(), padding);
 
         ByteBuffer headerBuffer = writeHeaderToBuffer(padding, bodyByteBuffer.length);
         writeBufferToFile(file, headerBuffer, bodyByteBuffer, padding, sizeIncPadding, audioStartLocation);
@@ -499,16 +501,16 @@ public class ID3v22Tag extends AbstractID3v2Tag {
      */
     @Override
     public void write(WritableByteChannel channel, int currentTagSize) throws IOException {
-        logger.config(getLoggingFilename() + ":Writing tag to channel");
+        LogHelper.config(logger, "{0}:Writing tag to channel", getLoggingFilename());
 
         byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
-        logger.config(getLoggingFilename() + ":bodybytebuffer:sizebeforeunsynchronisation:" + bodyByteBuffer.length);
+        LogHelper.config(logger, "{0}:bodybytebuffer:sizebeforeunsynchronisation:{1}", getLoggingFilename(), bodyByteBuffer.length);
 
         //Unsynchronize if option enabled and unsync required
         unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
         if (isUnsynchronization()) {
             bodyByteBuffer = ID3Unsynchronization.unsynchronize(bodyByteBuffer);
-            logger.config(getLoggingFilename() + ":bodybytebuffer:sizeafterunsynchronisation:" + bodyByteBuffer.length);
+            LogHelper.config(logger, "{0}:bodybytebuffer:sizeafterunsynchronisation:{1}", getLoggingFilename(), bodyByteBuffer.length);
         }
 
         int padding = 0;
@@ -677,7 +679,7 @@ public class ID3v22Tag extends AbstractID3v2Tag {
      * {@inheritDoc}
      */
     public List<Artwork> getArtworkList() {
-        List<TagField> coverartList = getFields(FieldKey.COVER_ART);
+        List<TagField> coverartList = getFieldList(FieldKey.COVER_ART);
         List<Artwork> artworkList = new ArrayList<Artwork>(coverartList.size());
 
         for (TagField next : coverartList) {
@@ -736,7 +738,7 @@ public class ID3v22Tag extends AbstractID3v2Tag {
      */
     public List<String> getAll(FieldKey genericKey) throws KeyNotFoundException {
         if (genericKey == FieldKey.GENRE) {
-            List<TagField> fields = getFields(genericKey);
+            List<TagField> fields = getFieldList(genericKey);
             List<String> convertedGenres = new ArrayList<String>();
             if (fields != null && fields.size() > 0) {
                 AbstractID3v2Frame frame = (AbstractID3v2Frame) fields.get(0);
@@ -759,7 +761,7 @@ public class ID3v22Tag extends AbstractID3v2Tag {
         }
 
         if (genericKey == FieldKey.GENRE) {
-            List<TagField> fields = getFields(genericKey);
+            List<TagField> fields = getFieldList(genericKey);
             if (fields != null && fields.size() > 0) {
                 AbstractID3v2Frame frame = (AbstractID3v2Frame) fields.get(0);
                 FrameBodyTCON body = (FrameBodyTCON) frame.getBody();
@@ -772,7 +774,7 @@ public class ID3v22Tag extends AbstractID3v2Tag {
     }
 
     protected void loadFrameIntoMap(String frameId, AbstractID3v2Frame next) {
-        if (next.getBody() instanceof FrameBodyTCON) {
+        if (next.peekBody() instanceof FrameBodyTCON) {
             ((FrameBodyTCON) next.getBody()).setV23Format();
         }
         super.loadFrameIntoMap(frameId, next);
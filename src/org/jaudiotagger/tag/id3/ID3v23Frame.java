@@ -18,6 +18,7 @@ package org.jaudiotagger.tag.id3;
 import org.jaudiotagger.FileConstants;
 import org.jaudiotagger.audio.mp3.MP3File;
 import org.jaudiotagger.logging.Hex;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.EmptyFrameException;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.InvalidFrameException;
@@ -26,6 +27,7 @@ import org.jaudiotagger.tag.id3.framebody.AbstractID3v2FrameBody;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyDeprecated;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyUnsupported;
 import org.jaudiotagger.tag.id3.framebody.ID3v23FrameBody;
+import org.jaudiotagger.tag.id3.framebody.ID3v2ChapterFrameBody;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 import org.jaudiotagger.utils.EqualsUtil;
 
@@ -33,8 +35,6 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Represents an ID3v2.3 frame.
@@ -44,7 +44,6 @@ import java.util.regex.Pattern;
  * @version $Id$
  */
 public class ID3v23Frame extends AbstractID3v2Frame {
-    private static Pattern validFrameIdentifier = Pattern.compile("[A-Z][0-9A-Z]{3}");
 
     protected static final int FRAME_ID_SIZE = 4;
     protected static final int FRAME_FLAGS_SIZE = 2;
@@ -144,12 +143,21 @@ public class ID3v23Frame extends AbstractID3v2Frame {
         }
 
         if (frame instanceof ID3v24Frame) {
+            //Chapters hold frames of the tag version, so these are converted as well
+            if (frame.getBody() instanceof ID3v2ChapterFrameBody) {
+                this.frameBody = (AbstractTagFrameBody) ID3Tags.copyObject(frame.getBody());
+                this.frameBody.setHeader(this);
+                identifier = frame.getIdentifier();
+                ChapterSubFrames.convert((ID3v2ChapterFrameBody) frameBody, false, getLoggingFilename());
+                LogHelper.config(logger, "CHAPTER:Orig id is:{0}:New id is:{1}", frame.getIdentifier(), identifier);
+                return;
+            }
             //Unknown Frame e.g NCON, also protects when known id but has unsupported frame body
-            if (frame.getBody() instanceof FrameBodyUnsupported) {
+            else if (frame.getBody() instanceof FrameBodyUnsupported) {
                 this.frameBody = new FrameBodyUnsupported((FrameBodyUnsupported) frame.getBody());
                 this.frameBody.setHeader(this);
                 identifier = frame.getIdentifier();
-                logger.config("UNKNOWN:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                LogHelper.config(logger, "UNKNOWN:Orig id is:{0}:New id is:{1}", frame.getIdentifier(), identifier);
                 return;
             }
             // Deprecated frame for v24
@@ -160,7 +168,7 @@ public class ID3v23Frame extends AbstractID3v2Frame {
                     this.frameBody.setHeader(this);
                     this.frameBody.setTextEncoding(ID3TextEncodingConversion.getTextEncoding(this, this.frameBody.getTextEncoding()));
                     identifier = frame.getIdentifier();
-                    logger.config("DEPRECATED:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                    LogHelper.config(logger, "DEPRECATED:Orig id is:{0}:New id is:{1}", frame.getIdentifier(), identifier);
                 }
                 //or was it still deprecated, if so leave as is
                 else {
@@ -169,7 +177,7 @@ public class ID3v23Frame extends AbstractID3v2Frame {
                     this.frameBody.setTextEncoding(ID3TextEncodingConversion.getTextEncoding(this, this.frameBody.getTextEncoding()));
 
                     identifier = frame.getIdentifier();
-                    logger.config("DEPRECATED:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                    LogHelper.config(logger, "DEPRECATED:Orig id is:{0}:New id is:{1}", frame.getIdentifier(), identifier);
                     return;
                 }
             } else if (ID3Tags.isID3v24FrameIdentifier(frame.getIdentifier())) {
@@ -177,7 +185,7 @@ public class ID3v23Frame extends AbstractID3v2Frame {
                 //Version between v4 and v3
                 identifier = ID3Tags.convertFrameID24To23(frame.getIdentifier());
                 if (identifier != null) {
-                    logger.finer("V4:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                    LogHelper.finer(logger, "V4:Orig id is:{0}:New id is:{1}", frame.getIdentifier(), identifier);
                     this.frameBody = (AbstractTagFrameBody) ID3Tags.copyObject(frame.getBody());
                     this.frameBody.setHeader(this);
                     this.frameBody.setTextEncoding(ID3TextEncodingConversion.getTextEncoding(this, this.frameBody.getTextEncoding()));
@@ -186,7 +194,7 @@ public class ID3v23Frame extends AbstractID3v2Frame {
                     //Is it a known v4 frame which needs forcing to v3 frame e.g. TDRC - TYER,TDAT
                     identifier = ID3Tags.forceFrameID24To23(frame.getIdentifier());
                     if (identifier != null) {
-                        logger.finer("V4:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                        LogHelper.finer(logger, "V4:Orig id is:{0}:New id is:{1}", frame.getIdentifier(), identifier);
                         this.frameBody = this.readBody(identifier, (AbstractID3v2FrameBody) frame.getBody());
                         this.frameBody.setHeader(this);
                         this.frameBody.setTextEncoding(ID3TextEncodingConversion.getTextEncoding(this, this.frameBody.getTextEncoding()));
@@ -202,7 +210,7 @@ public class ID3v23Frame extends AbstractID3v2Frame {
                         identifier = frame.getIdentifier();
                         this.frameBody = new FrameBodyUnsupported(identifier, baos.toByteArray());
                         this.frameBody.setHeader(this);
-                        logger.finer("V4:Orig id is:" + frame.getIdentifier() + ":New Id Unsupported is:" + identifier);
+                        LogHelper.finer(logger, "V4:Orig id is:{0}:New Id Unsupported is:{1}", frame.getIdentifier(), identifier);
                         return;
                     }
                 }
@@ -216,7 +224,7 @@ public class ID3v23Frame extends AbstractID3v2Frame {
             if (ID3Tags.isID3v22FrameIdentifier(frame.getIdentifier())) {
                 identifier = ID3Tags.convertFrameID22To23(frame.getIdentifier());
                 if (identifier != null) {
-                    logger.config("V3:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                    LogHelper.config(logger, "V3:Orig id is:{0}:New id is:{1}", frame.getIdentifier(), identifier);
                     this.frameBody = (AbstractTagFrameBody) ID3Tags.copyObject(frame.getBody());
                     this.frameBody.setHeader(this);
                     return;
@@ -226,7 +234,7 @@ public class ID3v23Frame extends AbstractID3v2Frame {
                     //Force v2 to v3
                     identifier = ID3Tags.forceFrameID22To23(frame.getIdentifier());
                     if (identifier != null) {
-                        logger.config("V22Orig id is:" + frame.getIdentifier() + "New id is:" + identifier);
+                        LogHelper.config(logger, "V22Orig id is:{0}New id is:{1}", frame.getIdentifier(), identifier);
                         this.frameBody = this.readBody(identifier, (AbstractID3v2FrameBody) frame.getBody());
                         this.frameBody.setHeader(this);
                         return;
@@ -236,7 +244,7 @@ public class ID3v23Frame extends AbstractID3v2Frame {
                         this.frameBody = new FrameBodyDeprecated((AbstractID3v2FrameBody) frame.getBody());
                         this.frameBody.setHeader(this);
                         identifier = frame.getIdentifier();
-                        logger.config("Deprecated:V22:orig id id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                        LogHelper.config(logger, "Deprecated:V22:orig id id is:{0}:New id is:{1}", frame.getIdentifier(), identifier);
                         return;
                     }
                 }
@@ -246,7 +254,7 @@ public class ID3v23Frame extends AbstractID3v2Frame {
                 this.frameBody = new FrameBodyUnsupported((FrameBodyUnsupported) frame.getBody());
                 this.frameBody.setHeader(this);
                 identifier = frame.getIdentifier();
-                logger.config("UNKNOWN:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                LogHelper.config(logger, "UNKNOWN:Orig id is:{0}:New id is:{1}", frame.getIdentifier(), identifier);
                 return;
             }
         }
@@ -321,7 +329,7 @@ public class ID3v23Frame extends AbstractID3v2Frame {
     public void read(ByteBuffer byteBuffer) throws InvalidFrameException, InvalidDataTypeException {
         String identifier = readIdentifier(byteBuffer);
         if (!isValidID3v2FrameIdentifier(identifier)) {
-            logger.config(getLoggingFilename() + ":Invalid identifier:" + identifier);
+            LogHelper.config(logger, "{0}:Invalid identifier:{1}", getLoggingFilename(), identifier);
             byteBuffer.position(byteBuffer.position() - (getFrameIdSize() - 1));
             throw new InvalidFrameIdentifierException(getLoggingFilename() + ":" + identifier + ":is not a valid ID3v2.30 frame");
         }
@@ -354,7 +362,7 @@ public class ID3v23Frame extends AbstractID3v2Frame {
         if (id == null) {
             // It is a valid v23 identifier so should be able to find a
             //  frame body for it.
-            if (ID3Tags.isID3v23FrameIdentifier(identifier)) {
+            if (ID3Tags.isID3v23FrameIdentifier(identifier) || ID3Tags.isID3v2ChapterFrameIdentifier(identifier)) {
                 id = identifier;
             }
             // Unknown so will be created as FrameBodyUnsupported
@@ -362,7 +370,7 @@ public class ID3v23Frame extends AbstractID3v2Frame {
                 id = UNSUPPORTED_ID;
             }
         }
-        logger.fine(getLoggingFilename() + ":Identifier was:" + identifier + " reading using:" + id + "with frame size:" + frameSize);
+        LogHelper.fine(logger, "{0}:Identifier was:{1} reading using:{2}with frame size:{3}", getLoggingFilename(), identifier, id, frameSize);
 
         //Read extra bits appended to frame header for various encodings
         //These are not included in header size but are included in frame size but won't be read when we actually
@@ -374,7 +382,7 @@ public class ID3v23Frame extends AbstractID3v2Frame {
             //Read the Decompressed Size
             decompressedFrameSize = byteBuffer.getInt();
             extraHeaderBytesCount = FRAME_COMPRESSION_UNCOMPRESSED_SIZE;
-            logger.fine(getLoggingFilename() + ":Decompressed frame size is:" + decompressedFrameSize);
+            LogHelper.fine(logger, "{0}:Decompressed frame size is:{1}", getLoggingFilename(), decompressedFrameSize);
         }
 
         if (((EncodingFlags) encodingFlags).isEncryption()) {
@@ -395,7 +403,7 @@ public class ID3v23Frame extends AbstractID3v2Frame {
         }
 
         if (((EncodingFlags) encodingFlags).isCompression()) {
-            if (decompressedFrameSize > (100 * frameSize)) {
+            if (decompressedFrameSize > (ID3Compression.MAX_COMPRESSION_RATIO * frameSize)) {
                 throw new InvalidFrameException(identifier + " is invalid frame, frame size " + frameSize + " cannot be:" + decompressedFrameSize + " when uncompressed");
             }
         }
@@ -431,7 +439,7 @@ public class ID3v23Frame extends AbstractID3v2Frame {
             //it should be deprecated, but what about if somehow a V24Frame has been put into a V23 Tag, shouldn't
             //it then be created as FrameBodyUnsupported
             if (!(frameBody instanceof ID3v23FrameBody)) {
-                logger.config(getLoggingFilename() + ":Converted frameBody with:" + identifier + " to deprecated frameBody");
+                LogHelper.config(logger, "{0}:Converted frameBody with:{1} to deprecated frameBody", getLoggingFilename(), identifier);
                 frameBody = new FrameBodyDeprecated((AbstractID3v2FrameBody) frameBody);
             }
         } finally {
@@ -444,23 +452,31 @@ public class ID3v23Frame extends AbstractID3v2Frame {
      * Write the frame to bufferOutputStream
      */
     public void write(ByteArrayOutputStream tagBuffer) {
-        logger.config("Writing frame to buffer:" + getIdentifier());
+        LogHelper.config(logger, "Writing frame to buffer:{0}", getIdentifier());
         //This is where we will write header, move position to where we can
         //write body
         ByteBuffer headerBuffer = ByteBuffer.allocate(FRAME_HEADER_SIZE);
 
         //Write Frame Body Data
         ByteArrayOutputStream bodyOutputStream = new ByteArrayOutputStream();
-        ((AbstractID3v2FrameBody) frameBody).write(bodyOutputStream);
+        writeBody(bodyOutputStream);
+        byte[] bodyBuffer = bodyOutputStream.toByteArray();
+
+        //Compress large frames if the tag is being compressed to fit, encrypted bodies are left as they are
+        byte[] compressedBuffer = null;
+        if (!((EncodingFlags) encodingFlags).isEncryption()) {
+            compressedBuffer = compressBody(bodyBuffer);
+        }
+
         //Write Frame Header write Frame ID
         if (getIdentifier().length() == 3) {
             identifier = identifier + ' ';
         }
         headerBuffer.put(getIdentifier().getBytes(Charset.forName("ISO-8859-1")), 0, FRAME_ID_SIZE);
-        //Write Frame Size
-        int size = frameBody.getSize();
-        logger.fine("Frame Size Is:" + size);
-        headerBuffer.putInt(frameBody.getSize());
+        //Write Frame Size, a compressed frame also holds its decompressed size
+        int size = compressedBuffer != null ? compressedBuffer.length + FRAME_COMPRESSION_UNCOMPRESSED_SIZE : bodyBuffer.length;
+        LogHelper.fine(logger, "Frame Size Is:{0}", size);
+        headerBuffer.putInt(size);
 
         //Write the Flags
         //Status Flags:leave as they were when we read
@@ -469,14 +485,22 @@ public class ID3v23Frame extends AbstractID3v2Frame {
         //Remove any non standard flags
         ((EncodingFlags) encodingFlags).unsetNonStandardFlags();
 
-        //Unset Compression flag if previously set because we uncompress previously compressed frames on write.
-        ((EncodingFlags) encodingFlags).unsetCompression();
+        //Previously compressed frames were uncompressed on read, so only compressed if compressing now
+        if (compressedBuffer != null) {
+            ((EncodingFlags) encodingFlags).setCompression();
+        } else {
+            ((EncodingFlags) encodingFlags).unsetCompression();
+        }
         headerBuffer.put(encodingFlags.getFlags());
 
         try {
             //Add header to the Byte Array Output Stream
             tagBuffer.write(headerBuffer.array());
 
+            if (compressedBuffer != null) {
+                tagBuffer.write(ByteBuffer.allocate(FRAME_COMPRESSION_UNCOMPRESSED_SIZE).putInt(bodyBuffer.length).array());
+            }
+
             if (((EncodingFlags) encodingFlags).isEncryption()) {
                 tagBuffer.write(encryptionMethod);
             }
@@ -486,7 +510,7 @@ public class ID3v23Frame extends AbstractID3v2Frame {
             }
 
             //Add body to the Byte Array Output Stream
-            tagBuffer.write(bodyOutputStream.toByteArray());
+            tagBuffer.write(compressedBuffer != null ? compressedBuffer : bodyBuffer);
         } catch (IOException ioe) {
             //This could never happen coz not writing to file, so convert to RuntimeException
             throw new RuntimeException(ioe);
@@ -713,8 +737,7 @@ public class ID3v23Frame extends AbstractID3v2Frame {
      * @return whether the identifier is valid
      */
     public boolean isValidID3v2FrameIdentifier(String identifier) {
-        Matcher m = ID3v23Frame.validFrameIdentifier.matcher(identifier);
-        return m.matches();
+        return PackedFrameId.isValid(identifier, FRAME_ID_SIZE);
     }
 
     /**
@@ -725,7 +748,7 @@ public class ID3v23Frame extends AbstractID3v2Frame {
         MP3File.getStructureFormatter().addElement(TYPE_FRAME_SIZE, frameSize);
         statusFlags.createStructure();
         encodingFlags.createStructure();
-        frameBody.createStructure();
+        getBody().createStructure();
         MP3File.getStructureFormatter().closeHeadingElement(TYPE_FRAME);
     }
 
@@ -18,6 +18,7 @@ package org.jaudiotagger.tag.id3;
 import org.jaudiotagger.FileConstants;
 import org.jaudiotagger.audio.mp3.MP3File;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.*;
 import org.jaudiotagger.tag.datatype.DataTypes;
 import org.jaudiotagger.tag.datatype.Pair;
@@ -421,15 +422,15 @@ public class ID3v23Tag extends AbstractID3v2Tag {
         }
 
         if (isUnsynchronization()) {
-            logger.config(ErrorMessage.ID3_TAG_UNSYNCHRONIZED.getMsg(getLoggingFilename()));
+            LogHelper.config(logger, ErrorMessage.ID3_TAG_UNSYNCHRONIZED.getMsg(), getLoggingFilename());
         }
 
         if (extended) {
-            logger.config(ErrorMessage.ID3_TAG_EXTENDED.getMsg(getLoggingFilename()));
+            LogHelper.config(logger, ErrorMessage.ID3_TAG_EXTENDED.getMsg(), getLoggingFilename());
         }
 
         if (experimental) {
-            logger.config(ErrorMessage.ID3_TAG_EXPERIMENTAL.getMsg(getLoggingFilename()));
+            LogHelper.config(logger, ErrorMessage.ID3_TAG_EXPERIMENTAL.getMsg(), getLoggingFilename());
         }
     }
 
@@ -456,11 +457,11 @@ public class ID3v23Tag extends AbstractID3v2Tag {
             //Take padding and ext header size off the size to be read
             paddingSize = buffer.getInt();
             if (paddingSize > 0) {
-                logger.config(ErrorMessage.ID3_TAG_PADDING_SIZE.getMsg(getLoggingFilename(), paddingSize));
+                LogHelper.config(logger, ErrorMessage.ID3_TAG_PADDING_SIZE.getMsg(), getLoggingFilename(), paddingSize);
             }
             size = size - (paddingSize + TAG_EXT_HEADER_LENGTH);
         } else if (extendedHeaderSize == TAG_EXT_HEADER_DATA_LENGTH + TAG_EXT_HEADER_CRC_LENGTH) {
-            logger.config(ErrorMessage.ID3_TAG_CRC.getMsg(getLoggingFilename()));
+            LogHelper.config(logger, ErrorMessage.ID3_TAG_CRC.getMsg(), getLoggingFilename());
 
             //Flag should be setField, if nor just act as if it is
             byte extFlag = buffer.get();
@@ -473,12 +474,12 @@ public class ID3v23Tag extends AbstractID3v2Tag {
             //Take padding size of size to be read
             paddingSize = buffer.getInt();
             if (paddingSize > 0) {
-                logger.config(ErrorMessage.ID3_TAG_PADDING_SIZE.getMsg(getLoggingFilename(), paddingSize));
+                LogHelper.config(logger, ErrorMessage.ID3_TAG_PADDING_SIZE.getMsg(), getLoggingFilename(), paddingSize);
             }
             size = size - (paddingSize + TAG_EXT_HEADER_LENGTH + TAG_EXT_HEADER_CRC_LENGTH);
             //CRC Data
             crc32 = buffer.getInt();
-            logger.config(ErrorMessage.ID3_TAG_CRC_SIZE.getMsg(getLoggingFilename(), crc32));
+            LogHelper.config(logger, ErrorMessage.ID3_TAG_CRC_SIZE.getMsg(), getLoggingFilename(), crc32);
         }
         //Extended header size is only allowed to be six or ten bytes so this is invalid but instead
         //of giving up lets guess its six bytes and carry on and see if we can read file ok
@@ -497,13 +498,13 @@ public class ID3v23Tag extends AbstractID3v2Tag {
         if (!seek(buffer)) {
             throw new TagNotFoundException(getIdentifier() + " tag not found");
         }
-        logger.config(getLoggingFilename() + ":" + "Reading ID3v23 tag");
+        LogHelper.config(logger, "{0}:Reading ID3v23 tag", getLoggingFilename());
 
         readHeaderFlags(buffer);
 
         // Read the size, this is size of tag not including the tag header
         size = ID3SyncSafeInteger.bufferToValue(buffer);
-        logger.config(ErrorMessage.ID_TAG_SIZE.getMsg(getLoggingFilename(), size));
+        LogHelper.config(logger, ErrorMessage.ID_TAG_SIZE.getMsg(), getLoggingFilename(), size);
 
         //Extended Header
         if (extended) {
@@ -518,7 +519,7 @@ public class ID3v23Tag extends AbstractID3v2Tag {
         }
 
         readFrames(bufferWithoutHeader, size);
-        logger.config(getLoggingFilename() + ":Loaded Frames,there are:" + frameMap.keySet().size());
+        LogHelper.config(logger, "{0}:Loaded Frames,there are:{1}", getLoggingFilename(), frameMap.keySet().size());
 
     }
 
@@ -536,11 +537,12 @@ public class ID3v23Tag extends AbstractID3v2Tag {
         ID3v23Frame next;
         frameMap = new LinkedHashMap();
         encryptedFrameMap = new LinkedHashMap();
+        skippedFrameMap = new LinkedHashMap();
 
 
         //Read the size from the Tag Header
         this.fileReadSize = size;
-        logger.finest(getLoggingFilename() + ":Start of frame body at:" + byteBuffer.position() + ",frames data size is:" + size);
+        LogHelper.finest(logger, "{0}:Start of frame body at:{1},frames data size is:{2}", getLoggingFilename(), byteBuffer.position(), size);
 
         // Read the frames until got to up to the size as specified in header or until
         // we hit an invalid frame identifier or padding
@@ -549,15 +551,15 @@ public class ID3v23Tag extends AbstractID3v2Tag {
             try {
                 //Read Frame
                 int posBeforeRead = byteBuffer.position();
-                logger.config(getLoggingFilename() + ":Looking for next frame at:" + posBeforeRead);
+                LogHelper.config(logger, "{0}:Looking for next frame at:{1}", getLoggingFilename(), posBeforeRead);
                 next = new ID3v23Frame(byteBuffer, getLoggingFilename());
                 id = next.getIdentifier();
-                logger.config(getLoggingFilename() + ":Found " + id + " at frame at:" + posBeforeRead);
+                LogHelper.config(logger, "{0}:Found {1} at frame at:{2}", getLoggingFilename(), id, posBeforeRead);
                 loadFrameIntoMap(id, next);
             }
             //Found Padding, no more frames
             catch (PaddingException ex) {
-                logger.config(getLoggingFilename() + ":Found padding starting at:" + byteBuffer.position());
+                LogHelper.config(logger, "{0}:Found padding starting at:{1}", getLoggingFilename(), byteBuffer.position());
                 break;
             }
             //Found Empty Frame, log it - empty frames should not exist
@@ -684,24 +686,24 @@ public class ID3v23Tag extends AbstractID3v2Tag {
      */
     public long write(File file, long audioStartLocation) throws IOException {
         setLoggingFilename(file.getName());
-        logger.config("Writing tag to file:" + getLoggingFilename());
+        LogHelper.config(logger, "Writing tag to file:{0}", getLoggingFilename());
 
         //Write Body Buffer
-        byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
-        logger.config(getLoggingFilename() + ":bodybytebuffer:sizebeforeunsynchronisation:" + bodyByteBuffer.length);
+        byte[] bodyByteBuffer = writeFramesToBuffer((int) audioStartLocation);
+        LogHelper.config(logger, "{0}:bodybytebuffer:sizebeforeunsynchronisation:{1}", getLoggingFilename(), bodyByteBuffer.length);
 
         // Unsynchronize if option enabled and unsync required
         unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
         if (isUnsynchronization()) {
             bodyByteBuffer = ID3Unsynchronization.unsynchronize(bodyByteBuffer);
-            logger.config(getLoggingFilename() + ":bodybytebuffer:sizeafterunsynchronisation:" + bodyByteBuffer.length);
+            LogHelper.config(logger, "{0}:bodybytebuffer:sizeafterunsynchronisation:{1}", getLoggingFilename(), bodyByteBuffer.length);
         }
 
         int sizeIncPadding = calculateTagSize(bodyByteBuffer.length + TAG_HEADER_LENGTH, (int) audioStartLocation);
         int padding = sizeIncPadding - (bodyByteBuffer.length + TAG_HEADER_LENGTH);
-        logger.config(getLoggingFilename() + ":Current audiostart:" + audioStartLocation);
-        logger.config(getLoggingFilename() + ":Size including padding:" + sizeIncPadding);
-        logger.config(getLoggingFilename() + ":Padding:" + padding);
+        LogHelper.config(logger, "{0}:Current audiostart:{1}", getLoggingFilename(), audioStartLocation);
+        LogHelper.config(logger, "{0}:Size including padding:{1}", getLoggingFilename(), sizeIncPadding);
+        LogHelper.config(logger, "{0}:Padding:{1}", getLoggingFilename(), padding);
 
         ByteBuffer headerBuffer = writeHeaderToBuffer(padding, bodyByteBuffer.length);
         writeBufferToFile(file, headerBuffer, bodyByteBuffer, padding, sizeIncPadding, audioStartLocation);
@@ -713,23 +715,23 @@ public class ID3v23Tag extends AbstractID3v2Tag {
      */
     @Override
     public void write(WritableByteChannel channel, int currentTagSize) throws IOException {
-        logger.config(getLoggingFilename() + ":Writing tag to channel");
+        LogHelper.config(logger, "{0}:Writing tag to channel", getLoggingFilename());
 
-        byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
-        logger.config(getLoggingFilename() + ":bodybytebuffer:sizebeforeunsynchronisation:" + bodyByteBuffer.length);
+        byte[] bodyByteBuffer = writeFramesToBuffer(currentTagSize);
+        LogHelper.config(logger, "{0}:bodybytebuffer:sizebeforeunsynchronisation:{1}", getLoggingFilename(), bodyByteBuffer.length);
 
         // Unsynchronize if option enabled and unsync required
         unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
         if (isUnsynchronization()) {
             bodyByteBuffer = ID3Unsynchronization.unsynchronize(bodyByteBuffer);
-            logger.config(getLoggingFilename() + ":bodybytebuffer:sizeafterunsynchronisation:" + bodyByteBuffer.length);
+            LogHelper.config(logger, "{0}:bodybytebuffer:sizeafterunsynchronisation:{1}", getLoggingFilename(), bodyByteBuffer.length);
         }
 
         int padding = 0;
         if (currentTagSize > 0) {
             int sizeIncPadding = calculateTagSize(bodyByteBuffer.length + TAG_HEADER_LENGTH, currentTagSize);
             padding = sizeIncPadding - (bodyByteBuffer.length + TAG_HEADER_LENGTH);
-            logger.config(getLoggingFilename() + ":Padding:" + padding);
+            LogHelper.config(logger, "{0}:Padding:{1}", getLoggingFilename(), padding);
         }
         ByteBuffer headerBuffer = writeHeaderToBuffer(padding, bodyByteBuffer.length);
 
@@ -862,7 +864,7 @@ public class ID3v23Tag extends AbstractID3v2Tag {
      * {@inheritDoc}
      */
     public List<Artwork> getArtworkList() {
-        List<TagField> coverartList = getFields(FieldKey.COVER_ART);
+        List<TagField> coverartList = getFieldList(FieldKey.COVER_ART);
         List<Artwork> artworkList = new ArrayList<Artwork>(coverartList.size());
 
         for (TagField next : coverartList) {
@@ -1029,14 +1031,14 @@ public class ID3v23Tag extends AbstractID3v2Tag {
         }
 
         if (genericKey == FieldKey.YEAR) {
-            AggregatedFrame af = (AggregatedFrame) getFrame(TyerTdatAggregatedFrame.ID_TYER_TDAT);
+            AggregatedFrame af = (AggregatedFrame) frameMap.get(TyerTdatAggregatedFrame.ID_TYER_TDAT);
             if (af != null) {
                 return af.getContent();
             } else {
                 return super.getValue(genericKey, index);
             }
         } else if (genericKey == FieldKey.GENRE) {
-            List<TagField> fields = getFields(genericKey);
+            List<TagField> fields = getFieldList(genericKey);
             if (fields != null && fields.size() > 0) {
                 AbstractID3v2Frame frame = (AbstractID3v2Frame) fields.get(0);
                 FrameBodyTCON body = (FrameBodyTCON) frame.getBody();
@@ -1049,7 +1051,7 @@ public class ID3v23Tag extends AbstractID3v2Tag {
     }
 
     protected void loadFrameIntoMap(String frameId, AbstractID3v2Frame next) {
-        if (next.getBody() instanceof FrameBodyTCON) {
+        if (next.peekBody() instanceof FrameBodyTCON) {
             ((FrameBodyTCON) next.getBody()).setV23Format();
         }
         super.loadFrameIntoMap(frameId, next);
@@ -1110,7 +1112,7 @@ public class ID3v23Tag extends AbstractID3v2Tag {
     @Override
     public List<String> getAll(FieldKey genericKey) throws KeyNotFoundException {
         if (genericKey == FieldKey.GENRE) {
-            List<TagField> fields = getFields(genericKey);
+            List<TagField> fields = getFieldList(genericKey);
             List<String> convertedGenres = new ArrayList<String>();
             if (fields != null && fields.size() > 0) {
                 AbstractID3v2Frame frame = (AbstractID3v2Frame) fields.get(0);
@@ -1122,7 +1124,7 @@ public class ID3v23Tag extends AbstractID3v2Tag {
             }
             return convertedGenres;
         } else if (genericKey == FieldKey.YEAR) {
-            List<TagField> fields = getFields(genericKey);
+            List<TagField> fields = getFieldList(genericKey);
             List<String> results = new ArrayList<String>();
             if (fields != null && fields.size() > 0) {
                 for (TagField next : fields) {
@@ -1145,22 +1147,22 @@ public class ID3v23Tag extends AbstractID3v2Tag {
      * @throws KeyNotFoundException
      */
     @Override
-    public List<TagField> getFields(FieldKey genericKey) throws KeyNotFoundException {
+    protected List<TagField> getFieldList(FieldKey genericKey) throws KeyNotFoundException {
         if (genericKey == null) {
             throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
         }
 
         if (genericKey == FieldKey.YEAR) {
-            AggregatedFrame af = (AggregatedFrame) getFrame(TyerTdatAggregatedFrame.ID_TYER_TDAT);
+            AggregatedFrame af = (AggregatedFrame) frameMap.get(TyerTdatAggregatedFrame.ID_TYER_TDAT);
             if (af != null) {
                 List<TagField> list = new ArrayList<>();
                 list.add(af);
                 return list;
             } else {
-                return super.getFields(genericKey);
+                return super.getFieldList(genericKey);
             }
         } else {
-            return super.getFields(genericKey);
+            return super.getFieldList(genericKey);
         }
     }
 
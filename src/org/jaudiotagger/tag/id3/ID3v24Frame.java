@@ -19,6 +19,7 @@ import org.jaudiotagger.FileConstants;
 import org.jaudiotagger.audio.mp3.MP3File;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.logging.Hex;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.*;
 import org.jaudiotagger.tag.datatype.Lyrics3Line;
 import org.jaudiotagger.tag.id3.framebody.*;
@@ -31,8 +32,6 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.Iterator;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Represents an ID3v2.4 frame.
@@ -42,7 +41,6 @@ import java.util.regex.Pattern;
  * @version $Id$
  */
 public class ID3v24Frame extends AbstractID3v2Frame {
-    private static Pattern validFrameIdentifier = Pattern.compile("[A-Z][0-9A-Z]{3}");
 
     protected static final int FRAME_DATA_LENGTH_SIZE = 4;
 
@@ -114,15 +112,27 @@ public class ID3v24Frame extends AbstractID3v2Frame {
     private void createV24FrameFromV23Frame(ID3v23Frame frame) throws InvalidFrameException {
         // Is it a straight conversion e.g TALB - TALB
         identifier = ID3Tags.convertFrameID23To24(frame.getIdentifier());
-        logger.finer("Creating V24frame from v23:" + frame.getIdentifier() + ":" + identifier);
+        LogHelper.finer(logger, "Creating V24frame from v23:{0}:{1}", frame.getIdentifier(), identifier);
 
+        //Same body in both versions, so share the bytes it was read from rather than decoding and copying it
+        if (frame.getIdentifier().equals(identifier) && shareReadBody(frame)) {
+            return;
+        }
 
+        //Chapters hold frames of the tag version, so these are converted as well
+        if (frame.getBody() instanceof ID3v2ChapterFrameBody) {
+            this.frameBody = (AbstractTagFrameBody) ID3Tags.copyObject(frame.getBody());
+            this.frameBody.setHeader(this);
+            identifier = frame.getIdentifier();
+            ChapterSubFrames.convert((ID3v2ChapterFrameBody) frameBody, true, getLoggingFilename());
+            LogHelper.finer(logger, "V3:Chapter:Orig id is:{0}:New id is:{1}", frame.getIdentifier(), identifier);
+        }
         //We cant convert unsupported bodies properly
-        if (frame.getBody() instanceof FrameBodyUnsupported) {
+        else if (frame.getBody() instanceof FrameBodyUnsupported) {
             this.frameBody = new FrameBodyUnsupported((FrameBodyUnsupported) frame.getBody());
             this.frameBody.setHeader(this);
             identifier = frame.getIdentifier();
-            logger.finer("V3:UnsupportedBody:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+            LogHelper.finer(logger, "V3:UnsupportedBody:Orig id is:{0}:New id is:{1}", frame.getIdentifier(), identifier);
         }//Simple Copy
         else if (identifier != null) {
             //Special Case
@@ -131,7 +141,7 @@ public class ID3v24Frame extends AbstractID3v2Frame {
                 this.frameBody.setHeader(this);
                 identifier = frameBody.getIdentifier();
             } else {
-                logger.finer("V3:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                LogHelper.finer(logger, "V3:Orig id is:{0}:New id is:{1}", frame.getIdentifier(), identifier);
                 this.frameBody = (AbstractTagFrameBody) ID3Tags.copyObject(frame.getBody());
                 this.frameBody.setHeader(this);
             }
@@ -140,7 +150,7 @@ public class ID3v24Frame extends AbstractID3v2Frame {
         else if (ID3Tags.isID3v23FrameIdentifier(frame.getIdentifier())) {
             identifier = ID3Tags.forceFrameID23To24(frame.getIdentifier());
             if (identifier != null) {
-                logger.config("V3:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                LogHelper.config(logger, "V3:Orig id is:{0}:New id is:{1}", frame.getIdentifier(), identifier);
                 this.frameBody = this.readBody(identifier, (AbstractID3v2FrameBody) frame.getBody());
                 this.frameBody.setHeader(this);
             }
@@ -150,7 +160,7 @@ public class ID3v24Frame extends AbstractID3v2Frame {
                 this.frameBody = new FrameBodyDeprecated((AbstractID3v2FrameBody) frame.getBody());
                 this.frameBody.setHeader(this);
                 identifier = frame.getIdentifier();
-                logger.finer("V3:Deprecated:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                LogHelper.finer(logger, "V3:Deprecated:Orig id is:{0}:New id is:{1}", frame.getIdentifier(), identifier);
             }
         }
         // Unknown Frame e.g NCON or TDRL (because TDRL unknown to V23)
@@ -158,7 +168,7 @@ public class ID3v24Frame extends AbstractID3v2Frame {
             this.frameBody = new FrameBodyUnsupported((FrameBodyUnsupported) frame.getBody());
             this.frameBody.setHeader(this);
             identifier = frame.getIdentifier();
-            logger.finer("V3:Unknown:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+            LogHelper.finer(logger, "V3:Unknown:Orig id is:{0}:New id is:{1}", frame.getIdentifier(), identifier);
         }
     }
 
@@ -486,7 +496,7 @@ public class ID3v24Frame extends AbstractID3v2Frame {
         if (!isValidID3v2FrameIdentifier(identifier)) {
             //If not valid move file pointer back to one byte after
             //the original check so can try again.
-            logger.config(getLoggingFilename() + ":" + "Invalid identifier:" + identifier);
+            LogHelper.config(logger, "{0}:Invalid identifier:{1}", getLoggingFilename(), identifier);
             byteBuffer.position(byteBuffer.position() - (getFrameIdSize() - 1));
             throw new InvalidFrameIdentifierException(getLoggingFilename() + ":" + identifier + ":is not a valid ID3v2.30 frame");
         }
@@ -518,7 +528,7 @@ public class ID3v24Frame extends AbstractID3v2Frame {
             //Read the sync safe size field
             dataLengthSize = ID3SyncSafeInteger.bufferToValue(byteBuffer);
             extraHeaderBytesCount += FRAME_DATA_LENGTH_SIZE;
-            logger.config(getLoggingFilename() + ":" + "Frame Size Is:" + frameSize + " Data Length Size:" + dataLengthSize);
+            LogHelper.config(logger, "{0}:Frame Size Is:{1} Data Length Size:{2}", getLoggingFilename(), frameSize, dataLengthSize);
         }
 
         //Work out the real size of the frameBody data
@@ -538,13 +548,14 @@ public class ID3v24Frame extends AbstractID3v2Frame {
             //bytes to be dropped so the existing buffer is large enough to hold the modifications
             frameBodyBuffer = ID3Unsynchronization.synchronize(frameBodyBuffer);
             syncSize = frameBodyBuffer.limit();
-            logger.config(getLoggingFilename() + ":" + "Frame Size After Syncing is:" + syncSize);
+            LogHelper.config(logger, "{0}:Frame Size After Syncing is:{1}", getLoggingFilename(), syncSize);
         }
 
         //Read the body data
         try {
             if (((EncodingFlags) encodingFlags).isCompression()) {
-                frameBodyBuffer = ID3Compression.uncompress(identifier, getLoggingFilename(), byteBuffer, dataLengthSize, realFrameSize);
+                //Decompress the body once it has been synchronized
+                frameBodyBuffer = ID3Compression.uncompress(identifier, getLoggingFilename(), frameBodyBuffer, dataLengthSize, syncSize);
                 if (((EncodingFlags) encodingFlags).isEncryption()) {
                     frameBody = readEncryptedBody(identifier, frameBodyBuffer, dataLengthSize);
                 } else {
@@ -558,7 +569,7 @@ public class ID3v24Frame extends AbstractID3v2Frame {
                 frameBody = readBody(identifier, frameBodyBuffer, syncSize);
             }
             if (!(frameBody instanceof ID3v24FrameBody)) {
-                logger.config(getLoggingFilename() + ":" + "Converted frame body with:" + identifier + " to deprecated framebody");
+                LogHelper.config(logger, "{0}:Converted frame body with:{1} to deprecated framebody", getLoggingFilename(), identifier);
                 frameBody = new FrameBodyDeprecated((AbstractID3v2FrameBody) frameBody);
             }
         } finally {
@@ -574,7 +585,7 @@ public class ID3v24Frame extends AbstractID3v2Frame {
     public void write(ByteArrayOutputStream tagBuffer) {
         boolean unsynchronization;
 
-        logger.config("Writing frame to file:" + getIdentifier());
+        LogHelper.config(logger, "Writing frame to file:{0}", getIdentifier());
 
         //This is where we will write header, move position to where we can
         //write bodybuffer
@@ -582,14 +593,27 @@ public class ID3v24Frame extends AbstractID3v2Frame {
 
         //Write Frame Body Data to a new stream
         ByteArrayOutputStream bodyOutputStream = new ByteArrayOutputStream();
-        ((AbstractID3v2FrameBody) frameBody).write(bodyOutputStream);
+        writeBody(bodyOutputStream);
 
-        //Does it need unsynchronizing, and are we allowing unsychronizing
         byte[] bodyBuffer = bodyOutputStream.toByteArray();
+
+        //Compress large frames if the tag is being compressed to fit, encrypted bodies are left as they are, the
+        //data length indicator then holds the size of the uncompressed body
+        int dataLengthSize = bodyBuffer.length;
+        boolean compression = false;
+        if (!((EncodingFlags) encodingFlags).isEncryption()) {
+            byte[] compressedBuffer = compressBody(bodyBuffer);
+            if (compressedBuffer != null) {
+                bodyBuffer = compressedBuffer;
+                compression = true;
+            }
+        }
+
+        //Does it need unsynchronizing, and are we allowing unsychronizing
         unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyBuffer);
         if (unsynchronization) {
             bodyBuffer = ID3Unsynchronization.unsynchronize(bodyBuffer);
-            logger.config("bodybytebuffer:sizeafterunsynchronisation:" + bodyBuffer.length);
+            LogHelper.config(logger, "bodybytebuffer:sizeafterunsynchronisation:{0}", bodyBuffer.length);
         }
 
         //Write Frame Header
@@ -601,9 +625,9 @@ public class ID3v24Frame extends AbstractID3v2Frame {
         headerBuffer.put(getIdentifier().getBytes(Charset.forName("ISO-8859-1")), 0, FRAME_ID_SIZE);
 
         //Write Frame Size based on size of body buffer (if it has been unsynced then it size
-        //will have increased accordingly
-        int size = bodyBuffer.length;
-        logger.fine("Frame Size Is:" + size);
+        //will have increased accordingly), a compressed frame also holds the data length
+        int size = compression ? bodyBuffer.length + FRAME_DATA_LENGTH_SIZE : bodyBuffer.length;
+        LogHelper.fine(logger, "Frame Size Is:{0}", size);
         headerBuffer.put(ID3SyncSafeInteger.valueToBuffer(size));
 
         //Write the Flags
@@ -619,21 +643,31 @@ public class ID3v24Frame extends AbstractID3v2Frame {
         } else {
             ((ID3v24Frame.EncodingFlags) encodingFlags).unsetUnsynchronised();
         }
-        //These are not currently supported on write
-        ((ID3v24Frame.EncodingFlags) encodingFlags).unsetCompression();
-        ((ID3v24Frame.EncodingFlags) encodingFlags).unsetDataLengthIndicator();
+        //Previously compressed frames were uncompressed on read, so only compressed if compressing now
+        if (compression) {
+            ((ID3v24Frame.EncodingFlags) encodingFlags).setCompression();
+            ((ID3v24Frame.EncodingFlags) encodingFlags).setDataLengthIndicator();
+        } else {
+            ((ID3v24Frame.EncodingFlags) encodingFlags).unsetCompression();
+            ((ID3v24Frame.EncodingFlags) encodingFlags).unsetDataLengthIndicator();
+        }
         headerBuffer.put(encodingFlags.getFlags());
 
         try {
             //Add header to the Byte Array Output Stream
             tagBuffer.write(headerBuffer.array());
 
+            //Extra header bytes are written in the order they are read
+            if (((EncodingFlags) encodingFlags).isGrouping()) {
+                tagBuffer.write(groupIdentifier);
+            }
+
             if (((EncodingFlags) encodingFlags).isEncryption()) {
                 tagBuffer.write(encryptionMethod);
             }
 
-            if (((EncodingFlags) encodingFlags).isGrouping()) {
-                tagBuffer.write(groupIdentifier);
+            if (compression) {
+                tagBuffer.write(ID3SyncSafeInteger.valueToBuffer(dataLengthSize));
             }
 
             //Add bodybuffer to the Byte Array Output Stream
@@ -827,15 +861,15 @@ public class ID3v24Frame extends AbstractID3v2Frame {
             }
 
             if (isGrouping()) {
-                logger.config(ErrorMessage.MP3_FRAME_IS_GROUPED.getMsg(getLoggingFilename(), identifier));
+                LogHelper.config(logger, ErrorMessage.MP3_FRAME_IS_GROUPED.getMsg(), getLoggingFilename(), identifier);
             }
 
             if (isUnsynchronised()) {
-                logger.config(ErrorMessage.MP3_FRAME_IS_UNSYNCHRONISED.getMsg(getLoggingFilename(), identifier));
+                LogHelper.config(logger, ErrorMessage.MP3_FRAME_IS_UNSYNCHRONISED.getMsg(), getLoggingFilename(), identifier);
             }
 
             if (isDataLengthIndicator()) {
-                logger.config(ErrorMessage.MP3_FRAME_IS_DATA_LENGTH_INDICATOR.getMsg(getLoggingFilename(), identifier));
+                LogHelper.config(logger, ErrorMessage.MP3_FRAME_IS_DATA_LENGTH_INDICATOR.getMsg(), getLoggingFilename(), identifier);
             }
         }
 
@@ -937,8 +971,7 @@ public class ID3v24Frame extends AbstractID3v2Frame {
      * @return whether the identifier is valid
      */
     public boolean isValidID3v2FrameIdentifier(String identifier) {
-        Matcher m = ID3v24Frame.validFrameIdentifier.matcher(identifier);
-        return m.matches();
+        return PackedFrameId.isValid(identifier, FRAME_ID_SIZE);
     }
 
     /**
@@ -949,7 +982,7 @@ public class ID3v24Frame extends AbstractID3v2Frame {
         MP3File.getStructureFormatter().addElement(TYPE_FRAME_SIZE, frameSize);
         statusFlags.createStructure();
         encodingFlags.createStructure();
-        frameBody.createStructure();
+        getBody().createStructure();
         MP3File.getStructureFormatter().closeHeadingElement(TYPE_FRAME);
     }
 
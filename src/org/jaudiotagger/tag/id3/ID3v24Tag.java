@@ -18,6 +18,7 @@ package org.jaudiotagger.tag.id3;
 import org.jaudiotagger.FileConstants;
 import org.jaudiotagger.audio.mp3.MP3File;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.*;
 import org.jaudiotagger.tag.datatype.DataTypes;
 import org.jaudiotagger.tag.datatype.Pair;
@@ -621,7 +622,7 @@ public class ID3v24Tag extends AbstractID3v2Tag {
             }
         }
         size += super.getSize();
-        logger.finer("Tag Size is" + size);
+        LogHelper.finer(logger, "Tag Size is{0}", size);
         return size;
     }
 
@@ -692,15 +693,15 @@ public class ID3v24Tag extends AbstractID3v2Tag {
 
 
         if (isUnsynchronization()) {
-            logger.config(ErrorMessage.ID3_TAG_UNSYNCHRONIZED.getMsg(getLoggingFilename()));
+            LogHelper.config(logger, ErrorMessage.ID3_TAG_UNSYNCHRONIZED.getMsg(), getLoggingFilename());
         }
 
         if (extended) {
-            logger.config(ErrorMessage.ID3_TAG_EXTENDED.getMsg(getLoggingFilename()));
+            LogHelper.config(logger, ErrorMessage.ID3_TAG_EXTENDED.getMsg(), getLoggingFilename());
         }
 
         if (experimental) {
-            logger.config(ErrorMessage.ID3_TAG_EXPERIMENTAL.getMsg(getLoggingFilename()));
+            LogHelper.config(logger, ErrorMessage.ID3_TAG_EXPERIMENTAL.getMsg(), getLoggingFilename());
         }
 
         if (footer) {
@@ -779,12 +780,12 @@ public class ID3v24Tag extends AbstractID3v2Tag {
         if (!seek(byteBuffer)) {
             throw new TagNotFoundException(getLoggingFilename() + ":" + getIdentifier() + " tag not found");
         }
-        logger.config(getLoggingFilename() + ":" + "Reading ID3v24 tag");
+        LogHelper.config(logger, "{0}:Reading ID3v24 tag", getLoggingFilename());
         readHeaderFlags(byteBuffer);
 
         // Read the size, this is size of tag apart from tag header
         size = ID3SyncSafeInteger.bufferToValue(byteBuffer);
-        logger.config(getLoggingFilename() + ":" + "Reading tag from file size set in header is" + size);
+        LogHelper.config(logger, "{0}:Reading tag from file size set in header is{1}", getLoggingFilename(), size);
 
         if (extended) {
             readExtendedHeader(byteBuffer, size);
@@ -802,28 +803,29 @@ public class ID3v24Tag extends AbstractID3v2Tag {
      * @param size
      */
     protected void readFrames(ByteBuffer byteBuffer, int size) {
-        logger.finest(getLoggingFilename() + ":" + "Start of frame body at" + byteBuffer.position());
+        LogHelper.finest(logger, "{0}:Start of frame body at{1}", getLoggingFilename(), byteBuffer.position());
         //Now start looking for frames
         ID3v24Frame next;
         frameMap = new LinkedHashMap();
         encryptedFrameMap = new LinkedHashMap();
+        skippedFrameMap = new LinkedHashMap();
 
         //Read the size from the Tag Header
         this.fileReadSize = size;
         // Read the frames until got to upto the size as specified in header
-        logger.finest(getLoggingFilename() + ":" + "Start of frame body at:" + byteBuffer.position() + ",frames data size is:" + size);
+        LogHelper.finest(logger, "{0}:Start of frame body at:{1},frames data size is:{2}", getLoggingFilename(), byteBuffer.position(), size);
         while (byteBuffer.position() <= size) {
             String id;
             try {
                 //Read Frame
-                logger.finest(getLoggingFilename() + ":" + "looking for next frame at:" + byteBuffer.position());
+                LogHelper.finest(logger, "{0}:looking for next frame at:{1}", getLoggingFilename(), byteBuffer.position());
                 next = new ID3v24Frame(byteBuffer, getLoggingFilename());
                 id = next.getIdentifier();
                 loadFrameIntoMap(id, next);
             }
             //Found Padding, no more frames
             catch (PaddingException ex) {
-                logger.config(getLoggingFilename() + ":Found padding starting at:" + byteBuffer.position());
+                LogHelper.config(logger, "{0}:Found padding starting at:{1}", getLoggingFilename(), byteBuffer.position());
                 break;
             }
             //Found Empty Frame
@@ -831,7 +833,7 @@ public class ID3v24Tag extends AbstractID3v2Tag {
                 logger.warning(getLoggingFilename() + ":" + "Empty Frame:" + ex.getMessage());
                 this.emptyFrameBytes += TAG_HEADER_LENGTH;
             } catch (InvalidFrameIdentifierException ifie) {
-                logger.config(getLoggingFilename() + ":" + "Invalid Frame Identifier:" + ifie.getMessage());
+                LogHelper.config(logger, "{0}:Invalid Frame Identifier:{1}", getLoggingFilename(), ifie.getMessage());
                 this.invalidFrames++;
                 //Don't try and find any more frames
                 break;
@@ -984,10 +986,10 @@ public class ID3v24Tag extends AbstractID3v2Tag {
     @Override
     public long write(File file, long audioStartLocation) throws IOException {
         setLoggingFilename(file.getName());
-        logger.config("Writing tag to file:" + getLoggingFilename());
+        LogHelper.config(logger, "Writing tag to file:{0}", getLoggingFilename());
 
         //Write Body Buffer
-        byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
+        byte[] bodyByteBuffer = writeFramesToBuffer((int) audioStartLocation);
 
         //Calculate Tag Size including Padding
         int sizeIncPadding = calculateTagSize(bodyByteBuffer.length + TAG_HEADER_LENGTH, (int) audioStartLocation);
@@ -1007,7 +1009,7 @@ public class ID3v24Tag extends AbstractID3v2Tag {
     public void write(WritableByteChannel channel, int currentTagSize) throws IOException {
         logger.severe("Writing tag to channel");
 
-        byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
+        byte[] bodyByteBuffer = writeFramesToBuffer(currentTagSize);
 
 
         int padding = 0;
@@ -1163,7 +1165,7 @@ public class ID3v24Tag extends AbstractID3v2Tag {
     }
 
     public List<Artwork> getArtworkList() {
-        List<TagField> coverartList = getFields(FieldKey.COVER_ART);
+        List<TagField> coverartList = getFieldList(FieldKey.COVER_ART);
         List<Artwork> artworkList = new ArrayList<Artwork>(coverartList.size());
 
         for (TagField next : coverartList) {
@@ -1264,7 +1266,7 @@ public class ID3v24Tag extends AbstractID3v2Tag {
      */
     public List<String> getAll(FieldKey genericKey) throws KeyNotFoundException {
         if (genericKey == FieldKey.GENRE) {
-            List<TagField> fields = getFields(genericKey);
+            List<TagField> fields = getFieldList(genericKey);
             List<String> convertedGenres = new ArrayList<String>();
             if (fields != null && fields.size() > 0) {
                 AbstractID3v2Frame frame = (AbstractID3v2Frame) fields.get(0);
@@ -1296,7 +1298,7 @@ public class ID3v24Tag extends AbstractID3v2Tag {
         }
 
         if (genericKey == FieldKey.GENRE) {
-            List<TagField> fields = getFields(genericKey);
+            List<TagField> fields = getFieldList(genericKey);
             if (fields != null && fields.size() > 0) {
                 AbstractID3v2Frame frame = (AbstractID3v2Frame) fields.get(0);
                 FrameBodyTCON body = (FrameBodyTCON) frame.getBody();
@@ -46,6 +46,8 @@ public class ID3v2ChapterFrames extends ID3Frames {
         idToValue.put(FRAME_ID_TABLE_OF_CONTENT, "Table of content");
         createMaps();
         multipleFrames = new TreeSet<String>();
+        multipleFrames.add(FRAME_ID_CHAPTER);
+        multipleFrames.add(FRAME_ID_TABLE_OF_CONTENT);
         discardIfFileAlteredFrames = new TreeSet<String>();
     }
 }
@@ -0,0 +1,276 @@
+package org.jaudiotagger.tag.id3;
+
+import org.jaudiotagger.tag.id3.framebody.AbstractFrameBodyTextInfo;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyCHAP;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyCTOC;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Index of the chapters of an ID3v2 tag, sorted by start time
+ *
+ * <p>The chapter times and offsets are held in primitive arrays so they can be searched without decoding the chapter
+ * frames again. The frames embedded in each chapter are only decoded when asked for, and changing a chapter title
+ * only replaces the title frame embedded in that chapter, the other embedded frames and all other frames of the tag
+ * are written as they were read.
+ *
+ * <p>The index is created by {@link AbstractID3v2Tag#getChapterIndex()} and is created again once the tag has been
+ * modified. Changes made directly to the chapter frame bodies are not seen by an index that has already been created.
+ */
+public final class ID3v2ChapterIndex {
+    /**
+     * Returned by offset getters when the chapter does not give the offset
+     */
+    public static final long OFFSET_NOT_GIVEN = -1;
+
+    private final AbstractID3v2Tag tag;
+    private final boolean v24;
+    private final AbstractID3v2Frame[] frames;
+    private final String[] elementIds;
+    private final long[] startTimes;
+    private final long[] endTimes;
+    private final long[] startOffsets;
+    private final long[] endOffsets;
+    private final String[] titles;
+    private final boolean[] titlesRead;
+    private String[] tableOfContents;
+
+    /**
+     * Index the chapter frames of the tag
+     *
+     * @param tag
+     */
+    ID3v2ChapterIndex(AbstractID3v2Tag tag) {
+        this.tag = tag;
+        this.v24 = tag instanceof ID3v24Tag;
+
+        List<AbstractID3v2Frame> chapters = getFrames(tag, ID3v2ChapterFrames.FRAME_ID_CHAPTER);
+        int count = 0;
+        FrameBodyCHAP[] bodies = new FrameBodyCHAP[chapters.size()];
+        AbstractID3v2Frame[] chapterFrames = new AbstractID3v2Frame[chapters.size()];
+        for (AbstractID3v2Frame frame : chapters) {
+            if (frame.getBody() instanceof FrameBodyCHAP) {
+                chapterFrames[count] = frame;
+                bodies[count++] = (FrameBodyCHAP) frame.getBody();
+            }
+        }
+
+        //Sort on start time with the index as the low bits, so the sort is on primitives and chapters with the same
+        //start time keep the order they have in the tag
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = ((bodies[i].getStartTime() & 0xFFFFFFFFL) << 31) | i;
+        }
+        Arrays.sort(keys);
+
+        frames = new AbstractID3v2Frame[count];
+        elementIds = new String[count];
+        startTimes = new long[count];
+        endTimes = new long[count];
+        startOffsets = new long[count];
+        endOffsets = new long[count];
+        titles = new String[count];
+        titlesRead = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            int j = (int) (keys[i] & Integer.MAX_VALUE);
+            FrameBodyCHAP body = bodies[j];
+            frames[i] = chapterFrames[j];
+            elementIds[i] = body.getElementId();
+            startTimes[i] = body.getStartTime() & 0xFFFFFFFFL;
+            endTimes[i] = body.getEndTime() & 0xFFFFFFFFL;
+            startOffsets[i] = toOffset(body.getStartOffset());
+            endOffsets[i] = toOffset(body.getEndOffset());
+        }
+    }
+
+    private static long toOffset(long offset) {
+        return offset == FrameBodyCHAP.OFFSET_NOT_GIVEN ? OFFSET_NOT_GIVEN : offset;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<AbstractID3v2Frame> getFrames(AbstractID3v2Tag tag, String identifier) {
+        Object o = tag.frameMap.get(identifier);
+        if (o instanceof AbstractID3v2Frame) {
+            return Collections.singletonList((AbstractID3v2Frame) o);
+        } else if (o instanceof List) {
+            return (List<AbstractID3v2Frame>) o;
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * @return the number of chapters
+     */
+    public int size() {
+        return frames.length;
+    }
+
+    /**
+     * @param index
+     * @return the chapter frame
+     */
+    public AbstractID3v2Frame getFrame(int index) {
+        return frames[index];
+    }
+
+    /**
+     * @param index
+     * @return the element id of the chapter
+     */
+    public String getElementId(int index) {
+        return elementIds[index];
+    }
+
+    /**
+     * @param elementId
+     * @return the index of the chapter with the element id, or -1 if there is none
+     */
+    public int indexOfElementId(String elementId) {
+        for (int i = 0; i < elementIds.length; i++) {
+            if (elementId.equals(elementIds[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param index
+     * @return the start of the chapter in milliseconds
+     */
+    public long getStartTime(int index) {
+        return startTimes[index];
+    }
+
+    /**
+     * @param index
+     * @return the end of the chapter in milliseconds
+     */
+    public long getEndTime(int index) {
+        return endTimes[index];
+    }
+
+    /**
+     * @param index
+     * @return byte offset of the first audio frame of the chapter, or {@link #OFFSET_NOT_GIVEN}
+     */
+    public long getStartOffset(int index) {
+        return startOffsets[index];
+    }
+
+    /**
+     * @param index
+     * @return byte offset of the audio frame following the chapter, or {@link #OFFSET_NOT_GIVEN}
+     */
+    public long getEndOffset(int index) {
+        return endOffsets[index];
+    }
+
+    /**
+     * Find the chapter playing at the time
+     *
+     * @param timeMillis
+     * @return the index of the last chapter starting at or before the time that has not ended by then, or -1 if
+     * there is no such chapter
+     */
+    public int indexOf(long timeMillis) {
+        int low = 0;
+        int high = startTimes.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (startTimes[mid] <= timeMillis) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (found != -1 && timeMillis >= endTimes[found]) {
+            return -1;
+        }
+        return found;
+    }
+
+    /**
+     * The title is decoded from the title frame embedded in the chapter when first asked for, no other embedded frame
+     * is decoded
+     *
+     * @param index
+     * @return the title of the chapter, or null if it has none
+     */
+    public String getTitle(int index) {
+        if (!titlesRead[index]) {
+            titles[index] = readTitle(index);
+            titlesRead[index] = true;
+        }
+        return titles[index];
+    }
+
+    private String readTitle(int index) {
+        byte[] data = getBody(index).getSubFrameData();
+        int offset = ChapterSubFrames.find(data, ID3v24Frames.FRAME_ID_TITLE, v24);
+        if (offset == -1) {
+            return null;
+        }
+        List<AbstractID3v2Frame> title = ChapterSubFrames.read(data, offset, ChapterSubFrames.getFrameLength(data, offset, v24), v24, tag.getLoggingFilename());
+        if (title.isEmpty() || !(title.get(0).getBody() instanceof AbstractFrameBodyTextInfo)) {
+            return null;
+        }
+        return ((AbstractFrameBodyTextInfo) title.get(0).getBody()).getFirstTextValue();
+    }
+
+    /**
+     * Set the title of the chapter, only the title frame embedded in the chapter is replaced so the other embedded
+     * frames are kept as they are, and the other frames of the tag are written as they were read
+     *
+     * @param index
+     * @param title
+     */
+    public void setTitle(int index, String title) {
+        AbstractID3v2Frame titleFrame = v24 ? new ID3v24Frame(ID3v24Frames.FRAME_ID_TITLE) : new ID3v23Frame(ID3v23Frames.FRAME_ID_V3_TITLE);
+        ((AbstractFrameBodyTextInfo) titleFrame.getBody()).setText(title);
+        FrameBodyCHAP body = getBody(index);
+        body.setSubFrameData(ChapterSubFrames.replace(body.getSubFrameData(), titleFrame, v24));
+        titles[index] = title;
+        titlesRead[index] = true;
+
+        //The tag has been changed but this index still holds
+        tag.setModified(true);
+        tag.chapterIndex = this;
+    }
+
+    /**
+     * Decode all the frames embedded in the chapter
+     *
+     * @param index
+     * @return the embedded frames, of the same version as the tag, changing them does not change the chapter
+     */
+    public List<AbstractID3v2Frame> getSubFrames(int index) {
+        byte[] data = getBody(index).getSubFrameData();
+        return ChapterSubFrames.read(data, 0, data.length, v24, tag.getLoggingFilename());
+    }
+
+    private FrameBodyCHAP getBody(int index) {
+        return (FrameBodyCHAP) frames[index].getBody();
+    }
+
+    /**
+     * @return the element ids of the top level table of contents, the order the chapters are meant to be played in if
+     * the table of contents is ordered, or an empty array if the tag has no top level table of contents
+     */
+    public String[] getTableOfContents() {
+        if (tableOfContents == null) {
+            tableOfContents = new String[0];
+            for (AbstractID3v2Frame frame : getFrames(tag, ID3v2ChapterFrames.FRAME_ID_TABLE_OF_CONTENT)) {
+                if (frame.getBody() instanceof FrameBodyCTOC && ((FrameBodyCTOC) frame.getBody()).isTopLevel()) {
+                    tableOfContents = ((FrameBodyCTOC) frame.getBody()).getChildElementIds();
+                    break;
+                }
+            }
+        }
+        return tableOfContents.clone();
+    }
+}
@@ -0,0 +1,90 @@
+package org.jaudiotagger.tag.id3;
+
+/**
+ * Frame identifiers packed into an int
+ *
+ * <p>Each character of the three (v22) or four (v23, v24) character identifier takes one byte of the int, the first
+ * character in the most significant byte used. Identifiers that are not a capital letter followed by capital letters
+ * and numbers do not have a packed form, so packing also checks the identifier syntax without a regular expression or
+ * creating a String.
+ */
+public final class PackedFrameId {
+    /**
+     * Returned when the identifier is not a valid frame identifier, no valid identifier packs to zero
+     */
+    public static final int INVALID = 0;
+
+    private PackedFrameId() {
+    }
+
+    private static int packChar(int code, int c, boolean first) {
+        if ((c >= 'A' && c <= 'Z') || (!first && c >= '0' && c <= '9')) {
+            return (code << 8) | c;
+        }
+        return INVALID;
+    }
+
+    /**
+     * Pack the first length characters of the identifier
+     *
+     * @param identifier
+     * @param length     3 for v22 identifiers, 4 otherwise
+     * @return the packed identifier, or {@link #INVALID} if the identifier is too short or its first length
+     * characters are not a valid frame identifier
+     */
+    public static int pack(CharSequence identifier, int length) {
+        if (identifier.length() < length) {
+            return INVALID;
+        }
+        int code = INVALID;
+        for (int i = 0; i < length; i++) {
+            code = packChar(code, identifier.charAt(i), i == 0);
+            if (code == INVALID) {
+                return INVALID;
+            }
+        }
+        return code;
+    }
+
+    /**
+     * Pack the identifier as held in the frame header
+     *
+     * @param arr
+     * @param offset
+     * @param length 3 for v22 identifiers, 4 otherwise
+     * @return the packed identifier, or {@link #INVALID} if the bytes are not a valid frame identifier
+     */
+    public static int pack(byte[] arr, int offset, int length) {
+        int code = INVALID;
+        for (int i = 0; i < length; i++) {
+            code = packChar(code, arr[offset + i] & 0xff, i == 0);
+            if (code == INVALID) {
+                return INVALID;
+            }
+        }
+        return code;
+    }
+
+    /**
+     * @param identifier
+     * @param length     3 for v22 identifiers, 4 otherwise
+     * @return true if the identifier is exactly length characters and a valid frame identifier
+     */
+    public static boolean isValid(CharSequence identifier, int length) {
+        return identifier.length() == length && pack(identifier, length) != INVALID;
+    }
+
+    /**
+     * @param code packed identifier
+     * @return the identifier as a String
+     */
+    public static String unpack(int code) {
+        final int length = (code & 0xff000000) != 0 ? 4 : 3;
+        final char[] chars = new char[length];
+        for (int i = length - 1; i >= 0; i--) {
+            chars[i] = (char) (code & 0xff);
+            code >>>= 8;
+        }
+        return new String(chars);
+    }
+}
@@ -24,6 +24,7 @@
 package org.jaudiotagger.tag.id3.framebody;
 
 import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.InvalidFrameException;
 import org.jaudiotagger.tag.InvalidTagException;
@@ -32,6 +33,7 @@ import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 
 /**
@@ -114,6 +116,18 @@ public abstract class AbstractID3v2FrameBody extends AbstractTagFrameBody {
         }
     }
 
+    /**
+     * Can the bytes this body was read from be written again while it is unmodified rather than encoding it.
+     * <p>
+     * Only enabled for bodies that can hold large binary data, encoding small text bodies costs little and applies
+     * the text encoding options on write.
+     *
+     * @return true if the bytes read can be written again
+     */
+    public boolean isReadDataReusable() {
+        return false;
+    }
+
     /**
      * Are two bodies equal
      *
@@ -133,18 +147,29 @@ public abstract class AbstractID3v2FrameBody extends AbstractTagFrameBody {
      * @param byteBuffer file to read
      * @throws InvalidFrameException if unable to construct a frameBody from the ByteBuffer
      */
-    //TODO why don't we just slice byteBuffer, set limit to size and convert readByteArray to take a ByteBuffer
-    //then we wouldn't have to temporary allocate space for the buffer, using lots of needless memory
-    //and providing extra work for the garbage collector.
     public void read(ByteBuffer byteBuffer) throws InvalidTagException {
         int size = getSize();
-        logger.config("Reading body for" + this.getIdentifier() + ":" + size);
-
-        //Allocate a buffer to the size of the Frame Body and read from file
-        byte[] buffer = new byte[size];
-        byteBuffer.get(buffer);
+        LogHelper.config(logger, "Reading body for{0}:{1}", this.getIdentifier(), size);
+
+        //Read the datatypes straight from the array backing the buffer, only when there is no accessible array
+        //is the Frame Body copied to a buffer of its own
+        final byte[] buffer;
+        final int start;
+        if (byteBuffer.hasArray()) {
+            if (byteBuffer.remaining() < size) {
+                throw new BufferUnderflowException();
+            }
+            buffer = byteBuffer.array();
+            start = byteBuffer.arrayOffset() + byteBuffer.position();
+            byteBuffer.position(byteBuffer.position() + size);
+        } else {
+            buffer = new byte[size];
+            byteBuffer.get(buffer);
+            start = 0;
+        }
+        final int end = start + size;
 
-        //Offset into buffer, incremented by length of previous dataType
+        //Offset into the Frame Body, incremented by length of previous dataType
         //this offset is only used internally to decide where to look for the next
         //dataType within a frameBody, it does not decide where to look for the next frame body
         int offset = 0;
@@ -153,7 +178,7 @@ public abstract class AbstractID3v2FrameBody extends AbstractTagFrameBody {
         for (AbstractDataType object : objectList)
         //correct dataType.
         {
-            logger.finest("offset:" + offset);
+            LogHelper.finest(logger, "offset:{0}", offset);
 
             //The read has extended further than the defined frame size (ok to extend upto
             //size because the next datatype may be of length 0.)
@@ -165,7 +190,7 @@ public abstract class AbstractID3v2FrameBody extends AbstractTagFrameBody {
             //Try and load it with data from the Buffer
             //if it fails frame is invalid
             try {
-                object.readByteArray(buffer, offset);
+                object.readByteArray(buffer, start + offset, end);
             } catch (InvalidDataTypeException e) {
                 logger.warning("Problem reading datatype within Frame Body:" + e.getMessage());
                 throw e;
@@ -181,7 +206,7 @@ public abstract class AbstractID3v2FrameBody extends AbstractTagFrameBody {
      * @param tagBuffer
      */
     public void write(ByteArrayOutputStream tagBuffer) {
-        logger.config("Writing frame body for" + this.getIdentifier() + ":Est Size:" + size);
+        LogHelper.config(logger, "Writing frame body for{0}:Est Size:{1}", this.getIdentifier(), size);
         //Write the various fields to file in order
         for (AbstractDataType object : objectList) {
             byte[] objectData = object.writeByteArray();
@@ -195,7 +220,7 @@ public abstract class AbstractID3v2FrameBody extends AbstractTagFrameBody {
             }
         }
         setSize();
-        logger.config("Written frame body for" + this.getIdentifier() + ":Real Size:" + size);
+        LogHelper.config(logger, "Written frame body for{0}:Real Size:{1}", this.getIdentifier(), size);
 
     }
 
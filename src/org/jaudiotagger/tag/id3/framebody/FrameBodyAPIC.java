@@ -233,6 +233,15 @@ public class FrameBodyAPIC extends AbstractID3v2FrameBody implements ID3v24Frame
         return ID3v24Frames.FRAME_ID_ATTACHED_PICTURE;
     }
 
+    /**
+     * The image data is written again as read unless the description has to be rewritten for iTunes
+     *
+     * @return true if the bytes read can be written again
+     */
+    public boolean isReadDataReusable() {
+        return !TagOptionSingleton.getInstance().isAPICDescriptionITunesCompatible();
+    }
+
 
     /**
      * If the description cannot be encoded using current encoder, change the encoder
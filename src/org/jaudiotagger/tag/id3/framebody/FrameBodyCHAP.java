@@ -16,6 +16,7 @@
 package org.jaudiotagger.tag.id3.framebody;
 
 import org.jaudiotagger.tag.InvalidTagException;
+import org.jaudiotagger.tag.datatype.ByteArraySizeTerminated;
 import org.jaudiotagger.tag.datatype.DataTypes;
 import org.jaudiotagger.tag.datatype.NumberFixedLength;
 import org.jaudiotagger.tag.datatype.StringNullTerminated;
@@ -78,7 +79,12 @@ import java.nio.ByteBuffer;
  * @author Marc Gimpel, Horizon Wimba S.A.
  * @version $Id$
  */
-public class FrameBodyCHAP extends AbstractID3v2FrameBody implements ID3v2ChapterFrameBody {
+public class FrameBodyCHAP extends AbstractID3v2FrameBody implements ID3v2ChapterFrameBody, ID3v24FrameBody, ID3v23FrameBody {
+    /**
+     * Start and end offsets with all bytes set to 0xFF are not given
+     */
+    public static final long OFFSET_NOT_GIVEN = 0xFFFFFFFFL;
+
     /**
      * Creates a new FrameBodyCHAP datatype.
      */
@@ -131,6 +137,57 @@ public class FrameBodyCHAP extends AbstractID3v2FrameBody implements ID3v2Chapte
         return ID3v2ChapterFrames.FRAME_ID_CHAPTER;
     }
 
+    /**
+     * @return true, the bytes read can be written again
+     */
+    public boolean isReadDataReusable() {
+        return true;
+    }
+
+    /**
+     * @return the element id
+     */
+    public String getElementId() {
+        return (String) getObjectValue(DataTypes.OBJ_ELEMENT_ID);
+    }
+
+    /**
+     * @return start of the chapter in milliseconds from the start of the file
+     */
+    public long getStartTime() {
+        return ((Number) getObjectValue(DataTypes.OBJ_START_TIME)).longValue();
+    }
+
+    /**
+     * @return end of the chapter in milliseconds from the start of the file
+     */
+    public long getEndTime() {
+        return ((Number) getObjectValue(DataTypes.OBJ_END_TIME)).longValue();
+    }
+
+    /**
+     * @return byte offset of the first audio frame of the chapter, or {@link #OFFSET_NOT_GIVEN}
+     */
+    public long getStartOffset() {
+        return ((Number) getObjectValue(DataTypes.OBJ_START_OFFSET)).longValue() & 0xFFFFFFFFL;
+    }
+
+    /**
+     * @return byte offset of the audio frame following the chapter, or {@link #OFFSET_NOT_GIVEN}
+     */
+    public long getEndOffset() {
+        return ((Number) getObjectValue(DataTypes.OBJ_END_OFFSET)).longValue() & 0xFFFFFFFFL;
+    }
+
+    public byte[] getSubFrameData() {
+        byte[] subFrameData = (byte[]) getObjectValue(DataTypes.OBJ_SUB_FRAMES);
+        return subFrameData != null ? subFrameData : new byte[0];
+    }
+
+    public void setSubFrameData(byte[] subFrameData) {
+        setObjectValue(DataTypes.OBJ_SUB_FRAMES, subFrameData);
+    }
+
     /**
      *
      */
@@ -140,5 +197,6 @@ public class FrameBodyCHAP extends AbstractID3v2FrameBody implements ID3v2Chapte
         objectList.add(new NumberFixedLength(DataTypes.OBJ_END_TIME, this, 4));
         objectList.add(new NumberFixedLength(DataTypes.OBJ_START_OFFSET, this, 4));
         objectList.add(new NumberFixedLength(DataTypes.OBJ_END_OFFSET, this, 4));
+        objectList.add(new ByteArraySizeTerminated(DataTypes.OBJ_SUB_FRAMES, this));
     }
 }
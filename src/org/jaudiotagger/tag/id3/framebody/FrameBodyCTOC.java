@@ -21,6 +21,7 @@ import org.jaudiotagger.tag.datatype.DataTypes;
 import org.jaudiotagger.tag.id3.ID3v2ChapterFrames;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Table of content frame.
@@ -94,7 +95,17 @@ import java.nio.ByteBuffer;
  * @author Marc Gimpel, Horizon Wimba S.A.
  * @version $Id$
  */
-public class FrameBodyCTOC extends AbstractID3v2FrameBody implements ID3v2ChapterFrameBody {
+public class FrameBodyCTOC extends AbstractID3v2FrameBody implements ID3v2ChapterFrameBody, ID3v24FrameBody, ID3v23FrameBody {
+    /**
+     * Set if this is the root of the table of contents
+     */
+    public static final int FLAG_TOP_LEVEL = 0x02;
+
+    /**
+     * Set if the child elements are ordered
+     */
+    public static final int FLAG_ORDERED = 0x01;
+
     /**
      * Creates a new FrameBodyCTOC datatype.
      */
@@ -130,6 +141,126 @@ public class FrameBodyCTOC extends AbstractID3v2FrameBody implements ID3v2Chapte
         return ID3v2ChapterFrames.FRAME_ID_TABLE_OF_CONTENT;
     }
 
+    /**
+     * @return true, the bytes read can be written again
+     */
+    public boolean isReadDataReusable() {
+        return true;
+    }
+
+    private byte[] getData() {
+        byte[] data = (byte[]) getObjectValue(DataTypes.OBJ_DATA);
+        return data != null ? data : new byte[0];
+    }
+
+    /**
+     * @param data
+     * @param offset
+     * @return the offset following the null terminator of the string starting at offset, or data.length if there
+     * is none
+     */
+    private static int skipString(byte[] data, int offset) {
+        while (offset < data.length && data[offset] != 0) {
+            offset++;
+        }
+        return Math.min(offset + 1, data.length);
+    }
+
+    /**
+     * @return the offset of the flags following the element id
+     */
+    private int getFlagsOffset(byte[] data) {
+        return skipString(data, 0);
+    }
+
+    /**
+     * @return the offset of the embedded frames following the child element ids
+     */
+    private int getSubFramesOffset(byte[] data) {
+        int offset = getFlagsOffset(data);
+        if (offset + 2 > data.length) {
+            return data.length;
+        }
+        int entryCount = data[offset + 1] & 0xff;
+        offset += 2;
+        for (int i = 0; i < entryCount; i++) {
+            offset = skipString(data, offset);
+        }
+        return offset;
+    }
+
+    /**
+     * @return the element id
+     */
+    public String getElementId() {
+        byte[] data = getData();
+        int end = getFlagsOffset(data);
+        if (end > 0 && data[end - 1] == 0) {
+            end--;
+        }
+        return new String(data, 0, end, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * @return the flags, see {@link #FLAG_TOP_LEVEL} and {@link #FLAG_ORDERED}
+     */
+    public int getFlags() {
+        byte[] data = getData();
+        int offset = getFlagsOffset(data);
+        return offset < data.length ? data[offset] & 0xff : 0;
+    }
+
+    /**
+     * @return true if this is the root of the table of contents
+     */
+    public boolean isTopLevel() {
+        return (getFlags() & FLAG_TOP_LEVEL) != 0;
+    }
+
+    /**
+     * @return true if the child elements are ordered
+     */
+    public boolean isOrdered() {
+        return (getFlags() & FLAG_ORDERED) != 0;
+    }
+
+    /**
+     * @return the element ids of the chapters and tables of contents this table of contents holds
+     */
+    public String[] getChildElementIds() {
+        byte[] data = getData();
+        int offset = getFlagsOffset(data);
+        if (offset + 2 > data.length) {
+            return new String[0];
+        }
+        String[] childElementIds = new String[data[offset + 1] & 0xff];
+        offset += 2;
+        for (int i = 0; i < childElementIds.length; i++) {
+            int next = skipString(data, offset);
+            int end = next > offset && data[next - 1] == 0 ? next - 1 : next;
+            childElementIds[i] = new String(data, offset, end - offset, StandardCharsets.ISO_8859_1);
+            offset = next;
+        }
+        return childElementIds;
+    }
+
+    public byte[] getSubFrameData() {
+        byte[] data = getData();
+        int offset = getSubFramesOffset(data);
+        byte[] subFrameData = new byte[data.length - offset];
+        System.arraycopy(data, offset, subFrameData, 0, subFrameData.length);
+        return subFrameData;
+    }
+
+    public void setSubFrameData(byte[] subFrameData) {
+        byte[] data = getData();
+        int offset = getSubFramesOffset(data);
+        byte[] newData = new byte[offset + subFrameData.length];
+        System.arraycopy(data, 0, newData, 0, offset);
+        System.arraycopy(subFrameData, 0, newData, offset, subFrameData.length);
+        setObjectValue(DataTypes.OBJ_DATA, newData);
+    }
+
     /**
      * TODO:proper mapping
      */
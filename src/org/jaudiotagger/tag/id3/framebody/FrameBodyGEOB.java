@@ -119,6 +119,13 @@ public class FrameBodyGEOB extends AbstractID3v2FrameBody implements ID3v24Frame
         return ID3v24Frames.FRAME_ID_GENERAL_ENCAPS_OBJECT;
     }
 
+    /**
+     * @return true, the bytes read can be written again
+     */
+    public boolean isReadDataReusable() {
+        return true;
+    }
+
 
     /**
      * If the filename or description cannot be encoded using current encoder, change the encoder
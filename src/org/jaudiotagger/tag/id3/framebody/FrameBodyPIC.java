@@ -196,6 +196,13 @@ public class FrameBodyPIC extends AbstractID3v2FrameBody implements ID3v22FrameB
         return ID3v22Frames.FRAME_ID_V2_ATTACHED_PICTURE;
     }
 
+    /**
+     * @return true, the bytes read can be written again
+     */
+    public boolean isReadDataReusable() {
+        return true;
+    }
+
 
     /**
      * If the description cannot be encoded using current encoder, change the encoder
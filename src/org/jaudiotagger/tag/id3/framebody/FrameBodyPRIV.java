@@ -109,6 +109,13 @@ public class FrameBodyPRIV extends AbstractID3v2FrameBody implements ID3v24Frame
         return ID3v24Frames.FRAME_ID_PRIVATE;
     }
 
+    /**
+     * @return true, the bytes read can be written again
+     */
+    public boolean isReadDataReusable() {
+        return true;
+    }
+
     /**
      * @param owner
      */
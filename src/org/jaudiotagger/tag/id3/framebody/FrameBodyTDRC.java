@@ -22,6 +22,7 @@
  */
 package org.jaudiotagger.tag.id3.framebody;
 
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.InvalidTagException;
 import org.jaudiotagger.tag.datatype.DataTypes;
 import org.jaudiotagger.tag.id3.ID3v23Frames;
@@ -49,11 +50,16 @@ public class FrameBodyTDRC extends AbstractFrameBodyTextInfo implements ID3v24Fr
     private boolean monthOnly = false;
     private boolean hoursOnly = false;
 
-    private static SimpleDateFormat formatYearIn, formatYearOut;
-    private static SimpleDateFormat formatDateIn, formatDateOut, formatMonthOut;
-    private static SimpleDateFormat formatTimeIn, formatTimeOut, formatHoursOut;
-
-    private static final List<SimpleDateFormat> formatters = new ArrayList<SimpleDateFormat>();
+    /**
+     * SimpleDateFormat is not thread safe, so each thread has its own formats rather than all threads sharing one
+     * set of formats under a lock
+     */
+    private static final ThreadLocal<DateFormats> dateFormats = new ThreadLocal<DateFormats>() {
+        @Override
+        protected DateFormats initialValue() {
+            return new DateFormats();
+        }
+    };
 
     private static final int PRECISION_SECOND = 0;
     private static final int PRECISION_MINUTE = 1;
@@ -62,29 +68,38 @@ public class FrameBodyTDRC extends AbstractFrameBodyTextInfo implements ID3v24Fr
     private static final int PRECISION_MONTH = 4;
     private static final int PRECISION_YEAR = 5;
 
-    static {
-        //This is allowable v24 format , we use UK Locale not because we are restricting to UK
-        //but because these formats are fixed in ID3 spec, and could possibly get unexpected results if library
-        //used with a default locale that has Date Format Symbols that interfere with the pattern
-        formatters.add(new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss", Locale.UK));
-        formatters.add(new SimpleDateFormat("yyyy-MM-dd'T'HH:mm", Locale.UK));
-        formatters.add(new SimpleDateFormat("yyyy-MM-dd'T'HH", Locale.UK));
-        formatters.add(new SimpleDateFormat("yyyy-MM-dd", Locale.UK));
-        formatters.add(new SimpleDateFormat("yyyy-MM", Locale.UK));
-        formatters.add(new SimpleDateFormat("yyyy", Locale.UK));
-
-        //These are formats used by v23 Frames
-        formatYearIn = new SimpleDateFormat("yyyy", Locale.UK);
-        formatDateIn = new SimpleDateFormat("ddMM", Locale.UK);
-        formatTimeIn = new SimpleDateFormat("HHmm", Locale.UK);
-
-        //These are the separate components of the v24 format that the v23 formats map to
-        formatYearOut = new SimpleDateFormat("yyyy", Locale.UK);
-        formatDateOut = new SimpleDateFormat("-MM-dd", Locale.UK);
-        formatMonthOut = new SimpleDateFormat("-MM", Locale.UK);
-        formatTimeOut = new SimpleDateFormat("'T'HH:mm", Locale.UK);
-        formatHoursOut = new SimpleDateFormat("'T'HH", Locale.UK);
-
+    /**
+     * The date formats used by one thread
+     */
+    private static final class DateFormats {
+        private final List<SimpleDateFormat> formatters = new ArrayList<SimpleDateFormat>();
+        private final SimpleDateFormat formatYearIn, formatYearOut;
+        private final SimpleDateFormat formatDateIn, formatDateOut, formatMonthOut;
+        private final SimpleDateFormat formatTimeIn, formatTimeOut, formatHoursOut;
+
+        private DateFormats() {
+            //This is allowable v24 format , we use UK Locale not because we are restricting to UK
+            //but because these formats are fixed in ID3 spec, and could possibly get unexpected results if library
+            //used with a default locale that has Date Format Symbols that interfere with the pattern
+            formatters.add(new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss", Locale.UK));
+            formatters.add(new SimpleDateFormat("yyyy-MM-dd'T'HH:mm", Locale.UK));
+            formatters.add(new SimpleDateFormat("yyyy-MM-dd'T'HH", Locale.UK));
+            formatters.add(new SimpleDateFormat("yyyy-MM-dd", Locale.UK));
+            formatters.add(new SimpleDateFormat("yyyy-MM", Locale.UK));
+            formatters.add(new SimpleDateFormat("yyyy", Locale.UK));
+
+            //These are formats used by v23 Frames
+            formatYearIn = new SimpleDateFormat("yyyy", Locale.UK);
+            formatDateIn = new SimpleDateFormat("ddMM", Locale.UK);
+            formatTimeIn = new SimpleDateFormat("HHmm", Locale.UK);
+
+            //These are the separate components of the v24 format that the v23 formats map to
+            formatYearOut = new SimpleDateFormat("yyyy", Locale.UK);
+            formatDateOut = new SimpleDateFormat("-MM-dd", Locale.UK);
+            formatMonthOut = new SimpleDateFormat("-MM", Locale.UK);
+            formatTimeOut = new SimpleDateFormat("'T'HH:mm", Locale.UK);
+            formatHoursOut = new SimpleDateFormat("'T'HH", Locale.UK);
+        }
     }
 
     /**
@@ -115,14 +130,12 @@ public class FrameBodyTDRC extends AbstractFrameBodyTextInfo implements ID3v24Fr
      */
 
     /**
-     * Synchronized because SimpleDatFormat aren't thread safe
-     *
      * @param formatDate
      * @param parseDate
      * @param text
      * @return
      */
-    private static synchronized String formatAndParse(SimpleDateFormat formatDate, SimpleDateFormat parseDate, String text) {
+    private static String formatAndParse(SimpleDateFormat formatDate, SimpleDateFormat parseDate, String text) {
         try {
             Date date = parseDate.parse(text);
             String result = formatDate.format(date);
@@ -138,21 +151,22 @@ public class FrameBodyTDRC extends AbstractFrameBodyTextInfo implements ID3v24Fr
         if (originalID == null) {
             return this.getText();
         } else {
+            DateFormats formats = dateFormats.get();
             if (year != null && !(year.trim().isEmpty())) {
-                sb.append(formatAndParse(formatYearOut, formatYearIn, year));
+                sb.append(formatAndParse(formats.formatYearOut, formats.formatYearIn, year));
             }
             if (!date.equals("")) {
                 if (isMonthOnly()) {
-                    sb.append(formatAndParse(formatMonthOut, formatDateIn, date));
+                    sb.append(formatAndParse(formats.formatMonthOut, formats.formatDateIn, date));
                 } else {
-                    sb.append(formatAndParse(formatDateOut, formatDateIn, date));
+                    sb.append(formatAndParse(formats.formatDateOut, formats.formatDateIn, date));
                 }
             }
             if (!time.equals("")) {
                 if (isHoursOnly()) {
-                    sb.append(formatAndParse(formatHoursOut, formatTimeIn, time));
+                    sb.append(formatAndParse(formats.formatHoursOut, formats.formatTimeIn, time));
                 } else {
-                    sb.append(formatAndParse(formatTimeOut, formatTimeIn, time));
+                    sb.append(formatAndParse(formats.formatTimeOut, formats.formatTimeIn, time));
                 }
 
             }
@@ -161,18 +175,18 @@ public class FrameBodyTDRC extends AbstractFrameBodyTextInfo implements ID3v24Fr
     }
 
     public void setYear(String year) {
-        logger.finest("Setting year to" + year);
+        LogHelper.finest(logger, "Setting year to{0}", year);
         this.year = year;
     }
 
     public void setTime(String time) {
-        logger.finest("Setting time to:" + time);
+        LogHelper.finest(logger, "Setting time to:{0}", time);
         this.time = time;
     }
 
 
     public void setDate(String date) {
-        logger.finest("Setting date to:" + date);
+        LogHelper.finest(logger, "Setting date to:{0}", date);
         this.date = date;
     }
 
@@ -261,15 +275,14 @@ public class FrameBodyTDRC extends AbstractFrameBodyTextInfo implements ID3v24Fr
 
     public void findMatchingMaskAndExtractV3Values() {
         //Find the date format of the text
+        DateFormats formats = dateFormats.get();
+        List<SimpleDateFormat> formatters = formats.formatters;
         for (int i = 0; i < formatters.size(); i++) {
             try {
-                Date d;
-                synchronized (formatters.get(i)) {
-                    d = formatters.get(i).parse(getText());
-                }
+                Date d = formatters.get(i).parse(getText());
                 //If able to parse a date from the text
                 if (d != null) {
-                    extractID3v23Formats(d, i);
+                    extractID3v23Formats(formats, d, i);
                     break;
                 }
             }
@@ -286,85 +299,83 @@ public class FrameBodyTDRC extends AbstractFrameBodyTextInfo implements ID3v24Fr
     /**
      * Format Date
      *
-     * Synchronized because SimpleDateFormat is invalid
-     *
+     * @param formats
      * @param d
      * @return
      */
-    private static synchronized String formatDateAsYear(Date d) {
-        return formatYearIn.format(d);
+    private static String formatDateAsYear(DateFormats formats, Date d) {
+        return formats.formatYearIn.format(d);
     }
 
     /**
      * Format Date
      *
-     * Synchronized because SimpleDateFormat is invalid
-     *
+     * @param formats
      * @param d
      * @return
      */
-    private static synchronized String formatDateAsDate(Date d) {
-        return formatDateIn.format(d);
+    private static String formatDateAsDate(DateFormats formats, Date d) {
+        return formats.formatDateIn.format(d);
     }
 
     /**
      * Format Date
      *
-     * Synchronized because SimpleDateFormat is invalid
-     *
+     * @param formats
      * @param d
      * @return
      */
-    private static synchronized String formatDateAsTime(Date d) {
-        return formatTimeIn.format(d);
+    private static String formatDateAsTime(DateFormats formats, Date d) {
+        return formats.formatTimeIn.format(d);
     }
 
     /**
      * Extract the components ans store the v23 version of the various values
      *
+     * @param formats
      * @param dateRecord
      * @param precision
      */
     //TODO currently if user has entered Year and Month, we only store in v23, should we store month with 
     //first day
-    private void extractID3v23Formats(final Date dateRecord, final int precision) {
-        logger.fine("Precision is:" + precision + "for date:" + dateRecord.toString());
+    private void extractID3v23Formats(final DateFormats formats, final Date dateRecord, final int precision) {
+        LogHelper.fine(logger, "Precision is:{0}for date:{1}", precision, dateRecord);
         Date d = dateRecord;
 
         //Precision Year
         if (precision == PRECISION_YEAR) {
-            setYear(formatDateAsYear(d));
+            setYear(formatDateAsYear(formats, d));
         }
         //Precision Month
         else if (precision == PRECISION_MONTH) {
-            setYear(formatDateAsYear(d));
-            setDate(formatDateAsDate(d));
+            setYear(formatDateAsYear(formats, d));
+            setDate(formatDateAsDate(formats, d));
             monthOnly = true;
         }
         //Precision Day
         else if (precision == PRECISION_DAY) {
-            setYear(formatDateAsYear(d));
-            setDate(formatDateAsDate(d));
+            setYear(formatDateAsYear(formats, d));
+            setDate(formatDateAsDate(formats, d));
         }
         //Precision Hour
         else if (precision == PRECISION_HOUR) {
-            setYear(formatDateAsYear(d));
-            setDate(formatDateAsDate(d));
-            setTime(formatDateAsTime(d));
+            setYear(formatDateAsYear(formats, d));
+            setDate(formatDateAsDate(formats, d));
+            setTime(formatDateAsTime(formats, d));
             hoursOnly = true;
 
         }
         //Precision Minute
         else if (precision == PRECISION_MINUTE) {
-            setYear(formatDateAsYear(d));
-            setDate(formatDateAsDate(d));
-            setTime(formatDateAsTime(d));
+            setYear(formatDateAsYear(formats, d));
+            setDate(formatDateAsDate(formats, d));
+            setTime(formatDateAsTime(formats, d));
         }
         //Precision Minute
         else if (precision == PRECISION_SECOND) {
-            setYear(formatDateAsYear(d));
-            setDate(formatDateAsDate(d));
-            setTime(formatDateAsTime(d));
+            setYear(formatDateAsYear(formats, d));
+            setDate(formatDateAsDate(formats, d));
+            setTime(formatDateAsTime(formats, d));
         }
     }
 
@@ -22,5 +22,21 @@ package org.jaudiotagger.tag.id3.framebody;
  * @version $Id$
  */
 public interface ID3v2ChapterFrameBody {
+    /**
+     * @return the element id identifying this chapter or table of contents
+     */
+    String getElementId();
 
+    /**
+     * The frames embedded in the chapter frame, such as the title, are held as they are written in the tag so that
+     * they are only decoded when needed.
+     *
+     * @return the embedded frames, in the format of the frames of the tag holding this frame, or an empty array
+     */
+    byte[] getSubFrameData();
+
+    /**
+     * @param subFrameData the embedded frames, in the format of the frames of the tag holding this frame
+     */
+    void setSubFrameData(byte[] subFrameData);
 }
@@ -25,8 +25,6 @@ package org.jaudiotagger.tag.id3.valuepair;
 import org.jaudiotagger.tag.datatype.AbstractIntStringValuePair;
 
 import java.nio.charset.Charset;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -57,30 +55,33 @@ public class TextEncoding extends AbstractIntStringValuePair {
     /** The number of bytes used to hold the text encoding field size. */
     public static final int TEXT_ENCODING_FIELD_SIZE = 1;
 
-    private static TextEncoding textEncodings;
+    /**
+     * Created when the class is loaded, so getting it needs no lock
+     */
+    private static final TextEncoding textEncodings = new TextEncoding();
 
-    private final Map<Integer, Charset> idToCharset = new HashMap<>();
+    /**
+     * Charsets indexed by id
+     */
+    private final Charset[] idToCharset = new Charset[UTF_8 + 1];
 
     /**
      * Get singleton for this class.
      *
      * @return singleton
      */
-    public static synchronized TextEncoding getInstanceOf() {
-        if (textEncodings == null) {
-            textEncodings = new TextEncoding();
-        }
+    public static TextEncoding getInstanceOf() {
         return textEncodings;
     }
 
     private TextEncoding() {
-        idToCharset.put((int) ISO_8859_1, Charset.forName(CHARSET_ISO_8859_1));
-        idToCharset.put((int) UTF_16, Charset.forName(CHARSET_UTF_16));
-        idToCharset.put((int) UTF_16BE, Charset.forName(CHARSET_UTF_16BE));
-        idToCharset.put((int) UTF_8, Charset.forName(CHARSET_UTF_8));
+        idToCharset[ISO_8859_1] = Charset.forName(CHARSET_ISO_8859_1);
+        idToCharset[UTF_16] = Charset.forName(CHARSET_UTF_16);
+        idToCharset[UTF_16BE] = Charset.forName(CHARSET_UTF_16BE);
+        idToCharset[UTF_8] = Charset.forName(CHARSET_UTF_8);
 
-        for (final Map.Entry<Integer, Charset> e : idToCharset.entrySet()) {
-            idToValue.put(e.getKey(), e.getValue().name());
+        for (int id = 0; id < idToCharset.length; id++) {
+            idToValue.put(id, idToCharset[id].name());
         }
 
         createMaps();
@@ -103,6 +104,6 @@ public class TextEncoding extends AbstractIntStringValuePair {
      * @return charset or {@code null}, if not found
      */
     public Charset getCharsetForId(final int id) {
-        return idToCharset.get(id);
+        return id >= 0 && id < idToCharset.length ? idToCharset[id] : null;
     }
 }
@@ -93,6 +93,7 @@ public class Lyrics3v1 extends AbstractLyrics3 {
      * @param lyric
      */
     public void setLyric(String lyric) {
+        setModified(true);
         this.lyric = ID3Tags.truncate(lyric, 5100);
     }
 
@@ -118,6 +118,7 @@ public class Lyrics3v2 extends AbstractLyrics3 {
      * @param field
      */
     public void setField(Lyrics3v2Field field) {
+        setModified(true);
         fieldMap.put(field.getIdentifier(), field);
     }
 
@@ -128,6 +129,7 @@ public class Lyrics3v2 extends AbstractLyrics3 {
      * @return The value associated with the identifier
      */
     public Lyrics3v2Field getField(String identifier) {
+        setModified(true);
         return fieldMap.get(identifier);
     }
 
@@ -190,6 +192,7 @@ public class Lyrics3v2 extends AbstractLyrics3 {
      * @return
      */
     public Iterator<Lyrics3v2Field> iterator() {
+        setModified(true);
         return fieldMap.values().iterator();
     }
 
@@ -239,6 +242,7 @@ public class Lyrics3v2 extends AbstractLyrics3 {
      * @param identifier
      */
     public void removeField(String identifier) {
+        setModified(true);
         fieldMap.remove(identifier);
     }
 
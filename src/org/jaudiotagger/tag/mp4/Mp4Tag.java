@@ -209,7 +209,7 @@ public class Mp4Tag extends AbstractTag {
      * @return
      */
     public boolean hasField(FieldKey genericKey) {
-        return getFields(genericKey).size() != 0;
+        return getFieldList(genericKey).size() != 0;
     }
 
     /**
@@ -217,7 +217,7 @@ public class Mp4Tag extends AbstractTag {
      * @return
      */
     public boolean hasField(Mp4FieldKey mp4FieldKey) {
-        return getFields(mp4FieldKey.getFieldName()).size() != 0;
+        return getFieldList(mp4FieldKey.getFieldName()).size() != 0;
     }
 
     /**
@@ -227,21 +227,33 @@ public class Mp4Tag extends AbstractTag {
      */
     @SuppressWarnings({"JavaDoc"})
     public List<TagField> getFields(FieldKey genericKey) throws KeyNotFoundException {
+        setModified(true);
+        return getFieldList(genericKey);
+    }
+
+    /**
+     * Maps the generic key to the mp4 key and return the list of values for this field for reading only
+     *
+     * @param genericKey
+     * @return
+     * @throws KeyNotFoundException
+     */
+    private List<TagField> getFieldList(FieldKey genericKey) throws KeyNotFoundException {
         if (genericKey == null) {
             throw new KeyNotFoundException();
         }
         Mp4FieldKey mp4FieldKey = tagFieldToMp4Field.get(genericKey);
-        List<TagField> list = getFields(mp4FieldKey.getFieldName());
+        List<TagField> list = getFieldList(mp4FieldKey.getFieldName());
         List<TagField> filteredList = new ArrayList<TagField>();
 
         if (genericKey == FieldKey.KEY) {
             if (list.size() == 0) {
-                list = getFields(KEY_OLD.getFieldName());
+                list = getFieldList(KEY_OLD.getFieldName());
             }
             return list;
         } else if (genericKey == FieldKey.GENRE) {
             if (list.size() == 0) {
-                list = getFields(GENRE_CUSTOM.getFieldName());
+                list = getFieldList(GENRE_CUSTOM.getFieldName());
             }
             return list;
         } else if (genericKey == FieldKey.TRACK) {
@@ -290,7 +302,7 @@ public class Mp4Tag extends AbstractTag {
      */
     public List<String> getAll(FieldKey genericKey) throws KeyNotFoundException {
         List<String> values = new ArrayList<String>();
-        List<TagField> fields = getFields(genericKey);
+        List<TagField> fields = getFieldList(genericKey);
         for (TagField tagfield : fields) {
             if (genericKey == FieldKey.TRACK) {
                 values.add(((Mp4TrackField) tagfield).getTrackNo().toString());
@@ -328,7 +340,7 @@ public class Mp4Tag extends AbstractTag {
      * @return
      */
     public String getValue(FieldKey genericKey, int index) throws KeyNotFoundException {
-        List<TagField> fields = getFields(genericKey);
+        List<TagField> fields = getFieldList(genericKey);
         if (fields.size() > index) {
             TagField field = fields.get(index);
             if (genericKey == FieldKey.TRACK) {
@@ -701,7 +713,7 @@ public class Mp4Tag extends AbstractTag {
     }
 
     public List<Artwork> getArtworkList() {
-        List<TagField> coverartList = get(Mp4FieldKey.ARTWORK);
+        List<TagField> coverartList = getFieldList(Mp4FieldKey.ARTWORK.getFieldName());
         List<Artwork> artworkList = new ArrayList<Artwork>(coverartList.size());
 
         for (TagField next : coverartList) {
@@ -18,6 +18,7 @@
  */
 package org.jaudiotagger.tag.mp4;
 
+import org.jaudiotagger.logging.LogHelper;
 import org.jaudiotagger.tag.TagField;
 import org.jaudiotagger.tag.mp4.field.Mp4FieldType;
 
@@ -88,7 +89,7 @@ public abstract class Mp4TagField implements TagField {
      * @throws UnsupportedEncodingException
      */
     public byte[] getRawContent() throws UnsupportedEncodingException {
-        logger.fine("Getting Raw data for:" + getId());
+        LogHelper.fine(logger, "Getting Raw data for:{0}", getId());
         return getDataBytes();
     }
 }
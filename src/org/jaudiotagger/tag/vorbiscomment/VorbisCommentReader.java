@@ -23,6 +23,7 @@ import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.ogg.util.VorbisHeader;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.LogHelper;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -90,14 +91,14 @@ public class VorbisCommentReader {
         System.arraycopy(rawdata, pos, b, 0, vendorStringLength);
         pos += vendorStringLength;
         tag.setVendor(new String(b, StandardCharsets.UTF_8));
-        logger.config("Vendor is:" + tag.getVendor());
+        LogHelper.config(logger, "Vendor is:{0}", tag.getVendor());
 
         b = new byte[FIELD_USER_COMMENT_LIST_LENGTH];
         System.arraycopy(rawdata, pos, b, 0, FIELD_USER_COMMENT_LIST_LENGTH);
         pos += FIELD_USER_COMMENT_LIST_LENGTH;
 
         int userComments = Utils.getIntLE(b);
-        logger.config("Number of user comments:" + userComments);
+        LogHelper.config(logger, "Number of user comments:{0}", userComments);
 
         for (int i = 0; i < userComments; i++) {
             b = new byte[FIELD_COMMENT_LENGTH_LENGTH];
@@ -105,7 +106,7 @@ public class VorbisCommentReader {
             pos += FIELD_COMMENT_LENGTH_LENGTH;
 
             int commentLength = Utils.getIntLE(b);
-            logger.config("Next Comment Length:" + commentLength);
+            LogHelper.config(logger, "Next Comment Length:{0}", commentLength);
 
             if (commentLength > JAUDIOTAGGER_MAX_COMMENT_LENGTH) {
                 logger.warning(ErrorMessage.VORBIS_COMMENT_LENGTH_TOO_LARGE.getMsg(commentLength));
@@ -119,7 +120,7 @@ public class VorbisCommentReader {
                 pos += commentLength;
 
                 VorbisCommentTagField fieldComment = new VorbisCommentTagField(b);
-                logger.config("Adding:" + fieldComment.getId());
+                LogHelper.config(logger, "Adding:{0}", fieldComment.getId());
                 tag.addField(fieldComment);
             }
         }
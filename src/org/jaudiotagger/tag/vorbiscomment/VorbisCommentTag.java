@@ -365,7 +365,7 @@ public class VorbisCommentTag extends AbstractTag {
         if (vorbisFieldKey == null)
             return false;
 
-        return getFields(vorbisFieldKey.getFieldName()).size() != 0;
+        return getFieldList(vorbisFieldKey.getFieldName()).size() != 0;
     }
 
     /**
@@ -373,7 +373,7 @@ public class VorbisCommentTag extends AbstractTag {
      * @return
      */
     public boolean hasField(VorbisCommentFieldKey vorbisFieldKey) {
-        return getFields(vorbisFieldKey.getFieldName()).size() != 0;
+        return getFieldList(vorbisFieldKey.getFieldName()).size() != 0;
     }
 
     /**
@@ -497,7 +497,7 @@ public class VorbisCommentTag extends AbstractTag {
         }
 
         //New Format (Supports Multiple Images)
-        List<TagField> metadataBlockPics = this.get(VorbisCommentFieldKey.METADATA_BLOCK_PICTURE);
+        List<TagField> metadataBlockPics = getFieldList(VorbisCommentFieldKey.METADATA_BLOCK_PICTURE.getFieldName());
         for (TagField tagField : metadataBlockPics) {
 
             try {
@@ -41,7 +41,7 @@ import java.util.logging.Logger;
  * <p>
  * The default is that ID3 takes precedence if it exists
  */
-public class WavTag implements Tag, Id3SupportingTag {
+public class WavTag implements Tag, Id3SupportingTag, ModificationTrackingTag {
     private static final Logger logger = Logger.getLogger(WavTag.class.getPackage().getName());
 
     private static final String NULL = "\0";
@@ -64,6 +64,11 @@ public class WavTag implements Tag, Id3SupportingTag {
     private WavInfoTag infoTag;
     private AbstractID3v2Tag id3Tag;
 
+    /**
+     * Has either tag been replaced since they were read or written, the tags track their own changes
+     */
+    private boolean tagReplaced = true;
+
     private WavOptions wavOptions;
 
     public WavTag(WavOptions wavOptions) {
@@ -92,6 +97,7 @@ public class WavTag implements Tag, Id3SupportingTag {
     }
 
     public void setInfoTag(WavInfoTag infoTag) {
+        tagReplaced = true;
         this.infoTag = infoTag;
     }
 
@@ -115,6 +121,7 @@ public class WavTag implements Tag, Id3SupportingTag {
      * Sets the ID3 tag
      */
     public void setID3Tag(AbstractID3v2Tag t) {
+        tagReplaced = true;
         id3Tag = t;
     }
 
@@ -520,6 +527,20 @@ public class WavTag implements Tag, Id3SupportingTag {
         this.isIncorrectlyAlignedTag = isIncorrectlyAlignedTag;
     }
 
+    public boolean isModified() {
+        return tagReplaced || (infoTag != null && infoTag.isModified()) || (id3Tag != null && id3Tag.isModified());
+    }
+
+    public void setModified(boolean modified) {
+        tagReplaced = modified;
+        if (infoTag != null) {
+            infoTag.setModified(modified);
+        }
+        if (id3Tag != null) {
+            id3Tag.setModified(modified);
+        }
+    }
+
     /**
      * Default based on user option
      *
@@ -0,0 +1,63 @@
+package org.jaudiotagger.benchmark;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+
+/**
+ * Locates the sample files used by the benchmarks
+ *
+ * <p>Benchmarks read from the testdata folder (override with -Djaudiotagger.testdata=folder) and any file that is
+ * going to be modified is copied to a temporary folder first so the originals are never changed.
+ */
+public final class BenchmarkFiles {
+    private static final File TESTDATA = new File(System.getProperty("jaudiotagger.testdata", "testdata"));
+
+    private BenchmarkFiles() {
+    }
+
+    public static File testData(String fileName) {
+        File file = new File(TESTDATA, fileName);
+        if (!file.exists()) {
+            throw new IllegalStateException("Unable to find benchmark file:" + file.getAbsolutePath());
+        }
+        return file;
+    }
+
+    public static File copyToTemp(String fileName, File tempFolder) throws IOException {
+        File from = testData(fileName);
+        File to = new File(tempFolder, fileName);
+        FileChannel in = new FileInputStream(from).getChannel();
+        try {
+            FileChannel out = new FileOutputStream(to).getChannel();
+            try {
+                in.transferTo(0, in.size(), out);
+            } finally {
+                out.close();
+            }
+        } finally {
+            in.close();
+        }
+        return to;
+    }
+
+    public static File createTempFolder() throws IOException {
+        File folder = File.createTempFile("jaudiotagger-bench", "");
+        if (!folder.delete() || !folder.mkdir()) {
+            throw new IOException("Unable to create temporary folder:" + folder);
+        }
+        return folder;
+    }
+
+    public static void deleteFolder(File folder) {
+        File[] files = folder.listFiles();
+        if (files != null) {
+            for (File next : files) {
+                next.delete();
+            }
+        }
+        folder.delete();
+    }
+}
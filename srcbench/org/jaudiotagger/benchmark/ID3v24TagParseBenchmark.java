@@ -0,0 +1,62 @@
+package org.jaudiotagger.benchmark;
+
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.id3.ID3v24Tag;
+import org.jaudiotagger.tag.images.ArtworkFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Parses an ID3v24 tag held in memory so that only the tag parsing is measured, not file I/O
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ID3v24TagParseBenchmark {
+    /**
+     * Whether the tag includes a large artwork frame as well as the text frames
+     */
+    @Param({"false", "true"})
+    public boolean artwork;
+
+    private ByteBuffer tagBuffer;
+
+    @Setup
+    public void setUp() throws Exception {
+        Logger.getLogger("org.jaudiotagger").setLevel(Level.OFF);
+        ID3v24Tag tag = new ID3v24Tag();
+        tag.setField(FieldKey.TITLE, "Benchmark Title");
+        tag.setField(FieldKey.ARTIST, "Benchmark Artist");
+        tag.setField(FieldKey.ALBUM, "Benchmark Album");
+        tag.setField(FieldKey.ALBUM_ARTIST, "Benchmark Album Artist");
+        tag.setField(FieldKey.COMPOSER, "Benchmark Composer");
+        tag.setField(FieldKey.GENRE, "Rock");
+        tag.setField(FieldKey.YEAR, "2015-09-18");
+        tag.setField(FieldKey.TRACK, "3");
+        tag.setField(FieldKey.TRACK_TOTAL, "12");
+        tag.setField(FieldKey.DISC_NO, "1");
+        tag.setField(FieldKey.COMMENT, "Benchmark Comment");
+        tag.setField(FieldKey.LYRICS, "Benchmark lyrics, Benchmark lyrics, Benchmark lyrics");
+        tag.setField(FieldKey.MUSICBRAINZ_TRACK_ID, "e785f700-c1aa-4943-bcee-87dd316a2c30");
+        tag.setField(FieldKey.MUSICBRAINZ_RELEASEID, "0d46d2ac-a1d6-4ae7-b4e4-a1bd0c2a6b8e");
+        if (artwork) {
+            tag.setField(ArtworkFactory.createArtworkFromFile(BenchmarkFiles.testData("coverart_large.jpg")));
+        }
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        tag.write(baos);
+        tagBuffer = ByteBuffer.wrap(baos.toByteArray());
+    }
+
+    @Benchmark
+    public ID3v24Tag parse() throws Exception {
+        return new ID3v24Tag(tagBuffer.duplicate(), "benchmark");
+    }
+}
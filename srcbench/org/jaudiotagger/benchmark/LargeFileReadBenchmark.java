@@ -0,0 +1,56 @@
+package org.jaudiotagger.benchmark;
+
+import org.jaudiotagger.SyntheticFileGenerator;
+import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileIO;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Full read of synthesised files with large tags, artwork, padding and sample tables
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LargeFileReadBenchmark {
+    @Param({"unsynchronised.mp3", "frames.mp3", "picture.flac", "long.ogg", "large.m4b"})
+    public String fileName;
+
+    private File tempFolder;
+
+    private File file;
+
+    @Setup
+    public void setUp() throws Exception {
+        Logger.getLogger("org.jaudiotagger").setLevel(java.util.logging.Level.OFF);
+        tempFolder = BenchmarkFiles.createTempFolder();
+        file = new File(tempFolder, fileName);
+        if (fileName.equals("unsynchronised.mp3")) {
+            SyntheticFileGenerator.createMp3(file, 3, 10, 5 * 1024 * 1024, true, 100000);
+        } else if (fileName.equals("frames.mp3")) {
+            SyntheticFileGenerator.createMp3(file, 4, 5000, 0, false, 100000);
+        } else if (fileName.equals("picture.flac")) {
+            SyntheticFileGenerator.createFlac(file, BenchmarkFiles.testData("test.flac"), 5 * 1024 * 1024, 16 * 1024 * 1024, 10);
+        } else if (fileName.equals("long.ogg")) {
+            SyntheticFileGenerator.createOgg(file, BenchmarkFiles.testData("test.ogg"), 50000);
+        } else if (fileName.equals("large.m4b")) {
+            SyntheticFileGenerator.createMp4(file, BenchmarkFiles.testData("test.m4a"), 500000, 372, 20);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkFiles.deleteFolder(tempFolder);
+    }
+
+    @Benchmark
+    public AudioFile read() throws Exception {
+        return AudioFileIO.read(file);
+    }
+}
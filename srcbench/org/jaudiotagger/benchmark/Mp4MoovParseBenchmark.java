@@ -0,0 +1,42 @@
+package org.jaudiotagger.benchmark;
+
+import org.jcodec.containers.mp4.MP4Util;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.RandomAccessFile;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Parses the mp4 box structure (including the complete moov box) that both the audio header and tag reads use
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Mp4MoovParseBenchmark {
+    @Param({"test.m4a", "test2.m4a"})
+    public String fileName;
+
+    private RandomAccessFile raf;
+
+    @Setup
+    public void setUp() throws Exception {
+        Logger.getLogger("org.jaudiotagger").setLevel(Level.OFF);
+        raf = new RandomAccessFile(BenchmarkFiles.testData(fileName), "r");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        raf.close();
+    }
+
+    @Benchmark
+    public MP4Util.Movie parse() throws Exception {
+        raf.getChannel().position(0);
+        return MP4Util.parseFullMovieChannel(raf.getChannel());
+    }
+}
@@ -0,0 +1,37 @@
+package org.jaudiotagger.benchmark;
+
+import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileIO;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Full read (audio header and tag) of one sample file per supported format
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReadBenchmark {
+    @Param({"testV1Cbr128ID3v1v2.mp3", "test.flac", "test.ogg", "test.m4a", "test.wav", "test119.aif", "test122.dsf", "test1.wma"})
+    public String fileName;
+
+    private File file;
+
+    @Setup
+    public void setUp() {
+        Logger.getLogger("org.jaudiotagger").setLevel(Level.OFF);
+        file = BenchmarkFiles.testData(fileName);
+    }
+
+    @Benchmark
+    public AudioFile read() throws Exception {
+        return AudioFileIO.read(file);
+    }
+}
@@ -0,0 +1,56 @@
+package org.jaudiotagger.benchmark;
+
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.vorbiscomment.VorbisCommentCreator;
+import org.jaudiotagger.tag.vorbiscomment.VorbisCommentReader;
+import org.jaudiotagger.tag.vorbiscomment.VorbisCommentTag;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Parses the raw data of a Vorbis Comment as held in an Ogg or Flac file
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VorbisCommentParseBenchmark {
+    /**
+     * Number of additional user comments in the tag
+     */
+    @Param({"10", "1000"})
+    public int extraComments;
+
+    private byte[] rawData;
+
+    private VorbisCommentReader reader;
+
+    @Setup
+    public void setUp() throws Exception {
+        Logger.getLogger("org.jaudiotagger").setLevel(Level.OFF);
+        VorbisCommentTag tag = VorbisCommentTag.createNewTag();
+        tag.setField(FieldKey.TITLE, "Benchmark Title");
+        tag.setField(FieldKey.ARTIST, "Benchmark Artist");
+        tag.setField(FieldKey.ALBUM, "Benchmark Album");
+        tag.setField(FieldKey.GENRE, "Rock");
+        tag.setField(FieldKey.TRACK, "3");
+        for (int i = 0; i < extraComments; i++) {
+            tag.addField(tag.createField(FieldKey.COMMENT, "Benchmark Comment " + i));
+        }
+        ByteBuffer bb = new VorbisCommentCreator().convert(tag);
+        rawData = new byte[bb.limit()];
+        bb.get(rawData);
+        reader = new VorbisCommentReader();
+    }
+
+    @Benchmark
+    public VorbisCommentTag parse() throws Exception {
+        return reader.read(rawData, false);
+    }
+}
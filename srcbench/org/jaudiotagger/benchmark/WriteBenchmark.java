@@ -0,0 +1,57 @@
+package org.jaudiotagger.benchmark;
+
+import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.Tag;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Modifies a field and commits the change, the sample file is copied afresh before every invocation
+ *
+ * <p>The padded mp3 has enough padding that the tag can be rewritten in place, the unpadded one requires the audio
+ * to be shifted, the other formats are written with the default padding behaviour.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 50)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WriteBenchmark {
+    @Param({"testV1Cbr128ID3v2pad.mp3", "testV1Cbr128ID3v1v2.mp3", "test.flac", "test.ogg", "test.m4a", "test.wav", "test119.aif"})
+    public String fileName;
+
+    private File tempFolder;
+
+    private AudioFile audioFile;
+
+    private int count;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() throws Exception {
+        Logger.getLogger("org.jaudiotagger").setLevel(java.util.logging.Level.OFF);
+        tempFolder = BenchmarkFiles.createTempFolder();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() throws Exception {
+        audioFile = AudioFileIO.read(BenchmarkFiles.copyToTemp(fileName, tempFolder));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() {
+        BenchmarkFiles.deleteFolder(tempFolder);
+    }
+
+    @Benchmark
+    public void commit() throws Exception {
+        Tag tag = audioFile.getTagOrCreateAndSetDefault();
+        tag.setField(FieldKey.TITLE, "Benchmark Title " + count++);
+        audioFile.commit();
+    }
+}
@@ -0,0 +1,501 @@
+package org.jaudiotagger;
+
+import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.ogg.util.OggCRCFactory;
+import org.jaudiotagger.audio.ogg.util.OggPageHeader;
+import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.id3.AbstractID3v2Frame;
+import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
+import org.jaudiotagger.tag.id3.ID3v23Frame;
+import org.jaudiotagger.tag.id3.ID3v23Tag;
+import org.jaudiotagger.tag.id3.ID3v24Frame;
+import org.jaudiotagger.tag.id3.ID3v24Tag;
+import org.jaudiotagger.tag.id3.ID3v24Frames;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyAPIC;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyTIT2;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyTXXX;
+import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
+import org.jaudiotagger.tag.reference.PictureTypes;
+import org.jcodec.containers.mp4.MP4Util;
+import org.jcodec.containers.mp4.boxes.*;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthesises large but valid audio files for scaling tests and benchmarks
+ *
+ * <p>The small files in testdata do not exercise multi-GB audio, tags with thousands of frames, large artwork or mp4
+ * files with huge sample tables. These methods create such files on demand so they do not have to be checked in,
+ * the content is deterministic for the same parameters.
+ *
+ * <p>Where a format needs real codec headers (Flac, Ogg, Mp4) the headers are taken from the small sample files in
+ * testdata and the audio is padded out or repeated, so the files are valid containers that jaudiotagger can read and
+ * write, but the audio itself is not intended to be played.
+ */
+public class SyntheticFileGenerator {
+    /**
+     * MPEG-1 Layer III, 128kbps, 44.1kHz, stereo, no padding, no crc
+     */
+    private static final byte[] MP3_FRAME_HEADER = {(byte) 0xFF, (byte) 0xFB, (byte) 0x90, (byte) 0x00};
+
+    /**
+     * Frame length for the header above, 144 * 128000 / 44100
+     */
+    public static final int MP3_FRAME_LENGTH = 417;
+
+    private static final int FLAC_STREAMINFO = 0;
+    private static final int FLAC_PADDING = 1;
+    private static final int FLAC_VORBIS_COMMENT = 4;
+    private static final int FLAC_PICTURE = 6;
+    private static final int FLAC_MAX_BLOCK_SIZE = (1 << 24) - 1;
+
+    private static final int COPY_BUFFER_SIZE = 1 << 20;
+
+    //Largest box size that can be held in the 32 bit size field
+    private static final long MAX_32_BIT_BOX_SIZE = 0xFFFFFFFFL;
+
+    private static final long SEED = 0x6a617564L;
+
+    /**
+     * Create an mp3 consisting of an ID3v2 tag followed by constant bitrate mpeg frames
+     *
+     * @param file              file to create
+     * @param id3MajorVersion   3 or 4
+     * @param textFrameCount    number of TXXX frames to add in addition to the title
+     * @param artworkSize       size of the APIC image data, 0 for none
+     * @param unsynchronised    if true the tag is unsynchronised (only supported by v2.3, see TagOptionSingleton)
+     * @param audioFrameCount   number of mpeg frames, each {@link #MP3_FRAME_LENGTH} bytes
+     * @return the file
+     * @throws IOException
+     */
+    public static File createMp3(File file, int id3MajorVersion, int textFrameCount, int artworkSize,
+                                 boolean unsynchronised, long audioFrameCount) throws IOException {
+        AbstractID3v2Tag tag;
+        if (id3MajorVersion == ID3v23Tag.MAJOR_VERSION) {
+            tag = new ID3v23Tag();
+        } else if (id3MajorVersion == ID3v24Tag.MAJOR_VERSION) {
+            tag = new ID3v24Tag();
+        } else {
+            throw new IllegalArgumentException("Unsupported ID3 version:" + id3MajorVersion);
+        }
+
+        AbstractID3v2Frame title = createFrame(id3MajorVersion, ID3v24Frames.FRAME_ID_TITLE);
+        title.setBody(new FrameBodyTIT2(TextEncoding.ISO_8859_1, "Synthetic " + textFrameCount + " frames"));
+        tag.setFrame(title);
+
+        if (textFrameCount > 0) {
+            List<AbstractID3v2Frame> frames = new ArrayList<AbstractID3v2Frame>(textFrameCount);
+            for (int i = 0; i < textFrameCount; i++) {
+                AbstractID3v2Frame frame = createFrame(id3MajorVersion, ID3v24Frames.FRAME_ID_USER_DEFINED_INFO);
+                frame.setBody(new FrameBodyTXXX(TextEncoding.UTF_16, "Description " + i, "Value " + i));
+                frames.add(frame);
+            }
+            tag.setFrame(ID3v24Frames.FRAME_ID_USER_DEFINED_INFO, frames);
+        }
+
+        if (artworkSize > 0) {
+            AbstractID3v2Frame frame = createFrame(id3MajorVersion, ID3v24Frames.FRAME_ID_ATTACHED_PICTURE);
+            frame.setBody(new FrameBodyAPIC(TextEncoding.ISO_8859_1, "image/jpeg", PictureTypes.DEFAULT_ID.byteValue(), "", createImageData(artworkSize)));
+            tag.setFrame(frame);
+        }
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        TagOptionSingleton options = TagOptionSingleton.getInstance();
+        boolean unsyncTags = options.isUnsyncTags();
+        options.setUnsyncTags(unsynchronised);
+        try {
+            tag.write(baos);
+        } finally {
+            options.setUnsyncTags(unsyncTags);
+        }
+
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(baos.toByteArray());
+            writeMp3Frames(out, audioFrameCount);
+        } finally {
+            out.close();
+        }
+        return file;
+    }
+
+    /**
+     * Create an mp3 with no tags, just constant bitrate mpeg frames
+     *
+     * @param file
+     * @param audioFrameCount
+     * @return the file
+     * @throws IOException
+     */
+    public static File createUntaggedMp3(File file, long audioFrameCount) throws IOException {
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            writeMp3Frames(out, audioFrameCount);
+        } finally {
+            out.close();
+        }
+        return file;
+    }
+
+    private static AbstractID3v2Frame createFrame(int id3MajorVersion, String identifier) {
+        if (id3MajorVersion == ID3v23Tag.MAJOR_VERSION) {
+            return new ID3v23Frame(identifier);
+        }
+        return new ID3v24Frame(identifier);
+    }
+
+    private static void writeMp3Frames(OutputStream out, long audioFrameCount) throws IOException {
+        final int framesPerWrite = 256;
+        byte[] frames = new byte[MP3_FRAME_LENGTH * framesPerWrite];
+        for (int i = 0; i < framesPerWrite; i++) {
+            System.arraycopy(MP3_FRAME_HEADER, 0, frames, i * MP3_FRAME_LENGTH, MP3_FRAME_HEADER.length);
+        }
+        long remaining = audioFrameCount;
+        while (remaining > 0) {
+            int count = (int) Math.min(remaining, framesPerWrite);
+            out.write(frames, 0, count * MP3_FRAME_LENGTH);
+            remaining -= count;
+        }
+    }
+
+    /**
+     * Image data with a jpeg start of image marker followed by random bytes, so it contains plenty of 0xFF bytes
+     * that would require unsynchronisation
+     *
+     * @param size
+     * @return the data
+     */
+    public static byte[] createImageData(int size) {
+        byte[] data = new byte[size];
+        new Random(SEED).nextBytes(data);
+        byte[] soi = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0};
+        System.arraycopy(soi, 0, data, 0, Math.min(soi.length, size));
+        return data;
+    }
+
+    /**
+     * Create a flac using the STREAMINFO, VORBIS_COMMENT and audio of the given sample, with a large picture and
+     * padding added
+     *
+     * @param file         file to create
+     * @param sampleFile   flac sample, e.g. testdata/test.flac
+     * @param pictureSize  size of the PICTURE image data, 0 for none
+     * @param paddingSize  total size of PADDING, split over several blocks if larger than a flac block allows
+     * @param audioRepeat  number of times the audio of the sample is written, STREAMINFO is not adjusted
+     * @return the file
+     * @throws IOException
+     */
+    public static File createFlac(File file, File sampleFile, int pictureSize, long paddingSize, int audioRepeat) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(sampleFile, "r");
+        try {
+            byte[] marker = new byte[4];
+            raf.readFully(marker);
+            if (!"fLaC".equals(new String(marker, "ISO-8859-1"))) {
+                throw new IOException("Not a flac sample:" + sampleFile);
+            }
+
+            byte[] streamInfo = null;
+            byte[] vorbisComment = null;
+            boolean isLastBlock = false;
+            while (!isLastBlock) {
+                int type = raf.readUnsignedByte();
+                isLastBlock = (type & 0x80) != 0;
+                int length = (raf.readUnsignedByte() << 16) | (raf.readUnsignedByte() << 8) | raf.readUnsignedByte();
+                byte[] data = new byte[length];
+                raf.readFully(data);
+                if ((type & 0x7F) == FLAC_STREAMINFO) {
+                    streamInfo = data;
+                } else if ((type & 0x7F) == FLAC_VORBIS_COMMENT) {
+                    vorbisComment = data;
+                }
+            }
+            long audioStart = raf.getFilePointer();
+
+            List<Integer> types = new ArrayList<Integer>();
+            List<byte[]> blocks = new ArrayList<byte[]>();
+            types.add(FLAC_STREAMINFO);
+            blocks.add(streamInfo);
+            if (vorbisComment != null) {
+                types.add(FLAC_VORBIS_COMMENT);
+                blocks.add(vorbisComment);
+            }
+            if (pictureSize > 0) {
+                types.add(FLAC_PICTURE);
+                blocks.add(createFlacPicture(pictureSize));
+            }
+            long remainingPadding = paddingSize;
+            while (remainingPadding > 0) {
+                int blockSize = (int) Math.min(remainingPadding, FLAC_MAX_BLOCK_SIZE);
+                types.add(FLAC_PADDING);
+                blocks.add(new byte[blockSize]);
+                remainingPadding -= blockSize;
+            }
+
+            FileOutputStream fos = new FileOutputStream(file);
+            try {
+                BufferedOutputStream out = new BufferedOutputStream(fos, COPY_BUFFER_SIZE);
+                out.write(marker);
+                for (int i = 0; i < blocks.size(); i++) {
+                    byte[] data = blocks.get(i);
+                    int type = types.get(i);
+                    out.write(i == blocks.size() - 1 ? type | 0x80 : type);
+                    out.write(data.length >>> 16);
+                    out.write(data.length >>> 8);
+                    out.write(data.length);
+                    out.write(data);
+                }
+                for (int i = 0; i < audioRepeat; i++) {
+                    copy(raf, audioStart, raf.length() - audioStart, out);
+                }
+                out.flush();
+            } finally {
+                fos.close();
+            }
+        } finally {
+            raf.close();
+        }
+        return file;
+    }
+
+    private static byte[] createFlacPicture(int imageSize) throws IOException {
+        byte[] mimeType = "image/jpeg".getBytes("ISO-8859-1");
+        ByteBuffer bb = ByteBuffer.allocate(32 + mimeType.length + imageSize);
+        bb.putInt(PictureTypes.DEFAULT_ID);
+        bb.putInt(mimeType.length);
+        bb.put(mimeType);
+        bb.putInt(0);              //description length
+        bb.putInt(500);            //width
+        bb.putInt(500);            //height
+        bb.putInt(24);             //colour depth
+        bb.putInt(0);              //indexed colours
+        bb.putInt(imageSize);
+        bb.put(createImageData(imageSize));
+        return bb.array();
+    }
+
+    /**
+     * Create an Ogg Vorbis stream using the header pages of the given sample followed by many audio pages
+     *
+     * <p>The audio pages of the sample are used in turn, renumbered with a continuous granule position and checksums
+     * recalculated, with end of stream only set on the final page.
+     *
+     * @param file           file to create
+     * @param sampleFile     ogg vorbis sample, e.g. testdata/test.ogg
+     * @param audioPageCount number of audio pages to write
+     * @return the file
+     * @throws IOException
+     */
+    public static File createOgg(File file, File sampleFile, long audioPageCount) throws IOException {
+        List<byte[]> headerPages = new ArrayList<byte[]>();
+        List<byte[]> audioPages = new ArrayList<byte[]>();
+        List<Long> granuleIncrements = new ArrayList<Long>();
+        RandomAccessFile raf = new RandomAccessFile(sampleFile, "r");
+        try {
+            long lastGranule = 0;
+            while (raf.getFilePointer() < raf.length()) {
+                long start = raf.getFilePointer();
+                OggPageHeader header = OggPageHeader.read(raf);
+                byte[] page = new byte[header.getRawHeaderData().length + header.getPageLength()];
+                raf.seek(start);
+                raf.readFully(page);
+                if (audioPages.isEmpty() && header.getAbsoluteGranulePosition() == 0) {
+                    headerPages.add(page);
+                } else {
+                    audioPages.add(page);
+                    granuleIncrements.add(Math.max(0, header.getAbsoluteGranulePosition() - lastGranule));
+                    lastGranule = header.getAbsoluteGranulePosition();
+                }
+            }
+        } catch (CannotReadException cre) {
+            throw new IOException(cre.getMessage());
+        } finally {
+            raf.close();
+        }
+        if (audioPages.isEmpty()) {
+            throw new IOException("No audio pages found in sample:" + sampleFile);
+        }
+
+        FileOutputStream fos = new FileOutputStream(file);
+        try {
+            BufferedOutputStream out = new BufferedOutputStream(fos, COPY_BUFFER_SIZE);
+            for (byte[] page : headerPages) {
+                out.write(page);
+            }
+            int sequence = headerPages.size();
+            long granule = 0;
+            for (long i = 0; i < audioPageCount; i++) {
+                int index = (int) (i % audioPages.size());
+                ByteBuffer page = ByteBuffer.wrap(audioPages.get(index).clone()).order(ByteOrder.LITTLE_ENDIAN);
+                granule += granuleIncrements.get(index);
+                int headerType = page.get(OggPageHeader.FIELD_HEADER_TYPE_FLAG_POS) & ~0x04;
+                if (i == audioPageCount - 1) {
+                    headerType |= 0x04;
+                }
+                page.put(OggPageHeader.FIELD_HEADER_TYPE_FLAG_POS, (byte) headerType);
+                page.putLong(OggPageHeader.FIELD_ABSOLUTE_GRANULE_POS, granule);
+                page.putInt(OggPageHeader.FIELD_PAGE_SEQUENCE_NO_POS, sequence++);
+                page.putInt(OggPageHeader.FIELD_PAGE_CHECKSUM_POS, 0);
+                byte[] crc = OggCRCFactory.computeCRC(page.array());
+                for (int j = 0; j < crc.length; j++) {
+                    page.put(OggPageHeader.FIELD_PAGE_CHECKSUM_POS + j, crc[j]);
+                }
+                out.write(page.array());
+            }
+            out.flush();
+        } finally {
+            fos.close();
+        }
+        return file;
+    }
+
+    /**
+     * Create an mp4 audio file (e.g. m4b) with the given number of samples so the moov box holds large sample tables
+     *
+     * <p>The ftyp and moov of the sample are used with the sample table of the first track replaced, and the mdat
+     * filled with zeroed samples of the given size.
+     *
+     * @param file            file to create
+     * @param sampleFile      mp4 audio sample, e.g. testdata/test.m4a
+     * @param sampleCount     number of samples in the track, i.e. entries in stsz
+     * @param sampleSize      size of each sample in bytes
+     * @param samplesPerChunk samples per chunk, determines the number of entries in stco/co64
+     * @return the file
+     * @throws IOException
+     */
+    public static File createMp4(File file, File sampleFile, int sampleCount, int sampleSize, int samplesPerChunk) throws IOException {
+        MP4Util.Movie movie;
+        FileInputStream in = new FileInputStream(sampleFile);
+        try {
+            movie = MP4Util.parseFullMovieChannel(in.getChannel());
+        } finally {
+            in.close();
+        }
+        if (movie == null || movie.getFtyp() == null || movie.getMoov() == null) {
+            throw new IOException("Not an mp4 sample:" + sampleFile);
+        }
+        MovieBox moov = movie.getMoov();
+        TrakBox trak = moov.getTracks()[0];
+        NodeBox stbl = NodeBox.findFirstPath(trak, NodeBox.class, Box.path("mdia.minf.stbl"));
+        MediaHeaderBox mdhd = NodeBox.findFirstPath(trak, MediaHeaderBox.class, Box.path("mdia.mdhd"));
+        if (stbl == null || mdhd == null) {
+            throw new IOException("No sample table found in sample:" + sampleFile);
+        }
+
+        final int samplesDuration = 1024;
+        int chunkCount = (sampleCount + samplesPerChunk - 1) / samplesPerChunk;
+        long mdatSize = (long) sampleCount * sampleSize;
+        boolean largeFile = mdatSize > Integer.MAX_VALUE;
+        int[] sizes = new int[sampleCount];
+        java.util.Arrays.fill(sizes, sampleSize);
+        stbl.removeChildren(new String[]{"stts", "stsz", "stsc", "stco", "co64", "stss", "ctts"});
+        stbl.add(TimeToSampleBox.createTimeToSampleBox(new TimeToSampleBox.TimeToSampleEntry[]{
+                new TimeToSampleBox.TimeToSampleEntry(sampleCount, samplesDuration)}));
+        List<SampleToChunkBox.SampleToChunkEntry> stsc = new ArrayList<SampleToChunkBox.SampleToChunkEntry>();
+        stsc.add(new SampleToChunkBox.SampleToChunkEntry(1, samplesPerChunk, 1));
+        if (sampleCount % samplesPerChunk != 0) {
+            stsc.add(new SampleToChunkBox.SampleToChunkEntry(chunkCount, sampleCount % samplesPerChunk, 1));
+        }
+        stbl.add(SampleToChunkBox.createSampleToChunkBox(stsc.toArray(new SampleToChunkBox.SampleToChunkEntry[stsc.size()])));
+        stbl.add(SampleSizesBox.createSampleSizesBox2(sizes));
+
+        //Offsets depend on the size of moov, which is the same whatever their values so measure with zeros first
+        long[] offsets = new long[chunkCount];
+        Box chunkOffsets = largeFile ? ChunkOffsets64Box.createChunkOffsets64Box(offsets) : ChunkOffsetsBox.createChunkOffsetsBox(offsets);
+        stbl.add(chunkOffsets);
+
+        long duration = (long) sampleCount * samplesDuration;
+        mdhd.setDuration(duration);
+        MovieHeaderBox mvhd = NodeBox.findFirst(moov, MovieHeaderBox.class, "mvhd");
+        long movieDuration = duration * mvhd.getTimescale() / mdhd.getTimescale();
+        mvhd.setDuration(movieDuration);
+        TrackHeaderBox tkhd = NodeBox.findFirst(trak, TrackHeaderBox.class, "tkhd");
+        if (tkhd != null) {
+            tkhd.setDuration(movieDuration);
+        }
+
+        ByteBuffer ftyp = MP4Util.writeBox(movie.getFtyp(), movie.getFtyp().estimateSize() + 64);
+        int moovSize = MP4Util.writeBox(moov, MP4Util.estimateMoovBoxSize(moov)).remaining();
+        ByteBuffer mdatHeader = createMdatHeader(mdatSize);
+        int mdatHeaderSize = mdatHeader.remaining();
+        long offset = ftyp.remaining() + moovSize + mdatHeaderSize;
+        for (int i = 0; i < chunkCount; i++) {
+            offsets[i] = offset + (long) i * samplesPerChunk * sampleSize;
+        }
+        stbl.replaceBox(largeFile ? ChunkOffsets64Box.createChunkOffsets64Box(offsets) : ChunkOffsetsBox.createChunkOffsetsBox(offsets));
+        ByteBuffer moovData = MP4Util.writeBox(moov, MP4Util.estimateMoovBoxSize(moov));
+
+        FileOutputStream fos = new FileOutputStream(file);
+        try {
+            FileChannel out = fos.getChannel();
+            out.write(ftyp);
+            out.write(moovData);
+            out.write(mdatHeader);
+            writeZeros(out, mdatSize);
+        } finally {
+            fos.close();
+        }
+        return file;
+    }
+
+    /**
+     * Create the header of an mdat box, the size is held in the 32 bit size field if it fits, otherwise the size field
+     * is 1 and the size is held in the 64 bit largesize following the type
+     *
+     * @param mdatSize size of the media data
+     * @return the header, ready to be written
+     * @throws IOException
+     */
+    static ByteBuffer createMdatHeader(long mdatSize) throws IOException {
+        final int smallHeaderSize = 8;
+        final int largeHeaderSize = 16;
+        boolean largeMdat = mdatSize + smallHeaderSize > MAX_32_BIT_BOX_SIZE;
+        ByteBuffer mdatHeader = ByteBuffer.allocate(largeMdat ? largeHeaderSize : smallHeaderSize);
+        if (largeMdat) {
+            mdatHeader.putInt(1);
+            mdatHeader.put("mdat".getBytes("ISO-8859-1"));
+            mdatHeader.putLong(mdatSize + largeHeaderSize);
+        } else {
+            mdatHeader.putInt((int) (mdatSize + smallHeaderSize));
+            mdatHeader.put("mdat".getBytes("ISO-8859-1"));
+        }
+        mdatHeader.flip();
+        return mdatHeader;
+    }
+
+    /**
+     * Extend a file with zeros, e.g. to create a multi-GB file cheaply after generating a valid start
+     *
+     * @param channel
+     * @param count
+     * @throws IOException
+     */
+    public static void writeZeros(FileChannel channel, long count) throws IOException {
+        ByteBuffer zeros = ByteBuffer.allocate((int) Math.min(count, COPY_BUFFER_SIZE));
+        long remaining = count;
+        while (remaining > 0) {
+            zeros.clear();
+            zeros.limit((int) Math.min(remaining, zeros.capacity()));
+            remaining -= channel.write(zeros);
+        }
+    }
+
+    private static void copy(RandomAccessFile raf, long start, long length, OutputStream out) throws IOException {
+        byte[] buffer = new byte[(int) Math.min(length, COPY_BUFFER_SIZE)];
+        raf.seek(start);
+        long remaining = length;
+        while (remaining > 0) {
+            int read = raf.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read < 0) {
+                throw new EOFException();
+            }
+            out.write(buffer, 0, read);
+            remaining -= read;
+        }
+    }
+}
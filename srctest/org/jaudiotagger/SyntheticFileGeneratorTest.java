@@ -0,0 +1,80 @@
+package org.jaudiotagger;
+
+import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
+import org.jaudiotagger.tag.id3.ID3v23Tag;
+import org.jaudiotagger.tag.id3.ID3v24Frames;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Check the synthetic files are valid, kept small here, the scaling tests and benchmarks use larger parameters
+ */
+public class SyntheticFileGeneratorTest extends AbstractTestCase
+{
+    private File outputFile(String name)
+    {
+        File file = new File("testdatatmp", name);
+        file.getParentFile().mkdirs();
+        return file;
+    }
+
+    public void testCreateMp3() throws Exception
+    {
+        File file = SyntheticFileGenerator.createMp3(outputFile("synthetic.mp3"), 3, 1000, 100000, true, 1000);
+        MP3File mp3File = (MP3File) AudioFileIO.read(file);
+        AbstractID3v2Tag tag = mp3File.getID3v2Tag();
+        assertEquals("Synthetic 1000 frames", tag.getFirst(FieldKey.TITLE));
+        assertEquals(1000, ((List) tag.getFrame(ID3v24Frames.FRAME_ID_USER_DEFINED_INFO)).size());
+        assertEquals(100000, tag.getFirstArtwork().getBinaryData().length);
+        assertTrue(((ID3v23Tag) tag).isUnsynchronization());
+        assertEquals(128, mp3File.getAudioHeader().getBitRateAsNumber());
+        assertEquals(file.length() - 1000 * SyntheticFileGenerator.MP3_FRAME_LENGTH, mp3File.getMP3AudioHeader().getMp3StartByte());
+    }
+
+    public void testCreateFlac() throws Exception
+    {
+        File file = SyntheticFileGenerator.createFlac(outputFile("synthetic.flac"), new File("testdata", "test.flac"), 100000, 20000000, 2);
+        AudioFile af = AudioFileIO.read(file);
+        assertEquals(100000, af.getTag().getFirstArtwork().getBinaryData().length);
+        assertTrue(file.length() > 20100000);
+    }
+
+    public void testCreateOgg() throws Exception
+    {
+        File file = SyntheticFileGenerator.createOgg(outputFile("synthetic.ogg"), new File("testdata", "test.ogg"), 500);
+        AudioFile af = AudioFileIO.read(file);
+        assertNotNull(af.getTag());
+        assertTrue(af.getAudioHeader().getPreciseTrackLength() > 0);
+    }
+
+    public void testCreateMp4() throws Exception
+    {
+        File file = SyntheticFileGenerator.createMp4(outputFile("synthetic.m4b"), new File("testdata", "test.m4a"), 10000, 300, 20);
+        AudioFile af = AudioFileIO.read(file);
+        assertNotNull(af.getTag());
+        assertEquals(af.getAudioHeader().getSampleRateAsNumber() > 0 ? 10000L * 1024 / af.getAudioHeader().getSampleRateAsNumber() : 0, af.getAudioHeader().getTrackLength());
+    }
+
+    public void testMdatHeaderSize() throws Exception
+    {
+        //Just under 2 GiB used to overflow when the header size was added
+        long mdatSize = Integer.MAX_VALUE - 4L;
+        ByteBuffer header = SyntheticFileGenerator.createMdatHeader(mdatSize);
+        assertEquals(8, header.remaining());
+        assertEquals(mdatSize + 8, header.getInt() & 0xFFFFFFFFL);
+
+        //Too large for the 32 bit size, so held in largesize
+        mdatSize = 0xFFFFFFFFL;
+        header = SyntheticFileGenerator.createMdatHeader(mdatSize);
+        assertEquals(16, header.remaining());
+        assertEquals(1, header.getInt());
+        header.getInt();
+        assertEquals(mdatSize + 16, header.getLong());
+    }
+}
@@ -0,0 +1,121 @@
+package org.jaudiotagger.audio;
+
+import org.jaudiotagger.AbstractTestCase;
+import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.id3.ID3v1Tag;
+
+import java.io.File;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+/**
+ * The audio data hash does not change when the tag does
+ */
+public class AudioDataHashTest extends AbstractTestCase {
+    /**
+     * Longer than the padding left for the tag, so the audio data has to be moved
+     */
+    private static final String LONG_LYRICS = new String(new char[20000]).replace('\0', 'l');
+
+    private void assertHashUnchangedByTag(String fileName) throws Exception {
+        File testFile = AbstractTestCase.copyAudioToTmp(fileName, new File("hash" + fileName));
+        AudioFile af = AudioFileIO.read(testFile);
+        byte[] before = af.getAudioDataHash("MD5");
+
+        af.getTagOrCreateAndSetDefault().setField(FieldKey.TITLE, "a much longer title than there was before so the tag grows");
+        af.getTag().setField(FieldKey.COMMENT, "hashing");
+        af.getTag().setField(FieldKey.LYRICS, LONG_LYRICS);
+        af.commit();
+
+        //The audio data may have moved, its position is not read again until hashed
+        assertNull(af.getAudioHeader().getAudioDataStartPosition());
+        assertNull(af.getAudioHeader().getAudioDataEndPosition());
+        assertTrue(Arrays.equals(before, af.getAudioDataHash("MD5")));
+        AudioHeader reread = AudioFileIO.read(testFile).getAudioHeader();
+        assertEquals(reread.getAudioDataStartPosition(), af.getAudioHeader().getAudioDataStartPosition());
+        assertEquals(reread.getAudioDataEndPosition(), af.getAudioHeader().getAudioDataEndPosition());
+
+        af = AudioFileIO.read(testFile);
+        assertEquals("a much longer title than there was before so the tag grows", af.getTag().getFirst(FieldKey.TITLE));
+        assertTrue(Arrays.equals(before, af.getAudioDataHash("MD5")));
+    }
+
+    public void testMp3() throws Exception {
+        assertHashUnchangedByTag("testV1Cbr128ID3v1v2.mp3");
+    }
+
+    public void testFlac() throws Exception {
+        assertHashUnchangedByTag("test.flac");
+    }
+
+    public void testWav() throws Exception {
+        assertHashUnchangedByTag("test.wav");
+    }
+
+    public void testAiff() throws Exception {
+        assertHashUnchangedByTag("test119.aif");
+    }
+
+    public void testDsf() throws Exception {
+        assertHashUnchangedByTag("test122.dsf");
+    }
+
+    public void testMp3ID3v1AddedAndRemoved() throws Exception {
+        File testFile = AbstractTestCase.copyAudioToTmp("testV1Cbr128ID3v2.mp3", new File("hashID3v1testV1Cbr128ID3v2.mp3"));
+        MP3File mp3File = (MP3File) AudioFileIO.read(testFile);
+        byte[] before = mp3File.getAudioDataHash("MD5");
+
+        ID3v1Tag v1Tag = new ID3v1Tag();
+        v1Tag.setField(FieldKey.TITLE, "v1 title");
+        mp3File.setID3v1Tag(v1Tag);
+        mp3File.getID3v2Tag().setField(FieldKey.TITLE, "a much longer title than there was before so the tag grows");
+        mp3File.commit();
+        assertNull(mp3File.getAudioHeader().getAudioDataEndPosition());
+        assertTrue(Arrays.equals(before, mp3File.getAudioDataHash("MD5")));
+        assertEquals(testFile.length() - ID3v1Tag.TAG_LENGTH, (long) mp3File.getAudioHeader().getAudioDataEndPosition());
+
+        mp3File.setID3v1Tag((ID3v1Tag) null);
+        mp3File.commit();
+        assertTrue(Arrays.equals(before, mp3File.getAudioDataHash("MD5")));
+        assertEquals(testFile.length(), (long) mp3File.getAudioHeader().getAudioDataEndPosition());
+        assertTrue(Arrays.equals(before, AudioFileIO.read(testFile).getAudioDataHash("MD5")));
+    }
+
+    public void testMp3SameAsGetHash() throws Exception {
+        File testFile = AbstractTestCase.copyAudioToTmp("testV1Cbr128ID3v1v2.mp3");
+        MP3File mp3File = (MP3File) AudioFileIO.read(testFile);
+        assertTrue(Arrays.equals(mp3File.getHash("MD5", 1000), mp3File.getAudioDataHash("MD5")));
+        assertTrue(Arrays.equals(mp3File.getHash("SHA-1", 32768), mp3File.getAudioDataHash("SHA-1")));
+    }
+
+    public void testSeveralDigestsInOnePass() throws Exception {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.flac");
+        AudioFile af = AudioFileIO.read(testFile);
+        MessageDigest md5 = MessageDigest.getInstance("MD5");
+        MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+        af.digestAudioData(md5, sha1);
+        assertTrue(Arrays.equals(af.getAudioDataHash("MD5"), md5.digest()));
+        assertTrue(Arrays.equals(af.getAudioDataHash("SHA-1"), sha1.digest()));
+    }
+
+    public void testPositionNotKnown() throws Exception {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.ogg");
+        AudioFile af = AudioFileIO.read(testFile);
+        try {
+            af.getAudioDataHash("MD5");
+            fail("Expected CannotReadException");
+        } catch (CannotReadException cre) {
+            assertTrue(cre.getMessage().contains("not known"));
+        }
+
+        af = AudioFileIO.readTagOnly(AbstractTestCase.copyAudioToTmp("test.flac"));
+        try {
+            af.getAudioDataHash("MD5");
+            fail("Expected CannotReadException");
+        } catch (CannotReadException cre) {
+            //expected
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.jaudiotagger.audio;
+
+import junit.framework.TestCase;
+import org.jaudiotagger.audio.generic.BufferPool;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Buffers released to the pool are handed out again for requests of the same size class
+ */
+public class BufferPoolTest extends TestCase {
+    public void testReleasedBufferReused() {
+        BufferPool pool = new BufferPool();
+        ByteBuffer buffer = pool.acquire(5000);
+        assertEquals(5000, buffer.limit());
+        assertEquals(8192, buffer.capacity());
+        assertFalse(buffer.isDirect());
+        buffer.put((byte) 1);
+        pool.release(buffer);
+
+        ByteBuffer again = pool.acquire(6000);
+        assertSame(buffer, again);
+        assertEquals(0, again.position());
+        assertEquals(6000, again.limit());
+
+        //A different size class or kind is not the same buffer
+        assertNotSame(buffer, pool.acquire(100));
+        assertNotSame(buffer, pool.acquire(10000));
+    }
+
+    public void testReleasedBufferBigEndian() {
+        BufferPool pool = new BufferPool();
+        ByteBuffer buffer = pool.acquire(5000);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        pool.release(buffer);
+
+        ByteBuffer again = pool.acquire(5000);
+        assertSame(buffer, again);
+        assertEquals(ByteOrder.BIG_ENDIAN, again.order());
+    }
+
+    public void testDirectBuffersPooledSeparately() {
+        BufferPool pool = new BufferPool();
+        ByteBuffer buffer = pool.acquireDirect(32768);
+        assertTrue(buffer.isDirect());
+        assertEquals(32768, buffer.capacity());
+        pool.release(buffer);
+        assertFalse(pool.acquire(32768).isDirect());
+        assertSame(buffer, pool.acquireDirect(32768));
+    }
+
+    public void testLargeBuffersNotPooled() {
+        BufferPool pool = new BufferPool(64 * 1024, 2);
+        assertEquals(64 * 1024, pool.getMaxPooledSize());
+        ByteBuffer buffer = pool.acquire(100000);
+        assertEquals(100000, buffer.capacity());
+        pool.release(buffer);
+        assertNotSame(buffer, pool.acquire(100000));
+    }
+
+    public void testBuffersPerSizeLimit() {
+        BufferPool pool = new BufferPool(64 * 1024, 1);
+        ByteBuffer first = pool.acquire(4096);
+        ByteBuffer second = pool.acquire(4096);
+        pool.release(first);
+        pool.release(second);
+        assertSame(first, pool.acquire(4096));
+        assertNotSame(second, pool.acquire(4096));
+    }
+
+    public void testPoolingDisabled() {
+        BufferPool pool = new BufferPool(0, 0);
+        ByteBuffer buffer = pool.acquire(4096);
+        assertEquals(4096, buffer.capacity());
+        pool.release(buffer);
+        assertNotSame(buffer, pool.acquire(4096));
+    }
+}
@@ -0,0 +1,109 @@
+package org.jaudiotagger.audio;
+
+import org.jaudiotagger.AbstractTestCase;
+import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.generic.ByteArrayFileChannel;
+import org.jaudiotagger.tag.FieldKey;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.Arrays;
+
+/**
+ * Files held in memory are read and tagged through a channel without being written to disk
+ */
+public class ChannelReadWriteTest extends AbstractTestCase {
+    private static final String LONG_LYRICS = new String(new char[20000]).replace('\0', 'l');
+
+    private static byte[] readFile(File file) throws Exception {
+        byte[] data = new byte[(int) file.length()];
+        FileInputStream fis = new FileInputStream(file);
+        try {
+            int read = 0;
+            while (read < data.length) {
+                read += fis.read(data, read, data.length - read);
+            }
+        } finally {
+            fis.close();
+        }
+        return data;
+    }
+
+    private void assertTaggedInMemory(String fileName) throws Exception {
+        File testFile = AbstractTestCase.copyAudioToTmp(fileName, new File("channel" + fileName));
+        ByteArrayFileChannel channel = new ByteArrayFileChannel(readFile(testFile));
+
+        AudioFile af = AudioFileIO.read(channel, fileName);
+        AudioFile fromDisk = AudioFileIO.read(testFile);
+        assertEquals(fromDisk.getAudioHeader().getTrackLength(), af.getAudioHeader().getTrackLength());
+        assertEquals(fromDisk.getTag().getFirst(FieldKey.TITLE), af.getTag().getFirst(FieldKey.TITLE));
+        byte[] audioHash = af.getAudioDataHash("MD5");
+        assertTrue(Arrays.equals(fromDisk.getAudioDataHash("MD5"), audioHash));
+
+        //A tag longer than the padding, so the audio has to be moved
+        af.getTagOrCreateAndSetDefault().setField(FieldKey.TITLE, "a much longer title than there was before so the tag grows");
+        af.getTag().setField(FieldKey.ARTIST, "in memory");
+        af.getTag().setField(FieldKey.LYRICS, LONG_LYRICS);
+        af.commit();
+        assertTrue(channel.isOpen());
+        assertTrue(Arrays.equals(audioHash, af.getAudioDataHash("MD5")));
+
+        //The same as writing the file on disk
+        fromDisk.getTagOrCreateAndSetDefault().setField(FieldKey.TITLE, "a much longer title than there was before so the tag grows");
+        fromDisk.getTag().setField(FieldKey.ARTIST, "in memory");
+        fromDisk.getTag().setField(FieldKey.LYRICS, LONG_LYRICS);
+        fromDisk.commit();
+        byte[] written = channel.toByteArray();
+        assertTrue(Arrays.equals(readFile(testFile), written));
+
+        File writtenFile = new File(testFile.getParentFile(), "channelwritten" + fileName);
+        FileOutputStream fos = new FileOutputStream(writtenFile);
+        try {
+            fos.write(written);
+        } finally {
+            fos.close();
+        }
+        af = AudioFileIO.read(writtenFile);
+        assertEquals("in memory", af.getTag().getFirst(FieldKey.ARTIST));
+        assertTrue(Arrays.equals(audioHash, af.getAudioDataHash("MD5")));
+
+        af = AudioFileIO.readTagOnly(new ByteArrayFileChannel(written), fileName);
+        assertNull(af.getAudioHeader());
+        assertEquals("a much longer title than there was before so the tag grows", af.getTag().getFirst(FieldKey.TITLE));
+    }
+
+    public void testFlac() throws Exception {
+        assertTaggedInMemory("test.flac");
+    }
+
+    public void testWav() throws Exception {
+        assertTaggedInMemory("test.wav");
+    }
+
+    public void testAiff() throws Exception {
+        assertTaggedInMemory("test119.aif");
+    }
+
+    public void testDsf() throws Exception {
+        assertTaggedInMemory("test122.dsf");
+    }
+
+    public void testFormatNotReadFromChannel() throws Exception {
+        File testFile = AbstractTestCase.copyAudioToTmp("testV1.mp3");
+        try {
+            AudioFileIO.read(new ByteArrayFileChannel(readFile(testFile)), "testV1.mp3");
+            fail("Expected CannotReadException");
+        } catch (CannotReadException cre) {
+            assertTrue(cre.getMessage().contains("channel"));
+        }
+    }
+
+    public void testChannelTruncateAndGrow() throws Exception {
+        ByteArrayFileChannel channel = new ByteArrayFileChannel(new byte[]{1, 2, 3, 4});
+        channel.truncate(2);
+        channel.write(java.nio.ByteBuffer.wrap(new byte[]{9}), 3);
+        assertTrue(Arrays.equals(new byte[]{1, 2, 0, 9}, channel.toByteArray()));
+        assertEquals(4, channel.size());
+    }
+}
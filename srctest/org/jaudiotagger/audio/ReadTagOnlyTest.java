@@ -0,0 +1,69 @@
+package org.jaudiotagger.audio;
+
+import org.jaudiotagger.AbstractTestCase;
+import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.tag.FieldKey;
+
+import java.io.File;
+
+/**
+ * Reading just the tag gives the same tag as a full read without the audio header
+ */
+public class ReadTagOnlyTest extends AbstractTestCase {
+    private void assertSameTag(String fileName) throws Exception {
+        File testFile = AbstractTestCase.copyAudioToTmp(fileName);
+        AudioFile full = AudioFileIO.read(testFile);
+        AudioFile tagOnly = AudioFileIO.readTagOnly(testFile);
+        assertNull(tagOnly.getAudioHeader());
+        assertNotNull(tagOnly.getTag());
+        assertEquals(full.getTag().getClass(), tagOnly.getTag().getClass());
+        assertEquals(full.getTag().getFieldCount(), tagOnly.getTag().getFieldCount());
+        assertEquals(full.getTag().getFirst(FieldKey.TITLE), tagOnly.getTag().getFirst(FieldKey.TITLE));
+        assertEquals(full.getTag().getFirst(FieldKey.ARTIST), tagOnly.getTag().getFirst(FieldKey.ARTIST));
+    }
+
+    public void testMp3() throws Exception {
+        assertSameTag("testV1Cbr128ID3v2pad.mp3");
+    }
+
+    public void testFlac() throws Exception {
+        assertSameTag("test.flac");
+    }
+
+    public void testOgg() throws Exception {
+        assertSameTag("test.ogg");
+    }
+
+    public void testMp4() throws Exception {
+        assertSameTag("test.m4a");
+    }
+
+    public void testWav() throws Exception {
+        assertSameTag("test.wav");
+    }
+
+    public void testWma() throws Exception {
+        assertSameTag("test1.wma");
+    }
+
+    public void testAiff() throws Exception {
+        assertSameTag("test119.aif");
+    }
+
+    /**
+     * The mp3 audio start is found when saving a file that was read without the audio header
+     */
+    public void testWriteMp3ReadTagOnly() throws Exception {
+        File testFile = AbstractTestCase.copyAudioToTmp("testV1Cbr128ID3v2pad.mp3");
+        AudioHeader header = AudioFileIO.read(testFile).getAudioHeader();
+
+        AudioFile tagOnly = AudioFileIO.readTagOnly(testFile);
+        tagOnly.getTagOrCreateAndSetDefault().setField(FieldKey.TITLE, "tag only");
+        tagOnly.commit();
+
+        MP3File mp3File = (MP3File) AudioFileIO.read(testFile);
+        assertEquals("tag only", mp3File.getTag().getFirst(FieldKey.TITLE));
+        assertEquals(header.getBitRate(), mp3File.getAudioHeader().getBitRate());
+        assertEquals(header.getTrackLength(), mp3File.getAudioHeader().getTrackLength());
+    }
+}
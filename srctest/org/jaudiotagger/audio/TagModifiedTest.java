@@ -0,0 +1,176 @@
+package org.jaudiotagger.audio;
+
+import org.jaudiotagger.AbstractTestCase;
+import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.ModificationTrackingTag;
+import org.jaudiotagger.tag.Tag;
+import org.jaudiotagger.tag.id3.AbstractID3v2Frame;
+import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyTIT2;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+
+/**
+ * Committing a file whose tag has not been modified does not write anything
+ */
+public class TagModifiedTest extends AbstractTestCase {
+    private static final long OLD_TIME = 1000000000000L;
+
+    private static byte[] readBytes(File file, int length) throws Exception {
+        byte[] data = new byte[length];
+        FileInputStream fis = new FileInputStream(file);
+        try {
+            int read = 0;
+            while (read < length) {
+                read += fis.read(data, read, length - read);
+            }
+        } finally {
+            fis.close();
+        }
+        return data;
+    }
+
+    private void assertUntouchedCommitDoesNotWrite(String fileName) throws Exception {
+        File testFile = AbstractTestCase.copyAudioToTmp(fileName, new File("modified" + fileName));
+        AudioFile af = AudioFileIO.read(testFile);
+        Tag tag = af.getTag();
+        assertFalse(af.isTagModified());
+
+        //Reading values does not count as a change
+        tag.getFirst(FieldKey.TITLE);
+        tag.getAll(FieldKey.ARTIST);
+        tag.hasField(FieldKey.ALBUM);
+        tag.getFieldCount();
+        tag.getArtworkList();
+        tag.toString();
+        assertFalse(af.isTagModified());
+
+        byte[] before = readBytes(testFile, (int) testFile.length());
+        assertTrue(testFile.setLastModified(OLD_TIME));
+        af.commit();
+        assertEquals(OLD_TIME, testFile.lastModified());
+        assertTrue(Arrays.equals(before, readBytes(testFile, (int) testFile.length())));
+
+        //An edit is written and then the tag matches the file again
+        tag.setField(FieldKey.TITLE, "modified");
+        assertTrue(af.isTagModified());
+        af.commit();
+        assertFalse(af.isTagModified());
+        assertEquals("modified", AudioFileIO.read(testFile).getTag().getFirst(FieldKey.TITLE));
+    }
+
+    public void testMp3() throws Exception {
+        assertUntouchedCommitDoesNotWrite("testV1Cbr128ID3v1v2.mp3");
+    }
+
+    public void testFlac() throws Exception {
+        assertUntouchedCommitDoesNotWrite("test.flac");
+    }
+
+    public void testMp4() throws Exception {
+        assertUntouchedCommitDoesNotWrite("test.m4a");
+    }
+
+    public void testOgg() throws Exception {
+        assertUntouchedCommitDoesNotWrite("test.ogg");
+    }
+
+    public void testWav() throws Exception {
+        assertUntouchedCommitDoesNotWrite("test.wav");
+    }
+
+    public void testGettingFieldsCountsAsModified() throws Exception {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.flac");
+        AudioFile af = AudioFileIO.read(testFile);
+        af.getTag().getFields(FieldKey.TITLE);
+        assertTrue(af.isTagModified());
+
+        af = AudioFileIO.read(testFile);
+        af.getTag().getFirstField(FieldKey.TITLE);
+        assertTrue(af.isTagModified());
+    }
+
+    public void testSetTagCountsAsModified() throws Exception {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.flac");
+        AudioFile af = AudioFileIO.read(testFile);
+        Tag tag = AudioFileIO.read(AbstractTestCase.copyAudioToTmp("test.flac", new File("modifiedother.flac"))).getTag();
+        assertFalse(((ModificationTrackingTag) tag).isModified());
+        af.setTag(tag);
+        assertTrue(af.isTagModified());
+    }
+
+    public void testTagNotTrackingModificationAlwaysWritten() throws Exception {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.flac");
+        AudioFile af = AudioFileIO.read(testFile);
+        Tag tag = (Tag) Proxy.newProxyInstance(Tag.class.getClassLoader(), new Class[]{Tag.class}, new InvocationHandler() {
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                return null;
+            }
+        });
+        af.setTag(tag);
+        assertTrue(af.isTagModified());
+        af.setTagModified(false);
+        assertTrue(af.isTagModified());
+    }
+
+    public void testMp3OnlyModifiedTagWritten() throws Exception {
+        File testFile = AbstractTestCase.copyAudioToTmp("testV1Cbr128ID3v1v2.mp3");
+        MP3File mp3File = (MP3File) AudioFileIO.read(testFile);
+        assertNotNull(mp3File.getID3v1Tag());
+        assertNotNull(mp3File.getID3v2Tag());
+        int v2TagSize = (int) AbstractID3v2Tag.getV2TagSizeIfExists(testFile);
+        byte[] v2Before = readBytes(testFile, v2TagSize);
+
+        mp3File.getID3v1Tag().setTitle("v1 only");
+        assertTrue(mp3File.isTagModified());
+        assertFalse(mp3File.getID3v2Tag().isModified());
+        mp3File.commit();
+        assertFalse(mp3File.isTagModified());
+
+        assertTrue(Arrays.equals(v2Before, readBytes(testFile, v2TagSize)));
+        mp3File = new MP3File(testFile);
+        assertEquals("v1 only", mp3File.getID3v1Tag().getFirst(FieldKey.TITLE));
+    }
+
+    public void testMp3GettingFramesIsNotModified() throws Exception {
+        File testFile = AbstractTestCase.copyAudioToTmp("testV1Cbr128ID3v1v2.mp3");
+        MP3File mp3File = (MP3File) AudioFileIO.read(testFile);
+        AbstractID3v2Tag tag = mp3File.getID3v2Tag();
+        tag.getFields();
+        tag.getFields(FieldKey.TITLE);
+        tag.iterator();
+        AbstractID3v2Frame frame = tag.getFirstField("TIT2");
+        assertNotNull(frame);
+        assertFalse(mp3File.isTagModified());
+
+        byte[] before = readBytes(testFile, (int) testFile.length());
+        assertTrue(testFile.setLastModified(OLD_TIME));
+        mp3File.commit();
+        assertEquals(OLD_TIME, testFile.lastModified());
+        assertTrue(Arrays.equals(before, readBytes(testFile, (int) testFile.length())));
+
+        //Changing the body of a frame that was handed out is written
+        ((FrameBodyTIT2) frame.getBody()).setText("changed");
+        assertTrue(mp3File.isTagModified());
+        mp3File.commit();
+        assertFalse(mp3File.isTagModified());
+        assertEquals("changed", new MP3File(testFile).getID3v2Tag().getFirst(FieldKey.TITLE));
+    }
+
+    public void testMp3SaveWritesUnmodifiedTags() throws Exception {
+        File testFile = AbstractTestCase.copyAudioToTmp("testV1Cbr128ID3v1v2.mp3");
+        MP3File mp3File = new MP3File(testFile);
+        assertFalse(mp3File.isTagModified());
+        assertTrue(testFile.setLastModified(OLD_TIME));
+
+        //Explicitly saving still writes the tags so that changed write options are applied
+        mp3File.save();
+        assertTrue(testFile.lastModified() != OLD_TIME);
+    }
+}
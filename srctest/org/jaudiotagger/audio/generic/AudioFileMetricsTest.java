@@ -0,0 +1,97 @@
+package org.jaudiotagger.audio.generic;
+
+import org.jaudiotagger.AbstractTestCase;
+import org.jaudiotagger.SyntheticFileGenerator;
+import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.TagOptionSingleton;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AudioFileMetricsTest extends AbstractTestCase {
+    private static class CollectingListener implements AudioFileMetricsListener {
+        private final List<AudioFileMetrics> collected = new ArrayList<AudioFileMetrics>();
+
+        public void operationFinished(AudioFileMetrics metrics) {
+            collected.add(metrics);
+        }
+    }
+
+    public void testReadAndWriteFlac() throws Exception {
+        File file = new File("testdatatmp", "metrics.flac");
+        file.getParentFile().mkdirs();
+        SyntheticFileGenerator.createFlac(file, new File("testdata", "test.flac"), 100000, 0, 1);
+
+        AudioFileIO audioFileIO = new AudioFileIO();
+        CollectingListener listener = new CollectingListener();
+        audioFileIO.addAudioFileMetricsListener(listener);
+
+        AudioFile af = audioFileIO.readFile(file);
+        assertEquals(1, listener.collected.size());
+        AudioFileMetrics metrics = listener.collected.get(0);
+        assertEquals(AudioFileMetrics.Operation.READ, metrics.getOperation());
+        assertEquals("flac", metrics.getFormat());
+        assertFalse(metrics.isFailed());
+        assertTrue(metrics.getBytesRead() > 100000);
+        assertEquals(0, metrics.getBytesWritten());
+        assertTrue(metrics.getChannelOperations() > 0);
+        assertTrue(metrics.getArtworkNanos() > 0);
+        assertTrue(metrics.getElapsedNanos() >= metrics.getHeaderNanos() + metrics.getTagNanos() + metrics.getArtworkNanos());
+        assertNull(AudioFileMetrics.current());
+
+        af.getTag().setField(FieldKey.TITLE, "metrics");
+        audioFileIO.writeFile(af, null);
+        assertEquals(2, listener.collected.size());
+        metrics = listener.collected.get(1);
+        assertEquals(AudioFileMetrics.Operation.WRITE, metrics.getOperation());
+        assertTrue(metrics.getBytesWritten() > 0);
+
+        audioFileIO.removeAudioFileMetricsListener(listener);
+        audioFileIO.readFile(file);
+        assertEquals(2, listener.collected.size());
+    }
+
+    public void testReadMp3() throws Exception {
+        File file = new File("testdatatmp", "metrics.mp3");
+        file.getParentFile().mkdirs();
+        SyntheticFileGenerator.createMp3(file, 4, 10, 20000, false, 100);
+        //Decode the artwork when the tag is read rather than when it is first accessed
+        TagOptionSingleton.getInstance().setId3v2LazyFrameBodySize(Integer.MAX_VALUE);
+
+        AudioFileIO audioFileIO = new AudioFileIO();
+        CollectingListener listener = new CollectingListener();
+        audioFileIO.addAudioFileMetricsListener(listener);
+        audioFileIO.readFile(file);
+
+        AudioFileMetrics metrics = listener.collected.get(0);
+        assertEquals("mp3", metrics.getFormat());
+        assertTrue(metrics.getBytesRead() > 20000);
+        assertTrue(metrics.getHeaderNanos() > 0);
+        assertTrue(metrics.getTagNanos() > 0);
+        assertTrue(metrics.getArtworkNanos() > 0);
+    }
+
+    public void testFailedRead() throws Exception {
+        File file = new File("testdatatmp", "metricsbad.mp3");
+        file.getParentFile().mkdirs();
+        FileOutputStream fos = new FileOutputStream(file);
+        fos.write(new byte[10]);
+        fos.close();
+
+        AudioFileIO audioFileIO = new AudioFileIO();
+        CollectingListener listener = new CollectingListener();
+        audioFileIO.addAudioFileMetricsListener(listener);
+        try {
+            audioFileIO.readFile(file);
+            fail("Expected read to fail");
+        } catch (Exception e) {
+            assertEquals(1, listener.collected.size());
+            assertTrue(listener.collected.get(0).isFailed());
+        }
+        assertNull(AudioFileMetrics.current());
+    }
+}
@@ -634,4 +634,13 @@ public class MP3AudioHeaderTest extends TestCase
         assertEquals("Fraunhofer", mp3AudioHeader.getEncoder());
 
     }
-}
\ No newline at end of file
+
+    public void testFormatTrackLength()
+    {
+        assertEquals("00:00", MP3AudioHeader.formatTrackLength(0));
+        assertEquals("01:15", MP3AudioHeader.formatTrackLength(75));
+        assertEquals("59:59", MP3AudioHeader.formatTrackLength(3599));
+        assertEquals("01:02:05", MP3AudioHeader.formatTrackLength(3725));
+        assertEquals("24:00:00", MP3AudioHeader.formatTrackLength(86400));
+    }
+}
@@ -0,0 +1,189 @@
+package org.jaudiotagger.audio.mp3;
+
+import junit.framework.TestCase;
+import org.jaudiotagger.tag.TagOptionSingleton;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Counting every frame of a variable bitrate file without a Xing or Vbri header
+ */
+public class MP3FrameCounterTest extends TestCase
+{
+    private static final byte[] FRAME_128 = frame(0x90, 417);
+    private static final byte[] FRAME_64 = frame(0x50, 208);
+    private static final byte[] FRAME_320 = frame(0xE0, 1044);
+
+    private static byte[] frame(int byte3, int length)
+    {
+        byte[] frame = new byte[length];
+        frame[0] = (byte) 0xFF;
+        frame[1] = (byte) 0xFB;
+        frame[2] = (byte) byte3;
+        return frame;
+    }
+
+    /**
+     * 100 frames at 128kbps, 300 at 64kbps, 50 at 320kbps then an ID3v1 tag
+     */
+    private static File createVbrFile(String name, boolean withJunk) throws IOException
+    {
+        File file = new File("testdatatmp", name);
+        file.getParentFile().mkdirs();
+        FileOutputStream fos = new FileOutputStream(file);
+        try
+        {
+            for (int i = 0; i < 100; i++)
+            {
+                fos.write(FRAME_128);
+            }
+            if (withJunk)
+            {
+                fos.write(new byte[]{(byte) 0xFF, (byte) 0xFB, 0, 1, 2, 3, 4, 5, 6});
+            }
+            for (int i = 0; i < 300; i++)
+            {
+                fos.write(FRAME_64);
+            }
+            for (int i = 0; i < 50; i++)
+            {
+                fos.write(FRAME_320);
+            }
+            byte[] tag = new byte[128];
+            tag[0] = 'T';
+            tag[1] = 'A';
+            tag[2] = 'G';
+            fos.write(tag);
+        }
+        finally
+        {
+            fos.close();
+        }
+        return file;
+    }
+
+    @Override
+    protected void tearDown()
+    {
+        TagOptionSingleton.getInstance().setToDefault();
+    }
+
+    public void testEstimateByDefault() throws Exception
+    {
+        File file = createVbrFile("vbrnoheader.mp3", false);
+        MP3AudioHeader header = new MP3AudioHeader(file);
+        assertEquals(file.length() / 417, header.getNumberOfFrames());
+        assertEquals(128, header.getBitRateAsNumber());
+    }
+
+    public void testAccurateLength() throws Exception
+    {
+        TagOptionSingleton.getInstance().setAccurateMp3Length(true);
+        File file = createVbrFile("vbrnoheader.mp3", false);
+        MP3AudioHeader header = new MP3AudioHeader(file);
+        assertEquals(450, header.getNumberOfFrames());
+        assertEquals(450 * 1152 / 44100.0, header.getPreciseTrackLength(), 0.0001);
+        long audioSize = 100 * 417 + 300 * 208 + 50 * 1044;
+        assertEquals((long) (audioSize * 8 / (450 * 1152 / 44100.0 * 1000)), header.getBitRateAsNumber());
+    }
+
+    public void testAccurateLengthResyncs() throws Exception
+    {
+        File file = createVbrFile("vbrnoheaderjunk.mp3", true);
+        FileInputStream fis = new FileInputStream(file);
+        try
+        {
+            MP3FrameCount frameCount = MP3FrameCounter.count(fis.getChannel(), 0);
+            assertEquals(450, frameCount.getNumberOfFrames());
+            assertEquals(100 * 417 + 300 * 208 + 50 * 1044, frameCount.getAudioSize());
+        }
+        finally
+        {
+            fis.close();
+        }
+    }
+
+    public void testCache() throws Exception
+    {
+        MP3FrameCountCache cache = new MP3FrameCountCache();
+        TagOptionSingleton.getInstance().setAccurateMp3Length(true);
+        TagOptionSingleton.getInstance().setMp3FrameCountCache(cache);
+        File file = createVbrFile("vbrnoheadercache.mp3", false);
+        new MP3AudioHeader(file);
+        assertEquals(1, cache.size());
+        assertEquals(450, cache.get(file, 0).getNumberOfFrames());
+        assertNull(cache.get(file, 417));
+
+        File cacheFile = new File("testdatatmp", "mp3framecounts.properties");
+        cache.save(cacheFile);
+        MP3FrameCountCache loaded = new MP3FrameCountCache();
+        loaded.load(cacheFile);
+        assertEquals(450, loaded.get(file, 0).getNumberOfFrames());
+        assertEquals(cache.get(file, 0).getTrackLength(), loaded.get(file, 0).getTrackLength(), 0.0);
+
+        //Changing the file makes the entry stale
+        file.setLastModified(file.lastModified() - 10000);
+        assertNull(loaded.get(file, 0));
+    }
+
+    /**
+     * ID3v2 tag holding two bytes sequences that look like consecutive frames, followed by junk then 20 frames, so the
+     * first frame is not found straight after the tag and the search is made again from the start of the file
+     */
+    private static File createFileWithFalseSyncInTag(String name) throws IOException
+    {
+        byte[] privData = new byte[1000];
+        Arrays.fill(privData, (byte) ' ');
+        System.arraycopy(FRAME_128, 0, privData, 0, 4);
+        System.arraycopy(FRAME_128, 0, privData, 417, 4);
+        int frameSize = 2 + privData.length;
+        int tagSize = 10 + frameSize;
+
+        File file = new File("testdatatmp", name);
+        file.getParentFile().mkdirs();
+        FileOutputStream fos = new FileOutputStream(file);
+        try
+        {
+            fos.write(new byte[]{'I', 'D', '3', 3, 0, 0, 0, 0, (byte) (tagSize >> 7), (byte) (tagSize & 0x7F)});
+            fos.write(new byte[]{'P', 'R', 'I', 'V', 0, 0, (byte) (frameSize >> 8), (byte) frameSize, 0, 0, 'x', 0});
+            fos.write(privData);
+            byte[] junk = new byte[16];
+            Arrays.fill(junk, (byte) 1);
+            fos.write(junk);
+            for (int i = 0; i < 20; i++)
+            {
+                fos.write(FRAME_128);
+            }
+        }
+        finally
+        {
+            fos.close();
+        }
+        return file;
+    }
+
+    public void testCacheWithFalseSyncInTag() throws Exception
+    {
+        MP3FrameCountCache cache = new MP3FrameCountCache();
+        TagOptionSingleton.getInstance().setAccurateMp3Length(true);
+        TagOptionSingleton.getInstance().setMp3FrameCountCache(cache);
+        File file = createFileWithFalseSyncInTag("falsesyncintag.mp3");
+        long audioStart = 10 + 10 + 1002 + 16;
+
+        for (int i = 0; i < 2; i++)
+        {
+            MP3File mp3File = new MP3File(file);
+            assertEquals(audioStart, mp3File.getMP3AudioHeader().getMp3StartByte());
+            assertEquals(20, mp3File.getMP3AudioHeader().getNumberOfFrames());
+        }
+
+        //Only the count from the confirmed start is cached
+        assertEquals(1, cache.size());
+        assertEquals(20, cache.get(file, audioStart).getNumberOfFrames());
+        assertNull(cache.get(file, 22));
+    }
+}
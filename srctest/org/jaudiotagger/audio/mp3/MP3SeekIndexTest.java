@@ -0,0 +1,141 @@
+package org.jaudiotagger.audio.mp3;
+
+import junit.framework.TestCase;
+import org.jaudiotagger.AbstractTestCase;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Seek index built from the Xing table of contents, the Vbri table of contents and by walking the frames
+ */
+public class MP3SeekIndexTest extends TestCase
+{
+    private static final int FRAME_LENGTH = 417;
+    private static final double TIME_PER_FRAME = 1152 / 44100.0;
+
+    public void testXingToc() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("testV1vbrNew0.mp3");
+        MP3AudioHeader header = new MP3AudioHeader(testFile);
+        assertNotNull(header.mp3XingFrame);
+        assertTrue(header.mp3XingFrame.isTocEnabled());
+
+        MP3SeekIndex index = header.getSeekIndex(testFile);
+        assertSame(index, header.getSeekIndex(testFile));
+        assertEquals(101, index.size());
+        assertEquals(header.getMp3StartByte(), index.getPosition(0.0));
+        for (int i = 1; i < index.size(); i++)
+        {
+            assertTrue(index.getPointPosition(i) >= index.getPointPosition(i - 1));
+        }
+
+        //Interpolated between points
+        double halfway = (index.getPointTime(50) + index.getPointTime(51)) / 2;
+        assertTrue(index.getPosition(halfway) >= index.getPointPosition(50));
+        assertTrue(index.getPosition(halfway) <= index.getPointPosition(51));
+
+        //Approximately where walking the frames puts it
+        FileInputStream fis = new FileInputStream(testFile);
+        try
+        {
+            MP3SeekIndex walked = MP3SeekIndex.fromFrames(fis.getChannel(), header.getMp3StartByte(), 1);
+            double time = header.getPreciseTrackLength() / 2;
+            assertEquals(walked.getPosition(time), index.getPosition(time), testFile.length() / 50);
+        }
+        finally
+        {
+            fis.close();
+        }
+    }
+
+    public void testVbriToc() throws Exception
+    {
+        File file = new File("testdatatmp", "vbri.mp3");
+        file.getParentFile().mkdirs();
+
+        //First frame holds the Vbri header, 10 frames per table entry
+        ByteBuffer vbri = ByteBuffer.allocate(FRAME_LENGTH);
+        vbri.put(new byte[]{(byte) 0xFF, (byte) 0xFB, (byte) 0x90, 0});
+        vbri.position(MPEGFrameHeader.HEADER_SIZE + 32);
+        vbri.put(new byte[]{'V', 'B', 'R', 'I'});
+        vbri.putShort((short) 1);
+        vbri.putShort((short) 0);
+        vbri.putShort((short) 75);
+        vbri.putInt(FRAME_LENGTH * 101);
+        vbri.putInt(101);
+        vbri.putShort((short) 10);
+        vbri.putShort((short) 1);
+        vbri.putShort((short) 2);
+        vbri.putShort((short) 10);
+        for (int i = 0; i < 10; i++)
+        {
+            vbri.putShort((short) (FRAME_LENGTH * 10));
+        }
+
+        byte[] frame = new byte[FRAME_LENGTH];
+        frame[0] = (byte) 0xFF;
+        frame[1] = (byte) 0xFB;
+        frame[2] = (byte) 0x90;
+        FileOutputStream fos = new FileOutputStream(file);
+        try
+        {
+            fos.write(vbri.array());
+            for (int i = 0; i < 100; i++)
+            {
+                fos.write(frame);
+            }
+        }
+        finally
+        {
+            fos.close();
+        }
+
+        MP3AudioHeader header = new MP3AudioHeader(file);
+        assertNotNull(header.mp3VbriFrame);
+        assertEquals(10, header.mp3VbriFrame.getToc().length);
+        MP3SeekIndex index = header.getSeekIndex(file);
+        assertEquals(11, index.size());
+        assertEquals(0, index.getPosition(0.0));
+        assertEquals(FRAME_LENGTH * 10, index.getPosition(TIME_PER_FRAME * 10));
+        //Last point at or before the time, not interpolated
+        assertEquals(FRAME_LENGTH * 20, index.getPosition(TIME_PER_FRAME * 25));
+    }
+
+    public void testFrameWalk() throws Exception
+    {
+        File file = new File("testdatatmp", "noxing.mp3");
+        file.getParentFile().mkdirs();
+        byte[] frame = new byte[FRAME_LENGTH];
+        frame[0] = (byte) 0xFF;
+        frame[1] = (byte) 0xFB;
+        frame[2] = (byte) 0x90;
+        FileOutputStream fos = new FileOutputStream(file);
+        try
+        {
+            fos.write(new byte[100]);
+            for (int i = 0; i < 1000; i++)
+            {
+                fos.write(frame);
+            }
+        }
+        finally
+        {
+            fos.close();
+        }
+
+        MP3AudioHeader header = new MP3AudioHeader(file);
+        assertNull(header.mp3XingFrame);
+        assertNull(header.mp3VbriFrame);
+        MP3SeekIndex index = header.getSeekIndex(file);
+        assertEquals(1000 / MP3SeekIndex.DEFAULT_FRAMES_PER_ENTRY, index.size());
+        assertEquals(100, index.getPosition(-1.0));
+        assertEquals(100, index.getPosition(0.0));
+        int entry = 7;
+        long expected = 100 + (long) FRAME_LENGTH * MP3SeekIndex.DEFAULT_FRAMES_PER_ENTRY * entry;
+        assertEquals(expected, index.getPointPosition(entry));
+        assertEquals(expected, index.getPosition(index.getPointTime(entry) + TIME_PER_FRAME));
+    }
+}
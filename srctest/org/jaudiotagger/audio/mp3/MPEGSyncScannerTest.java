@@ -0,0 +1,100 @@
+package org.jaudiotagger.audio.mp3;
+
+import junit.framework.TestCase;
+import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/**
+ * The scanner must find exactly the positions that checking every byte and parsing would have found
+ */
+public class MPEGSyncScannerTest extends TestCase
+{
+    private static boolean canParse(ByteBuffer bb, int position)
+    {
+        ByteBuffer duplicate = bb.duplicate();
+        duplicate.position(position);
+        if (!MPEGFrameHeader.isMPEGFrame(duplicate))
+        {
+            return false;
+        }
+        try
+        {
+            MPEGFrameHeader.parseMPEGHeader(duplicate);
+            return true;
+        }
+        catch (InvalidAudioFrameException iafe)
+        {
+            return false;
+        }
+    }
+
+    private static int findFrameSlowly(ByteBuffer bb, int from, int to)
+    {
+        for (int i = from; i < to; i++)
+        {
+            if (canParse(bb, i))
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public void testValidMatchesParseForEveryHeader()
+    {
+        ByteBuffer bb = ByteBuffer.allocate(MPEGFrameHeader.HEADER_SIZE);
+        for (int byte2 = 0; byte2 < 256; byte2++)
+        {
+            for (int byte3 = 0; byte3 < 256; byte3++)
+            {
+                bb.put(0, (byte) 0xFF);
+                bb.put(1, (byte) byte2);
+                bb.put(2, (byte) byte3);
+                bb.put(3, (byte) byte3);
+                assertEquals(byte2 + ":" + byte3, canParse(bb, 0), MPEGFrameHeader.isValidMPEGFrame(bb, 0));
+            }
+        }
+    }
+
+    public void testFindFrameInNoise()
+    {
+        Random random = new Random(1);
+        byte[] data = new byte[10000];
+        for (int run = 0; run < 50; run++)
+        {
+            random.nextBytes(data);
+            //Plenty of 0xFF bytes, like an unsynchronised image
+            for (int i = 0; i < data.length; i += 1 + random.nextInt(20))
+            {
+                data[i] = (byte) 0xFF;
+            }
+            ByteBuffer bb = ByteBuffer.wrap(data);
+            int from = random.nextInt(100);
+            int to = data.length - MPEGFrameHeader.HEADER_SIZE - random.nextInt(100);
+            while (from < to)
+            {
+                int expected = findFrameSlowly(bb, from, to);
+                assertEquals(expected, MPEGSyncScanner.findFrame(bb, from, to));
+                if (expected == -1)
+                {
+                    break;
+                }
+                from = expected + 1;
+            }
+        }
+    }
+
+    public void testNoFrame()
+    {
+        ByteBuffer bb = ByteBuffer.allocate(1000);
+        assertEquals(-1, MPEGSyncScanner.findFrame(bb, 0, 996));
+        bb.put(500, (byte) 0xFF);
+        bb.put(501, (byte) 0xFB);
+        bb.put(502, (byte) 0x90);
+        assertEquals(500, MPEGSyncScanner.findFrame(bb, 0, 996));
+        assertEquals(-1, MPEGSyncScanner.findFrame(bb, 501, 996));
+        assertEquals(-1, MPEGSyncScanner.findFrame(bb, 0, 500));
+    }
+}
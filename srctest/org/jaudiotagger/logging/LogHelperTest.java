@@ -0,0 +1,57 @@
+package org.jaudiotagger.logging;
+
+import junit.framework.TestCase;
+
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+public class LogHelperTest extends TestCase
+{
+    public void testFormat()
+    {
+        assertEquals("file.mp3:Found block:PADDING", LogHelper.format("{0}:Found block:{1}", "file.mp3", "PADDING", null, null));
+        assertEquals("a1234567b", LogHelper.format("a{0}b", 1234567, null, null, null));
+        assertEquals("3210", LogHelper.format("{3}{2}{1}{0}", 0, 1, 2, 3));
+        assertEquals("{4}{x}{", LogHelper.format("{4}{x}{", 0, null, null, null));
+    }
+
+    public void testNotLoggedWhenLevelDisabled()
+    {
+        Logger logger = Logger.getLogger("org.jaudiotagger.logging.test");
+        final int[] count = new int[1];
+        Handler handler = new Handler()
+        {
+            public void publish(LogRecord record)
+            {
+                count[0]++;
+                assertEquals("Adding:TITLE", record.getMessage());
+            }
+
+            public void flush()
+            {
+            }
+
+            public void close()
+            {
+            }
+        };
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+        try
+        {
+            logger.setLevel(Level.WARNING);
+            LogHelper.config(logger, "Adding:{0}", "TITLE");
+            assertEquals(0, count[0]);
+
+            logger.setLevel(Level.CONFIG);
+            LogHelper.config(logger, "Adding:{0}", "TITLE");
+            assertEquals(1, count[0]);
+        }
+        finally
+        {
+            logger.removeHandler(handler);
+        }
+    }
+}
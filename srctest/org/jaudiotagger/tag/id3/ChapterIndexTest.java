@@ -0,0 +1,183 @@
+package org.jaudiotagger.tag.id3;
+
+import org.jaudiotagger.AbstractTestCase;
+import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyCHAP;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyCTOC;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyTIT2;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyTIT3;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Chapters are indexed by start time, with the frames embedded in them decoded on demand
+ */
+public class ChapterIndexTest extends AbstractTestCase
+{
+    private static final String NON_LATIN_TITLE = "第二章";
+
+    private AbstractID3v2Frame createFrame(boolean v24, String identifier)
+    {
+        return v24 ? new ID3v24Frame(identifier) : new ID3v23Frame(identifier);
+    }
+
+    private AbstractID3v2Frame createChapter(boolean v24, String elementId, int startTime, int endTime, int startOffset, String title)
+    {
+        List<AbstractID3v2Frame> subFrames = new ArrayList<AbstractID3v2Frame>();
+        AbstractID3v2Frame titleFrame = createFrame(v24, ID3v24Frames.FRAME_ID_TITLE);
+        ((FrameBodyTIT2) titleFrame.getBody()).setText(title);
+        subFrames.add(titleFrame);
+        AbstractID3v2Frame descriptionFrame = createFrame(v24, ID3v24Frames.FRAME_ID_TITLE_REFINEMENT);
+        ((FrameBodyTIT3) descriptionFrame.getBody()).setText("about " + elementId);
+        subFrames.add(descriptionFrame);
+
+        FrameBodyCHAP body = new FrameBodyCHAP(elementId, startTime, endTime, startOffset, -1);
+        body.setSubFrameData(ChapterSubFrames.write(subFrames));
+        AbstractID3v2Frame frame = createFrame(v24, ID3v2ChapterFrames.FRAME_ID_CHAPTER);
+        frame.setBody(body);
+        return frame;
+    }
+
+    private AbstractID3v2Frame createTableOfContents(boolean v24, String... childElementIds)
+    {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        data.write('t');
+        data.write('o');
+        data.write('c');
+        data.write(0);
+        data.write(FrameBodyCTOC.FLAG_TOP_LEVEL | FrameBodyCTOC.FLAG_ORDERED);
+        data.write(childElementIds.length);
+        for (String childElementId : childElementIds)
+        {
+            data.write(childElementId.getBytes(), 0, childElementId.length());
+            data.write(0);
+        }
+        FrameBodyCTOC body = new FrameBodyCTOC();
+        body.setObjectValue("Data", data.toByteArray());
+        AbstractID3v2Frame frame = createFrame(v24, ID3v2ChapterFrames.FRAME_ID_TABLE_OF_CONTENT);
+        frame.setBody(body);
+        return frame;
+    }
+
+    private File createFileWithChapters(AbstractID3v2Tag tag, String fileName) throws Exception
+    {
+        boolean v24 = tag instanceof ID3v24Tag;
+        File testFile = AbstractTestCase.copyAudioToTmp("testV1.mp3", new File(fileName));
+        MP3File mp3File = new MP3File(testFile);
+        tag.setField(FieldKey.TITLE, "title");
+        List<AbstractID3v2Frame> chapters = new ArrayList<AbstractID3v2Frame>();
+        chapters.add(createChapter(v24, "ch2", 2000, 3000, 200, "second"));
+        chapters.add(createChapter(v24, "ch1", 0, 1000, 100, "first"));
+        chapters.add(createChapter(v24, "ch3", 3000, 5000, -1, "third"));
+        tag.setFrame(ID3v2ChapterFrames.FRAME_ID_CHAPTER, chapters);
+        tag.setFrame(createTableOfContents(v24, "ch1", "ch2", "ch3"));
+        mp3File.setID3v2Tag(tag);
+        mp3File.save();
+        return testFile;
+    }
+
+    private void assertChaptersIndexed(ID3v2ChapterIndex index)
+    {
+        assertEquals(3, index.size());
+        assertEquals("ch1", index.getElementId(0));
+        assertEquals("ch2", index.getElementId(1));
+        assertEquals("ch3", index.getElementId(2));
+        assertEquals(2000, index.getStartTime(1));
+        assertEquals(3000, index.getEndTime(1));
+        assertEquals(200, index.getStartOffset(1));
+        assertEquals(ID3v2ChapterIndex.OFFSET_NOT_GIVEN, index.getEndOffset(1));
+        assertEquals(ID3v2ChapterIndex.OFFSET_NOT_GIVEN, index.getStartOffset(2));
+        assertEquals(2, index.indexOfElementId("ch3"));
+        assertEquals(-1, index.indexOfElementId("ch4"));
+
+        assertEquals(0, index.indexOf(0));
+        assertEquals(0, index.indexOf(999));
+        assertEquals(-1, index.indexOf(1500));
+        assertEquals(1, index.indexOf(2000));
+        assertEquals(2, index.indexOf(4999));
+        assertEquals(-1, index.indexOf(5000));
+
+        assertTrue(Arrays.equals(new String[]{"ch1", "ch2", "ch3"}, index.getTableOfContents()));
+    }
+
+    private void assertChapterTitleChanged(AbstractID3v2Tag newTag, String fileName) throws Exception
+    {
+        File testFile = createFileWithChapters(newTag, fileName);
+
+        MP3File mp3File = new MP3File(testFile);
+        AbstractID3v2Tag tag = mp3File.getID3v2Tag();
+        ID3v2ChapterIndex index = tag.getChapterIndex();
+        assertSame(index, tag.getChapterIndex());
+        assertChaptersIndexed(index);
+        assertEquals("first", index.getTitle(0));
+        assertEquals("second", index.getTitle(1));
+        assertEquals("third", index.getTitle(2));
+        assertFalse(index.getFrame(1).isModified());
+
+        index.setTitle(1, NON_LATIN_TITLE);
+        assertTrue(tag.isModified());
+        assertTrue(index.getFrame(1).isModified());
+        assertFalse(index.getFrame(0).isModified());
+        assertSame(index, tag.getChapterIndex());
+        mp3File.commit();
+
+        tag = new MP3File(testFile).getID3v2Tag();
+        index = tag.getChapterIndex();
+        assertChaptersIndexed(index);
+        assertEquals("first", index.getTitle(0));
+        assertEquals(NON_LATIN_TITLE, index.getTitle(1));
+        assertEquals("third", index.getTitle(2));
+        assertEquals("title", tag.getFirst(FieldKey.TITLE));
+
+        //The other embedded frame is kept, after the title
+        List<AbstractID3v2Frame> subFrames = index.getSubFrames(1);
+        assertEquals(2, subFrames.size());
+        assertEquals(NON_LATIN_TITLE, ((FrameBodyTIT2) subFrames.get(0).getBody()).getFirstTextValue());
+        assertEquals("about ch2", ((FrameBodyTIT3) subFrames.get(1).getBody()).getFirstTextValue());
+    }
+
+    public void testv23ChapterTitleChanged() throws Exception
+    {
+        assertChapterTitleChanged(new ID3v23Tag(), "testV23ChapterIndex.mp3");
+    }
+
+    public void testv24ChapterTitleChanged() throws Exception
+    {
+        assertChapterTitleChanged(new ID3v24Tag(), "testV24ChapterIndex.mp3");
+    }
+
+    public void testIndexDroppedWhenTagModified() throws Exception
+    {
+        File testFile = createFileWithChapters(new ID3v24Tag(), "testV24ChapterIndexModified.mp3");
+        AbstractID3v2Tag tag = new MP3File(testFile).getID3v2Tag();
+        ID3v2ChapterIndex index = tag.getChapterIndex();
+        tag.removeFrame(ID3v2ChapterFrames.FRAME_ID_CHAPTER);
+        assertNotSame(index, tag.getChapterIndex());
+        assertEquals(0, tag.getChapterIndex().size());
+        assertEquals(-1, tag.getChapterIndex().indexOf(0));
+    }
+
+    public void testChaptersConvertedBetweenVersions() throws Exception
+    {
+        File testFile = createFileWithChapters(new ID3v23Tag(), "testV23ChapterIndexConverted.mp3");
+        AbstractID3v2Tag v23Tag = new MP3File(testFile).getID3v2Tag();
+
+        ID3v24Tag v24Tag = new ID3v24Tag(v23Tag);
+        ID3v2ChapterIndex index = v24Tag.getChapterIndex();
+        assertChaptersIndexed(index);
+        assertEquals("second", index.getTitle(1));
+        assertEquals(2, index.getSubFrames(1).size());
+        assertTrue(index.getSubFrames(1).get(0) instanceof ID3v24Frame);
+
+        ID3v23Tag backToV23Tag = new ID3v23Tag(v24Tag);
+        index = backToV23Tag.getChapterIndex();
+        assertChaptersIndexed(index);
+        assertEquals("third", index.getTitle(2));
+        assertTrue(index.getSubFrames(2).get(1) instanceof ID3v23Frame);
+    }
+}
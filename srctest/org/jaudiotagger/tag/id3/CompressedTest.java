@@ -2,14 +2,18 @@ package org.jaudiotagger.tag.id3;
 
 import org.jaudiotagger.AbstractTestCase;
 import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyAPIC;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyCOMM;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyTIT2;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyUSLT;
+import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 
 import java.io.File;
 
 /**
- * Testing of reading compressed frames
+ * Testing of reading and writing compressed frames
  */
 public class CompressedTest extends AbstractTestCase
 {
@@ -86,4 +90,137 @@ public class CompressedTest extends AbstractTestCase
         assertEquals(27,v24tag.getFieldCount());
     }
 
+    /**
+     * Compressed frames claiming to be larger than the maximum are not decompressed
+     *
+     * @throws Exception
+     */
+    public void testv23TagReadCompressedFrameLargerThanMaximum() throws Exception
+    {
+        TagOptionSingleton.getInstance().setId3v2MaxDecompressedFrameSize(10);
+        File testFile = AbstractTestCase.copyAudioToTmp("Issue98-1.id3", "testV1.mp3");
+        MP3File mp3File = new MP3File(testFile);
+        ID3v23Tag v23tag = (ID3v23Tag) mp3File.getID3v2Tag();
+
+        assertFalse(v23tag.hasFrame(ID3v23Frames.FRAME_ID_V3_COMMENT));
+    }
+
+    private static String createComment()
+    {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 600; i++)
+        {
+            sb.append((char) ('a' + i % 26));
+        }
+        return sb.toString();
+    }
+
+    private static String createLyrics()
+    {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 200; i++)
+        {
+            sb.append("Line ").append(i % 10).append(" of the chorus\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Lyrics that do not fit in the existing tag are compressed so the audio does not have to be moved
+     *
+     * @throws Exception
+     */
+    public void testv23TagWriteCompressedFrameToFit() throws Exception
+    {
+        final String lyrics = createLyrics();
+        File testFile = AbstractTestCase.copyAudioToTmp("testV1.mp3", new File("testV23WriteCompressedFrame.mp3"));
+        MP3File mp3File = new MP3File(testFile);
+        ID3v23Tag v23tag = new ID3v23Tag();
+        v23tag.setField(FieldKey.TITLE, "title");
+        v23tag.setField(FieldKey.COMMENT, createComment());
+        mp3File.setID3v2Tag(v23tag);
+        mp3File.save();
+
+        //Lyrics replace the comment but are larger
+        mp3File = new MP3File(testFile);
+        long audioStart = mp3File.getMP3AudioHeader().getMp3StartByte();
+        mp3File.getID3v2Tag().deleteField(FieldKey.COMMENT);
+        TagOptionSingleton.getInstance().setId3v2CompressFrameBodySize(1024);
+        ID3v23Frame frame = new ID3v23Frame(ID3v23Frames.FRAME_ID_V3_UNSYNC_LYRICS);
+        frame.setBody(new FrameBodyUSLT(TextEncoding.ISO_8859_1, "eng", "", lyrics));
+        mp3File.getID3v2Tag().setFrame(frame);
+        mp3File.save();
+
+        mp3File = new MP3File(testFile);
+        assertEquals(audioStart, mp3File.getMP3AudioHeader().getMp3StartByte());
+        frame = (ID3v23Frame) mp3File.getID3v2Tag().getFrame(ID3v23Frames.FRAME_ID_V3_UNSYNC_LYRICS);
+        assertTrue(((ID3v23Frame.EncodingFlags) frame.getEncodingFlags()).isCompression());
+        assertEquals(lyrics, ((FrameBodyUSLT) frame.getBody()).getLyric());
+        assertEquals("title", mp3File.getID3v2Tag().getFirst(FieldKey.TITLE));
+    }
+
+    /**
+     * Compressed frames are unsynchronized after compression and synchronized before decompression
+     *
+     * @throws Exception
+     */
+    public void testv24TagWriteCompressedUnsynchronizedFrameToFit() throws Exception
+    {
+        final String lyrics = createLyrics();
+        TagOptionSingleton.getInstance().setUnsyncTags(true);
+        File testFile = AbstractTestCase.copyAudioToTmp("testV1.mp3", new File("testV24WriteCompressedFrame.mp3"));
+        MP3File mp3File = new MP3File(testFile);
+        ID3v24Tag v24tag = new ID3v24Tag();
+        v24tag.setField(FieldKey.TITLE, "title");
+        v24tag.setField(FieldKey.COMMENT, createComment());
+        mp3File.setID3v2Tag(v24tag);
+        mp3File.save();
+
+        //Lyrics replace the comment but are larger
+        mp3File = new MP3File(testFile);
+        long audioStart = mp3File.getMP3AudioHeader().getMp3StartByte();
+        mp3File.getID3v2Tag().deleteField(FieldKey.COMMENT);
+        TagOptionSingleton.getInstance().setId3v2CompressFrameBodySize(1024);
+        ID3v24Frame frame = new ID3v24Frame(ID3v24Frames.FRAME_ID_UNSYNC_LYRICS);
+        frame.setBody(new FrameBodyUSLT(TextEncoding.UTF_16, "eng", "", lyrics));
+        mp3File.getID3v2Tag().setFrame(frame);
+        mp3File.save();
+
+        mp3File = new MP3File(testFile);
+        assertEquals(audioStart, mp3File.getMP3AudioHeader().getMp3StartByte());
+        frame = (ID3v24Frame) mp3File.getID3v2Tag().getFrame(ID3v24Frames.FRAME_ID_UNSYNC_LYRICS);
+        assertTrue(((ID3v24Frame.EncodingFlags) frame.getEncodingFlags()).isCompression());
+        assertEquals(lyrics, ((FrameBodyUSLT) frame.getBody()).getLyric());
+        assertEquals("title", mp3File.getID3v2Tag().getFirst(FieldKey.TITLE));
+    }
+
+    /**
+     * Frames are not compressed unless enabled, the audio is moved instead
+     *
+     * @throws Exception
+     */
+    public void testv23TagWriteNotCompressedByDefault() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("testV1.mp3", new File("testV23WriteNotCompressedFrame.mp3"));
+        MP3File mp3File = new MP3File(testFile);
+        ID3v23Tag v23tag = new ID3v23Tag();
+        v23tag.setField(FieldKey.TITLE, "title");
+        v23tag.setField(FieldKey.COMMENT, createComment());
+        mp3File.setID3v2Tag(v23tag);
+        mp3File.save();
+
+        //Lyrics replace the comment but are larger
+        mp3File = new MP3File(testFile);
+        long audioStart = mp3File.getMP3AudioHeader().getMp3StartByte();
+        mp3File.getID3v2Tag().deleteField(FieldKey.COMMENT);
+        ID3v23Frame frame = new ID3v23Frame(ID3v23Frames.FRAME_ID_V3_UNSYNC_LYRICS);
+        frame.setBody(new FrameBodyUSLT(TextEncoding.ISO_8859_1, "eng", "", createLyrics()));
+        mp3File.getID3v2Tag().setFrame(frame);
+        mp3File.save();
+
+        mp3File = new MP3File(testFile);
+        assertTrue(mp3File.getMP3AudioHeader().getMp3StartByte() > audioStart);
+        frame = (ID3v23Frame) mp3File.getID3v2Tag().getFrame(ID3v23Frames.FRAME_ID_V3_UNSYNC_LYRICS);
+        assertFalse(((ID3v23Frame.EncodingFlags) frame.getEncodingFlags()).isCompression());
+    }
 }
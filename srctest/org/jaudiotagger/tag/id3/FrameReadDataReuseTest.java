@@ -0,0 +1,302 @@
+package org.jaudiotagger.tag.id3;
+
+import org.jaudiotagger.AbstractTestCase;
+import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.datatype.DataTypes;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyAPIC;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyPRIV;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyUnsupported;
+import org.jaudiotagger.tag.images.Artwork;
+import org.jaudiotagger.tag.images.ArtworkFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Unmodified frames holding binary data are written again as they were read rather than being encoded
+ */
+public class FrameReadDataReuseTest extends AbstractTestCase
+{
+    private File createFileWithArtwork(AbstractID3v2Tag tag) throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("testV1.mp3");
+        MP3File mp3File = new MP3File(testFile);
+        Artwork artwork = ArtworkFactory.createArtworkFromFile(new File("testdata", "coverart.png"));
+        tag.setField(artwork);
+        tag.setField(FieldKey.TITLE, "title");
+        mp3File.setID3v2Tag(tag);
+        mp3File.save();
+        return testFile;
+    }
+
+    private void assertArtworkReused(AbstractID3v2Tag newTag) throws Exception
+    {
+        File testFile = createFileWithArtwork(newTag);
+        MP3File mp3File = new MP3File(testFile);
+        AbstractID3v2Tag tag = mp3File.getID3v2Tag();
+        AbstractID3v2Frame imageFrame = (AbstractID3v2Frame) tag.getFirstField(FieldKey.COVER_ART);
+        byte[] imageData = tag.getFirstArtwork().getBinaryData();
+        byte[] imageFrameBytes = imageFrame.getRawContent();
+        assertFalse(imageFrame.isModified());
+
+        //Text frames are always encoded
+        assertTrue(((AbstractID3v2Frame) tag.getFirstField(FieldKey.TITLE)).isModified());
+
+        tag.setField(FieldKey.TITLE, "a different title");
+        mp3File.commit();
+
+        mp3File = new MP3File(testFile);
+        tag = mp3File.getID3v2Tag();
+        assertEquals("a different title", tag.getFirst(FieldKey.TITLE));
+        imageFrame = (AbstractID3v2Frame) tag.getFirstField(FieldKey.COVER_ART);
+        assertFalse(imageFrame.isModified());
+        assertTrue(Arrays.equals(imageData, tag.getFirstArtwork().getBinaryData()));
+        assertTrue(Arrays.equals(imageFrameBytes, imageFrame.getRawContent()));
+    }
+
+    public void testv23ArtworkReused() throws Exception
+    {
+        assertArtworkReused(new ID3v23Tag());
+    }
+
+    public void testv24ArtworkReused() throws Exception
+    {
+        assertArtworkReused(new ID3v24Tag());
+    }
+
+    public void testv22ArtworkReused() throws Exception
+    {
+        assertArtworkReused(new ID3v22Tag());
+    }
+
+    public void testModifiedBodyEncoded() throws Exception
+    {
+        ID3v24Tag newTag = new ID3v24Tag();
+        ID3v24Frame newPrivFrame = newTag.createFrame(ID3v24Frames.FRAME_ID_PRIVATE);
+        newPrivFrame.setBody(new FrameBodyPRIV("owner", new byte[]{1, 2, 3, 4}));
+        newTag.setFrame(newPrivFrame);
+        File testFile = createFileWithArtwork(newTag);
+        MP3File mp3File = new MP3File(testFile);
+        AbstractID3v2Tag tag = mp3File.getID3v2Tag();
+        AbstractID3v2Frame imageFrame = (AbstractID3v2Frame) tag.getFirstField(FieldKey.COVER_ART);
+        assertFalse(imageFrame.isModified());
+        ((FrameBodyAPIC) imageFrame.getBody()).setDescription("changed");
+        assertTrue(imageFrame.isModified());
+
+        AbstractID3v2Frame privFrame = (AbstractID3v2Frame) tag.getFrame(ID3v24Frames.FRAME_ID_PRIVATE);
+        assertFalse(privFrame.isModified());
+        ((FrameBodyPRIV) privFrame.getBody()).getData()[0] = 9;
+        privFrame.setModified();
+        assertTrue(privFrame.isModified());
+        mp3File.commit();
+
+        mp3File = new MP3File(testFile);
+        tag = mp3File.getID3v2Tag();
+        imageFrame = (AbstractID3v2Frame) tag.getFirstField(FieldKey.COVER_ART);
+        assertEquals("changed", ((FrameBodyAPIC) imageFrame.getBody()).getDescription());
+        privFrame = (AbstractID3v2Frame) tag.getFrame(ID3v24Frames.FRAME_ID_PRIVATE);
+        assertEquals(9, ((FrameBodyPRIV) privFrame.getBody()).getData()[0]);
+    }
+
+    public void testConvertedFrameSharesReadBody() throws Exception
+    {
+        File testFile = createFileWithArtwork(new ID3v23Tag());
+        MP3File mp3File = new MP3File(testFile);
+        AbstractID3v2Tag v23Tag = mp3File.getID3v2Tag();
+        AbstractID3v2Frame v23Frame = (AbstractID3v2Frame) v23Tag.getFirstField(FieldKey.COVER_ART);
+        ID3v24Tag v24Tag = new ID3v24Tag(v23Tag);
+        AbstractID3v2Frame v24Frame = (AbstractID3v2Frame) v24Tag.getFirstField(FieldKey.COVER_ART);
+        assertFalse(v24Frame.isModified());
+        assertNotSame(v23Frame.getBody(), v24Frame.getBody());
+        assertSame(v24Frame, v24Frame.getBody().getHeader());
+        assertTrue(Arrays.equals(v23Tag.getFirstArtwork().getBinaryData(), v24Tag.getFirstArtwork().getBinaryData()));
+        assertTrue(Arrays.equals(v23Frame.getRawContent(), new ID3v23Frame(v24Frame).getRawContent()));
+
+        //Changing the converted frame leaves the frame it was converted from as it was
+        ((FrameBodyAPIC) v24Frame.getBody()).setDescription("changed");
+        assertTrue(v24Frame.isModified());
+        assertFalse(v23Frame.isModified());
+        assertEquals("", ((FrameBodyAPIC) v23Frame.getBody()).getDescription());
+
+        //Once modified the converted frame is copied
+        ((FrameBodyAPIC) v23Frame.getBody()).setDescription("changed too");
+        ID3v24Tag fromModified = new ID3v24Tag(v23Tag);
+        assertTrue(((AbstractID3v2Frame) fromModified.getFirstField(FieldKey.COVER_ART)).isModified());
+    }
+
+    public void testITunesDescriptionEncoded() throws Exception
+    {
+        File testFile = createFileWithArtwork(new ID3v24Tag());
+        MP3File mp3File = new MP3File(testFile);
+        AbstractID3v2Frame imageFrame = (AbstractID3v2Frame) mp3File.getID3v2Tag().getFirstField(FieldKey.COVER_ART);
+        assertFalse(imageFrame.isModified());
+        TagOptionSingleton.getInstance().setAPICDescriptionITunesCompatible(true);
+        try
+        {
+            assertTrue(imageFrame.isModified());
+        }
+        finally
+        {
+            TagOptionSingleton.getInstance().setAPICDescriptionITunesCompatible(false);
+        }
+    }
+
+    public void testDeferredBodySameAsReadBody() throws Exception
+    {
+        File testFile = createFileWithArtwork(new ID3v24Tag());
+        TagOptionSingleton.getInstance().setId3v2LazyFrameBodySize(Integer.MAX_VALUE);
+        AbstractID3v2Tag readTag;
+        AbstractID3v2Tag deferredTag;
+        try
+        {
+            readTag = new MP3File(testFile).getID3v2Tag();
+            TagOptionSingleton.getInstance().setId3v2LazyFrameBodySize(1);
+            deferredTag = new MP3File(testFile).getID3v2Tag();
+        }
+        finally
+        {
+            TagOptionSingleton.getInstance().setId3v2LazyFrameBodySize(16 * 1024);
+        }
+
+        AbstractID3v2Frame readFrame = (AbstractID3v2Frame) readTag.getFirstField(FieldKey.COVER_ART);
+        AbstractID3v2Frame deferredFrame = (AbstractID3v2Frame) deferredTag.getFirstField(FieldKey.COVER_ART);
+        assertTrue(Arrays.equals(readFrame.getRawContent(), deferredFrame.getRawContent()));
+        assertEquals(readFrame, deferredFrame);
+        assertTrue(Arrays.equals(readTag.getFirstArtwork().getBinaryData(), deferredTag.getFirstArtwork().getBinaryData()));
+
+        //Decoded before being modified
+        ((FrameBodyAPIC) deferredFrame.getBody()).setDescription("changed");
+        assertTrue(Arrays.equals(readTag.getFirstArtwork().getBinaryData(), deferredTag.getFirstArtwork().getBinaryData()));
+    }
+
+    /**
+     * APIC frame with an invalid text encoding, in a v24 tag with no padding
+     */
+    private static byte[] createTagWithCorruptArtwork(byte[] body)
+    {
+        ByteArrayOutputStream tag = new ByteArrayOutputStream();
+        int tagSize = 10 + body.length;
+        tag.write(new byte[]{'I', 'D', '3', 4, 0, 0, 0, 0, (byte) (tagSize >> 7), (byte) (tagSize & 0x7F)}, 0, 10);
+        tag.write(new byte[]{'A', 'P', 'I', 'C', 0, 0, (byte) (body.length >> 7), (byte) (body.length & 0x7F), 0, 0}, 0, 10);
+        tag.write(body, 0, body.length);
+        return tag.toByteArray();
+    }
+
+    public void testCorruptDeferredBodyKeptAsRead() throws Exception
+    {
+        byte[] body = new byte[100];
+        body[0] = 0x7F;
+        Arrays.fill(body, 1, body.length, (byte) 'x');
+        byte[] tagBytes = createTagWithCorruptArtwork(body);
+
+        TagOptionSingleton.getInstance().setId3v2LazyFrameBodySize(1);
+        ID3v24Tag tag;
+        try
+        {
+            tag = new ID3v24Tag(ByteBuffer.wrap(tagBytes), "");
+        }
+        finally
+        {
+            TagOptionSingleton.getInstance().setId3v2LazyFrameBodySize(16 * 1024);
+        }
+
+        AbstractID3v2Frame frame = (AbstractID3v2Frame) tag.getFrame(ID3v24Frames.FRAME_ID_ATTACHED_PICTURE);
+        assertTrue(frame.getBody() instanceof FrameBodyUnsupported);
+        assertEquals(ID3v24Frames.FRAME_ID_ATTACHED_PICTURE, frame.getBody().getIdentifier());
+        assertTrue(Arrays.equals(body, (byte[]) frame.getBody().getObjectValue(DataTypes.OBJ_DATA)));
+        assertTrue(Arrays.equals(Arrays.copyOfRange(tagBytes, 10, tagBytes.length), frame.getRawContent()));
+    }
+
+    /**
+     * Ask for the body of the frame from several threads at once
+     *
+     * @return the body returned to each thread
+     */
+    private static AbstractTagFrameBody[] getBodyConcurrently(final AbstractID3v2Frame frame) throws Exception
+    {
+        final AbstractTagFrameBody[] bodies = new AbstractTagFrameBody[8];
+        final CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[bodies.length];
+        for (int i = 0; i < threads.length; i++)
+        {
+            final int index = i;
+            threads[i] = new Thread()
+            {
+                public void run()
+                {
+                    try
+                    {
+                        start.await();
+                    }
+                    catch (InterruptedException ie)
+                    {
+                        return;
+                    }
+                    bodies[index] = frame.getBody();
+                }
+            };
+            threads[i].start();
+        }
+        start.countDown();
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+        return bodies;
+    }
+
+    public void testDeferredBodyReadFromManyThreads() throws Exception
+    {
+        File testFile = createFileWithArtwork(new ID3v24Tag());
+        byte[] imageData = new MP3File(testFile).getID3v2Tag().getFirstArtwork().getBinaryData();
+        TagOptionSingleton.getInstance().setId3v2LazyFrameBodySize(1);
+        AbstractID3v2Tag tag;
+        try
+        {
+            tag = new MP3File(testFile).getID3v2Tag();
+        }
+        finally
+        {
+            TagOptionSingleton.getInstance().setId3v2LazyFrameBodySize(16 * 1024);
+        }
+
+        AbstractID3v2Frame frame = (AbstractID3v2Frame) tag.getFrame(ID3v24Frames.FRAME_ID_ATTACHED_PICTURE);
+        for (AbstractTagFrameBody body : getBodyConcurrently(frame))
+        {
+            assertSame(frame.getBody(), body);
+            assertTrue(Arrays.equals(imageData, ((FrameBodyAPIC) body).getImageData()));
+        }
+        assertFalse(frame.isModified());
+    }
+
+    public void testCorruptDeferredBodyReadFromManyThreads() throws Exception
+    {
+        byte[] body = new byte[100];
+        body[0] = 0x7F;
+        Arrays.fill(body, 1, body.length, (byte) 'x');
+
+        TagOptionSingleton.getInstance().setId3v2LazyFrameBodySize(1);
+        ID3v24Tag tag;
+        try
+        {
+            tag = new ID3v24Tag(ByteBuffer.wrap(createTagWithCorruptArtwork(body)), "");
+        }
+        finally
+        {
+            TagOptionSingleton.getInstance().setId3v2LazyFrameBodySize(16 * 1024);
+        }
+
+        AbstractID3v2Frame frame = (AbstractID3v2Frame) tag.getFrame(ID3v24Frames.FRAME_ID_ATTACHED_PICTURE);
+        for (AbstractTagFrameBody next : getBodyConcurrently(frame))
+        {
+            assertSame(frame.getBody(), next);
+            assertTrue(next instanceof FrameBodyUnsupported);
+            assertTrue(Arrays.equals(body, (byte[]) next.getObjectValue(DataTypes.OBJ_DATA)));
+        }
+    }
+}
@@ -129,6 +129,8 @@ public class NewInterfaceTest extends TestCase
 
             TagOptionSingleton.getInstance().setId3v23DefaultTextEncoding(TextEncoding.UTF_16);
             TagOptionSingleton.getInstance().setResetTextEncodingForExistingFrames(true);
+            //Only the write options have changed so the tag has to be marked for it to be written
+            audioFile.setTagModified(true);
             audioFile.commit();
             audioFile = org.jaudiotagger.audio.AudioFileIO.read(testFile);
             newTag = audioFile.getTag();
@@ -144,6 +146,8 @@ public class NewInterfaceTest extends TestCase
 
             TagOptionSingleton.getInstance().setId3v23DefaultTextEncoding(TextEncoding.ISO_8859_1);
             TagOptionSingleton.getInstance().setResetTextEncodingForExistingFrames(true);
+            //Only the write options have changed so the tag has to be marked for it to be written
+            audioFile.setTagModified(true);
             audioFile.commit();
             audioFile = org.jaudiotagger.audio.AudioFileIO.read(testFile);
             newTag = audioFile.getTag();
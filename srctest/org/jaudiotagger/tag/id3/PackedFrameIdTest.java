@@ -0,0 +1,107 @@
+package org.jaudiotagger.tag.id3;
+
+import junit.framework.TestCase;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyCHAP;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyTIT2;
+
+/**
+ * Frame identifiers packed into an int are looked up in the frame tables
+ */
+public class PackedFrameIdTest extends TestCase
+{
+    public void testPackAndUnpack()
+    {
+        int code = PackedFrameId.pack("TIT2", 4);
+        assertEquals(('T' << 24) | ('I' << 16) | ('T' << 8) | '2', code);
+        assertEquals("TIT2", PackedFrameId.unpack(code));
+        assertEquals(code, PackedFrameId.pack(new byte[]{'x', 'T', 'I', 'T', '2'}, 1, 4));
+        assertEquals("TT2", PackedFrameId.unpack(PackedFrameId.pack("TT2", 3)));
+
+        //Only the first characters are packed
+        assertEquals(code, PackedFrameId.pack("TIT2extra", 4));
+    }
+
+    public void testInvalidIdentifiers()
+    {
+        assertEquals(PackedFrameId.INVALID, PackedFrameId.pack("TIT", 4));
+        assertEquals(PackedFrameId.INVALID, PackedFrameId.pack("2TIT", 4));
+        assertEquals(PackedFrameId.INVALID, PackedFrameId.pack("TiT2", 4));
+        assertEquals(PackedFrameId.INVALID, PackedFrameId.pack(new byte[]{0, 0, 0, 0}, 0, 4));
+        assertTrue(PackedFrameId.isValid("TIT2", 4));
+        assertFalse(PackedFrameId.isValid("TIT2 ", 4));
+        assertFalse(new ID3v23Frame().isValidID3v2FrameIdentifier("T-T2"));
+        assertTrue(new ID3v22Frame().isValidID3v2FrameIdentifier("TT2"));
+    }
+
+    public void testKnownIdentifiers()
+    {
+        for (String id : ID3v22Frames.getInstanceOf().getIdToValueMap().keySet())
+        {
+            //The v22 frames also hold some v23 only frames
+            if (id.length() == 3)
+            {
+                assertTrue(id, ID3Tags.isID3v22FrameIdentifier(id));
+                assertSame(id, ID3v22Frames.getInstanceOf().getIdentifier(PackedFrameId.pack(id, 3)));
+            }
+        }
+        for (String id : ID3v23Frames.getInstanceOf().getIdToValueMap().keySet())
+        {
+            assertTrue(id, ID3Tags.isID3v23FrameIdentifier(id));
+        }
+        for (String id : ID3v24Frames.getInstanceOf().getIdToValueMap().keySet())
+        {
+            assertTrue(id, ID3Tags.isID3v24FrameIdentifier(id));
+        }
+        assertTrue(ID3Tags.isID3v24FrameIdentifier("TDRC extra"));
+        assertFalse(ID3Tags.isID3v24FrameIdentifier("ZZZZ"));
+        assertFalse(ID3Tags.isID3v22FrameIdentifier("TIT2"));
+        assertNull(ID3v24Frames.getInstanceOf().getIdentifier(PackedFrameId.INVALID));
+    }
+
+    public void testTableKeptSorted()
+    {
+        FrameIdTable<String> table = new FrameIdTable<String>();
+        String[] ids = {"TPE1", "APIC", "TT2", "ZZZZ", "COMM"};
+        for (String id : ids)
+        {
+            table = table.with(PackedFrameId.pack(id, id.length()), id);
+        }
+        assertEquals(ids.length, table.size());
+        for (String id : ids)
+        {
+            assertEquals(id, table.get(PackedFrameId.pack(id, id.length())));
+        }
+        assertNull(table.get(PackedFrameId.pack("TALB", 4)));
+        FrameIdTable<String> replaced = table.with(PackedFrameId.pack("APIC", 4), "picture");
+        assertEquals("picture", replaced.get(PackedFrameId.pack("APIC", 4)));
+        assertEquals("APIC", table.get(PackedFrameId.pack("APIC", 4)));
+        assertEquals(ids.length, replaced.size());
+    }
+
+    public void testOnlyKnownFrameBodyClassesHeld() throws Exception
+    {
+        assertEquals(FrameBodyTIT2.class, AbstractID3v2Frame.getFrameBodyClass("TIT2"));
+        assertEquals(FrameBodyCHAP.class, AbstractID3v2Frame.getFrameBodyClass("CHAP"));
+        int size = AbstractID3v2Frame.getFrameBodyClassCacheSize();
+
+        //Identifiers not in the frame tables are looked up each time and not held
+        for (int i = 0; i < 100; i++)
+        {
+            String id = "X" + (char) ('A' + i / 26 % 26) + (char) ('A' + i % 26) + "9";
+            try
+            {
+                AbstractID3v2Frame.getFrameBodyClass(id);
+                fail(id);
+            }
+            catch (ClassNotFoundException cnfe)
+            {
+                //Expected
+            }
+        }
+        assertEquals(size, AbstractID3v2Frame.getFrameBodyClassCacheSize());
+
+        //Known identifiers are held once
+        assertEquals(FrameBodyTIT2.class, AbstractID3v2Frame.getFrameBodyClass("TIT2"));
+        assertEquals(size, AbstractID3v2Frame.getFrameBodyClassCacheSize());
+    }
+}
@@ -0,0 +1,173 @@
+package org.jaudiotagger.tag.id3;
+
+import org.jaudiotagger.AbstractTestCase;
+import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.images.Artwork;
+import org.jaudiotagger.tag.images.ArtworkFactory;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Frames can be skipped on read without decoding their body, and kept so they are written back unchanged
+ */
+public class SkippedFrameTest extends AbstractTestCase
+{
+    private File createFileWithArtwork(AbstractID3v2Tag tag, String fileName) throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("testV1.mp3", new File(fileName));
+        MP3File mp3File = new MP3File(testFile);
+        Artwork artwork = ArtworkFactory.createArtworkFromFile(new File("testdata", "coverart.png"));
+        tag.setField(artwork);
+        tag.setField(FieldKey.TITLE, "title");
+        mp3File.setID3v2Tag(tag);
+        mp3File.save();
+        return testFile;
+    }
+
+    private void assertSkippedFrameWrittenBack(AbstractID3v2Tag newTag, String skippedId, String frameId, String fileName) throws Exception
+    {
+        File testFile = createFileWithArtwork(newTag, fileName);
+        byte[] imageData = new MP3File(testFile).getID3v2Tag().getFirstArtwork().getBinaryData();
+
+        TagOptionSingleton.getInstance().setId3v2SkippedFrameIds(Collections.singleton(skippedId));
+        MP3File mp3File = new MP3File(testFile);
+        AbstractID3v2Tag tag = mp3File.getID3v2Tag();
+        assertNull(tag.getFirstArtwork());
+        assertEquals("title", tag.getFirst(FieldKey.TITLE));
+        AbstractID3v2Frame skippedFrame = (AbstractID3v2Frame) tag.getSkippedFrame(frameId);
+        assertTrue(skippedFrame.isSkipped());
+        assertFalse(skippedFrame.isModified());
+
+        tag.setField(FieldKey.TITLE, "a different title");
+        mp3File.commit();
+
+        TagOptionSingleton.getInstance().setToDefault();
+        tag = new MP3File(testFile).getID3v2Tag();
+        assertEquals("a different title", tag.getFirst(FieldKey.TITLE));
+        assertTrue(Arrays.equals(imageData, tag.getFirstArtwork().getBinaryData()));
+    }
+
+    public void testv22SkippedFrameWrittenBack() throws Exception
+    {
+        //Skipped by the identifier it converts to
+        assertSkippedFrameWrittenBack(new ID3v22Tag(), ID3v23Frames.FRAME_ID_V3_ATTACHED_PICTURE, ID3v22Frames.FRAME_ID_V2_ATTACHED_PICTURE, "testV22SkippedFrame.mp3");
+    }
+
+    public void testv23SkippedFrameWrittenBack() throws Exception
+    {
+        assertSkippedFrameWrittenBack(new ID3v23Tag(), ID3v23Frames.FRAME_ID_V3_ATTACHED_PICTURE, ID3v23Frames.FRAME_ID_V3_ATTACHED_PICTURE, "testV23SkippedFrame.mp3");
+    }
+
+    public void testv24SkippedFrameWrittenBack() throws Exception
+    {
+        assertSkippedFrameWrittenBack(new ID3v24Tag(), ID3v24Frames.FRAME_ID_ATTACHED_PICTURE, ID3v24Frames.FRAME_ID_ATTACHED_PICTURE, "testV24SkippedFrame.mp3");
+    }
+
+    public void testSkippedBinaryFramesDiscarded() throws Exception
+    {
+        File testFile = createFileWithArtwork(new ID3v24Tag(), "testV24DiscardSkippedFrame.mp3");
+
+        TagOptionSingleton.getInstance().setId3v2SkipBinaryFrames(true);
+        TagOptionSingleton.getInstance().setId3v2KeepSkippedFrames(false);
+        MP3File mp3File = new MP3File(testFile);
+        AbstractID3v2Tag tag = mp3File.getID3v2Tag();
+        assertNull(tag.getFirstArtwork());
+        assertNull(tag.getSkippedFrame(ID3v24Frames.FRAME_ID_ATTACHED_PICTURE));
+        assertEquals("title", tag.getFirst(FieldKey.TITLE));
+
+        tag.setField(FieldKey.TITLE, "a different title");
+        mp3File.commit();
+
+        TagOptionSingleton.getInstance().setToDefault();
+        tag = new MP3File(testFile).getID3v2Tag();
+        assertEquals("a different title", tag.getFirst(FieldKey.TITLE));
+        assertNull(tag.getFirstArtwork());
+    }
+
+    public void testSkippedFrameDeletedWithField() throws Exception
+    {
+        File testFile = createFileWithArtwork(new ID3v24Tag(), "testV24DeleteSkippedFrame.mp3");
+
+        TagOptionSingleton.getInstance().setId3v2SkippedFrameIds(Collections.singleton(ID3v24Frames.FRAME_ID_ATTACHED_PICTURE));
+        MP3File mp3File = new MP3File(testFile);
+        AbstractID3v2Tag tag = mp3File.getID3v2Tag();
+        assertNotNull(tag.getSkippedFrame(ID3v24Frames.FRAME_ID_ATTACHED_PICTURE));
+        tag.deleteArtworkField();
+        assertNull(tag.getSkippedFrame(ID3v24Frames.FRAME_ID_ATTACHED_PICTURE));
+        mp3File.commit();
+
+        TagOptionSingleton.getInstance().setToDefault();
+        tag = new MP3File(testFile).getID3v2Tag();
+        assertEquals("title", tag.getFirst(FieldKey.TITLE));
+        assertNull(tag.getFirstArtwork());
+    }
+
+    public void testSkippedFrameRemoved() throws Exception
+    {
+        File testFile = createFileWithArtwork(new ID3v23Tag(), "testV23RemoveSkippedFrame.mp3");
+
+        TagOptionSingleton.getInstance().setId3v2SkippedFrameIds(Collections.singleton(ID3v23Frames.FRAME_ID_V3_ATTACHED_PICTURE));
+        AbstractID3v2Tag tag = new MP3File(testFile).getID3v2Tag();
+        tag.removeFrame(ID3v23Frames.FRAME_ID_V3_ATTACHED_PICTURE);
+        assertNull(tag.getSkippedFrame(ID3v23Frames.FRAME_ID_V3_ATTACHED_PICTURE));
+
+        tag = new MP3File(testFile).getID3v2Tag();
+        tag.removeFrameOfType("AP");
+        assertNull(tag.getSkippedFrame(ID3v23Frames.FRAME_ID_V3_ATTACHED_PICTURE));
+        assertEquals("title", tag.getFirst(FieldKey.TITLE));
+    }
+
+    public void testSkippedFrameReplacedWithField() throws Exception
+    {
+        File testFile = createFileWithArtwork(new ID3v24Tag(), "testV24ReplaceSkippedFrame.mp3");
+        Artwork newArtwork = ArtworkFactory.createArtworkFromFile(new File("testdata", "coverart.jpg"));
+
+        TagOptionSingleton.getInstance().setId3v2SkippedFrameIds(Collections.singleton(ID3v24Frames.FRAME_ID_ATTACHED_PICTURE));
+        MP3File mp3File = new MP3File(testFile);
+        AbstractID3v2Tag tag = mp3File.getID3v2Tag();
+        tag.setField(newArtwork);
+        assertNull(tag.getSkippedFrame(ID3v24Frames.FRAME_ID_ATTACHED_PICTURE));
+        mp3File.commit();
+
+        TagOptionSingleton.getInstance().setToDefault();
+        tag = new MP3File(testFile).getID3v2Tag();
+        assertEquals(1, tag.getArtworkList().size());
+        assertTrue(Arrays.equals(newArtwork.getBinaryData(), tag.getFirstArtwork().getBinaryData()));
+    }
+
+    private void assertSkippedFrameConverted(AbstractID3v2Tag newTag, String skippedId, String fileName) throws Exception
+    {
+        File testFile = createFileWithArtwork(newTag, fileName);
+        byte[] imageData = new MP3File(testFile).getID3v2Tag().getFirstArtwork().getBinaryData();
+
+        //Converted to the default ID3v2.3 tag
+        TagOptionSingleton.getInstance().setId3v2SkippedFrameIds(Collections.singleton(skippedId));
+        MP3File mp3File = new MP3File(testFile);
+        AbstractID3v2Tag tag = (AbstractID3v2Tag) mp3File.getTagAndConvertOrCreateAndSetDefault();
+        assertTrue(tag instanceof ID3v23Tag);
+        assertNull(tag.getFirstArtwork());
+        assertTrue(tag.getSkippedFrame(ID3v23Frames.FRAME_ID_V3_ATTACHED_PICTURE) instanceof ID3v23Frame);
+        mp3File.commit();
+
+        TagOptionSingleton.getInstance().setToDefault();
+        tag = new MP3File(testFile).getID3v2Tag();
+        assertTrue(tag instanceof ID3v23Tag);
+        assertEquals("title", tag.getFirst(FieldKey.TITLE));
+        assertTrue(Arrays.equals(imageData, tag.getFirstArtwork().getBinaryData()));
+    }
+
+    public void testv24SkippedFrameConverted() throws Exception
+    {
+        assertSkippedFrameConverted(new ID3v24Tag(), ID3v24Frames.FRAME_ID_ATTACHED_PICTURE, "testV24ConvertSkippedFrame.mp3");
+    }
+
+    public void testv22SkippedFrameConverted() throws Exception
+    {
+        //The v22 picture body differs from the v23 one so has to be decoded to be converted
+        assertSkippedFrameConverted(new ID3v22Tag(), ID3v23Frames.FRAME_ID_V3_ATTACHED_PICTURE, "testV22ConvertSkippedFrame.mp3");
+    }
+}
@@ -0,0 +1,115 @@
+package org.jaudiotagger.tag.id3;
+
+import junit.framework.TestCase;
+import org.jaudiotagger.tag.datatype.TextCodec;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * The hand written decoders give the same text as the charset decoders
+ */
+public class TextCodecTest extends TestCase
+{
+    private static final Charset[] CHARSETS = {
+            StandardCharsets.ISO_8859_1,
+            StandardCharsets.UTF_8,
+            StandardCharsets.UTF_16,
+            StandardCharsets.UTF_16BE,
+            StandardCharsets.UTF_16LE,
+            Charset.forName("windows-1252")};
+
+    private static String decodeWithDecoder(byte[] arr, int offset, int length, Charset charset)
+    {
+        CharsetDecoder decoder = charset.newDecoder();
+        CharBuffer out = CharBuffer.allocate(length + 1);
+        decoder.decode(ByteBuffer.wrap(arr, offset, length), out, true);
+        decoder.flush(out);
+        out.flip();
+        return out.toString();
+    }
+
+    private static void assertSameAsDecoder(byte[] arr, int offset, int length, Charset charset)
+    {
+        assertEquals(charset.name(), decodeWithDecoder(arr, offset, length, charset), TextCodec.decode(arr, offset, length, charset));
+
+        String strict;
+        try
+        {
+            strict = charset.newDecoder().decode(ByteBuffer.wrap(arr, offset, length)).toString();
+        }
+        catch (CharacterCodingException cce)
+        {
+            strict = null;
+        }
+        try
+        {
+            assertEquals(strict, TextCodec.decodeStrict(arr, offset, length, charset));
+        }
+        catch (CharacterCodingException cce)
+        {
+            assertNull(strict);
+        }
+    }
+
+    public void testText()
+    {
+        String text = "Beyoncé Æsop 中文 𝄞";
+        for (Charset charset : CHARSETS)
+        {
+            byte[] encoded = text.getBytes(charset);
+            assertSameAsDecoder(encoded, 0, encoded.length, charset);
+        }
+        byte[] bom = {(byte) 0xff, (byte) 0xfe, 0x41, 0x00, 0x42, 0x00};
+        assertEquals("AB", TextCodec.decode(bom, 0, bom.length, StandardCharsets.UTF_16));
+    }
+
+    public void testMalformedStopsAtSameText()
+    {
+        byte[][] malformed = {
+                {0x41, (byte) 0xc0, (byte) 0x80, 0x42},
+                {0x41, (byte) 0xe0, (byte) 0x80, (byte) 0x80},
+                {0x41, (byte) 0xed, (byte) 0xa0, (byte) 0x80},
+                {0x41, (byte) 0xf4, (byte) 0x90, (byte) 0x80, (byte) 0x80},
+                {0x41, (byte) 0xe4, (byte) 0xb8},
+                {0x00, 0x41, (byte) 0xd8, 0x00, 0x00, 0x42},
+                {0x00, 0x41, (byte) 0xdc, 0x00},
+                {0x00, 0x41, 0x00}};
+        for (byte[] arr : malformed)
+        {
+            for (Charset charset : CHARSETS)
+            {
+                assertSameAsDecoder(arr, 0, arr.length, charset);
+            }
+        }
+    }
+
+    public void testRandomBytes()
+    {
+        Random random = new Random(0);
+        for (int i = 0; i < 20000; i++)
+        {
+            byte[] arr = new byte[random.nextInt(16) + 2];
+            random.nextBytes(arr);
+            int offset = random.nextInt(2);
+            assertSameAsDecoder(arr, offset, arr.length - offset, CHARSETS[i % CHARSETS.length]);
+        }
+    }
+
+    public void testIndexOfNull()
+    {
+        byte[] arr = {0x41, 0x00, 0x00, 0x42, 0x00, 0x00};
+        assertEquals(1, TextCodec.indexOfNull(arr, 0, arr.length, true));
+        //Only checked on two byte boundaries
+        assertEquals(4, TextCodec.indexOfNull(arr, 0, arr.length, false));
+        assertEquals(1, TextCodec.indexOfNull(arr, 1, arr.length, false));
+        //A single null at the end
+        assertEquals(2, TextCodec.indexOfNull(new byte[]{0x41, 0x42, 0x00}, 0, 3, false));
+        assertEquals(-1, TextCodec.indexOfNull(new byte[]{0x41, 0x00, 0x42}, 0, 3, false));
+    }
+}
@@ -14,7 +14,11 @@ import org.jaudiotagger.tag.images.ArtworkFactory;
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
 
 /**
  * Test Itunes problems
@@ -242,5 +246,85 @@ public class UnsynchronizationTest extends AbstractTestCase
         assertNull(exceptionCaught);
     }
 
+    private static byte[] unsynchronizeByteByByte(byte[] source)
+    {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        for (int i = 0; i < source.length; i++)
+        {
+            output.write(source[i]);
+            if ((source[i] & 0xff) == 0xff && i + 1 < source.length && (source[i + 1] == 0 || (source[i + 1] & 0xe0) == 0xe0))
+            {
+                output.write(0);
+            }
+        }
+        if ((source[source.length - 1] & 0xff) == 0xff)
+        {
+            output.write(0);
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] synchronizeByteByByte(byte[] source)
+    {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        for (int i = 0; i < source.length; i++)
+        {
+            if (i == 0 || source[i] != 0 || (source[i - 1] & 0xff) != 0xff)
+            {
+                output.write(source[i]);
+            }
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] remaining(ByteBuffer buffer)
+    {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Same result as working through the bytes one at a time, for data with many $FF and $00 bytes
+     */
+    public void testSameAsByteByByte()
+    {
+        Random random = new Random(0);
+        byte[] values = {(byte) 0xff, 0, (byte) 0xe0, (byte) 0xff, 0x41};
+        for (int n = 0; n < 5000; n++)
+        {
+            byte[] source = new byte[random.nextInt(40) + 1];
+            for (int i = 0; i < source.length; i++)
+            {
+                source[i] = random.nextInt(3) == 0 ? values[random.nextInt(values.length)] : (byte) random.nextInt(256);
+            }
+            assertTrue(Arrays.equals(unsynchronizeByteByByte(source), ID3Unsynchronization.unsynchronize(source)));
+
+            ByteBuffer buffer = ByteBuffer.allocate(source.length + 4);
+            buffer.position(2);
+            buffer.put(source);
+            buffer.position(2);
+            buffer.limit(2 + source.length);
+            ByteBuffer synced = ID3Unsynchronization.synchronize(buffer);
+            assertEquals(buffer.limit(), buffer.position());
+            assertTrue(Arrays.equals(synchronizeByteByByte(source), remaining(synced)));
+
+            //Synchronizing reverses unsynchronizing
+            assertTrue(Arrays.equals(source, remaining(ID3Unsynchronization.synchronize(ByteBuffer.wrap(ID3Unsynchronization.unsynchronize(source))))));
+        }
+    }
+
+    /**
+     * When there is nothing to change the bytes are not copied
+     */
+    public void testUnchangedNotCopied()
+    {
+        byte[] source = {1, 2, (byte) 0xff, 3, 4, 5, 6, 7, 8, 9, 10, 11, (byte) 0xff, 0x7f, 1};
+        assertFalse(ID3Unsynchronization.requiresUnsynchronization(source));
+        assertSame(source, ID3Unsynchronization.unsynchronize(source));
 
+        ByteBuffer synced = ID3Unsynchronization.synchronize(ByteBuffer.wrap(source));
+        assertSame(source, synced.array());
+        assertTrue(Arrays.equals(source, remaining(synced)));
+    }
 }
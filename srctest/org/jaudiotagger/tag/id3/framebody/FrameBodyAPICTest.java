@@ -2,6 +2,11 @@ package org.jaudiotagger.tag.id3.framebody;
 
 import org.jaudiotagger.AbstractTestCase;
 import org.jaudiotagger.tag.id3.ID3v24Frames;
+import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 /**
  * Test APICFrameBody
@@ -59,5 +64,35 @@ public class FrameBodyAPICTest extends AbstractTestCase
 
     }
 
+    /**
+     * Body is read from the middle of a larger buffer, which is left positioned just after it
+     */
+    public void testReadFrameBodyFromPartOfBuffer() throws Exception
+    {
+        byte[] imageData = {1, 2, 3, 4, 5, 6, 7, 8};
+        FrameBodyAPIC written = new FrameBodyAPIC(TextEncoding.UTF_16, "image/png", (byte) 3, DESCRIPTION, imageData);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        written.write(baos);
+        byte[] body = baos.toByteArray();
+
+        byte[] tag = new byte[body.length + 20];
+        Arrays.fill(tag, (byte) 0x55);
+        System.arraycopy(body, 0, tag, 10, body.length);
+        ByteBuffer buffer = ByteBuffer.wrap(tag);
+        buffer.position(5);
+        buffer = buffer.slice();
+        buffer.position(5);
 
+        FrameBodyAPIC fb = new FrameBodyAPIC(buffer, body.length);
+        assertEquals(5 + body.length, buffer.position());
+        assertEquals("image/png", fb.getMimeType());
+        assertEquals(3, fb.getPictureType());
+        assertEquals(DESCRIPTION, fb.getDescription());
+        assertTrue(Arrays.equals(imageData, fb.getImageData()));
+
+        //The same when the body has to be copied out of the buffer
+        FrameBodyAPIC fromReadOnly = new FrameBodyAPIC(ByteBuffer.wrap(body).asReadOnlyBuffer(), body.length);
+        assertEquals(DESCRIPTION, fromReadOnly.getDescription());
+        assertTrue(Arrays.equals(imageData, fromReadOnly.getImageData()));
+    }
 }
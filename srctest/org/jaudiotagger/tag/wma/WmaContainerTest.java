@@ -6,6 +6,7 @@ import org.jaudiotagger.audio.asf.data.Chunk;
 import org.jaudiotagger.audio.asf.data.GUID;
 import org.jaudiotagger.audio.asf.data.MetadataContainer;
 import org.jaudiotagger.audio.asf.data.MetadataContainerUtils;
+import org.jaudiotagger.audio.asf.data.MetadataDescriptor;
 import org.jaudiotagger.audio.asf.io.AsfHeaderUtils;
 import org.jaudiotagger.audio.asf.io.MetadataReader;
 import org.jaudiotagger.audio.asf.util.Utils;
@@ -14,7 +15,9 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * @author Christian Laireiter
@@ -65,4 +68,40 @@ public class WmaContainerTest extends WmaTestCase {
                 (MetadataContainer) read1, (MetadataContainer) read2));
     }
 
+    private MetadataContainer readContainer(byte[] chunk) throws IOException {
+        ByteArrayInputStream bis = new ByteArrayInputStream(chunk);
+        assertEquals(GUID.GUID_EXTENDED_CONTENT_DESCRIPTION, Utils.readGUID(bis));
+        return (MetadataContainer) new MetadataReader().read(GUID.GUID_EXTENDED_CONTENT_DESCRIPTION, bis, 0);
+    }
+
+    private List<String> getNames(MetadataContainer container) {
+        List<String> names = new ArrayList<String>();
+        for (MetadataDescriptor descriptor : container.getDescriptors()) {
+            names.add(descriptor.getName());
+        }
+        return names;
+    }
+
+    /**
+     * Descriptors are written in the order they were read or added
+     */
+    public void testDescriptorOrderKeptOnWrite() throws IOException {
+        File prepareTestFile = prepareTestFile(null);
+        MetadataContainer read = readContainer(AsfHeaderUtils.getFirstChunk(prepareTestFile, GUID.GUID_EXTENDED_CONTENT_DESCRIPTION));
+        List<String> names = getNames(read);
+        assertTrue(names.size() > 1);
+
+        //Added before an existing name in sort and hash order
+        MetadataDescriptor added = new MetadataDescriptor(read.getContainerType(), "AAA Added", MetadataDescriptor.TYPE_STRING);
+        added.setStringValue("added");
+        read.addDescriptor(added);
+        names.add(added.getName());
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        read.writeInto(bos);
+        MetadataContainer written = readContainer(bos.toByteArray());
+        assertEquals(names, getNames(written));
+        assertEquals("added", written.getDescriptorsByName("AAA Added").get(0).getString());
+    }
+
 }